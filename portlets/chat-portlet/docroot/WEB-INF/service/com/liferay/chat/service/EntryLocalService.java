@@ -95,6 +95,9 @@ public interface EntryLocalService extends BaseLocalService,
 	public com.liferay.chat.model.Entry deleteEntry(long entryId)
 		throws PortalException;
 
+	public int deleteExpiredEntries(
+		long createDate, long fromEntryId, long toEntryId);
+
 	/**
 	* @throws PortalException
 	*/
@@ -208,6 +211,10 @@ public interface EntryLocalService extends BaseLocalService,
 	public com.liferay.chat.model.Entry getEntry(long entryId)
 		throws PortalException;
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<com.liferay.chat.model.Entry> getExpiredEntries(
+		long createDate, long entryId, int start, int end);
+
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery();
 
@@ -236,6 +243,14 @@ public interface EntryLocalService extends BaseLocalService,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
 		throws java.lang.Throwable;
 
+	public int markEntriesAsRead(long fromUserId, long toUserId);
+
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishEntry(com.liferay.chat.model.Entry entry);
+
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishReadEntries(long fromUserId, long toUserId);
+
 	/**
 	* Updates the entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -99,6 +99,12 @@ public class EntryLocalServiceUtil {
 		return getService().deleteEntry(entryId);
 	}
 
+	public static int deleteExpiredEntries(
+		long createDate, long fromEntryId, long toEntryId) {
+		return getService()
+				   .deleteExpiredEntries(createDate, fromEntryId, toEntryId);
+	}
+
 	/**
 	* @throws PortalException
 	*/
@@ -231,6 +237,11 @@ public class EntryLocalServiceUtil {
 		return getService().getEntry(entryId);
 	}
 
+	public static java.util.List<com.liferay.chat.model.Entry> getExpiredEntries(
+		long createDate, long entryId, int start, int end) {
+		return getService().getExpiredEntries(createDate, entryId, start, end);
+	}
+
 	public static com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
 		return getService().getIndexableActionableDynamicQuery();
 	}
@@ -266,6 +277,18 @@ public class EntryLocalServiceUtil {
 		return getService().invokeMethod(name, parameterTypes, arguments);
 	}
 
+	public static int markEntriesAsRead(long fromUserId, long toUserId) {
+		return getService().markEntriesAsRead(fromUserId, toUserId);
+	}
+
+	public static void publishEntry(com.liferay.chat.model.Entry entry) {
+		getService().publishEntry(entry);
+	}
+
+	public static void publishReadEntries(long fromUserId, long toUserId) {
+		getService().publishReadEntries(fromUserId, toUserId);
+	}
+
 	/**
 	* Updates the entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -98,6 +98,12 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 		return _entryLocalService.deleteEntry(entryId);
 	}
 
+	@Override
+	public int deleteExpiredEntries(
+		long createDate, long fromEntryId, long toEntryId) {
+		return _entryLocalService.deleteExpiredEntries(createDate, fromEntryId, toEntryId);
+	}
+
 	/**
 	* @throws PortalException
 	*/
@@ -242,6 +248,12 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 		return _entryLocalService.getEntry(entryId);
 	}
 
+	@Override
+	public java.util.List<com.liferay.chat.model.Entry> getExpiredEntries(
+		long createDate, long entryId, int start, int end) {
+		return _entryLocalService.getExpiredEntries(createDate, entryId, start, end);
+	}
+
 	@Override
 	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
 		return _entryLocalService.getIndexableActionableDynamicQuery();
@@ -283,6 +295,21 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 		return _entryLocalService.invokeMethod(name, parameterTypes, arguments);
 	}
 
+	@Override
+	public int markEntriesAsRead(long fromUserId, long toUserId) {
+		return _entryLocalService.markEntriesAsRead(fromUserId, toUserId);
+	}
+
+	@Override
+	public void publishEntry(com.liferay.chat.model.Entry entry) {
+		_entryLocalService.publishEntry(entry);
+	}
+
+	@Override
+	public void publishReadEntries(long fromUserId, long toUserId) {
+		_entryLocalService.publishReadEntries(fromUserId, toUserId);
+	}
+
 	/**
 	* Updates the entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -172,11 +172,8 @@ public interface StatusLocalService extends BaseLocalService,
 		long userId, long modifiedDate, int start, int end);
 
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
-	public java.util.List<java.lang.Object[]> getGroupStatuses(long userId,
-		long modifiedDate, java.lang.String[] groupNames, int start, int end);
-
-	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
-	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery();
+	public java.util.List<java.lang.Object[]> getBuddyStatuses(
+		long companyId, long[] userIds, long modifiedDate, int start, int end);
 
 	/**
 	* Returns the OSGi service identifier.
@@ -190,6 +187,10 @@ public interface StatusLocalService extends BaseLocalService,
 	public com.liferay.portal.model.PersistedModel getPersistedModel(
 		java.io.Serializable primaryKeyObj) throws PortalException;
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public java.util.List<java.lang.Long> getSocialBuddyUserIds(
+		long userId, int[] types);
+
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public java.util.List<java.lang.Object[]> getSocialStatuses(long userId,
 		int type, long modifiedDate, int start, int end);
@@ -240,6 +241,20 @@ public interface StatusLocalService extends BaseLocalService,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
 		throws java.lang.Throwable;
 
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishGroupMembership(long groupId, long userId);
+
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishModifiedDates(long[] userIds, long[] modifiedDates);
+
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishSocialRelation(long userId1, long userId2);
+
+	@com.liferay.portal.kernel.cluster.Clusterable
+	public void publishStatus(long userId, boolean online);
+
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates);
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
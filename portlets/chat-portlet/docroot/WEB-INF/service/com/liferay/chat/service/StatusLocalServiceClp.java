@@ -99,63 +99,93 @@ public class StatusLocalServiceClp implements StatusLocalService {
 				"long", "long", "long", "int", "int"
 			};
 
-		_methodName14 = "getGroupStatuses";
+		_methodName14 = "getBuddyStatuses";
 
 		_methodParameterTypes14 = new String[] {
-				"long", "long", "java.lang.String[][]", "int", "int"
+				"long", "long[]", "long", "int", "int"
 			};
 
-		_methodName15 = "getIndexableActionableDynamicQuery";
+		_methodName15 = "getGroupStatuses";
 
-		_methodParameterTypes15 = new String[] {  };
+		_methodParameterTypes15 = new String[] {
+				"long", "long", "java.lang.String[][]", "int", "int"
+			};
 
-		_methodName16 = "getOSGiServiceIdentifier";
+		_methodName16 = "getIndexableActionableDynamicQuery";
 
 		_methodParameterTypes16 = new String[] {  };
 
-		_methodName17 = "getPersistedModel";
+		_methodName17 = "getOSGiServiceIdentifier";
+
+		_methodParameterTypes17 = new String[] {  };
+
+		_methodName18 = "getPersistedModel";
+
+		_methodParameterTypes18 = new String[] { "java.io.Serializable" };
 
-		_methodParameterTypes17 = new String[] { "java.io.Serializable" };
+		_methodName19 = "getSocialBuddyUserIds";
 
-		_methodName18 = "getSocialStatuses";
+		_methodParameterTypes19 = new String[] { "long", "int[]" };
 
-		_methodParameterTypes18 = new String[] {
+		_methodName20 = "getSocialStatuses";
+
+		_methodParameterTypes20 = new String[] {
 				"long", "int", "long", "int", "int"
 			};
 
-		_methodName19 = "getSocialStatuses";
+		_methodName21 = "getSocialStatuses";
 
-		_methodParameterTypes19 = new String[] {
+		_methodParameterTypes21 = new String[] {
 				"long", "int[][]", "long", "int", "int"
 			};
 
-		_methodName20 = "getStatus";
+		_methodName22 = "getStatus";
+
+		_methodParameterTypes22 = new String[] { "long" };
+
+		_methodName23 = "getStatuses";
+
+		_methodParameterTypes23 = new String[] { "int", "int" };
+
+		_methodName24 = "getStatusesCount";
 
-		_methodParameterTypes20 = new String[] { "long" };
+		_methodParameterTypes24 = new String[] {  };
 
-		_methodName21 = "getStatuses";
+		_methodName25 = "getUserStatus";
 
-		_methodParameterTypes21 = new String[] { "int", "int" };
+		_methodParameterTypes25 = new String[] { "long" };
 
-		_methodName22 = "getStatusesCount";
+		_methodName27 = "publishGroupMembership";
 
-		_methodParameterTypes22 = new String[] {  };
+		_methodParameterTypes27 = new String[] { "long", "long" };
 
-		_methodName23 = "getUserStatus";
+		_methodName28 = "publishModifiedDates";
 
-		_methodParameterTypes23 = new String[] { "long" };
+		_methodParameterTypes28 = new String[] { "long[]", "long[]" };
 
-		_methodName25 = "updateStatus";
+		_methodName29 = "publishSocialRelation";
 
-		_methodParameterTypes25 = new String[] { "com.liferay.chat.model.Status" };
+		_methodParameterTypes29 = new String[] { "long", "long" };
 
-		_methodName26 = "updateStatus";
+		_methodName30 = "publishStatus";
 
-		_methodParameterTypes26 = new String[] { "long", "long" };
+		_methodParameterTypes30 = new String[] { "long", "boolean" };
 
-		_methodName27 = "updateStatus";
+		_methodName31 = "updateModifiedDates";
 
-		_methodParameterTypes27 = new String[] {
+		_methodParameterTypes31 = new String[] { "long[]", "long[]" };
+
+		_methodName32 = "updateStatus";
+
+		_methodParameterTypes32 = new String[] { "com.liferay.chat.model.Status" };
+
+		_methodName33 = "updateStatus";
+
+		_methodParameterTypes33 = new String[] { "long", "long" };
+
+		_methodName34 = "updateStatus";
+
+		_methodParameterTypes34 = new String[] {
 				"long", "long", "int", "int", "java.lang.String",
 				"java.lang.String", "int"
 			};
@@ -534,13 +564,38 @@ public class StatusLocalServiceClp implements StatusLocalService {
 	}
 
 	@Override
-	public java.util.List<java.lang.Object[]> getGroupStatuses(long userId,
-		long modifiedDate, java.lang.String[] groupNames, int start, int end) {
+	public java.util.List<java.lang.Object[]> getBuddyStatuses(
+		long companyId, long[] userIds, long modifiedDate, int start, int end) {
 		Object returnObj = null;
 
 		try {
 			returnObj = _invokableLocalService.invokeMethod(_methodName14,
 					_methodParameterTypes14,
+					new Object[] { companyId, ClpSerializer.translateInput(userIds), modifiedDate, start, end });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<java.lang.Object[]>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public java.util.List<java.lang.Object[]> getGroupStatuses(long userId,
+		long modifiedDate, java.lang.String[] groupNames, int start, int end) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName15,
+					_methodParameterTypes15,
 					new Object[] {
 						userId,
 						
@@ -573,8 +628,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName15,
-					_methodParameterTypes15, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName16,
+					_methodParameterTypes16, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -596,8 +651,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName16,
-					_methodParameterTypes16, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName17,
+					_methodParameterTypes17, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -621,8 +676,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName17,
-					_methodParameterTypes17,
+			returnObj = _invokableLocalService.invokeMethod(_methodName18,
+					_methodParameterTypes18,
 					new Object[] { ClpSerializer.translateInput(primaryKeyObj) });
 		}
 		catch (Throwable t) {
@@ -644,14 +699,39 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		return (com.liferay.portal.model.PersistedModel)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<java.lang.Long> getSocialBuddyUserIds(
+		long userId, int[] types) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName19,
+					_methodParameterTypes19,
+					new Object[] { userId, ClpSerializer.translateInput(types) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<java.lang.Long>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public java.util.List<java.lang.Object[]> getSocialStatuses(long userId,
 		int type, long modifiedDate, int start, int end) {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName18,
-					_methodParameterTypes18,
+			returnObj = _invokableLocalService.invokeMethod(_methodName20,
+					_methodParameterTypes20,
 					new Object[] { userId, type, modifiedDate, start, end });
 		}
 		catch (Throwable t) {
@@ -675,8 +755,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName19,
-					_methodParameterTypes19,
+			returnObj = _invokableLocalService.invokeMethod(_methodName21,
+					_methodParameterTypes21,
 					new Object[] {
 						userId,
 						
@@ -710,8 +790,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName20,
-					_methodParameterTypes20, new Object[] { statusId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName22,
+					_methodParameterTypes22, new Object[] { statusId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -738,8 +818,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName21,
-					_methodParameterTypes21, new Object[] { start, end });
+			returnObj = _invokableLocalService.invokeMethod(_methodName23,
+					_methodParameterTypes23, new Object[] { start, end });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -761,8 +841,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName22,
-					_methodParameterTypes22, new Object[] {  });
+			returnObj = _invokableLocalService.invokeMethod(_methodName24,
+					_methodParameterTypes24, new Object[] {  });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -784,8 +864,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName23,
-					_methodParameterTypes23, new Object[] { userId });
+			returnObj = _invokableLocalService.invokeMethod(_methodName25,
+					_methodParameterTypes25, new Object[] { userId });
 		}
 		catch (Throwable t) {
 			t = ClpSerializer.translateThrowable(t);
@@ -809,14 +889,111 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public void publishGroupMembership(long groupId, long userId) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName27,
+				_methodParameterTypes27, new Object[] { groupId, userId });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
+	@Override
+	public void publishModifiedDates(long[] userIds, long[] modifiedDates) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName28,
+				_methodParameterTypes28,
+				new Object[] { ClpSerializer.translateInput(userIds), ClpSerializer.translateInput(modifiedDates) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
+	@Override
+	public void publishSocialRelation(long userId1, long userId2) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName29,
+				_methodParameterTypes29, new Object[] { userId1, userId2 });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
+	@Override
+	public void publishStatus(long userId, boolean online) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName30,
+				_methodParameterTypes30, new Object[] { userId, online });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName31,
+				_methodParameterTypes31,
+				new Object[] { ClpSerializer.translateInput(userIds), ClpSerializer.translateInput(modifiedDates) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
 	@Override
 	public com.liferay.chat.model.Status updateStatus(
 		com.liferay.chat.model.Status status) {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName25,
-					_methodParameterTypes25,
+			returnObj = _invokableLocalService.invokeMethod(_methodName32,
+					_methodParameterTypes32,
 					new Object[] { ClpSerializer.translateInput(status) });
 		}
 		catch (Throwable t) {
@@ -840,8 +1017,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName26,
-					_methodParameterTypes26,
+			returnObj = _invokableLocalService.invokeMethod(_methodName33,
+					_methodParameterTypes33,
 					new Object[] { userId, modifiedDate });
 		}
 		catch (Throwable t) {
@@ -866,8 +1043,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		Object returnObj = null;
 
 		try {
-			returnObj = _invokableLocalService.invokeMethod(_methodName27,
-					_methodParameterTypes27,
+			returnObj = _invokableLocalService.invokeMethod(_methodName34,
+					_methodParameterTypes34,
 					new Object[] {
 						userId,
 						
@@ -948,10 +1125,24 @@ public class StatusLocalServiceClp implements StatusLocalService {
 	private String[] _methodParameterTypes22;
 	private String _methodName23;
 	private String[] _methodParameterTypes23;
+	private String _methodName24;
+	private String[] _methodParameterTypes24;
 	private String _methodName25;
 	private String[] _methodParameterTypes25;
-	private String _methodName26;
-	private String[] _methodParameterTypes26;
 	private String _methodName27;
 	private String[] _methodParameterTypes27;
+	private String _methodName28;
+	private String[] _methodParameterTypes28;
+	private String _methodName29;
+	private String[] _methodParameterTypes29;
+	private String _methodName30;
+	private String[] _methodParameterTypes30;
+	private String _methodName31;
+	private String[] _methodParameterTypes31;
+	private String _methodName32;
+	private String[] _methodParameterTypes32;
+	private String _methodName33;
+	private String[] _methodParameterTypes33;
+	private String _methodName34;
+	private String[] _methodParameterTypes34;
 }
\ No newline at end of file
@@ -187,6 +187,12 @@ public class StatusLocalServiceUtil {
 				   .getAllStatuses(companyId, userId, modifiedDate, start, end);
 	}
 
+	public static java.util.List<java.lang.Object[]> getBuddyStatuses(
+		long companyId, long[] userIds, long modifiedDate, int start, int end) {
+		return getService()
+				   .getBuddyStatuses(companyId, userIds, modifiedDate, start, end);
+	}
+
 	public static java.util.List<java.lang.Object[]> getGroupStatuses(
 		long userId, long modifiedDate, java.lang.String[] groupNames,
 		int start, int end) {
@@ -214,6 +220,11 @@ public class StatusLocalServiceUtil {
 		return getService().getPersistedModel(primaryKeyObj);
 	}
 
+	public static java.util.List<java.lang.Long> getSocialBuddyUserIds(
+		long userId, int[] types) {
+		return getService().getSocialBuddyUserIds(userId, types);
+	}
+
 	public static java.util.List<java.lang.Object[]> getSocialStatuses(
 		long userId, int type, long modifiedDate, int start, int end) {
 		return getService()
@@ -273,6 +284,28 @@ public class StatusLocalServiceUtil {
 		return getService().invokeMethod(name, parameterTypes, arguments);
 	}
 
+	public static void publishGroupMembership(long groupId, long userId) {
+		getService().publishGroupMembership(groupId, userId);
+	}
+
+	public static void publishModifiedDates(
+		long[] userIds, long[] modifiedDates) {
+		getService().publishModifiedDates(userIds, modifiedDates);
+	}
+
+	public static void publishSocialRelation(long userId1, long userId2) {
+		getService().publishSocialRelation(userId1, userId2);
+	}
+
+	public static void publishStatus(long userId, boolean online) {
+		getService().publishStatus(userId, online);
+	}
+
+	public static void updateModifiedDates(
+		long[] userIds, long[] modifiedDates) {
+		getService().updateModifiedDates(userIds, modifiedDates);
+	}
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -191,6 +191,12 @@ public class StatusLocalServiceWrapper implements StatusLocalService,
 			modifiedDate, start, end);
 	}
 
+	@Override
+	public java.util.List<java.lang.Object[]> getBuddyStatuses(
+		long companyId, long[] userIds, long modifiedDate, int start, int end) {
+		return _statusLocalService.getBuddyStatuses(companyId, userIds, modifiedDate, start, end);
+	}
+
 	@Override
 	public java.util.List<java.lang.Object[]> getGroupStatuses(long userId,
 		long modifiedDate, java.lang.String[] groupNames, int start, int end) {
@@ -220,6 +226,12 @@ public class StatusLocalServiceWrapper implements StatusLocalService,
 		return _statusLocalService.getPersistedModel(primaryKeyObj);
 	}
 
+	@Override
+	public java.util.List<java.lang.Long> getSocialBuddyUserIds(
+		long userId, int[] types) {
+		return _statusLocalService.getSocialBuddyUserIds(userId, types);
+	}
+
 	@Override
 	public java.util.List<java.lang.Object[]> getSocialStatuses(long userId,
 		int type, long modifiedDate, int start, int end) {
@@ -286,6 +298,31 @@ public class StatusLocalServiceWrapper implements StatusLocalService,
 		return _statusLocalService.invokeMethod(name, parameterTypes, arguments);
 	}
 
+	@Override
+	public void publishGroupMembership(long groupId, long userId) {
+		_statusLocalService.publishGroupMembership(groupId, userId);
+	}
+
+	@Override
+	public void publishModifiedDates(long[] userIds, long[] modifiedDates) {
+		_statusLocalService.publishModifiedDates(userIds, modifiedDates);
+	}
+
+	@Override
+	public void publishSocialRelation(long userId1, long userId2) {
+		_statusLocalService.publishSocialRelation(userId1, userId2);
+	}
+
+	@Override
+	public void publishStatus(long userId, boolean online) {
+		_statusLocalService.publishStatus(userId, online);
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		_statusLocalService.updateModifiedDates(userIds, modifiedDates);
+	}
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
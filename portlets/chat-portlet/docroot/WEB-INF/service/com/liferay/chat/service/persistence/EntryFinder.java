@@ -22,6 +22,11 @@ import aQute.bnd.annotation.ProviderType;
  */
 @ProviderType
 public interface EntryFinder {
+	public int deleteByC_E(long createDate, long fromEntryId, long toEntryId);
+
+	public java.util.List<com.liferay.chat.model.Entry> findByC_E(
+		long createDate, long entryId, int start, int end);
+
 	public java.util.List<com.liferay.chat.model.Entry> findByEmptyContent(
 		long fromUserId, long toUserId, int start, int end);
 
@@ -30,4 +35,7 @@ public interface EntryFinder {
 
 	public java.util.List<com.liferay.chat.model.Entry> findByOld(
 		long createDate, int start, int end);
+
+	public int updateFlagByF_T(long fromUserId, long toUserId,
+		long createDate, int flag);
 }
\ No newline at end of file
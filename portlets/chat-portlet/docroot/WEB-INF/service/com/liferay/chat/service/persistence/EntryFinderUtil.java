@@ -25,6 +25,16 @@ import com.liferay.portal.kernel.util.ReferenceRegistry;
  */
 @ProviderType
 public class EntryFinderUtil {
+	public static int deleteByC_E(long createDate, long fromEntryId,
+		long toEntryId) {
+		return getFinder().deleteByC_E(createDate, fromEntryId, toEntryId);
+	}
+
+	public static java.util.List<com.liferay.chat.model.Entry> findByC_E(
+		long createDate, long entryId, int start, int end) {
+		return getFinder().findByC_E(createDate, entryId, start, end);
+	}
+
 	public static java.util.List<com.liferay.chat.model.Entry> findByEmptyContent(
 		long fromUserId, long toUserId, int start, int end) {
 		return getFinder().findByEmptyContent(fromUserId, toUserId, start, end);
@@ -40,6 +50,12 @@ public class EntryFinderUtil {
 		return getFinder().findByOld(createDate, start, end);
 	}
 
+	public static int updateFlagByF_T(long fromUserId, long toUserId,
+		long createDate, int flag) {
+		return getFinder()
+				   .updateFlagByF_T(fromUserId, toUserId, createDate, flag);
+	}
+
 	public static EntryFinder getFinder() {
 		if (_finder == null) {
 			_finder = (EntryFinder)PortletBeanLocatorUtil.locate(com.liferay.chat.service.ClpSerializer.getServletContextName(),
@@ -28,6 +28,12 @@ public interface StatusFinder {
 	public java.util.List<java.lang.Object[]> findBySocialRelationTypes(
 		long userId, int[] types, long modifiedDate, int start, int end);
 
+	public java.util.List<java.lang.Object[]> findByUserIds(long companyId,
+		long[] userIds, long modifiedDate, int start, int end);
+
 	public java.util.List<java.lang.Object[]> findByUsersGroups(long userId,
 		long modifiedDate, java.lang.String[] groupNames, int start, int end);
+
+	public java.util.List<java.lang.Long> findUserIdsBySocialRelationTypes(
+		long userId, int[] types);
 }
\ No newline at end of file
@@ -39,6 +39,12 @@ public class StatusFinderUtil {
 			start, end);
 	}
 
+	public static java.util.List<java.lang.Object[]> findByUserIds(
+		long companyId, long[] userIds, long modifiedDate, int start, int end) {
+		return getFinder()
+				   .findByUserIds(companyId, userIds, modifiedDate, start, end);
+	}
+
 	public static java.util.List<java.lang.Object[]> findByUsersGroups(
 		long userId, long modifiedDate, java.lang.String[] groupNames,
 		int start, int end) {
@@ -47,6 +53,11 @@ public class StatusFinderUtil {
 			end);
 	}
 
+	public static java.util.List<java.lang.Long> findUserIdsBySocialRelationTypes(
+		long userId, int[] types) {
+		return getFinder().findUserIdsBySocialRelationTypes(userId, types);
+	}
+
 	public static StatusFinder getFinder() {
 		if (_finder == null) {
 			_finder = (StatusFinder)PortletBeanLocatorUtil.locate(com.liferay.chat.service.ClpSerializer.getServletContextName(),
@@ -33,17 +33,17 @@ public class BuddyComparator implements Comparator<Object[]> {
 
 	@Override
 	public int compare(Object[] buddy1, Object[] buddy2) {
-		long userId1 = (Long)buddy1[0];
-		String firstName1 = (String)buddy1[2];
-		String middleName1 = (String)buddy1[3];
-		String lastName1 = (String)buddy1[4];
-		boolean awake1 = (Boolean)buddy1[6];
-
-		long userId2 = (Long)buddy2[0];
-		String firstName2 = (String)buddy2[2];
-		String middleName2 = (String)buddy2[3];
-		String lastName2 = (String)buddy2[4];
-		boolean awake2 = (Boolean)buddy2[6];
+		boolean awake1 = (Boolean)buddy1[0];
+		String firstName1 = (String)buddy1[1];
+		String lastName1 = (String)buddy1[3];
+		String middleName1 = (String)buddy1[5];
+		long userId1 = (Long)buddy1[8];
+
+		boolean awake2 = (Boolean)buddy2[0];
+		String firstName2 = (String)buddy2[1];
+		String lastName2 = (String)buddy2[3];
+		String middleName2 = (String)buddy2[5];
+		long userId2 = (Long)buddy2[8];
 
 		int value = 0;
 
@@ -15,6 +15,8 @@
 package com.liferay.chat.hook.events;
 
 import com.liferay.chat.jabber.JabberUtil;
+import com.liferay.chat.util.BuddyRosterUtil;
+import com.liferay.chat.util.ChatMailboxUtil;
 import com.liferay.portal.kernel.events.SessionAction;
 import com.liferay.portal.kernel.util.WebKeys;
 
@@ -30,6 +32,9 @@ public class SessionDestroyAction extends SessionAction {
 		Long userId = (Long)session.getAttribute(WebKeys.USER_ID);
 
 		JabberUtil.disconnect(userId);
+
+		BuddyRosterUtil.removeRoster(userId);
+		ChatMailboxUtil.removeMailbox(userId);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.hook.listeners;
+
+import com.liferay.chat.service.StatusLocalServiceUtil;
+import com.liferay.chat.util.PortletPropsValues;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portlet.social.model.SocialRelation;
+
+import java.util.concurrent.Callable;
+
+public class SocialRelationModelListener
+	extends BaseModelListener<SocialRelation> {
+
+	@Override
+	public void onAfterCreate(SocialRelation socialRelation) {
+		publishSocialRelation(socialRelation);
+	}
+
+	@Override
+	public void onAfterRemove(SocialRelation socialRelation) {
+		publishSocialRelation(socialRelation);
+	}
+
+	protected void publishSocialRelation(SocialRelation socialRelation) {
+		if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all")) {
+			return;
+		}
+
+		final long userId1 = socialRelation.getUserId1();
+		final long userId2 = socialRelation.getUserId2();
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				StatusLocalServiceUtil.publishSocialRelation(userId1, userId2);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+}
@@ -18,17 +18,32 @@ import com.liferay.chat.jabber.JabberUtil;
 import com.liferay.chat.model.Status;
 import com.liferay.chat.service.EntryLocalServiceUtil;
 import com.liferay.chat.service.StatusLocalServiceUtil;
+import com.liferay.chat.util.PortletPropsValues;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portal.model.Group;
 import com.liferay.portal.model.User;
 
+import java.util.concurrent.Callable;
+
 /**
  * @author Scott Lee
  * @author Bruno Farache
  */
 public class UserModelListener extends BaseModelListener<User> {
 
+	@Override
+	public void onAfterAddAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			publishGroupMembership((Long)associationClassPK, (Long)classPK);
+		}
+	}
+
 	@Override
 	public void onAfterRemove(User user) {
 		try {
@@ -54,12 +69,43 @@ public class UserModelListener extends BaseModelListener<User> {
 		}
 	}
 
+	@Override
+	public void onAfterRemoveAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			publishGroupMembership((Long)associationClassPK, (Long)classPK);
+		}
+	}
+
 	@Override
 	public void onAfterUpdate(User user) {
 		JabberUtil.updatePassword(
 			user.getUserId(), user.getPasswordUnencrypted());
 	}
 
+	protected void publishGroupMembership(
+		final long groupId, final long userId) {
+
+		if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all")) {
+			return;
+		}
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				StatusLocalServiceUtil.publishGroupMembership(groupId, userId);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(UserModelListener.class);
 
 }
\ No newline at end of file
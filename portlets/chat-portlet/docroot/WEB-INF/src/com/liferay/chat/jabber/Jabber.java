@@ -30,6 +30,8 @@ public interface Jabber {
 	public List<Object[]> getStatuses(
 		long companyId, long userId, List<Object[]> buddies);
 
+	public void importBuddies(long userId, List<Object[]> buddies);
+
 	public void login(long userId, String password);
 
 	public void sendMessage(long fromUserId, long toUserId, String content);
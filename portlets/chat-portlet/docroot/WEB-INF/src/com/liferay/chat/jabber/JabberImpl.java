@@ -31,7 +31,6 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,6 +38,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jivesoftware.smack.AccountManager;
 import org.jivesoftware.smack.Chat;
@@ -72,6 +73,7 @@ public class JabberImpl implements Jabber {
 		_connections.remove(userId);
 
 		_onlineUserIds.remove(userId);
+		_rosterListeners.remove(userId);
 	}
 
 	@Override
@@ -96,83 +98,116 @@ public class JabberImpl implements Jabber {
 	public List<Object[]> getStatuses(
 		long companyId, long userId, List<Object[]> buddies) {
 
-		try {
-			Connection connection = getConnection(userId);
+		JabberRosterListener jabberRosterListener = _rosterListeners.get(
+			userId);
 
-			if (connection == null) {
-				if (_log.isWarnEnabled()) {
-					_log.warn("User " + userId + " is not connected to Jabber");
+		if (jabberRosterListener == null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("User " + userId + " is not connected to Jabber");
+			}
+
+			return buddies;
+		}
+
+		if (PortletPropsValues.JABBER_IMPORT_USER_ENABLED) {
+			List<Object[]> importBuddies = new ArrayList<>();
+
+			for (Object[] buddy : buddies) {
+				String screenName = (String)buddy[7];
+
+				if (jabberRosterListener.addImportingScreenName(screenName)) {
+					importBuddies.add(buddy);
 				}
+			}
 
-				return buddies;
+			if (!importBuddies.isEmpty()) {
+				JabberUtil.importBuddies(userId, importBuddies);
 			}
+		}
 
-			List<Object[]> jabberBuddies = new ArrayList<>();
+		List<Object[]> jabberBuddies = jabberRosterListener.getBuddies();
 
-			jabberBuddies.addAll(buddies);
+		if (jabberBuddies.isEmpty()) {
+			return buddies;
+		}
 
-			Roster roster = connection.getRoster();
+		Set<Long> buddyUserIds = new HashSet<>();
 
-			Collection<RosterEntry> rosterEntries = roster.getEntries();
+		for (Object[] buddy : buddies) {
+			buddyUserIds.add((Long)buddy[8]);
+		}
 
-			if (PortletPropsValues.JABBER_IMPORT_USER_ENABLED) {
-				for (Object[] buddy : buddies) {
-					String firstName = (String)buddy[1];
-					String lastName = (String)buddy[3];
-					String middleName = (String)buddy[5];
-					String screenName = (String)buddy[7];
+		List<Object[]> mergedBuddies = new ArrayList<>(buddies);
 
-					String fullName = ContactConstants.getFullName(
-						firstName, middleName, lastName);
+		for (Object[] jabberBuddy : jabberBuddies) {
+			if (buddyUserIds.add((Long)jabberBuddy[8])) {
+				mergedBuddies.add(jabberBuddy);
+			}
+		}
 
-					String jabberId = getFullJabberId(screenName);
+		Collections.sort(mergedBuddies, new BuddyComparator(true));
 
-					if (!roster.contains(jabberId)) {
-						roster.createEntry(jabberId, fullName, null);
-					}
-				}
-			}
+		return mergedBuddies;
+	}
 
-			BuddyComparator buddyComparator = new BuddyComparator(true);
+	@Override
+	public void importBuddies(long userId, List<Object[]> buddies) {
+		JabberRosterListener jabberRosterListener = _rosterListeners.get(
+			userId);
 
-			for (RosterEntry rosterEntry : rosterEntries) {
-				Presence presence = roster.getPresence(rosterEntry.getUser());
+		if (jabberRosterListener == null) {
+			return;
+		}
 
-				if (!presence.isAvailable()) {
-					continue;
-				}
+		Connection connection = getConnection(userId);
 
-				User user = UserLocalServiceUtil.getUserByScreenName(
-					companyId, getScreenName(rosterEntry.getUser()));
+		if (connection == null) {
+			for (Object[] buddy : buddies) {
+				jabberRosterListener.importedScreenName(
+					(String)buddy[7], false);
+			}
 
-				Object[] jabberBuddy = new Object[10];
+			return;
+		}
 
-				jabberBuddy[0] = true;
-				jabberBuddy[1] = user.getFirstName();
-				jabberBuddy[2] = user.getGroupId();
-				jabberBuddy[3] = user.getLastName();
-				jabberBuddy[4] = user.isMale();
-				jabberBuddy[5] = user.getMiddleName();
-				jabberBuddy[6] = user.getPortraitId();
-				jabberBuddy[7] = user.getScreenName();
-				jabberBuddy[8] = user.getUserId();
-				jabberBuddy[9] = user.getUserUuid();
+		Roster roster = connection.getRoster();
 
-				if (Collections.binarySearch(
-						jabberBuddies, jabberBuddy, buddyComparator) < 0) {
+		for (Object[] buddy : buddies) {
+			String firstName = (String)buddy[1];
+			String lastName = (String)buddy[3];
+			String middleName = (String)buddy[5];
+			String screenName = (String)buddy[7];
 
-					jabberBuddies.add(jabberBuddy);
-				}
+			String fullName = ContactConstants.getFullName(
+				firstName, middleName, lastName);
+
+			String jabberId = getFullJabberId(screenName);
+
+			if (roster.contains(jabberId)) {
+				jabberRosterListener.importedScreenName(screenName, true);
+
+				continue;
 			}
 
-			Collections.sort(jabberBuddies, buddyComparator);
+			// A buddy that fails to import is retried on a later poll
 
-			return jabberBuddies;
-		}
-		catch (Exception e) {
-			_log.error("Unable to get Jabber buddies", e);
+			boolean imported = false;
 
-			return buddies;
+			try {
+				roster.createEntry(jabberId, fullName, null);
+
+				imported = true;
+			}
+			catch (XMPPException xmppe) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to add " + jabberId + " to the roster of " +
+							"user " + userId,
+						xmppe);
+				}
+			}
+
+			jabberRosterListener.importedScreenName(screenName, imported);
 		}
 	}
 
@@ -297,7 +332,7 @@ public class JabberImpl implements Jabber {
 	@Override
 	public void updatePassword(long userId, String password) {
 		if (!PortletPropsValues.JABBER_IMPORT_USER_ENABLED ||
-			(password == null)) {
+			Validator.isNull(password)) {
 
 			return;
 		}
@@ -335,7 +370,7 @@ public class JabberImpl implements Jabber {
 
 		Connection connection = getConnection(userId);
 
-		if (connection != null) {
+		if ((connection != null) && connection.isConnected()) {
 			return connection;
 		}
 
@@ -344,6 +379,11 @@ public class JabberImpl implements Jabber {
 		connection.connect();
 
 		if (userId < 0) {
+
+			// The anonymous connection used to create accounts is shared
+
+			_connections.put(userId, connection);
+
 			return connection;
 		}
 
@@ -352,6 +392,20 @@ public class JabberImpl implements Jabber {
 		connection.login(
 			user.getScreenName(), password, PortletPropsValues.JABBER_RESOURCE);
 
+		Roster roster = connection.getRoster();
+
+		JabberRosterListener jabberRosterListener = new JabberRosterListener(
+			user.getCompanyId(), roster);
+
+		roster.addRosterListener(jabberRosterListener);
+
+		for (RosterEntry rosterEntry : roster.getEntries()) {
+			jabberRosterListener.presenceChanged(
+				roster.getPresence(rosterEntry.getUser()));
+		}
+
+		_rosterListeners.put(userId, jabberRosterListener);
+
 		Status status = StatusLocalServiceUtil.getUserStatus(userId);
 
 		if (status.getOnline()) {
@@ -479,7 +533,11 @@ public class JabberImpl implements Jabber {
 	private static Log _log = LogFactoryUtil.getLog(JabberImpl.class);
 
 	private ConnectionConfiguration _connectionConfiguration;
-	private Map<Long, Connection> _connections = new HashMap<>();
-	private Set<Long> _onlineUserIds = new HashSet<>();
+	private final ConcurrentMap<Long, Connection> _connections =
+		new ConcurrentHashMap<>();
+	private final Set<Long> _onlineUserIds = Collections.newSetFromMap(
+		new ConcurrentHashMap<Long, Boolean>());
+	private final ConcurrentMap<Long, JabberRosterListener> _rosterListeners =
+		new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
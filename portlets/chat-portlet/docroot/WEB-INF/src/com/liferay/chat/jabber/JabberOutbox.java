@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.jabber;
+
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the pending Jabber operations of each user. Operations are queued in
+ * the user's lane by the calling thread, so they keep the order in which they
+ * were requested, and only the user ID is sent to the liferay/chat_jabber
+ * destination to wake up a worker. Lanes are removed once they are drained.
+ */
+public class JabberOutbox {
+
+	public static List<Message> acquire(long userId) {
+		Lane lane = _lanes.get(userId);
+
+		if ((lane == null) || lane._messages.isEmpty() ||
+			!lane._draining.compareAndSet(false, true)) {
+
+			return null;
+		}
+
+		List<Message> messages = new ArrayList<>();
+
+		Message message = null;
+
+		while ((message = lane._messages.poll()) != null) {
+			messages.add(message);
+		}
+
+		if (messages.isEmpty()) {
+			release(userId);
+
+			return null;
+		}
+
+		return messages;
+	}
+
+	public static void add(long userId, Message message) {
+		while (true) {
+			Lane lane = _lanes.get(userId);
+
+			if (lane == null) {
+				lane = new Lane();
+
+				Lane previousLane = _lanes.putIfAbsent(userId, lane);
+
+				if (previousLane != null) {
+					lane = previousLane;
+				}
+			}
+
+			synchronized (lane) {
+				if (!lane._removed) {
+					lane._messages.add(message);
+
+					break;
+				}
+			}
+		}
+
+		Message wakeUpMessage = new Message();
+
+		wakeUpMessage.put("userId", userId);
+
+		MessageBusUtil.sendMessage(JabberUtil.DESTINATION_NAME, wakeUpMessage);
+	}
+
+	public static void release(long userId) {
+		Lane lane = _lanes.get(userId);
+
+		if (lane == null) {
+			return;
+		}
+
+		lane._draining.set(false);
+
+		synchronized (lane) {
+			if (lane._messages.isEmpty() && !lane._draining.get()) {
+				lane._removed = true;
+
+				_lanes.remove(userId, lane);
+			}
+		}
+	}
+
+	private static final ConcurrentMap<Long, Lane> _lanes =
+		new ConcurrentHashMap<>();
+
+	private static class Lane {
+
+		private final AtomicBoolean _draining = new AtomicBoolean();
+		private final Queue<Message> _messages =
+			new ConcurrentLinkedQueue<>();
+		private boolean _removed;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.jabber;
+
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performs the Jabber operations queued in {@link JabberOutbox}. The
+ * destination's worker pool serves different users in parallel, while the
+ * operations of each user are performed one at a time and in the order in
+ * which they were queued. Operations that queue up for a user while another
+ * worker is busy with that user are drained and coalesced as one batch.
+ */
+public class JabberOutboxMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		long userId = message.getLong("userId");
+
+		// Whichever worker acquires the lane drains it, including the
+		// operations queued while another worker was busy with it
+
+		List<Message> messages = null;
+
+		while ((messages = JabberOutbox.acquire(userId)) != null) {
+			try {
+				perform(userId, messages);
+			}
+			finally {
+				JabberOutbox.release(userId);
+			}
+		}
+	}
+
+	protected boolean hasCommand(
+		List<Message> messages, int index, String command) {
+
+		if (index >= messages.size()) {
+			return false;
+		}
+
+		Message message = messages.get(index);
+
+		return command.equals(message.getString("command"));
+	}
+
+	protected void perform(long userId, List<Message> messages) {
+		Jabber jabber = JabberUtil.getJabber();
+
+		List<Object[]> importBuddies = new ArrayList<>();
+
+		for (int i = 0; i < messages.size(); i++) {
+			Message message = messages.get(i);
+
+			String command = message.getString("command");
+
+			if (command.equals("disconnect")) {
+				jabber.disconnect(userId);
+			}
+			else if (command.equals("importBuddies")) {
+				importBuddies.addAll(
+					(List<Object[]>)message.get("buddies"));
+
+				if (hasCommand(messages, i + 1, "importBuddies")) {
+					continue;
+				}
+
+				jabber.importBuddies(userId, importBuddies);
+
+				importBuddies.clear();
+			}
+			else if (command.equals("login")) {
+				jabber.login(userId, message.getString("password"));
+			}
+			else if (command.equals("sendMessage")) {
+				jabber.sendMessage(
+					userId, message.getLong("toUserId"),
+					message.getString("content"));
+			}
+			else if (command.equals("updatePassword")) {
+				jabber.updatePassword(userId, message.getString("password"));
+			}
+			else if (command.equals("updateStatus")) {
+
+				// Only the last of consecutive status changes is sent
+
+				if (hasCommand(messages, i + 1, "updateStatus")) {
+					continue;
+				}
+
+				jabber.updateStatus(userId, message.getInteger("online"));
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.jabber;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.User;
+import com.liferay.portal.service.UserLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jivesoftware.smack.Roster;
+import org.jivesoftware.smack.RosterListener;
+import org.jivesoftware.smack.packet.Presence;
+
+/**
+ * Keeps the buddy list rows of the available contacts in a user's Jabber
+ * roster up to date from presence events, so that polls can read them
+ * without talking to the XMPP server.
+ */
+public class JabberRosterListener implements RosterListener {
+
+	public JabberRosterListener(long companyId, Roster roster) {
+		_companyId = companyId;
+		_roster = roster;
+	}
+
+	public boolean addImportingScreenName(String screenName) {
+		if (_importedScreenNames.contains(screenName)) {
+			return false;
+		}
+
+		return _importingScreenNames.add(screenName);
+	}
+
+	@Override
+	public void entriesAdded(Collection<String> jabberIds) {
+	}
+
+	@Override
+	public void entriesDeleted(Collection<String> jabberIds) {
+		for (String jabberId : jabberIds) {
+			_buddies.remove(getBareJabberId(jabberId));
+		}
+	}
+
+	@Override
+	public void entriesUpdated(Collection<String> jabberIds) {
+	}
+
+	public List<Object[]> getBuddies() {
+		return new ArrayList<>(_buddies.values());
+	}
+
+	public void importedScreenName(String screenName, boolean imported) {
+		if (imported) {
+			_importedScreenNames.add(screenName);
+		}
+
+		_importingScreenNames.remove(screenName);
+	}
+
+	@Override
+	public void presenceChanged(Presence presence) {
+		String jabberId = getBareJabberId(presence.getFrom());
+
+		try {
+
+			// A contact stays available as long as any of its resources is
+
+			Presence rosterPresence = _roster.getPresence(jabberId);
+
+			if (!rosterPresence.isAvailable()) {
+				_buddies.remove(jabberId);
+
+				return;
+			}
+
+			User user = UserLocalServiceUtil.fetchUserByScreenName(
+				_companyId, JabberUtil.getScreenName(jabberId));
+
+			if (user == null) {
+				return;
+			}
+
+			Object[] buddy = new Object[11];
+
+			buddy[0] = true;
+			buddy[1] = user.getFirstName();
+			buddy[2] = user.getGroupId();
+			buddy[3] = user.getLastName();
+			buddy[4] = user.isMale();
+			buddy[5] = user.getMiddleName();
+			buddy[6] = user.getPortraitId();
+			buddy[7] = user.getScreenName();
+			buddy[8] = user.getUserId();
+			buddy[9] = user.getUserUuid();
+			buddy[10] = GetterUtil.getString(rosterPresence.getStatus());
+
+			_buddies.put(jabberId, buddy);
+		}
+		catch (Exception e) {
+			_log.error("Unable to update Jabber buddy " + jabberId, e);
+		}
+	}
+
+	protected String getBareJabberId(String jabberId) {
+		if (!jabberId.contains(StringPool.SLASH)) {
+			return jabberId;
+		}
+
+		return StringUtil.extractFirst(jabberId, StringPool.SLASH);
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		JabberRosterListener.class);
+
+	private final ConcurrentMap<String, Object[]> _buddies =
+		new ConcurrentHashMap<>();
+	private final long _companyId;
+	private final Set<String> _importedScreenNames = Collections.newSetFromMap(
+		new ConcurrentHashMap<String, Boolean>());
+	private final Set<String> _importingScreenNames =
+		Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	private final Roster _roster;
+
+}
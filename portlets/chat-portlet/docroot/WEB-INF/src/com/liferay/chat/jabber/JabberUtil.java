@@ -15,20 +15,34 @@
 package com.liferay.chat.jabber;
 
 import com.liferay.chat.util.PortletPropsValues;
+import com.liferay.portal.kernel.messaging.Message;
 
 import java.util.List;
 
 /**
+ * Jabber operations that talk to the XMPP server are queued in the user's
+ * {@link JabberOutbox} lane and performed by the liferay/chat_jabber
+ * destination, so that a slow server never blocks the threads that serve chat
+ * requests. Passwords stay in the lane and are dropped once the operation is
+ * performed; they are never sent through the message bus.
+ *
  * @author Bruno Farache
  */
 public class JabberUtil {
 
+	public static final String DESTINATION_NAME = "liferay/chat_jabber";
+
 	public static void disconnect(long userId) {
 		if (!PortletPropsValues.JABBER_ENABLED) {
 			return;
 		}
 
-		getJabber().disconnect(userId);
+		Message message = new Message();
+
+		message.put("command", "disconnect");
+		message.put("userId", userId);
+
+		JabberOutbox.add(userId, message);
 	}
 
 	public static String getResource(String jabberId) {
@@ -49,12 +63,32 @@ public class JabberUtil {
 		return getJabber().getStatuses(companyId, userId, buddies);
 	}
 
+	public static void importBuddies(long userId, List<Object[]> buddies) {
+		if (!PortletPropsValues.JABBER_ENABLED) {
+			return;
+		}
+
+		Message message = new Message();
+
+		message.put("buddies", buddies);
+		message.put("command", "importBuddies");
+		message.put("userId", userId);
+
+		JabberOutbox.add(userId, message);
+	}
+
 	public static void login(long userId, String password) {
 		if (!PortletPropsValues.JABBER_ENABLED) {
 			return;
 		}
 
-		getJabber().login(userId, password);
+		Message message = new Message();
+
+		message.put("command", "login");
+		message.put("password", password);
+		message.put("userId", userId);
+
+		JabberOutbox.add(userId, message);
 	}
 
 	public static void sendMessage(
@@ -64,7 +98,14 @@ public class JabberUtil {
 			return;
 		}
 
-		getJabber().sendMessage(fromUserId, toUserId, content);
+		Message message = new Message();
+
+		message.put("command", "sendMessage");
+		message.put("content", content);
+		message.put("toUserId", toUserId);
+		message.put("userId", fromUserId);
+
+		JabberOutbox.add(fromUserId, message);
 	}
 
 	public static void updatePassword(long userId, String password) {
@@ -72,7 +113,13 @@ public class JabberUtil {
 			return;
 		}
 
-		getJabber().updatePassword(userId, password);
+		Message message = new Message();
+
+		message.put("command", "updatePassword");
+		message.put("password", password);
+		message.put("userId", userId);
+
+		JabberOutbox.add(userId, message);
 	}
 
 	public static void updateStatus(long userId, int online) {
@@ -80,7 +127,13 @@ public class JabberUtil {
 			return;
 		}
 
-		getJabber().updateStatus(userId, online);
+		Message message = new Message();
+
+		message.put("command", "updateStatus");
+		message.put("online", online);
+		message.put("userId", userId);
+
+		JabberOutbox.add(userId, message);
 	}
 
 	public void setJabber(Jabber jabber) {
@@ -93,4 +146,4 @@ public class JabberUtil {
 
 	private static Jabber _jabber;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.messaging;
+
+import com.liferay.chat.model.Entry;
+import com.liferay.chat.service.EntryLocalServiceUtil;
+import com.liferay.chat.util.PortletKeys;
+import com.liferay.chat.util.PortletPropsValues;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Repository;
+import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
+import com.liferay.portal.service.GroupLocalServiceUtil;
+import com.liferay.portal.service.ServiceContext;
+import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.util.PortalUtil;
+import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Deletes the chat entries that are older than the configured retention
+ * period, optionally archiving them to the document library first. Entries
+ * are read with keyset pagination and deleted in bounded transactions.
+ */
+public class PurgeEntriesMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		if (PortletPropsValues.ENTRY_RETENTION_MAX_AGE <= 0) {
+			return;
+		}
+
+		long createDate =
+			System.currentTimeMillis() -
+				(PortletPropsValues.ENTRY_RETENTION_MAX_AGE * Time.DAY);
+
+		long lastEntryId = Long.MAX_VALUE;
+
+		if (PortletPropsValues.ENTRY_RETENTION_ARCHIVE_ENABLED) {
+
+			// Only the entries that were written to the archive are deleted
+
+			lastEntryId = archiveEntries(createDate);
+
+			if (lastEntryId == 0) {
+				return;
+			}
+		}
+
+		deleteEntries(createDate, lastEntryId);
+	}
+
+	protected void addArchive(File file) throws Exception {
+		long companyId = PortalUtil.getDefaultCompanyId();
+
+		Group group = GroupLocalServiceUtil.getCompanyGroup(companyId);
+
+		long userId = UserLocalServiceUtil.getDefaultUserId(companyId);
+
+		ServiceContext serviceContext = new ServiceContext();
+
+		Repository repository = PortletFileRepositoryUtil.addPortletRepository(
+			group.getGroupId(), PortletKeys.CHAT, serviceContext);
+
+		Folder folder = PortletFileRepositoryUtil.addPortletFolder(
+			userId, repository.getRepositoryId(),
+			DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, _ARCHIVE_FOLDER_NAME,
+			serviceContext);
+
+		String fileName =
+			"chat-entries-" + Time.getShortTimestamp() + ".json.gz";
+
+		InputStream inputStream = new FileInputStream(file);
+
+		try {
+			PortletFileRepositoryUtil.addPortletFileEntry(
+				group.getGroupId(), userId, Entry.class.getName(), 0,
+				PortletKeys.CHAT, folder.getFolderId(), inputStream, fileName,
+				MimeTypesUtil.getContentType(fileName), false);
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+	}
+
+	protected long archiveEntries(long createDate) throws Exception {
+		long startTime = System.currentTimeMillis();
+
+		File file = FileUtil.createTempFile("gz");
+
+		int count = 0;
+		long entryId = 0;
+
+		try {
+			Writer writer = new OutputStreamWriter(
+				new GZIPOutputStream(new FileOutputStream(file)),
+				StringPool.UTF8);
+
+			try {
+				while (true) {
+					List<Entry> entries =
+						EntryLocalServiceUtil.getExpiredEntries(
+							createDate, entryId, 0,
+							PortletPropsValues.ENTRY_RETENTION_BATCH_SIZE);
+
+					if (entries.isEmpty()) {
+						break;
+					}
+
+					for (Entry entry : entries) {
+						JSONObject entryJSONObject =
+							JSONFactoryUtil.createJSONObject();
+
+						entryJSONObject.put("content", entry.getContent());
+						entryJSONObject.put(
+							"createDate", entry.getCreateDate());
+						entryJSONObject.put("entryId", entry.getEntryId());
+						entryJSONObject.put("flag", entry.getFlag());
+						entryJSONObject.put(
+							"fromUserId", entry.getFromUserId());
+						entryJSONObject.put("toUserId", entry.getToUserId());
+
+						writer.write(entryJSONObject.toString());
+						writer.write(StringPool.NEW_LINE);
+
+						entryId = entry.getEntryId();
+					}
+
+					count += entries.size();
+
+					throttle(count, startTime);
+				}
+			}
+			finally {
+				writer.close();
+			}
+
+			if (count > 0) {
+				addArchive(file);
+			}
+		}
+		finally {
+			FileUtil.delete(file);
+		}
+
+		if (_log.isInfoEnabled() && (count > 0)) {
+			logThroughput("Archived", count, startTime);
+		}
+
+		return entryId;
+	}
+
+	protected void deleteEntries(long createDate, long lastEntryId) {
+		long startTime = System.currentTimeMillis();
+
+		int count = 0;
+		long entryId = 0;
+
+		while (entryId < lastEntryId) {
+			List<Entry> entries = EntryLocalServiceUtil.getExpiredEntries(
+				createDate, entryId, 0,
+				PortletPropsValues.ENTRY_RETENTION_BATCH_SIZE);
+
+			if (entries.isEmpty()) {
+				break;
+			}
+
+			Entry entry = entries.get(entries.size() - 1);
+
+			long toEntryId = Math.min(entry.getEntryId(), lastEntryId);
+
+			count += EntryLocalServiceUtil.deleteExpiredEntries(
+				createDate, entryId, toEntryId);
+
+			entryId = toEntryId;
+
+			throttle(count, startTime);
+		}
+
+		if (_log.isInfoEnabled() && (count > 0)) {
+			logThroughput("Deleted", count, startTime);
+		}
+	}
+
+	protected void logThroughput(String action, int count, long startTime) {
+		long time = Math.max(System.currentTimeMillis() - startTime, 1);
+
+		_log.info(
+			action + " " + count + " chat entries in " + time + " ms (" +
+				(count * Time.SECOND / time) + " entries per second)");
+	}
+
+	protected void throttle(int count, long startTime) {
+		int maxEntriesPerSecond =
+			PortletPropsValues.ENTRY_RETENTION_MAX_ENTRIES_PER_SECOND;
+
+		if (maxEntriesPerSecond <= 0) {
+			return;
+		}
+
+		long time =
+			startTime + (count * Time.SECOND / maxEntriesPerSecond) -
+				System.currentTimeMillis();
+
+		if (time <= 0) {
+			return;
+		}
+
+		try {
+			Thread.sleep(time);
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final String _ARCHIVE_FOLDER_NAME = "Archives";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		PurgeEntriesMessageListener.class);
+
+}
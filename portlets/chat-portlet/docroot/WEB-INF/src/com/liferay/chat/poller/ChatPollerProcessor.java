@@ -20,8 +20,12 @@ import com.liferay.chat.service.EntryLocalServiceUtil;
 import com.liferay.chat.service.StatusLocalServiceUtil;
 import com.liferay.chat.util.BuddyFinderUtil;
 import com.liferay.chat.util.ChatConstants;
+import com.liferay.chat.util.ChatMailbox;
+import com.liferay.chat.util.ChatMailboxUtil;
 import com.liferay.chat.util.PortletPropsValues;
-import com.liferay.portal.NoSuchUserException;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.json.JSONArray;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
@@ -38,7 +42,11 @@ import com.liferay.portal.model.UserConstants;
 import com.liferay.portal.service.UserLocalServiceUtil;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -62,8 +70,11 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 
 		PollerResponse pollerResponse = pollerRequest.createPollerResponse();
 
-		getBuddies(pollerRequest, pollerResponse);
-		getEntries(pollerRequest, pollerResponse);
+		ChatMailbox chatMailbox = ChatMailboxUtil.getMailbox(
+			pollerRequest.getUserId());
+
+		getBuddies(pollerRequest, pollerResponse, chatMailbox);
+		getEntries(pollerRequest, pollerResponse, chatMailbox);
 
 		return pollerResponse;
 	}
@@ -75,13 +86,27 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 	}
 
 	protected void getBuddies(
-			PollerRequest pollerRequest, PollerResponse pollerResponse)
+			PollerRequest pollerRequest, PollerResponse pollerResponse,
+			ChatMailbox chatMailbox)
 		throws Exception {
 
+		long buddiesVersion = ChatMailboxUtil.getBuddiesVersion();
+
+		JSONArray buddiesJSONArray = chatMailbox.getBuddiesJSONArray(
+			buddiesVersion, pollerRequest.getTimestamp());
+
+		if (buddiesJSONArray != null) {
+			pollerResponse.setParameter("buddies", buddiesJSONArray);
+
+			return;
+		}
+
 		List<Object[]> buddies = BuddyFinderUtil.getBuddies(
 			pollerRequest.getCompanyId(), pollerRequest.getUserId());
 
-		JSONArray buddiesJSONArray = JSONFactoryUtil.createJSONArray();
+		buddiesJSONArray = JSONFactoryUtil.createJSONArray();
+
+		Set<Long> buddyUserIds = new HashSet<>();
 
 		for (Object[] buddy : buddies) {
 			boolean awake = (Boolean)buddy[0];
@@ -94,13 +119,10 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			String screenName = (String)buddy[7];
 			long userId = (Long)buddy[8];
 			String userUuid = (String)buddy[9];
+			String statusMessage = (String)buddy[10];
 
 			JSONObject curUserJSONObject = JSONFactoryUtil.createJSONObject();
 
-			Status buddyStatus = StatusLocalServiceUtil.getUserStatus(userId);
-
-			awake = buddyStatus.getAwake();
-
 			curUserJSONObject.put("awake", awake);
 
 			String fullName = ContactConstants.getFullName(
@@ -116,38 +138,54 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			curUserJSONObject.put("portraitURL", portraitURL);
 
 			curUserJSONObject.put("screenName", screenName);
-
-			String statusMessage = buddyStatus.getMessage();
-
 			curUserJSONObject.put("statusMessage", statusMessage);
 			curUserJSONObject.put("userId", userId);
 
 			buddiesJSONArray.put(curUserJSONObject);
+
+			buddyUserIds.add(userId);
 		}
 
+		chatMailbox.setBuddies(
+			buddiesJSONArray, buddyUserIds, buddiesVersion,
+			pollerRequest.getTimestamp());
+
 		pollerResponse.setParameter("buddies", buddiesJSONArray);
 	}
 
 	protected void getEntries(
-			PollerRequest pollerRequest, PollerResponse pollerResponse)
+			PollerRequest pollerRequest, PollerResponse pollerResponse,
+			ChatMailbox chatMailbox)
 		throws Exception {
 
-		Status status = StatusLocalServiceUtil.getUserStatus(
-			pollerRequest.getUserId());
+		if (pollerRequest.isInitialRequest() || !chatMailbox.isPrimed()) {
+			Status status = StatusLocalServiceUtil.getUserStatus(
+				pollerRequest.getUserId());
 
-		long createDate = 0;
+			if (!chatMailbox.isPrimed()) {
+				chatMailbox.prime(
+					getNewEntries(pollerRequest.getUserId(), 0),
+					status.getModifiedDate());
+			}
 
-		if (pollerRequest.isInitialRequest()) {
-			createDate = status.getModifiedDate() - Time.DAY;
+			if (pollerRequest.isInitialRequest()) {
+				chatMailbox.setModifiedDate(status.getModifiedDate());
+			}
 		}
 
-		List<Entry> entries = EntryLocalServiceUtil.getNewEntries(
-			pollerRequest.getUserId(), createDate, 0,
-			PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+		List<Entry> entries = null;
 
-		entries = ListUtil.copy(entries);
+		if (pollerRequest.isInitialRequest()) {
+			entries = getNewEntries(
+				pollerRequest.getUserId(),
+				chatMailbox.getModifiedDate() - Time.DAY);
+		}
+		else {
+			entries = chatMailbox.getEntries();
+		}
 
-		Collections.reverse(entries);
+		Map<Long, User> fromUsers = getFromUsers(
+			pollerRequest.getUserId(), entries);
 
 		JSONArray entriesJSONArray = JSONFactoryUtil.createJSONArray();
 
@@ -159,17 +197,14 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			entryJSONObject.put("fromUserId", entry.getFromUserId());
 
 			if (entry.getFromUserId() != pollerRequest.getUserId()) {
-				try {
-					User fromUser = UserLocalServiceUtil.getUserById(
-						entry.getFromUserId());
+				User fromUser = fromUsers.get(entry.getFromUserId());
 
-					entryJSONObject.put("fromFullName", fromUser.getFullName());
-					entryJSONObject.put(
-						"fromPortraitId", fromUser.getPortraitId());
-				}
-				catch (NoSuchUserException nsue) {
+				if (fromUser == null) {
 					continue;
 				}
+
+				entryJSONObject.put("fromFullName", fromUser.getFullName());
+				entryJSONObject.put("fromPortraitId", fromUser.getPortraitId());
 			}
 
 			entryJSONObject.put("toUserId", entry.getToUserId());
@@ -196,7 +231,7 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		}
 		else {
 			long onlineTimestamp =
-				status.getModifiedDate() + ChatConstants.ONLINE_DELTA -
+				chatMailbox.getModifiedDate() + ChatConstants.ONLINE_DELTA -
 					ChatConstants.MAX_POLL_LATENCY;
 
 			if (onlineTimestamp < pollerRequest.getTimestamp()) {
@@ -207,7 +242,50 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		if (updatePresence) {
 			StatusLocalServiceUtil.updateStatus(
 				pollerRequest.getUserId(), pollerRequest.getTimestamp());
+
+			chatMailbox.setModifiedDate(pollerRequest.getTimestamp());
+		}
+	}
+
+	protected Map<Long, User> getFromUsers(long userId, List<Entry> entries) {
+		Set<Long> fromUserIds = new HashSet<>();
+
+		for (Entry entry : entries) {
+			if (entry.getFromUserId() != userId) {
+				fromUserIds.add(entry.getFromUserId());
+			}
+		}
+
+		if (fromUserIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		DynamicQuery dynamicQuery = UserLocalServiceUtil.dynamicQuery();
+
+		Property userIdProperty = PropertyFactoryUtil.forName("userId");
+
+		dynamicQuery.add(userIdProperty.in(fromUserIds));
+
+		List<User> fromUsers = UserLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		Map<Long, User> fromUsersMap = new HashMap<>(fromUsers.size());
+
+		for (User fromUser : fromUsers) {
+			fromUsersMap.put(fromUser.getUserId(), fromUser);
 		}
+
+		return fromUsersMap;
+	}
+
+	protected List<Entry> getNewEntries(long userId, long createDate) {
+		List<Entry> entries = EntryLocalServiceUtil.getNewEntries(
+			userId, createDate, 0, PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+
+		entries = ListUtil.copy(entries);
+
+		Collections.reverse(entries);
+
+		return entries;
 	}
 
 	protected void updateStatus(PollerRequest pollerRequest) throws Exception {
@@ -137,13 +137,33 @@ public class EntryLocalServiceClpInvoker {
 
 		_methodParameterTypes57 = new String[] { "long" };
 
-		_methodName58 = "getNewEntries";
+		_methodName58 = "deleteExpiredEntries";
 
-		_methodParameterTypes58 = new String[] { "long", "long", "int", "int" };
+		_methodParameterTypes58 = new String[] { "long", "long", "long" };
 
-		_methodName59 = "getOldEntries";
+		_methodName59 = "getExpiredEntries";
 
-		_methodParameterTypes59 = new String[] { "long", "int", "int" };
+		_methodParameterTypes59 = new String[] { "long", "long", "int", "int" };
+
+		_methodName60 = "getNewEntries";
+
+		_methodParameterTypes60 = new String[] { "long", "long", "int", "int" };
+
+		_methodName61 = "getOldEntries";
+
+		_methodParameterTypes61 = new String[] { "long", "int", "int" };
+
+		_methodName62 = "markEntriesAsRead";
+
+		_methodParameterTypes62 = new String[] { "long", "long" };
+
+		_methodName63 = "publishEntry";
+
+		_methodParameterTypes63 = new String[] { "com.liferay.chat.model.Entry" };
+
+		_methodName64 = "publishReadEntries";
+
+		_methodParameterTypes64 = new String[] { "long", "long" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -277,19 +297,55 @@ public class EntryLocalServiceClpInvoker {
 
 		if (_methodName58.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes58, parameterTypes)) {
+			return EntryLocalServiceUtil.deleteExpiredEntries(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				((Long)arguments[2]).longValue());
+		}
+
+		if (_methodName59.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes59, parameterTypes)) {
+			return EntryLocalServiceUtil.getExpiredEntries(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				((Integer)arguments[2]).intValue(),
+				((Integer)arguments[3]).intValue());
+		}
+
+		if (_methodName60.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes60, parameterTypes)) {
 			return EntryLocalServiceUtil.getNewEntries(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue(),
 				((Integer)arguments[2]).intValue(),
 				((Integer)arguments[3]).intValue());
 		}
 
-		if (_methodName59.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes59, parameterTypes)) {
+		if (_methodName61.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes61, parameterTypes)) {
 			return EntryLocalServiceUtil.getOldEntries(((Long)arguments[0]).longValue(),
 				((Integer)arguments[1]).intValue(),
 				((Integer)arguments[2]).intValue());
 		}
 
+		if (_methodName62.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes62, parameterTypes)) {
+			return EntryLocalServiceUtil.markEntriesAsRead(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+		}
+
+		if (_methodName63.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
+			EntryLocalServiceUtil.publishEntry((com.liferay.chat.model.Entry)arguments[0]);
+
+			return null;
+		}
+
+		if (_methodName64.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
+			EntryLocalServiceUtil.publishReadEntries(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+
+			return null;
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -343,4 +399,14 @@ public class EntryLocalServiceClpInvoker {
 	private String[] _methodParameterTypes58;
 	private String _methodName59;
 	private String[] _methodParameterTypes59;
+	private String _methodName60;
+	private String[] _methodParameterTypes60;
+	private String _methodName61;
+	private String[] _methodParameterTypes61;
+	private String _methodName62;
+	private String[] _methodParameterTypes62;
+	private String _methodName63;
+	private String[] _methodParameterTypes63;
+	private String _methodName64;
+	private String[] _methodParameterTypes64;
 }
\ No newline at end of file
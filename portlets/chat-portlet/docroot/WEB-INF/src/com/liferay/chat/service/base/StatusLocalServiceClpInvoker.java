@@ -127,35 +127,65 @@ public class StatusLocalServiceClpInvoker {
 				"long", "long", "long", "int", "int"
 			};
 
-		_methodName56 = "getGroupStatuses";
+		_methodName56 = "getBuddyStatuses";
 
 		_methodParameterTypes56 = new String[] {
-				"long", "long", "java.lang.String[][]", "int", "int"
+				"long", "long[]", "long", "int", "int"
 			};
 
-		_methodName57 = "getSocialStatuses";
+		_methodName57 = "getGroupStatuses";
 
 		_methodParameterTypes57 = new String[] {
+				"long", "long", "java.lang.String[][]", "int", "int"
+			};
+
+		_methodName58 = "getSocialBuddyUserIds";
+
+		_methodParameterTypes58 = new String[] { "long", "int[]" };
+
+		_methodName59 = "getSocialStatuses";
+
+		_methodParameterTypes59 = new String[] {
 				"long", "int", "long", "int", "int"
 			};
 
-		_methodName58 = "getSocialStatuses";
+		_methodName60 = "getSocialStatuses";
 
-		_methodParameterTypes58 = new String[] {
+		_methodParameterTypes60 = new String[] {
 				"long", "int[][]", "long", "int", "int"
 			};
 
-		_methodName59 = "getUserStatus";
+		_methodName61 = "getUserStatus";
+
+		_methodParameterTypes61 = new String[] { "long" };
+
+		_methodName62 = "publishGroupMembership";
+
+		_methodParameterTypes62 = new String[] { "long", "long" };
+
+		_methodName63 = "publishModifiedDates";
+
+		_methodParameterTypes63 = new String[] { "long[]", "long[]" };
+
+		_methodName64 = "publishSocialRelation";
+
+		_methodParameterTypes64 = new String[] { "long", "long" };
+
+		_methodName65 = "publishStatus";
+
+		_methodParameterTypes65 = new String[] { "long", "boolean" };
 
-		_methodParameterTypes59 = new String[] { "long" };
+		_methodName66 = "updateModifiedDates";
 
-		_methodName60 = "updateStatus";
+		_methodParameterTypes66 = new String[] { "long[]", "long[]" };
 
-		_methodParameterTypes60 = new String[] { "long", "long" };
+		_methodName67 = "updateStatus";
 
-		_methodName61 = "updateStatus";
+		_methodParameterTypes67 = new String[] { "long", "long" };
 
-		_methodParameterTypes61 = new String[] {
+		_methodName68 = "updateStatus";
+
+		_methodParameterTypes68 = new String[] {
 				"long", "long", "int", "int", "java.lang.String",
 				"java.lang.String", "int"
 			};
@@ -281,6 +311,15 @@ public class StatusLocalServiceClpInvoker {
 
 		if (_methodName56.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes56, parameterTypes)) {
+			return StatusLocalServiceUtil.getBuddyStatuses(((Long)arguments[0]).longValue(),
+				(long[])arguments[1],
+				((Long)arguments[2]).longValue(),
+				((Integer)arguments[3]).intValue(),
+				((Integer)arguments[4]).intValue());
+		}
+
+		if (_methodName57.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes57, parameterTypes)) {
 			return StatusLocalServiceUtil.getGroupStatuses(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue(),
 				(java.lang.String[])arguments[2],
@@ -288,8 +327,14 @@ public class StatusLocalServiceClpInvoker {
 				((Integer)arguments[4]).intValue());
 		}
 
-		if (_methodName57.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes57, parameterTypes)) {
+		if (_methodName58.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes58, parameterTypes)) {
+			return StatusLocalServiceUtil.getSocialBuddyUserIds(((Long)arguments[0]).longValue(),
+				(int[])arguments[1]);
+		}
+
+		if (_methodName59.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes59, parameterTypes)) {
 			return StatusLocalServiceUtil.getSocialStatuses(((Long)arguments[0]).longValue(),
 				((Integer)arguments[1]).intValue(),
 				((Long)arguments[2]).longValue(),
@@ -297,27 +342,67 @@ public class StatusLocalServiceClpInvoker {
 				((Integer)arguments[4]).intValue());
 		}
 
-		if (_methodName58.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes58, parameterTypes)) {
+		if (_methodName60.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes60, parameterTypes)) {
 			return StatusLocalServiceUtil.getSocialStatuses(((Long)arguments[0]).longValue(),
 				(int[])arguments[1], ((Long)arguments[2]).longValue(),
 				((Integer)arguments[3]).intValue(),
 				((Integer)arguments[4]).intValue());
 		}
 
-		if (_methodName59.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes59, parameterTypes)) {
+		if (_methodName61.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes61, parameterTypes)) {
 			return StatusLocalServiceUtil.getUserStatus(((Long)arguments[0]).longValue());
 		}
 
-		if (_methodName60.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes60, parameterTypes)) {
+		if (_methodName62.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes62, parameterTypes)) {
+			StatusLocalServiceUtil.publishGroupMembership(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+
+			return null;
+		}
+
+		if (_methodName63.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
+			StatusLocalServiceUtil.publishModifiedDates((long[])arguments[0],
+				(long[])arguments[1]);
+
+			return null;
+		}
+
+		if (_methodName64.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
+			StatusLocalServiceUtil.publishSocialRelation(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+
+			return null;
+		}
+
+		if (_methodName65.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes65, parameterTypes)) {
+			StatusLocalServiceUtil.publishStatus(((Long)arguments[0]).longValue(),
+				((Boolean)arguments[1]).booleanValue());
+
+			return null;
+		}
+
+		if (_methodName66.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes66, parameterTypes)) {
+			StatusLocalServiceUtil.updateModifiedDates((long[])arguments[0],
+				(long[])arguments[1]);
+
+			return null;
+		}
+
+		if (_methodName67.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes67, parameterTypes)) {
 			return StatusLocalServiceUtil.updateStatus(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue());
 		}
 
-		if (_methodName61.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes61, parameterTypes)) {
+		if (_methodName68.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes68, parameterTypes)) {
 			return StatusLocalServiceUtil.updateStatus(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue(),
 				((Integer)arguments[2]).intValue(),
@@ -383,4 +468,18 @@ public class StatusLocalServiceClpInvoker {
 	private String[] _methodParameterTypes60;
 	private String _methodName61;
 	private String[] _methodParameterTypes61;
+	private String _methodName62;
+	private String[] _methodParameterTypes62;
+	private String _methodName63;
+	private String[] _methodParameterTypes63;
+	private String _methodName64;
+	private String[] _methodParameterTypes64;
+	private String _methodName65;
+	private String[] _methodParameterTypes65;
+	private String _methodName66;
+	private String[] _methodParameterTypes66;
+	private String _methodName67;
+	private String[] _methodParameterTypes67;
+	private String _methodName68;
+	private String[] _methodParameterTypes68;
 }
\ No newline at end of file
@@ -16,13 +16,18 @@ package com.liferay.chat.service.impl;
 
 import com.liferay.chat.jabber.JabberUtil;
 import com.liferay.chat.model.Entry;
+import com.liferay.chat.model.EntryConstants;
 import com.liferay.chat.service.base.EntryLocalServiceBaseImpl;
+import com.liferay.chat.util.ChatMailboxUtil;
+import com.liferay.portal.kernel.cluster.Clusterable;
 import com.liferay.portal.kernel.dao.db.DB;
 import com.liferay.portal.kernel.dao.db.DBFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * @author Brian Wing Shun Chan
@@ -63,7 +68,7 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 		long entryId = counterLocalService.increment();
 
-		Entry entry = entryPersistence.create(entryId);
+		final Entry entry = entryPersistence.create(entryId);
 
 		entry.setCreateDate(createDate);
 		entry.setFromUserId(fromUserId);
@@ -74,6 +79,19 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 		JabberUtil.sendMessage(fromUserId, toUserId, content);
 
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				entryLocalService.publishEntry(entry);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+
 		return entry;
 	}
 
@@ -90,6 +108,20 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 		entryPersistence.removeByToUserId(userId);
 	}
 
+	@Override
+	public int deleteExpiredEntries(
+		long createDate, long fromEntryId, long toEntryId) {
+
+		return entryFinder.deleteByC_E(createDate, fromEntryId, toEntryId);
+	}
+
+	@Override
+	public List<Entry> getExpiredEntries(
+		long createDate, long entryId, int start, int end) {
+
+		return entryFinder.findByC_E(createDate, entryId, start, end);
+	}
+
 	@Override
 	public List<Entry> getNewEntries(
 		long userId, long createDate, int start, int end) {
@@ -102,4 +134,57 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 		return entryFinder.findByOld(createDate, start, end);
 	}
 
+	@Override
+	public int markEntriesAsRead(final long fromUserId, final long toUserId) {
+		// The newest entry of a conversation is its receipt cursor. Entries
+		// are always marked as read up to its create date, so a conversation
+		// whose newest entry is read has nothing left to update. Entry IDs
+		// come from the counter and are not ordered across a cluster, so
+		// they cannot serve as the bound.
+
+		Entry lastEntry = entryPersistence.fetchByF_T_First(
+			fromUserId, toUserId, null);
+
+		if ((lastEntry == null) ||
+			(lastEntry.getFlag() == EntryConstants.FLAG_READ)) {
+
+			return 0;
+		}
+
+		int count = entryFinder.updateFlagByF_T(
+			fromUserId, toUserId, lastEntry.getCreateDate(),
+			EntryConstants.FLAG_READ);
+
+		if (count == 0) {
+			return 0;
+		}
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				entryLocalService.publishReadEntries(fromUserId, toUserId);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+
+		return count;
+	}
+
+	@Clusterable
+	@Override
+	public void publishEntry(Entry entry) {
+		ChatMailboxUtil.publishEntry(entry);
+	}
+
+	@Clusterable
+	@Override
+	public void publishReadEntries(long fromUserId, long toUserId) {
+		ChatMailboxUtil.publishReadEntries(fromUserId, toUserId);
+	}
+
 }
\ No newline at end of file
@@ -15,20 +15,25 @@
 package com.liferay.chat.service.impl;
 
 import com.liferay.chat.jabber.JabberUtil;
-import com.liferay.chat.model.Entry;
-import com.liferay.chat.model.EntryConstants;
 import com.liferay.chat.model.Status;
 import com.liferay.chat.service.base.StatusLocalServiceBaseImpl;
+import com.liferay.chat.util.BuddyRosterUtil;
+import com.liferay.chat.util.ChatConstants;
+import com.liferay.chat.util.ChatMailboxUtil;
+import com.liferay.chat.util.PresenceRegistryUtil;
+import com.liferay.portal.kernel.cluster.Clusterable;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.json.JSONException;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * @author Brian Wing Shun Chan
@@ -44,6 +49,15 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 			companyId, userId, modifiedDate, start, end);
 	}
 
+	@Override
+	public List<Object[]> getBuddyStatuses(
+		long companyId, long[] userIds, long modifiedDate, int start,
+		int end) {
+
+		return statusFinder.findByUserIds(
+			companyId, userIds, modifiedDate, start, end);
+	}
+
 	@Override
 	public List<Object[]> getGroupStatuses(
 		long userId, long modifiedDate, String[] groupNames, int start,
@@ -53,6 +67,11 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 			userId, modifiedDate, groupNames, start, end);
 	}
 
+	@Override
+	public List<Long> getSocialBuddyUserIds(long userId, int[] types) {
+		return statusFinder.findUserIdsBySocialRelationTypes(userId, types);
+	}
+
 	@Override
 	public List<Object[]> getSocialStatuses(
 		long userId, int type, long modifiedDate, int start, int end) {
@@ -82,18 +101,74 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 		return status;
 	}
 
+	@Clusterable
+	@Override
+	public void publishGroupMembership(long groupId, long userId) {
+		BuddyRosterUtil.expireGroupRosters(groupId, userId);
+	}
+
+	@Clusterable
+	@Override
+	public void publishSocialRelation(long userId1, long userId2) {
+		BuddyRosterUtil.expireRosters(userId1, userId2);
+	}
+
+	@Clusterable
+	@Override
+	public void publishStatus(long userId, boolean online) {
+		ChatMailboxUtil.publishStatus(userId, online);
+	}
+
+	@Clusterable
+	@Override
+	public void publishModifiedDates(long[] userIds, long[] modifiedDates) {
+		PresenceRegistryUtil.update(userIds, modifiedDates);
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		for (int i = 0; i < userIds.length; i++) {
+			Status status = statusPersistence.fetchByUserId(userIds[i]);
+
+			if ((status == null) ||
+				(status.getModifiedDate() >= modifiedDates[i])) {
+
+				continue;
+			}
+
+			status.setModifiedDate(modifiedDates[i]);
+
+			statusPersistence.update(status);
+		}
+	}
+
 	@Override
 	public Status updateStatus(long userId, long modifiedDate) {
+		Status status = statusPersistence.fetchByUserId(userId);
+
+		// Heartbeats of users that are already online only refresh the
+		// presence registry and are written to the database in batches
+
+		if ((status != null) && isVisible(status)) {
+			PresenceRegistryUtil.heartbeat(userId, modifiedDate);
+
+			return status;
+		}
+
 		return updateStatus(userId, modifiedDate, -1, -1, null, null, -1);
 	}
 
 	@Override
 	public Status updateStatus(
-		long userId, long modifiedDate, int online, int awake,
+		final long userId, long modifiedDate, int online, int awake,
 		String activePanelIds, String message, int playSound) {
 
 		Status status = statusPersistence.fetchByUserId(userId);
 
+		boolean oldVisible = false;
+		boolean oldAwake = false;
+		String oldMessage = null;
+
 		if (status == null) {
 			long statusId = counterLocalService.increment();
 
@@ -101,6 +176,11 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 
 			status.setUserId(userId);
 		}
+		else {
+			oldVisible = isVisible(status);
+			oldAwake = status.getAwake();
+			oldMessage = status.getMessage();
+		}
 
 		if (modifiedDate != -1) {
 			status.setModifiedDate(modifiedDate);
@@ -121,13 +201,8 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 
 				long openPanelId = activePanelIdsJSONObject.getLong("open");
 
-				List<Entry> entries = entryPersistence.findByF_T(
-					openPanelId, userId);
-
-				for (Entry entry : entries) {
-					entry.setFlag(EntryConstants.FLAG_READ);
-
-					entryPersistence.update(entry);
+				if (openPanelId > 0) {
+					entryLocalService.markEntriesAsRead(openPanelId, userId);
 				}
 			}
 			catch (JSONException jsone) {
@@ -161,11 +236,51 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 			}
 		}
 
+		PresenceRegistryUtil.persisted(userId, status.getModifiedDate());
+
 		JabberUtil.updateStatus(userId, online);
 
+		boolean visible = isVisible(status);
+
+		final boolean appeared = !oldVisible && visible;
+
+		if (appeared || (oldVisible && !visible) ||
+			(visible &&
+			 ((oldAwake != status.getAwake()) ||
+			  !Validator.equals(oldMessage, status.getMessage())))) {
+
+			Callable<Void> callable = new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					statusLocalService.publishStatus(userId, appeared);
+
+					return null;
+				}
+
+			};
+
+			TransactionCommitCallbackUtil.registerCallback(callable);
+		}
+
 		return status;
 	}
 
+	protected boolean isVisible(Status status) {
+		long modifiedDate = Math.max(
+			status.getModifiedDate(),
+			PresenceRegistryUtil.getModifiedDate(status.getUserId()));
+
+		if (status.isOnline() &&
+			(modifiedDate >
+				(System.currentTimeMillis() - ChatConstants.ONLINE_DELTA))) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		StatusLocalServiceImpl.class);
 
@@ -17,11 +17,15 @@ package com.liferay.chat.service.persistence.impl;
 import com.liferay.chat.model.Entry;
 import com.liferay.chat.model.EntryConstants;
 import com.liferay.chat.model.impl.EntryImpl;
+import com.liferay.chat.model.impl.EntryModelImpl;
 import com.liferay.chat.service.persistence.EntryFinder;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.SQLQuery;
 import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.util.dao.orm.CustomSQLUtil;
@@ -34,6 +38,12 @@ import java.util.List;
 public class EntryFinderImpl
 	extends EntryFinderBaseImpl implements EntryFinder {
 
+	public static final String DELETE_BY_C_E =
+		EntryFinder.class.getName() + ".deleteByC_E";
+
+	public static final String FIND_BY_C_E =
+		EntryFinder.class.getName() + ".findByC_E";
+
 	public static final String FIND_BY_EMPTY_CONTENT =
 		EntryFinder.class.getName() + ".findByEmptyContent";
 
@@ -43,6 +53,95 @@ public class EntryFinderImpl
 	public static final String FIND_BY_OLD =
 		EntryFinder.class.getName() + ".findByOld";
 
+	public static final String FIND_ENTRY_IDS_BY_C_E =
+		EntryFinder.class.getName() + ".findEntryIdsByC_E";
+
+	public static final String FIND_ENTRY_IDS_BY_F_T =
+		EntryFinder.class.getName() + ".findEntryIdsByF_T";
+
+	public static final String UPDATE_FLAG_BY_F_T =
+		EntryFinder.class.getName() + ".updateFlagByF_T";
+
+	@Override
+	public int deleteByC_E(long createDate, long fromEntryId, long toEntryId) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_ENTRY_IDS_BY_C_E);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar("entryId", Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(createDate);
+			qPos.add(fromEntryId);
+			qPos.add(toEntryId);
+
+			List<Long> entryIds = (List<Long>)QueryUtil.list(
+				q, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+			if (entryIds.isEmpty()) {
+				return 0;
+			}
+
+			sql = CustomSQLUtil.get(DELETE_BY_C_E);
+
+			q = session.createSynchronizedSQLQuery(sql);
+
+			qPos = QueryPos.getInstance(q);
+
+			qPos.add(createDate);
+			qPos.add(fromEntryId);
+			qPos.add(toEntryId);
+
+			int count = q.executeUpdate();
+
+			clearCache(entryIds);
+
+			return count;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<Entry> findByC_E(
+		long createDate, long entryId, int start, int end) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_C_E);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addEntity("Chat_Entry", EntryImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(createDate);
+			qPos.add(entryId);
+
+			return (List<Entry>)QueryUtil.list(q, getDialect(), start, end);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
 	@Override
 	public List<Entry> findByEmptyContent(
 		long fromUserId, long toUserId, int start, int end) {
@@ -141,6 +240,84 @@ public class EntryFinderImpl
 		}
 	}
 
+	@Override
+	public int updateFlagByF_T(
+		long fromUserId, long toUserId, long createDate, int flag) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_ENTRY_IDS_BY_F_T);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar("entryId", Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(fromUserId);
+			qPos.add(toUserId);
+			qPos.add(createDate);
+			qPos.add(flag);
+
+			List<Long> entryIds = (List<Long>)QueryUtil.list(
+				q, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+			int count = 0;
+
+			for (int i = 0; i < entryIds.size(); i += _BATCH_SIZE) {
+				List<Long> batchEntryIds = entryIds.subList(
+					i, Math.min(i + _BATCH_SIZE, entryIds.size()));
+
+				sql = CustomSQLUtil.get(UPDATE_FLAG_BY_F_T);
+
+				sql = StringUtil.replace(
+					sql, "[$ENTRY_IDS$]",
+					StringUtil.merge(batchEntryIds.toArray(new Long[0])));
+
+				q = session.createSynchronizedSQLQuery(sql);
+
+				qPos = QueryPos.getInstance(q);
+
+				qPos.add(flag);
+				qPos.add(fromUserId);
+				qPos.add(toUserId);
+
+				count += q.executeUpdate();
+			}
+
+			clearCache(entryIds);
+
+			return count;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected void clearCache(List<Long> entryIds) {
+		if (entryIds.isEmpty()) {
+			return;
+		}
+
+		for (long entryId : entryIds) {
+			EntityCacheUtil.removeResult(
+				EntryModelImpl.ENTITY_CACHE_ENABLED, EntryImpl.class, entryId);
+		}
+
+		FinderCacheUtil.clearCache(
+			EntryPersistenceImpl.FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		FinderCacheUtil.clearCache(
+			EntryPersistenceImpl.FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	private static final int _BATCH_SIZE = 500;
+
 	private static final String _CREATE_DATE_SQL = "(createDate > ?)";
 
 	private static final String _FLAG_SQL = "(flag = ?)";
@@ -16,6 +16,7 @@ package com.liferay.chat.service.persistence.impl;
 
 import com.liferay.chat.model.Status;
 import com.liferay.chat.service.persistence.StatusFinder;
+import com.liferay.chat.util.PresenceRegistryUtil;
 import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.SQLQuery;
@@ -28,7 +29,6 @@ import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.User;
 import com.liferay.portal.security.auth.CompanyThreadLocal;
 import com.liferay.portal.service.ClassNameLocalServiceUtil;
-import com.liferay.portal.service.persistence.UserUtil;
 import com.liferay.util.dao.orm.CustomSQLUtil;
 
 import java.util.ArrayList;
@@ -47,9 +47,15 @@ public class StatusFinderImpl
 	public static final String FIND_BY_SOCIAL_RELATION_TYPES =
 		StatusFinder.class.getName() + ".findBySocialRelationTypes";
 
+	public static final String FIND_BY_USER_IDS =
+		StatusFinder.class.getName() + ".findByUserIds";
+
 	public static final String FIND_BY_USERS_GROUPS =
 		StatusFinder.class.getName() + ".findByUsersGroups";
 
+	public static final String FIND_USER_IDS_BY_SOCIAL_RELATION_TYPES =
+		StatusFinder.class.getName() + ".findUserIdsBySocialRelationTypes";
+
 	@Override
 	public List<Object[]> findByModifiedDate(
 		long companyId, long userId, long modifiedDate, int start, int end) {
@@ -70,9 +76,12 @@ public class StatusFinderImpl
 			qPos.add(ClassNameLocalServiceUtil.getClassNameId(User.class));
 			qPos.add(companyId);
 			qPos.add(userId);
-			qPos.add(modifiedDate);
+			qPos.add(PresenceRegistryUtil.getQueryModifiedDate(modifiedDate));
+
+			List<Object[]> buddies = (List<Object[]>)QueryUtil.list(
+				q, getDialect(), start, end);
 
-			return toObjectArray(QueryUtil.list(q, getDialect(), start, end));
+			return PresenceRegistryUtil.filterBuddies(buddies, modifiedDate);
 		}
 		catch (Exception e) {
 			throw new SystemException(e);
@@ -91,7 +100,8 @@ public class StatusFinderImpl
 		try {
 			session = openSession();
 
-			String sql = getFindBySocialRelationTypes_SQL(types);
+			String sql = getFindBySocialRelationTypes_SQL(
+				CustomSQLUtil.get(FIND_BY_SOCIAL_RELATION_TYPES), types);
 
 			SQLQuery q = session.createSynchronizedSQLQuery(sql);
 
@@ -108,9 +118,55 @@ public class StatusFinderImpl
 
 			qPos.add(CompanyThreadLocal.getCompanyId());
 			qPos.add(userId);
-			qPos.add(modifiedDate);
+			qPos.add(PresenceRegistryUtil.getQueryModifiedDate(modifiedDate));
 
-			return toObjectArray(QueryUtil.list(q, getDialect(), start, end));
+			List<Object[]> buddies = (List<Object[]>)QueryUtil.list(
+				q, getDialect(), start, end);
+
+			return PresenceRegistryUtil.filterBuddies(buddies, modifiedDate);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<Object[]> findByUserIds(
+		long companyId, long[] userIds, long modifiedDate, int start,
+		int end) {
+
+		if (userIds.length == 0) {
+			return new ArrayList<>();
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_USER_IDS);
+
+			sql = StringUtil.replace(
+				sql, "[$USER_IDS$]", getParameters(userIds.length));
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			addScalars(q);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(ClassNameLocalServiceUtil.getClassNameId(User.class));
+			qPos.add(companyId);
+			qPos.add(userIds);
+			qPos.add(PresenceRegistryUtil.getQueryModifiedDate(modifiedDate));
+
+			List<Object[]> buddies = (List<Object[]>)QueryUtil.list(
+				q, getDialect(), start, end);
+
+			return PresenceRegistryUtil.filterBuddies(buddies, modifiedDate);
 		}
 		catch (Exception e) {
 			throw new SystemException(e);
@@ -130,7 +186,8 @@ public class StatusFinderImpl
 		try {
 			session = openSession();
 
-			String sql = getFindByUsersGroups_SQL(groupNames);
+			String sql = getFindByUsersGroups_SQL(
+				CustomSQLUtil.get(FIND_BY_USERS_GROUPS), groupNames);
 
 			SQLQuery q = session.createSynchronizedSQLQuery(sql);
 
@@ -147,9 +204,50 @@ public class StatusFinderImpl
 				qPos.add(groupNames);
 			}
 
-			qPos.add(modifiedDate);
+			qPos.add(PresenceRegistryUtil.getQueryModifiedDate(modifiedDate));
+
+			List<Object[]> buddies = (List<Object[]>)QueryUtil.list(
+				q, getDialect(), start, end);
 
-			return toObjectArray(QueryUtil.list(q, getDialect(), start, end));
+			return PresenceRegistryUtil.filterBuddies(buddies, modifiedDate);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<Long> findUserIdsBySocialRelationTypes(
+		long userId, int[] types) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = getFindBySocialRelationTypes_SQL(
+				CustomSQLUtil.get(FIND_USER_IDS_BY_SOCIAL_RELATION_TYPES),
+				types);
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar("userId", Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(userId);
+
+			if (types.length > 0) {
+				qPos.add(types);
+			}
+
+			qPos.add(userId);
+
+			return (List<Long>)QueryUtil.list(
+				q, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
 		}
 		catch (Exception e) {
 			throw new SystemException(e);
@@ -164,39 +262,31 @@ public class StatusFinderImpl
 		sqlQuery.addScalar("firstName", Type.STRING);
 		sqlQuery.addScalar("groupId", Type.LONG);
 		sqlQuery.addScalar("lastName", Type.STRING);
-		//sqlQuery.addScalar("male", Type.BOOLEAN);
+		sqlQuery.addScalar("male", Type.BOOLEAN);
 		sqlQuery.addScalar("middleName", Type.STRING);
 		sqlQuery.addScalar("portraitId", Type.LONG);
 		sqlQuery.addScalar("screenName", Type.STRING);
 		sqlQuery.addScalar("userId", Type.LONG);
 		sqlQuery.addScalar("userUuid", Type.STRING);
+		sqlQuery.addScalar("statusMessage", Type.STRING);
 	}
 
-	protected String getFindBySocialRelationTypes_SQL(int[] types) {
-		String sql = CustomSQLUtil.get(FIND_BY_SOCIAL_RELATION_TYPES);
+	protected String getFindBySocialRelationTypes_SQL(
+		String sql, int[] types) {
 
 		if (types.length == 0) {
 			return StringUtil.replace(
 				sql, "[$SOCIAL_RELATION_TYPES$]", StringPool.BLANK);
 		}
 
-		StringBundler sb = new StringBundler(types.length * 2 - 1);
-
-		for (int i = 0; i < types.length; i++) {
-			sb.append(StringPool.QUESTION);
-
-			if ((i + 1) < types.length) {
-				sb.append(StringPool.COMMA);
-			}
-		}
-
 		return StringUtil.replace(
 			sql, "[$SOCIAL_RELATION_TYPES$]",
-			"SocialRelation.type_ IN (" + sb.toString() + ") AND");
+			"SocialRelation.type_ IN (" + getParameters(types.length) +
+				") AND");
 	}
 
-	protected String getFindByUsersGroups_SQL(String[] groupNames) {
-		String sql = CustomSQLUtil.get(FIND_BY_USERS_GROUPS);
+	protected String getFindByUsersGroups_SQL(
+		String sql, String[] groupNames) {
 
 		if (groupNames.length == 0) {
 			return StringUtil.replace(
@@ -207,48 +297,28 @@ public class StatusFinderImpl
 				new String[] {StringPool.BLANK, StringPool.BLANK});
 		}
 
-		StringBundler sb = new StringBundler(groupNames.length * 2 - 1);
-
-		for (int i = 0; i < groupNames.length; i++) {
-			sb.append(StringPool.QUESTION);
-
-			if ((i + 1) < groupNames.length) {
-				sb.append(StringPool.COMMA);
-			}
-		}
-
 		return StringUtil.replace(
 			sql,
 			new String[] {"[$USERS_GROUPS_JOIN$]", "[$USERS_GROUPS_WHERE$]"},
 			new String[] {
 				"INNER JOIN Group_ ON Group_.groupId = Users_Groups.groupId",
-				"AND Group_.name NOT IN (" + sb.toString() + ")"
+				"AND Group_.name NOT IN (" +
+					getParameters(groupNames.length) + ")"
 			});
 	}
 
-	protected List<Object[]> toObjectArray(List<?> list) throws Exception {
-		List<Object[]> objectArrayList = (List<Object[]>)list;
-
-		List<Object[]> newObjectArrayList = new ArrayList<>(
-			objectArrayList.size());
-
-		for (Object[] objectArray : objectArrayList) {
-			long userId = (Long)objectArray[7];
-
-			User user = UserUtil.findByPrimaryKey(userId);
-
-			Object[] newObjectArray = new Object[objectArray.length + 1];
+	protected String getParameters(int count) {
+		StringBundler sb = new StringBundler(count * 2 - 1);
 
-			System.arraycopy(objectArray, 0, newObjectArray, 0, 4);
-
-			newObjectArray[4] = user.isMale();
-
-			System.arraycopy(objectArray, 4, newObjectArray, 5, 5);
+		for (int i = 0; i < count; i++) {
+			sb.append(StringPool.QUESTION);
 
-			newObjectArrayList.add(newObjectArray);
+			if ((i + 1) < count) {
+				sb.append(StringPool.COMMA);
+			}
 		}
 
-		return newObjectArrayList;
+		return sb.toString();
 	}
 
 }
\ No newline at end of file
@@ -21,6 +21,19 @@ import java.util.List;
  */
 public interface BuddyFinder {
 
+	/**
+	 * Returns the online buddies of the user. Each buddy is returned with its
+	 * presence already resolved so that callers do not need to look up the
+	 * buddy's status or user. The elements of each buddy are, in order:
+	 * <code>awake</code>, <code>firstName</code>, <code>groupId</code>,
+	 * <code>lastName</code>, <code>male</code>, <code>middleName</code>,
+	 * <code>portraitId</code>, <code>screenName</code>, <code>userId</code>,
+	 * <code>userUuid</code>, and <code>statusMessage</code>.
+	 *
+	 * @param  companyId the primary key of the company
+	 * @param  userId the primary key of the user
+	 * @return the online buddies of the user
+	 */
 	public List<Object[]> getBuddies(long companyId, long userId);
 
 }
\ No newline at end of file
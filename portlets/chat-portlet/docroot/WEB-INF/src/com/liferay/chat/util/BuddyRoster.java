@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.portal.kernel.util.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * Holds the sites and the social relations that the buddy list of a user is
+ * derived from. The members of each site are held once per site by {@link
+ * GroupRoster}.
+ */
+public class BuddyRoster {
+
+	public BuddyRoster(long[] groupIds, long[] socialBuddyUserIds) {
+		_groupIds = groupIds;
+		_socialBuddyUserIds = socialBuddyUserIds;
+
+		Arrays.sort(_socialBuddyUserIds);
+
+		_createTime = System.currentTimeMillis();
+	}
+
+	public long getCreateTime() {
+		return _createTime;
+	}
+
+	public long[] getGroupIds() {
+		return _groupIds;
+	}
+
+	public boolean hasGroupId(long groupId) {
+		return ArrayUtil.contains(_groupIds, groupId);
+	}
+
+	public boolean hasSocialBuddyUserId(long userId) {
+		if (Arrays.binarySearch(_socialBuddyUserIds, userId) >= 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private final long _createTime;
+	private final long[] _groupIds;
+	private final long[] _socialBuddyUserIds;
+
+}
\ No newline at end of file
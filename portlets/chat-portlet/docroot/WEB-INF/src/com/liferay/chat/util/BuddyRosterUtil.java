@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the buddy rosters of the users that are polling on this node and the
+ * members of their sites so that the site and social relation joins only run
+ * when a roster changes. The members of a site are cached once for all of its
+ * users. Rosters are expired by the group membership and social relation model
+ * listeners.
+ */
+public class BuddyRosterUtil {
+
+	public static void expireGroupRosters(long groupId, long userId) {
+		_instance._expireGroupRosters(groupId, userId);
+	}
+
+	public static void expireRosters(long... userIds) {
+		_instance._expireRosters(userIds);
+	}
+
+	public static GroupRoster getGroupRoster(long groupId) {
+		return _instance._getGroupRoster(groupId);
+	}
+
+	public static BuddyRoster getRoster(long userId) {
+		return _instance._getRoster(userId);
+	}
+
+	public static long getVersion() {
+		return _instance._getVersion();
+	}
+
+	public static void putGroupRoster(
+		long groupId, GroupRoster groupRoster, long version) {
+
+		_instance._putGroupRoster(groupId, groupRoster, version);
+	}
+
+	public static void putRoster(
+		long userId, BuddyRoster buddyRoster, long version) {
+
+		_instance._putRoster(userId, buddyRoster, version);
+	}
+
+	public static void removeRoster(long userId) {
+		_instance._removeRoster(userId);
+	}
+
+	private BuddyRosterUtil() {
+		_groupRosters = new ConcurrentHashMap<>();
+		_rosters = new ConcurrentHashMap<>();
+		_version = new AtomicLong();
+	}
+
+	private void _cleanUp(long now) {
+		if ((_lastCleanUpTime + ChatConstants.BUDDY_ROSTER_REFRESH_INTERVAL) >=
+				now) {
+
+			return;
+		}
+
+		_lastCleanUpTime = now;
+
+		Iterator<GroupRoster> groupRostersIterator =
+			_groupRosters.values().iterator();
+
+		while (groupRostersIterator.hasNext()) {
+			GroupRoster groupRoster = groupRostersIterator.next();
+
+			if (_isExpired(groupRoster.getCreateTime(), now)) {
+				groupRostersIterator.remove();
+			}
+		}
+
+		Iterator<BuddyRoster> rostersIterator = _rosters.values().iterator();
+
+		while (rostersIterator.hasNext()) {
+			BuddyRoster buddyRoster = rostersIterator.next();
+
+			if (_isExpired(buddyRoster.getCreateTime(), now)) {
+				rostersIterator.remove();
+			}
+		}
+	}
+
+	private void _expireGroupRosters(long groupId, long userId) {
+		_version.incrementAndGet();
+
+		_groupRosters.remove(groupId);
+		_rosters.remove(userId);
+	}
+
+	private void _expireRosters(long... userIds) {
+		_version.incrementAndGet();
+
+		for (long userId : userIds) {
+			_rosters.remove(userId);
+		}
+	}
+
+	private GroupRoster _getGroupRoster(long groupId) {
+		long now = System.currentTimeMillis();
+
+		_cleanUp(now);
+
+		GroupRoster groupRoster = _groupRosters.get(groupId);
+
+		if ((groupRoster == null) ||
+			_isExpired(groupRoster.getCreateTime(), now)) {
+
+			return null;
+		}
+
+		return groupRoster;
+	}
+
+	private BuddyRoster _getRoster(long userId) {
+		long now = System.currentTimeMillis();
+
+		_cleanUp(now);
+
+		BuddyRoster buddyRoster = _rosters.get(userId);
+
+		if ((buddyRoster == null) ||
+			_isExpired(buddyRoster.getCreateTime(), now)) {
+
+			return null;
+		}
+
+		return buddyRoster;
+	}
+
+	private long _getVersion() {
+		return _version.get();
+	}
+
+	private boolean _isExpired(long createTime, long now) {
+		if ((createTime + ChatConstants.BUDDY_ROSTER_REFRESH_INTERVAL) < now) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _putGroupRoster(
+		long groupId, GroupRoster groupRoster, long version) {
+
+		_groupRosters.put(groupId, groupRoster);
+
+		if (_version.get() != version) {
+			_groupRosters.remove(groupId, groupRoster);
+		}
+	}
+
+	private void _putRoster(
+		long userId, BuddyRoster buddyRoster, long version) {
+
+		// A roster that was built while another roster was being expired may
+		// already be stale, so it is not cached
+
+		_rosters.put(userId, buddyRoster);
+
+		if (_version.get() != version) {
+			_rosters.remove(userId, buddyRoster);
+		}
+	}
+
+	private void _removeRoster(long userId) {
+		_rosters.remove(userId);
+	}
+
+	private static BuddyRosterUtil _instance = new BuddyRosterUtil();
+
+	private final ConcurrentMap<Long, GroupRoster> _groupRosters;
+	private volatile long _lastCleanUpTime;
+	private final ConcurrentMap<Long, BuddyRoster> _rosters;
+	private final AtomicLong _version;
+
+}
\ No newline at end of file
@@ -21,8 +21,14 @@ import com.liferay.portal.kernel.util.Time;
  */
 public class ChatConstants {
 
+	public static final long BUDDIES_REFRESH_INTERVAL = Time.SECOND * 15;
+
+	public static final long BUDDY_ROSTER_REFRESH_INTERVAL = Time.MINUTE * 30;
+
 	public static final long MAX_POLL_LATENCY = Time.SECOND * 15;
 
 	public static final long ONLINE_DELTA = Time.MINUTE;
 
+	public static final long PRESENCE_PERSIST_INTERVAL = Time.MINUTE * 5;
+
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.model.Entry;
+import com.liferay.portal.kernel.json.JSONArray;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the unread entries and the last built buddy list of a user that is
+ * polling on this node so that idle polls can be answered from memory.
+ */
+public class ChatMailbox {
+
+	public ChatMailbox(long userId) {
+		_userId = userId;
+
+		_lastAccessTime = System.currentTimeMillis();
+	}
+
+	public synchronized void addEntry(Entry entry) {
+		_entries.put(entry.getEntryId(), entry);
+
+		Iterator<Long> iterator = _entries.keySet().iterator();
+
+		while ((_entries.size() > PortletPropsValues.BUDDY_LIST_MAX_BUDDIES) &&
+			   iterator.hasNext()) {
+
+			iterator.next();
+
+			iterator.remove();
+		}
+	}
+
+	public synchronized void expireBuddies(long userId) {
+		if (_buddyUserIds.contains(userId)) {
+			_buddiesJSONArray = null;
+		}
+	}
+
+	public synchronized JSONArray getBuddiesJSONArray(
+		long buddiesVersion, long timestamp) {
+
+		if ((_buddiesJSONArray == null) || (_buddiesVersion < buddiesVersion) ||
+			((_buddiesTimestamp + ChatConstants.BUDDIES_REFRESH_INTERVAL) <
+				timestamp)) {
+
+			return null;
+		}
+
+		return _buddiesJSONArray;
+	}
+
+	public synchronized List<Entry> getEntries() {
+		return new ArrayList<>(_entries.values());
+	}
+
+	public long getLastAccessTime() {
+		return _lastAccessTime;
+	}
+
+	public synchronized long getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	public long getUserId() {
+		return _userId;
+	}
+
+	public synchronized boolean isPrimed() {
+		return _primed;
+	}
+
+	public synchronized void prime(List<Entry> entries, long modifiedDate) {
+		Map<Long, Entry> primedEntries = new LinkedHashMap<>();
+
+		for (Entry entry : entries) {
+			primedEntries.put(entry.getEntryId(), entry);
+		}
+
+		primedEntries.putAll(_entries);
+
+		_entries = primedEntries;
+
+		if (modifiedDate > _modifiedDate) {
+			_modifiedDate = modifiedDate;
+		}
+
+		_primed = true;
+	}
+
+	public synchronized void removeEntries(long fromUserId, long toUserId) {
+		Iterator<Entry> iterator = _entries.values().iterator();
+
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+
+			if ((entry.getFromUserId() == fromUserId) &&
+				(entry.getToUserId() == toUserId)) {
+
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized void setBuddies(
+		JSONArray buddiesJSONArray, Set<Long> buddyUserIds,
+		long buddiesVersion, long timestamp) {
+
+		_buddiesJSONArray = buddiesJSONArray;
+		_buddyUserIds = buddyUserIds;
+		_buddiesVersion = buddiesVersion;
+		_buddiesTimestamp = timestamp;
+	}
+
+	public synchronized void setModifiedDate(long modifiedDate) {
+		if (modifiedDate > _modifiedDate) {
+			_modifiedDate = modifiedDate;
+		}
+	}
+
+	public void touch() {
+		_lastAccessTime = System.currentTimeMillis();
+	}
+
+	private JSONArray _buddiesJSONArray;
+	private long _buddiesTimestamp;
+	private long _buddiesVersion;
+	private Set<Long> _buddyUserIds = new HashSet<>();
+	private Map<Long, Entry> _entries = new LinkedHashMap<>();
+	private volatile long _lastAccessTime;
+	private long _modifiedDate;
+	private boolean _primed;
+	private final long _userId;
+
+}
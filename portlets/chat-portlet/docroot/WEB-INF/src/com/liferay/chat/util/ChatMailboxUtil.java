@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.model.Entry;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ChatMailboxUtil {
+
+	public static long getBuddiesVersion() {
+		return _instance._getBuddiesVersion();
+	}
+
+	public static ChatMailbox getMailbox(long userId) {
+		return _instance._getMailbox(userId);
+	}
+
+	public static void publishEntry(Entry entry) {
+		_instance._publishEntry(entry);
+	}
+
+	public static void publishReadEntries(long fromUserId, long toUserId) {
+		_instance._publishReadEntries(fromUserId, toUserId);
+	}
+
+	public static void publishStatus(long userId, boolean online) {
+		_instance._publishStatus(userId, online);
+	}
+
+	public static void removeMailbox(long userId) {
+		_instance._removeMailbox(userId);
+	}
+
+	private ChatMailboxUtil() {
+		_buddiesVersion = new AtomicLong();
+		_mailboxes = new ConcurrentHashMap<>();
+	}
+
+	private long _getBuddiesVersion() {
+		return _buddiesVersion.get();
+	}
+
+	private ChatMailbox _getMailbox(long userId) {
+		long now = System.currentTimeMillis();
+
+		if ((_lastCleanUpTime + ChatConstants.ONLINE_DELTA) < now) {
+			_lastCleanUpTime = now;
+
+			Iterator<ChatMailbox> iterator = _mailboxes.values().iterator();
+
+			while (iterator.hasNext()) {
+				ChatMailbox mailbox = iterator.next();
+
+				if ((mailbox.getLastAccessTime() + ChatConstants.ONLINE_DELTA) <
+						now) {
+
+					iterator.remove();
+				}
+			}
+		}
+
+		ChatMailbox mailbox = _mailboxes.get(userId);
+
+		if (mailbox == null) {
+			mailbox = new ChatMailbox(userId);
+
+			ChatMailbox previousMailbox = _mailboxes.putIfAbsent(
+				userId, mailbox);
+
+			if (previousMailbox != null) {
+				mailbox = previousMailbox;
+			}
+		}
+
+		mailbox.touch();
+
+		return mailbox;
+	}
+
+	private void _publishEntry(Entry entry) {
+		ChatMailbox mailbox = _mailboxes.get(entry.getFromUserId());
+
+		if (mailbox != null) {
+			mailbox.addEntry(entry);
+		}
+
+		mailbox = _mailboxes.get(entry.getToUserId());
+
+		if (mailbox != null) {
+			mailbox.addEntry(entry);
+		}
+	}
+
+	private void _publishReadEntries(long fromUserId, long toUserId) {
+		ChatMailbox mailbox = _mailboxes.get(fromUserId);
+
+		if (mailbox != null) {
+			mailbox.removeEntries(fromUserId, toUserId);
+		}
+
+		mailbox = _mailboxes.get(toUserId);
+
+		if (mailbox != null) {
+			mailbox.removeEntries(fromUserId, toUserId);
+		}
+	}
+
+	private void _publishStatus(long userId, boolean online) {
+
+		// A user that just came online may belong to any buddy list, so every
+		// buddy list is invalidated. Any other change only affects the buddy
+		// lists that already contain the user.
+
+		if (online) {
+			_buddiesVersion.incrementAndGet();
+
+			return;
+		}
+
+		for (ChatMailbox mailbox : _mailboxes.values()) {
+			mailbox.expireBuddies(userId);
+		}
+	}
+
+	private void _removeMailbox(long userId) {
+		_mailboxes.remove(userId);
+	}
+
+	private static ChatMailboxUtil _instance = new ChatMailboxUtil();
+
+	private final AtomicLong _buddiesVersion;
+	private volatile long _lastCleanUpTime;
+	private final ConcurrentMap<Long, ChatMailbox> _mailboxes;
+
+}
@@ -17,6 +17,11 @@ package com.liferay.chat.util;
 import com.liferay.chat.jabber.JabberUtil;
 import com.liferay.chat.service.StatusLocalServiceUtil;
 import com.liferay.chat.util.comparator.BuddyComparator;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.User;
+import com.liferay.portal.service.UserLocalServiceUtil;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,7 +40,12 @@ public class DefaultBuddyFinderImpl implements BuddyFinder {
 
 		List<Object[]> buddies = null;
 
-		if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all")) {
+		if (!PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all") &&
+			PresenceRegistryUtil.isWarm()) {
+
+			buddies = getRosterBuddies(companyId, userId, modifiedDate);
+		}
+		else if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all")) {
 			buddies = StatusLocalServiceUtil.getAllStatuses(
 				companyId, userId, modifiedDate, 0,
 				PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
@@ -100,4 +110,158 @@ public class DefaultBuddyFinderImpl implements BuddyFinder {
 		return buddies;
 	}
 
+	protected BuddyRoster getBuddyRoster(long userId) {
+		BuddyRoster buddyRoster = BuddyRosterUtil.getRoster(userId);
+
+		if (buddyRoster != null) {
+			return buddyRoster;
+		}
+
+		long version = BuddyRosterUtil.getVersion();
+
+		List<Long> groupIds = new ArrayList<>();
+
+		if (isGroupStrategy()) {
+			User user = UserLocalServiceUtil.fetchUser(userId);
+
+			if (user != null) {
+				for (Group group : user.getGroups()) {
+					if (!ArrayUtil.contains(
+							PortletPropsValues.BUDDY_LIST_SITE_EXCLUDES,
+							group.getName())) {
+
+						groupIds.add(group.getGroupId());
+					}
+				}
+			}
+		}
+
+		List<Long> socialBuddyUserIds = new ArrayList<>();
+
+		if (isSocialStrategy()) {
+			int[] types =
+				PortletPropsValues.BUDDY_LIST_ALLOWED_SOCIAL_RELATION_TYPES;
+
+			socialBuddyUserIds = StatusLocalServiceUtil.getSocialBuddyUserIds(
+				userId, types);
+		}
+
+		buddyRoster = new BuddyRoster(
+			ArrayUtil.toArray(groupIds.toArray(new Long[0])),
+			ArrayUtil.toArray(socialBuddyUserIds.toArray(new Long[0])));
+
+		BuddyRosterUtil.putRoster(userId, buddyRoster, version);
+
+		return buddyRoster;
+	}
+
+	protected GroupRoster getGroupRoster(long groupId) {
+		GroupRoster groupRoster = BuddyRosterUtil.getGroupRoster(groupId);
+
+		if (groupRoster != null) {
+			return groupRoster;
+		}
+
+		long version = BuddyRosterUtil.getVersion();
+
+		groupRoster = new GroupRoster(
+			UserLocalServiceUtil.getGroupUserIds(groupId));
+
+		BuddyRosterUtil.putGroupRoster(groupId, groupRoster, version);
+
+		return groupRoster;
+	}
+
+	protected List<Object[]> getRosterBuddies(
+		long companyId, long userId, long modifiedDate) {
+
+		BuddyRoster buddyRoster = getBuddyRoster(userId);
+
+		List<GroupRoster> groupRosters = new ArrayList<>();
+
+		for (long groupId : buddyRoster.getGroupIds()) {
+			groupRosters.add(getGroupRoster(groupId));
+		}
+
+		// Only the users that the presence registry reports as online are
+		// matched against the roster and loaded from the database
+
+		List<Long> onlineUserIds = new ArrayList<>();
+
+		for (long onlineUserId :
+				PresenceRegistryUtil.getOnlineUserIds(modifiedDate)) {
+
+			if (onlineUserId == userId) {
+				continue;
+			}
+
+			if (buddyRoster.hasSocialBuddyUserId(onlineUserId)) {
+				onlineUserIds.add(onlineUserId);
+
+				continue;
+			}
+
+			for (GroupRoster groupRoster : groupRosters) {
+				if (groupRoster.hasUserId(onlineUserId)) {
+					onlineUserIds.add(onlineUserId);
+
+					break;
+				}
+			}
+		}
+
+		List<Object[]> buddies = new ArrayList<>();
+
+		for (int i = 0; i < onlineUserIds.size(); i += _USER_IDS_BATCH_SIZE) {
+			List<Long> batchUserIds = onlineUserIds.subList(
+				i, Math.min(i + _USER_IDS_BATCH_SIZE, onlineUserIds.size()));
+
+			buddies.addAll(
+				StatusLocalServiceUtil.getBuddyStatuses(
+					companyId,
+					ArrayUtil.toArray(batchUserIds.toArray(new Long[0])),
+					modifiedDate, 0,
+					PortletPropsValues.BUDDY_LIST_MAX_BUDDIES));
+		}
+
+		if (onlineUserIds.size() > _USER_IDS_BATCH_SIZE) {
+			Collections.sort(buddies, new BuddyComparator(true));
+
+			buddies = ListUtil.subList(
+				buddies, 0, PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+		}
+
+		return buddies;
+	}
+
+	protected boolean isGroupStrategy() {
+		String strategy = PortletPropsValues.BUDDY_LIST_STRATEGY;
+
+		if (strategy.equals("communities") || strategy.equals("sites") ||
+			strategy.equals("communities,friends") ||
+			strategy.equals("sites,social") ||
+			strategy.equals("friends,sites")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	protected boolean isSocialStrategy() {
+		String strategy = PortletPropsValues.BUDDY_LIST_STRATEGY;
+
+		if (strategy.equals("friends") || strategy.equals("social") ||
+			strategy.equals("communities,friends") ||
+			strategy.equals("sites,social") ||
+			strategy.equals("friends,sites")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final int _USER_IDS_BATCH_SIZE = 500;
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import java.util.Arrays;
+
+/**
+ * Holds the members of a site so that the rosters of all the users of the site
+ * share a single copy of them.
+ */
+public class GroupRoster {
+
+	public GroupRoster(long[] userIds) {
+		_userIds = userIds;
+
+		Arrays.sort(_userIds);
+
+		_createTime = System.currentTimeMillis();
+	}
+
+	public long getCreateTime() {
+		return _createTime;
+	}
+
+	public boolean hasUserId(long userId) {
+		if (Arrays.binarySearch(_userIds, userId) >= 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private final long _createTime;
+	private final long[] _userIds;
+
+}
\ No newline at end of file
@@ -31,6 +31,18 @@ public interface PortletPropsKeys {
 
 	public static final String BUDDY_LIST_STRATEGY = "buddy.list.strategy";
 
+	public static final String ENTRY_RETENTION_ARCHIVE_ENABLED =
+		"entry.retention.archive.enabled";
+
+	public static final String ENTRY_RETENTION_BATCH_SIZE =
+		"entry.retention.batch.size";
+
+	public static final String ENTRY_RETENTION_MAX_AGE =
+		"entry.retention.max.age";
+
+	public static final String ENTRY_RETENTION_MAX_ENTRIES_PER_SECOND =
+		"entry.retention.max.entries.per.second";
+
 	public static final String JABBER_ENABLED = "jabber.enabled";
 
 	public static final String JABBER_HOST = "jabber.host";
@@ -37,6 +37,21 @@ public class PortletPropsValues {
 	public static final String BUDDY_LIST_STRATEGY = GetterUtil.getString(
 		PortletProps.get(PortletPropsKeys.BUDDY_LIST_STRATEGY));
 
+	public static final boolean ENTRY_RETENTION_ARCHIVE_ENABLED =
+		GetterUtil.getBoolean(
+			PortletProps.get(PortletPropsKeys.ENTRY_RETENTION_ARCHIVE_ENABLED));
+
+	public static final int ENTRY_RETENTION_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.ENTRY_RETENTION_BATCH_SIZE));
+
+	public static final int ENTRY_RETENTION_MAX_AGE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.ENTRY_RETENTION_MAX_AGE));
+
+	public static final int ENTRY_RETENTION_MAX_ENTRIES_PER_SECOND =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.ENTRY_RETENTION_MAX_ENTRIES_PER_SECOND));
+
 	public static final boolean JABBER_ENABLED = GetterUtil.getBoolean(
 		PortletProps.get(PortletPropsKeys.JABBER_ENABLED));
 
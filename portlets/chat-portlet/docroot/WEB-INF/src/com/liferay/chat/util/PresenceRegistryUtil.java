@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.service.StatusLocalServiceUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the latest presence heartbeat of every user so that heartbeats do not
+ * have to be written to the Chat_Status table on every poll. Heartbeats are
+ * shared with the other cluster nodes and written to the database in batches
+ * by {@link com.liferay.chat.messaging.FlushStatusesMessageListener}.
+ */
+public class PresenceRegistryUtil {
+
+	public static List<Object[]> filterBuddies(
+		List<Object[]> buddies, long modifiedDate) {
+
+		return _instance._filterBuddies(buddies, modifiedDate);
+	}
+
+	public static void flush() {
+		_instance._flush();
+	}
+
+	public static long getModifiedDate(long userId) {
+		return _instance._getModifiedDate(userId);
+	}
+
+	public static List<Long> getOnlineUserIds(long modifiedDate) {
+		return _instance._getOnlineUserIds(modifiedDate);
+	}
+
+	public static long getQueryModifiedDate(long modifiedDate) {
+		return _instance._getQueryModifiedDate(modifiedDate);
+	}
+
+	public static void heartbeat(long userId, long modifiedDate) {
+		_instance._heartbeat(userId, modifiedDate);
+	}
+
+	public static boolean isWarm() {
+		return _instance._isWarm();
+	}
+
+	public static void persisted(long userId, long modifiedDate) {
+		_instance._persisted(userId, modifiedDate);
+	}
+
+	public static void update(long[] userIds, long[] modifiedDates) {
+		_instance._update(userIds, modifiedDates);
+	}
+
+	private PresenceRegistryUtil() {
+		_modifiedDates = new ConcurrentHashMap<>();
+		_pendingModifiedDates = new ConcurrentHashMap<>();
+		_persistedModifiedDates = new ConcurrentHashMap<>();
+		_startTime = System.currentTimeMillis();
+	}
+
+	private List<Object[]> _filterBuddies(
+		List<Object[]> buddies, long modifiedDate) {
+
+		if (!_isWarm()) {
+			return buddies;
+		}
+
+		List<Object[]> filteredBuddies = new ArrayList<>(buddies.size());
+
+		for (Object[] buddy : buddies) {
+			long userId = (Long)buddy[8];
+
+			if (_getModifiedDate(userId) > modifiedDate) {
+				filteredBuddies.add(buddy);
+			}
+		}
+
+		return filteredBuddies;
+	}
+
+	private void _flush() {
+		if (_pendingModifiedDates.isEmpty()) {
+			return;
+		}
+
+		Map<Long, Long> pendingModifiedDates = new HashMap<>();
+
+		for (Long userId : _pendingModifiedDates.keySet()) {
+			Long modifiedDate = _pendingModifiedDates.remove(userId);
+
+			if (modifiedDate != null) {
+				pendingModifiedDates.put(userId, modifiedDate);
+			}
+		}
+
+		List<Long> publishUserIds = new ArrayList<>();
+		List<Long> publishModifiedDates = new ArrayList<>();
+		List<Long> persistUserIds = new ArrayList<>();
+		List<Long> persistModifiedDates = new ArrayList<>();
+
+		for (Map.Entry<Long, Long> entry : pendingModifiedDates.entrySet()) {
+			long userId = entry.getKey();
+			long modifiedDate = entry.getValue();
+
+			publishUserIds.add(userId);
+			publishModifiedDates.add(modifiedDate);
+
+			Long persistedModifiedDate = _persistedModifiedDates.get(userId);
+
+			if ((persistedModifiedDate == null) ||
+				((persistedModifiedDate +
+					ChatConstants.PRESENCE_PERSIST_INTERVAL) <= modifiedDate)) {
+
+				persistUserIds.add(userId);
+				persistModifiedDates.add(modifiedDate);
+
+				_persistedModifiedDates.put(userId, modifiedDate);
+			}
+		}
+
+		if (!persistUserIds.isEmpty()) {
+			StatusLocalServiceUtil.updateModifiedDates(
+				ArrayUtil.toArray(persistUserIds.toArray(new Long[0])),
+				ArrayUtil.toArray(persistModifiedDates.toArray(new Long[0])));
+		}
+
+		StatusLocalServiceUtil.publishModifiedDates(
+			ArrayUtil.toArray(publishUserIds.toArray(new Long[0])),
+			ArrayUtil.toArray(publishModifiedDates.toArray(new Long[0])));
+
+		long expirationTime =
+			System.currentTimeMillis() - ChatConstants.ONLINE_DELTA -
+				ChatConstants.PRESENCE_PERSIST_INTERVAL;
+
+		_removeExpired(_modifiedDates, expirationTime);
+		_removeExpired(_persistedModifiedDates, expirationTime);
+	}
+
+	private long _getModifiedDate(long userId) {
+		Long modifiedDate = _modifiedDates.get(userId);
+
+		if (modifiedDate == null) {
+			return 0;
+		}
+
+		return modifiedDate;
+	}
+
+	private List<Long> _getOnlineUserIds(long modifiedDate) {
+		List<Long> onlineUserIds = new ArrayList<>();
+
+		for (Map.Entry<Long, Long> entry : _modifiedDates.entrySet()) {
+			if (entry.getValue() > modifiedDate) {
+				onlineUserIds.add(entry.getKey());
+			}
+		}
+
+		return onlineUserIds;
+	}
+
+	private long _getQueryModifiedDate(long modifiedDate) {
+		if (!_isWarm()) {
+			return modifiedDate;
+		}
+
+		return modifiedDate - ChatConstants.PRESENCE_PERSIST_INTERVAL;
+	}
+
+	private void _heartbeat(long userId, long modifiedDate) {
+		_setModifiedDate(_modifiedDates, userId, modifiedDate);
+		_setModifiedDate(_pendingModifiedDates, userId, modifiedDate);
+	}
+
+	private boolean _isWarm() {
+
+		// Every user that is online has sent a heartbeat to the registry since
+		// it was started, so the registry is at least as recent as the
+		// database
+
+		if ((_startTime + ChatConstants.PRESENCE_PERSIST_INTERVAL) <
+				System.currentTimeMillis()) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _persisted(long userId, long modifiedDate) {
+		_setModifiedDate(_persistedModifiedDates, userId, modifiedDate);
+
+		_heartbeat(userId, modifiedDate);
+	}
+
+	private void _removeExpired(
+		ConcurrentMap<Long, Long> modifiedDates, long expirationTime) {
+
+		Iterator<Long> iterator = modifiedDates.values().iterator();
+
+		while (iterator.hasNext()) {
+			if (iterator.next() < expirationTime) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private void _setModifiedDate(
+		ConcurrentMap<Long, Long> modifiedDates, long userId,
+		long modifiedDate) {
+
+		while (true) {
+			Long curModifiedDate = modifiedDates.putIfAbsent(
+				userId, modifiedDate);
+
+			if ((curModifiedDate == null) ||
+				(curModifiedDate >= modifiedDate) ||
+				modifiedDates.replace(userId, curModifiedDate, modifiedDate)) {
+
+				return;
+			}
+		}
+	}
+
+	private void _update(long[] userIds, long[] modifiedDates) {
+		for (int i = 0; i < userIds.length; i++) {
+			_setModifiedDate(_modifiedDates, userIds[i], modifiedDates[i]);
+		}
+	}
+
+	private static PresenceRegistryUtil _instance = new PresenceRegistryUtil();
+
+	private final ConcurrentMap<Long, Long> _modifiedDates;
+	private final ConcurrentMap<Long, Long> _pendingModifiedDates;
+	private final ConcurrentMap<Long, Long> _persistedModifiedDates;
+	private final long _startTime;
+
+}
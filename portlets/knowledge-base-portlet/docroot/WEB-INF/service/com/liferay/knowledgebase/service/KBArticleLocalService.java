@@ -472,6 +472,8 @@ public interface KBArticleLocalService extends BaseLocalService,
 	public java.lang.String[] getTempAttachmentNames(long groupId, long userId,
 		java.lang.String tempFolderName) throws PortalException;
 
+	public void incrementViewCounts(long[] resourcePrimKeys, int[] increments);
+
 	@Override
 	public java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
@@ -606,6 +606,11 @@ public class KBArticleLocalServiceUtil {
 				   .getTempAttachmentNames(groupId, userId, tempFolderName);
 	}
 
+	public static void incrementViewCounts(
+		long[] resourcePrimKeys, int[] increments) {
+		getService().incrementViewCounts(resourcePrimKeys, increments);
+	}
+
 	public static java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
 		throws java.lang.Throwable {
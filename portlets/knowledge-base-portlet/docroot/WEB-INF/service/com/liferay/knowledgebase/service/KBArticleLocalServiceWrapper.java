@@ -651,6 +651,11 @@ public class KBArticleLocalServiceWrapper implements KBArticleLocalService,
 			tempFolderName);
 	}
 
+	@Override
+	public void incrementViewCounts(long[] resourcePrimKeys, int[] increments) {
+		_kbArticleLocalService.incrementViewCounts(resourcePrimKeys, increments);
+	}
+
 	@Override
 	public java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
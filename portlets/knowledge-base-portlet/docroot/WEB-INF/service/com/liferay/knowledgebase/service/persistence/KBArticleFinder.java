@@ -22,10 +22,31 @@ import aQute.bnd.annotation.ProviderType;
  */
 @ProviderType
 public interface KBArticleFinder {
+	public void addClosures(long resourcePrimKey, long parentResourcePrimKey);
+
+	public void addIndexQueueEntry(long entryId, long companyId,
+		long resourcePrimKey);
+
 	public int countByUrlTitle(long groupId, java.lang.String kbFolderUrlTitle,
 		java.lang.String kbArticleUrlTitle, int[] status);
 
+	public void deleteClosures(long resourcePrimKey);
+
+	public void deleteIndexQueueEntries(long[] entryIds);
+
+	public java.util.List<com.liferay.knowledgebase.model.KBArticle> findByAncestorResourcePrimKey(
+		long ancestorResourcePrimKey, int status, boolean includeAncestor);
+
 	public java.util.List<com.liferay.knowledgebase.model.KBArticle> findByUrlTitle(
 		long groupId, java.lang.String kbFolderUrlTitle,
 		java.lang.String kbArticleUrlTitle, int[] status, int start, int end);
+
+	public java.util.List<java.lang.Object[]> findIndexQueueEntries(int start,
+		int end);
+
+	public void incrementIndexQueueEntryAttempts(long[] entryIds);
+
+	public void incrementViewCount(long resourcePrimKey, int increment);
+
+	public void moveClosures(long resourcePrimKey, long parentResourcePrimKey);
 }
\ No newline at end of file
@@ -25,6 +25,16 @@ import com.liferay.portal.kernel.util.ReferenceRegistry;
  */
 @ProviderType
 public class KBArticleFinderUtil {
+	public static void addClosures(long resourcePrimKey,
+		long parentResourcePrimKey) {
+		getFinder().addClosures(resourcePrimKey, parentResourcePrimKey);
+	}
+
+	public static void addIndexQueueEntry(long entryId, long companyId,
+		long resourcePrimKey) {
+		getFinder().addIndexQueueEntry(entryId, companyId, resourcePrimKey);
+	}
+
 	public static int countByUrlTitle(long groupId,
 		java.lang.String kbFolderUrlTitle, java.lang.String kbArticleUrlTitle,
 		int[] status) {
@@ -33,6 +43,21 @@ public class KBArticleFinderUtil {
 			kbArticleUrlTitle, status);
 	}
 
+	public static void deleteClosures(long resourcePrimKey) {
+		getFinder().deleteClosures(resourcePrimKey);
+	}
+
+	public static void deleteIndexQueueEntries(long[] entryIds) {
+		getFinder().deleteIndexQueueEntries(entryIds);
+	}
+
+	public static java.util.List<com.liferay.knowledgebase.model.KBArticle> findByAncestorResourcePrimKey(
+		long ancestorResourcePrimKey, int status, boolean includeAncestor) {
+		return getFinder()
+				   .findByAncestorResourcePrimKey(ancestorResourcePrimKey,
+			status, includeAncestor);
+	}
+
 	public static java.util.List<com.liferay.knowledgebase.model.KBArticle> findByUrlTitle(
 		long groupId, java.lang.String kbFolderUrlTitle,
 		java.lang.String kbArticleUrlTitle, int[] status, int start, int end) {
@@ -41,6 +66,25 @@ public class KBArticleFinderUtil {
 			kbArticleUrlTitle, status, start, end);
 	}
 
+	public static java.util.List<java.lang.Object[]> findIndexQueueEntries(
+		int start, int end) {
+		return getFinder().findIndexQueueEntries(start, end);
+	}
+
+	public static void incrementIndexQueueEntryAttempts(long[] entryIds) {
+		getFinder().incrementIndexQueueEntryAttempts(entryIds);
+	}
+
+	public static void incrementViewCount(long resourcePrimKey,
+		int increment) {
+		getFinder().incrementViewCount(resourcePrimKey, increment);
+	}
+
+	public static void moveClosures(long resourcePrimKey,
+		long parentResourcePrimKey) {
+		getFinder().moveClosures(resourcePrimKey, parentResourcePrimKey);
+	}
+
 	public static KBArticleFinder getFinder() {
 		if (_finder == null) {
 			_finder = (KBArticleFinder)PortletBeanLocatorUtil.locate(com.liferay.knowledgebase.service.ClpSerializer.getServletContextName(),
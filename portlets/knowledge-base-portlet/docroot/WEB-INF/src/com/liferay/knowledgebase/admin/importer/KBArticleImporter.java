@@ -28,9 +28,11 @@ import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.kernel.zip.ZipReader;
@@ -44,11 +46,16 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * @author James Hinkey
@@ -85,20 +92,12 @@ public class KBArticleImporter {
 	protected KBArticle addKBArticleMarkdown(
 			long userId, long groupId, long parentKBFolderId,
 			long parentResourceClassNameId, long parentResourcePrimaryKey,
+			KBArticleMarkdownConverter kbArticleMarkdownConverter,
 			String markdown, String fileEntryName, ZipReader zipReader,
-			Map<String, String> metadata,
 			PrioritizationStrategy prioritizationStrategy,
 			ServiceContext serviceContext)
 		throws KBArticleImportException {
 
-		if (Validator.isNull(markdown)) {
-			throw new KBArticleImportException(
-				"Markdown is null for file entry " + fileEntryName);
-		}
-
-		KBArticleMarkdownConverter kbArticleMarkdownConverter =
-			new KBArticleMarkdownConverter(markdown, fileEntryName, metadata);
-
 		String urlTitle = kbArticleMarkdownConverter.getUrlTitle();
 
 		KBArticle kbArticle =
@@ -112,6 +111,24 @@ public class KBArticleImporter {
 		}
 
 		try {
+			if ((kbArticle == null) &&
+				!kbArticleMarkdownConverter.hasAttachmentsReferences()) {
+
+				// The HTML does not depend on the KB article, so the KB
+				// article is added in its final state
+
+				kbArticle = KBArticleLocalServiceUtil.addKBArticle(
+					userId, parentResourceClassNameId, parentResourcePrimaryKey,
+					kbArticleMarkdownConverter.getTitle(), urlTitle,
+					kbArticleMarkdownConverter.getHtml(), null,
+					kbArticleMarkdownConverter.getSourceURL(), null, null,
+					serviceContext);
+
+				prioritizationStrategy.addKBArticle(kbArticle, fileEntryName);
+
+				return kbArticle;
+			}
+
 			if (kbArticle == null) {
 				int workflowAction = serviceContext.getWorkflowAction();
 
@@ -211,6 +228,40 @@ public class KBArticleImporter {
 		return folderNameFileEntryNamesMap;
 	}
 
+	protected KBArticleMarkdownConverter getKBArticleMarkdownConverter(
+			String markdown, String fileEntryName, Map<String, String> metadata)
+		throws KBArticleImportException {
+
+		if (Validator.isNull(markdown)) {
+			throw new KBArticleImportException(
+				"Markdown is null for file entry " + fileEntryName);
+		}
+
+		return new KBArticleMarkdownConverter(
+			markdown, fileEntryName, metadata);
+	}
+
+	protected KBArticleMarkdownConverter getKBArticleMarkdownConverter(
+			Future<KBArticleMarkdownConverter> future)
+		throws KBArticleImportException {
+
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof KBArticleImportException) {
+				throw (KBArticleImportException)cause;
+			}
+
+			throw new KBArticleImportException(cause);
+		}
+		catch (InterruptedException ie) {
+			throw new KBArticleImportException(ie);
+		}
+	}
+
 	protected Map<String, String> getMetadata(ZipReader zipReader)
 		throws KBArticleImportException {
 
@@ -247,14 +298,65 @@ public class KBArticleImporter {
 		}
 	}
 
+	protected List<String> getSectionFileEntryNames(
+		List<String> folderFileEntryNames) {
+
+		String sectionIntroFileEntryName = null;
+
+		List<String> sectionFileEntryNames = new ArrayList<>();
+
+		for (String fileEntryName : folderFileEntryNames) {
+			if (fileEntryName.endsWith(
+					PortletPropsValues.MARKDOWN_IMPORTER_ARTICLE_INTRO)) {
+
+				sectionIntroFileEntryName = fileEntryName;
+			}
+			else {
+				sectionFileEntryNames.add(fileEntryName);
+			}
+		}
+
+		if (Validator.isNotNull(sectionIntroFileEntryName)) {
+			sectionFileEntryNames.add(0, sectionIntroFileEntryName);
+		}
+
+		return sectionFileEntryNames;
+	}
+
+	protected void logProgress(
+		int importedKBArticlesCount, int kbArticlesCount, long startTime) {
+
+		if (!_log.isInfoEnabled()) {
+			return;
+		}
+
+		if (((importedKBArticlesCount % _PROGRESS_INTERVAL) != 0) &&
+			(importedKBArticlesCount != kbArticlesCount)) {
+
+			return;
+		}
+
+		long time = Math.max(System.currentTimeMillis() - startTime, 1);
+
+		StringBundler sb = new StringBundler(7);
+
+		sb.append("Imported ");
+		sb.append(importedKBArticlesCount);
+		sb.append(" of ");
+		sb.append(kbArticlesCount);
+		sb.append(" KB articles at ");
+		sb.append((importedKBArticlesCount * Time.SECOND) / time);
+		sb.append(" KB articles per second");
+
+		_log.info(sb.toString());
+	}
+
 	protected int processKBArticleFiles(
 			long userId, long groupId, long parentKBFolderId,
 			boolean prioritizeByNumericalPrefix, ZipReader zipReader,
 			Map<String, String> metadata, ServiceContext serviceContext)
 		throws PortalException {
 
-		int importedKBArticlesCount = 0;
-
 		PrioritizationStrategy prioritizationStrategy =
 			PrioritizationStrategy.create(
 				groupId, parentKBFolderId, prioritizeByNumericalPrefix);
@@ -262,75 +364,128 @@ public class KBArticleImporter {
 		Map<String, List<String>> folderNameFileEntryNamesMap =
 			getFolderNameFileEntryNamesMap(zipReader);
 
-		Set<String> folderNames = folderNameFileEntryNamesMap.keySet();
+		Class<?> clazz = getClass();
 
-		for (String folderName : folderNames) {
-			List<String> fileEntryNames = folderNameFileEntryNamesMap.get(
-				folderName);
+		int threads = Math.max(PortletPropsValues.MARKDOWN_IMPORTER_THREADS, 1);
 
-			String sectionIntroFileEntryName = null;
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threads,
+			new NamedThreadFactory(
+				clazz.getName(), Thread.NORM_PRIORITY,
+				clazz.getClassLoader()));
 
-			List<String> sectionFileEntryNames = new ArrayList<>();
+		try {
 
-			for (String fileEntryName : fileEntryNames) {
-				if (fileEntryName.endsWith(
-						PortletPropsValues.MARKDOWN_IMPORTER_ARTICLE_INTRO)) {
+			// The Markdown of the file entries is converted in parallel, while
+			// the KB articles are added one after another in the order of the
+			// file entries. Only a few file entries per thread are read and
+			// converted ahead of the KB article being added.
 
-					sectionIntroFileEntryName = fileEntryName;
-				}
-				else {
-					sectionFileEntryNames.add(fileEntryName);
-				}
+			List<String> fileEntryNames = new ArrayList<>();
+
+			for (Map.Entry<String, List<String>> entry :
+					folderNameFileEntryNamesMap.entrySet()) {
+
+				List<String> sectionFileEntryNames = getSectionFileEntryNames(
+					entry.getValue());
+
+				entry.setValue(sectionFileEntryNames);
+
+				fileEntryNames.addAll(sectionFileEntryNames);
 			}
 
-			long parentResourceClassNameId = PortalUtil.getClassNameId(
-				KBFolderConstants.getClassName());
-			long parentResourcePrimaryKey = parentKBFolderId;
+			Iterator<String> iterator = fileEntryNames.iterator();
+			int maxFutures = threads * _FUTURES_PER_THREAD;
+			Map<String, String> markdowns = new HashMap<>();
+			Map<String, Future<KBArticleMarkdownConverter>> futures =
+				new HashMap<>();
 
-			long sectionResourceClassNameId = parentResourceClassNameId;
-			long sectionResourcePrimaryKey = parentResourcePrimaryKey;
+			int importedKBArticlesCount = 0;
+			long startTime = System.currentTimeMillis();
 
-			if (Validator.isNotNull(sectionIntroFileEntryName)) {
-				KBArticle sectionIntroKBArticle = addKBArticleMarkdown(
-					userId, groupId, parentKBFolderId,
-					sectionResourceClassNameId, sectionResourcePrimaryKey,
-					zipReader.getEntryAsString(sectionIntroFileEntryName),
-					sectionIntroFileEntryName, zipReader, metadata,
-					prioritizationStrategy, serviceContext);
+			for (List<String> sectionFileEntryNames :
+					folderNameFileEntryNamesMap.values()) {
 
-				sectionResourceClassNameId = PortalUtil.getClassNameId(
-					KBArticleConstants.getClassName());
-				sectionResourcePrimaryKey =
-					sectionIntroKBArticle.getResourcePrimKey();
+				long sectionResourceClassNameId = PortalUtil.getClassNameId(
+					KBFolderConstants.getClassName());
+				long sectionResourcePrimaryKey = parentKBFolderId;
 
-				importedKBArticlesCount++;
-			}
+				for (String sectionFileEntryName : sectionFileEntryNames) {
+					while (iterator.hasNext() &&
+						   (futures.size() < maxFutures)) {
 
-			for (String sectionFileEntryName : sectionFileEntryNames) {
-				String sectionMarkdown = zipReader.getEntryAsString(
-					sectionFileEntryName);
+						String fileEntryName = iterator.next();
 
-				if (Validator.isNull(sectionMarkdown)) {
-					if (_log.isWarnEnabled()) {
-						_log.warn(
-							"Missing Markdown in file entry " +
-							sectionFileEntryName);
+						String markdown = zipReader.getEntryAsString(
+							fileEntryName);
+
+						markdowns.put(fileEntryName, markdown);
+						futures.put(
+							fileEntryName,
+							submitKBArticleMarkdownConverter(
+								executorService, markdown, fileEntryName,
+								metadata));
 					}
-				}
 
-				addKBArticleMarkdown(
-					userId, groupId, parentKBFolderId,
-					sectionResourceClassNameId, sectionResourcePrimaryKey,
-					sectionMarkdown, sectionFileEntryName, zipReader, metadata,
-					prioritizationStrategy, serviceContext);
+					KBArticle kbArticle = addKBArticleMarkdown(
+						userId, groupId, parentKBFolderId,
+						sectionResourceClassNameId, sectionResourcePrimaryKey,
+						getKBArticleMarkdownConverter(
+							futures.remove(sectionFileEntryName)),
+						markdowns.remove(sectionFileEntryName),
+						sectionFileEntryName, zipReader, prioritizationStrategy,
+						serviceContext);
+
+					if (sectionFileEntryName.endsWith(
+							PortletPropsValues.
+								MARKDOWN_IMPORTER_ARTICLE_INTRO)) {
+
+						sectionResourceClassNameId = PortalUtil.getClassNameId(
+							KBArticleConstants.getClassName());
+						sectionResourcePrimaryKey =
+							kbArticle.getResourcePrimKey();
+					}
 
-				importedKBArticlesCount++;
+					importedKBArticlesCount++;
+
+					logProgress(
+						importedKBArticlesCount, fileEntryNames.size(),
+						startTime);
+				}
 			}
+
+			prioritizationStrategy.prioritizeKBArticles();
+
+			return importedKBArticlesCount;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	protected Future<KBArticleMarkdownConverter>
+		submitKBArticleMarkdownConverter(
+			ExecutorService executorService, final String markdown,
+			final String fileEntryName, final Map<String, String> metadata) {
+
+		if (Validator.isNull(markdown) && _log.isWarnEnabled()) {
+			_log.warn("Missing Markdown in file entry " + fileEntryName);
 		}
 
-		prioritizationStrategy.prioritizeKBArticles();
+		Callable<KBArticleMarkdownConverter> callable =
+			new Callable<KBArticleMarkdownConverter>() {
+
+				@Override
+				public KBArticleMarkdownConverter call()
+					throws KBArticleImportException {
 
-		return importedKBArticlesCount;
+					return getKBArticleMarkdownConverter(
+						markdown, fileEntryName, metadata);
+				}
+
+			};
+
+		return executorService.submit(callable);
 	}
 
 	private List<String> _getEntries(ZipReader zipReader)
@@ -346,6 +501,10 @@ public class KBArticleImporter {
 		return entries;
 	}
 
+	private static final int _FUTURES_PER_THREAD = 2;
+
+	private static final int _PROGRESS_INTERVAL = 100;
+
 	private static Log _log = LogFactoryUtil.getLog(KBArticleImporter.class);
 
 }
\ No newline at end of file
@@ -81,6 +81,10 @@ public class KBArticleMarkdownConverter {
 		_sourceURL = buildSourceURL(baseSourceURL, fileEntryName);
 	}
 
+	public String getHtml() {
+		return _html;
+	}
+
 	public String getSourceURL() {
 		return _sourceURL;
 	}
@@ -93,6 +97,14 @@ public class KBArticleMarkdownConverter {
 		return _urlTitle;
 	}
 
+	public boolean hasAttachmentsReferences() {
+		if (_html.contains("<img")) {
+			return true;
+		}
+
+		return false;
+	}
+
 	public String processAttachmentsReferences(
 			long userId, KBArticle kbArticle, ZipReader zipReader,
 			Map<String, FileEntry> fileEntriesMap)
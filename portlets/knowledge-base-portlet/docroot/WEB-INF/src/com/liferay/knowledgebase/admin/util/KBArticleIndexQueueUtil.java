@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.admin.util;
+
+import com.liferay.counter.service.CounterLocalServiceUtil;
+import com.liferay.knowledgebase.model.KBArticle;
+import com.liferay.knowledgebase.service.KBArticleLocalServiceUtil;
+import com.liferay.knowledgebase.service.persistence.KBArticleFinderUtil;
+import com.liferay.knowledgebase.util.PortletPropsValues;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the KB articles that have to be reindexed together with their
+ * descendants in the KBArticleIndexQueue table, so that they are not lost when
+ * a node stops. The KB articles are reindexed in batches by {@link
+ * com.liferay.knowledgebase.messaging.ReindexKBArticlesMessageListener}, so a
+ * KB article that is marked several times, or that is the descendant of
+ * another marked KB article, is only reindexed once per batch. A KB article
+ * that fails to reindex stays queued and is dropped after a few attempts, so
+ * it does not hold back the KB articles queued after it.
+ */
+public class KBArticleIndexQueueUtil {
+
+	public static void add(long companyId, long resourcePrimKey) {
+		_instance._add(companyId, resourcePrimKey);
+	}
+
+	public static void flush() {
+		_instance._flush();
+	}
+
+	private KBArticleIndexQueueUtil() {
+	}
+
+	private void _add(long companyId, long resourcePrimKey) {
+		KBArticleFinderUtil.addIndexQueueEntry(
+			CounterLocalServiceUtil.increment(), companyId, resourcePrimKey);
+	}
+
+	private void _flush() {
+		Indexer<KBArticle> indexer = IndexerRegistryUtil.getIndexer(
+			KBArticle.class);
+
+		// Entries that failed are kept at the head of the queue, so the next
+		// batch starts after them
+
+		int start = 0;
+
+		while (true) {
+			List<Object[]> entries = KBArticleFinderUtil.findIndexQueueEntries(
+				start, start + _BATCH_SIZE);
+
+			if (entries.isEmpty()) {
+				return;
+			}
+
+			Map<Long, Set<Long>> resourcePrimKeysMap = new HashMap<>();
+
+			for (Object[] entry : entries) {
+				long companyId = (Long)entry[1];
+
+				Set<Long> resourcePrimKeys = resourcePrimKeysMap.get(companyId);
+
+				if (resourcePrimKeys == null) {
+					resourcePrimKeys = new HashSet<>();
+
+					resourcePrimKeysMap.put(companyId, resourcePrimKeys);
+				}
+
+				resourcePrimKeys.add((Long)entry[2]);
+			}
+
+			Map<Long, Set<Long>> failedResourcePrimKeysMap = new HashMap<>();
+
+			for (Map.Entry<Long, Set<Long>> entry :
+					resourcePrimKeysMap.entrySet()) {
+
+				long companyId = entry.getKey();
+
+				Set<Long> failedResourcePrimKeys = null;
+
+				try {
+					failedResourcePrimKeys = _reindexKBArticles(
+						indexer, companyId, entry.getValue());
+				}
+				catch (Exception e) {
+					_log.error(
+						"Unable to reindex knowledge base articles of " +
+							"company " + companyId,
+						e);
+
+					failedResourcePrimKeys = entry.getValue();
+				}
+
+				failedResourcePrimKeysMap.put(
+					companyId, failedResourcePrimKeys);
+			}
+
+			List<Long> deleteEntryIds = new ArrayList<>();
+			List<Long> retryEntryIds = new ArrayList<>();
+
+			for (Object[] entry : entries) {
+				long entryId = (Long)entry[0];
+				long companyId = (Long)entry[1];
+				long resourcePrimKey = (Long)entry[2];
+				int attempts = (Integer)entry[3];
+
+				Set<Long> failedResourcePrimKeys =
+					failedResourcePrimKeysMap.get(companyId);
+
+				if (!failedResourcePrimKeys.contains(resourcePrimKey)) {
+					deleteEntryIds.add(entryId);
+				}
+				else if ((attempts + 1) >= _MAX_ATTEMPTS) {
+					_log.error(
+						"Dropping knowledge base article " + resourcePrimKey +
+							" from the reindex queue after " + _MAX_ATTEMPTS +
+								" failed attempts");
+
+					deleteEntryIds.add(entryId);
+				}
+				else {
+					retryEntryIds.add(entryId);
+				}
+			}
+
+			// KB articles marked while the batch is reindexed have new entries
+			// and are reindexed with the next batch
+
+			if (!deleteEntryIds.isEmpty()) {
+				KBArticleFinderUtil.deleteIndexQueueEntries(
+					ArrayUtil.toLongArray(deleteEntryIds));
+			}
+
+			if (!retryEntryIds.isEmpty()) {
+				KBArticleFinderUtil.incrementIndexQueueEntryAttempts(
+					ArrayUtil.toLongArray(retryEntryIds));
+			}
+
+			if (entries.size() < _BATCH_SIZE) {
+				return;
+			}
+
+			start += retryEntryIds.size();
+		}
+	}
+
+	private Set<Long> _reindexKBArticles(
+			Indexer<KBArticle> indexer, long companyId,
+			Set<Long> resourcePrimKeys)
+		throws Exception {
+
+		Set<Long> failedResourcePrimKeys = new HashSet<>();
+		Set<Long> reindexedResourcePrimKeys = new HashSet<>();
+
+		Collection<Document> documents = new ArrayList<>();
+
+		KBFolderNamesThreadLocal.setKBFolderNamesMap(
+			new HashMap<Long, String[]>());
+
+		try {
+			for (long resourcePrimKey : resourcePrimKeys) {
+				if (reindexedResourcePrimKeys.contains(resourcePrimKey)) {
+					continue;
+				}
+
+				try {
+
+					// See KBArticlePermission#contains
+
+					List<KBArticle> kbArticles =
+						KBArticleLocalServiceUtil.
+							getKBArticleAndAllDescendantKBArticles(
+								resourcePrimKey,
+								WorkflowConstants.STATUS_APPROVED, null);
+
+					for (KBArticle kbArticle : kbArticles) {
+						if (!reindexedResourcePrimKeys.add(
+								kbArticle.getResourcePrimKey())) {
+
+							continue;
+						}
+
+						documents.add(indexer.getDocument(kbArticle));
+					}
+				}
+				catch (Exception e) {
+					_log.error(
+						"Unable to reindex knowledge base article " +
+							resourcePrimKey,
+						e);
+
+					failedResourcePrimKeys.add(resourcePrimKey);
+				}
+
+				if (documents.size() >= _BATCH_SIZE) {
+					SearchEngineUtil.updateDocuments(
+						indexer.getSearchEngineId(), companyId, documents,
+						indexer.isCommitImmediately());
+
+					documents = new ArrayList<>();
+				}
+			}
+
+			if (!documents.isEmpty()) {
+				SearchEngineUtil.updateDocuments(
+					indexer.getSearchEngineId(), companyId, documents,
+					indexer.isCommitImmediately());
+			}
+		}
+		finally {
+			KBFolderNamesThreadLocal.setKBFolderNamesMap(null);
+		}
+
+		return failedResourcePrimKeys;
+	}
+
+	private static final int _BATCH_SIZE =
+		PortletPropsValues.KNOWLEDGE_BASE_REINDEX_BATCH_SIZE;
+
+	private static final int _MAX_ATTEMPTS = Math.max(
+		PortletPropsValues.KNOWLEDGE_BASE_REINDEX_MAX_ATTEMPTS, 1);
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		KBArticleIndexQueueUtil.class);
+
+	private static KBArticleIndexQueueUtil _instance =
+		new KBArticleIndexQueueUtil();
+
+}
\ No newline at end of file
@@ -42,16 +42,16 @@ import com.liferay.portal.kernel.search.filter.BooleanFilter;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.portlet.PortletRequest;
 import javax.portlet.PortletResponse;
@@ -171,53 +171,62 @@ public class KBArticleIndexer extends BaseIndexer<KBArticle> {
 		KBArticle kbArticle = KBArticleLocalServiceUtil.getLatestKBArticle(
 			classPK, WorkflowConstants.STATUS_ANY);
 
-		reindexKBArticles(kbArticle);
+		KBArticleIndexQueueUtil.add(
+			kbArticle.getCompanyId(), kbArticle.getResourcePrimKey());
 	}
 
 	@Override
 	protected void doReindex(String[] ids) throws Exception {
 		long companyId = GetterUtil.getLong(ids[0]);
 
-		reindexKBArticles(companyId);
+		KBFolderNamesThreadLocal.setKBFolderNamesMap(
+			new HashMap<Long, String[]>());
+
+		try {
+			reindexKBArticles(companyId);
+		}
+		finally {
+			KBFolderNamesThreadLocal.setKBFolderNamesMap(null);
+		}
 	}
 
 	protected String[] getKBFolderNames(KBArticle kbArticle)
 		throws PortalException {
 
-		long kbFolderId = kbArticle.getKbFolderId();
-
-		Collection<String> kbFolderNames = new ArrayList<>();
-
-		while (kbFolderId != KBFolderConstants.DEFAULT_PARENT_FOLDER_ID) {
-			KBFolder kbFolder = KBFolderLocalServiceUtil.getKBFolder(
-				kbFolderId);
+		return getKBFolderNames(kbArticle.getKbFolderId());
+	}
 
-			kbFolderNames.add(kbFolder.getName());
+	protected String[] getKBFolderNames(long kbFolderId)
+		throws PortalException {
 
-			kbFolderId = kbFolder.getParentKBFolderId();
+		if (kbFolderId == KBFolderConstants.DEFAULT_PARENT_FOLDER_ID) {
+			return StringPool.EMPTY_ARRAY;
 		}
 
-		return kbFolderNames.toArray(new String[kbFolderNames.size()]);
-	}
+		Map<Long, String[]> kbFolderNamesMap =
+			KBFolderNamesThreadLocal.getKBFolderNamesMap();
 
-	protected void reindexKBArticles(KBArticle kbArticle) throws Exception {
+		String[] kbFolderNames = null;
 
-		// See KBArticlePermission#contains
+		if (kbFolderNamesMap != null) {
+			kbFolderNames = kbFolderNamesMap.get(kbFolderId);
+
+			if (kbFolderNames != null) {
+				return kbFolderNames;
+			}
+		}
 
-		List<KBArticle> kbArticles =
-			KBArticleLocalServiceUtil.getKBArticleAndAllDescendantKBArticles(
-				kbArticle.getResourcePrimKey(),
-				WorkflowConstants.STATUS_APPROVED, null);
+		KBFolder kbFolder = KBFolderLocalServiceUtil.getKBFolder(kbFolderId);
 
-		Collection<Document> documents = new ArrayList<>();
+		kbFolderNames = ArrayUtil.append(
+			new String[] {kbFolder.getName()},
+			getKBFolderNames(kbFolder.getParentKBFolderId()));
 
-		for (KBArticle curKBArticle : kbArticles) {
-			documents.add(getDocument(curKBArticle));
+		if (kbFolderNamesMap != null) {
+			kbFolderNamesMap.put(kbFolderId, kbFolderNames);
 		}
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), kbArticle.getCompanyId(), documents,
-			isCommitImmediately());
+		return kbFolderNames;
 	}
 
 	protected void reindexKBArticles(long companyId) throws Exception {
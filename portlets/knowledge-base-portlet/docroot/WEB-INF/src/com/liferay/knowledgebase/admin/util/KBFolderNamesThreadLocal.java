@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.admin.util;
+
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+
+import java.util.Map;
+
+/**
+ * Holds the names of the KB folders that are looked up while the documents of
+ * a batch of KB articles are built, so that the KB articles of a folder do not
+ * look up the same KB folders again.
+ */
+public class KBFolderNamesThreadLocal {
+
+	public static Map<Long, String[]> getKBFolderNamesMap() {
+		return _kbFolderNamesMap.get();
+	}
+
+	public static void setKBFolderNamesMap(
+		Map<Long, String[]> kbFolderNamesMap) {
+
+		_kbFolderNamesMap.set(kbFolderNamesMap);
+	}
+
+	private static final ThreadLocal<Map<Long, String[]>> _kbFolderNamesMap =
+		new AutoResetThreadLocal<>(
+			KBFolderNamesThreadLocal.class + "._kbFolderNamesMap");
+
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.hook.upgrade;
+
+import com.liferay.knowledgebase.hook.upgrade.v1_4_0.UpgradeKBArticleClosure;
+import com.liferay.knowledgebase.hook.upgrade.v1_4_0.UpgradeKBArticleIndexQueue;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+
+public class UpgradeProcess_1_4_0 extends UpgradeProcess {
+
+	@Override
+	public int getThreshold() {
+		return 140;
+	}
+
+	@Override
+	protected void doUpgrade() throws Exception {
+		upgrade(UpgradeKBArticleClosure.class);
+		upgrade(UpgradeKBArticleIndexQueue.class);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.hook.upgrade.v1_4_0;
+
+import com.liferay.knowledgebase.model.KBArticleConstants;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+import com.liferay.portal.util.PortalUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class UpgradeKBArticleClosure extends UpgradeProcess {
+
+	@Override
+	protected void doUpgrade() throws Exception {
+
+		// KBArticleClosure is not a Service Builder entity. Its table is only
+		// created here, which also runs on new installations because the
+		// threshold is above release.info.previous.build.number.
+
+		if (!hasTable("KBArticleClosure")) {
+			runSQL(
+				"create table KBArticleClosure (ancestorResourcePrimKey " +
+					"LONG not null, descendantResourcePrimKey LONG not null, " +
+					"distance INTEGER, primary key (ancestorResourcePrimKey, " +
+					"descendantResourcePrimKey))");
+
+			runSQL(
+				"create index IX_6D3B9E2A on KBArticleClosure " +
+					"(descendantResourcePrimKey)");
+		}
+
+		Connection con = null;
+
+		try {
+			con = DataAccess.getUpgradeOptimizedConnection();
+
+			if (_hasKBArticleClosures(con)) {
+				return;
+			}
+
+			Map<Long, Long> parentResourcePrimKeys =
+				_getParentResourcePrimKeys(con);
+
+			_addKBArticleClosures(con, parentResourcePrimKeys);
+		}
+		finally {
+			DataAccess.cleanUp(con);
+		}
+	}
+
+	private void _addKBArticleClosures(
+			Connection con, Map<Long, Long> parentResourcePrimKeys)
+		throws SQLException {
+
+		PreparedStatement ps = null;
+
+		try {
+			ps = con.prepareStatement(
+				"insert into KBArticleClosure (ancestorResourcePrimKey, " +
+					"descendantResourcePrimKey, distance) values (?, ?, ?)");
+
+			int count = 0;
+
+			for (long resourcePrimKey : parentResourcePrimKeys.keySet()) {
+				Set<Long> ancestorResourcePrimKeys = new HashSet<>();
+
+				long ancestorResourcePrimKey = resourcePrimKey;
+				int distance = 0;
+
+				while (ancestorResourcePrimKeys.add(ancestorResourcePrimKey)) {
+					ps.setLong(1, ancestorResourcePrimKey);
+					ps.setLong(2, resourcePrimKey);
+					ps.setInt(3, distance);
+
+					ps.addBatch();
+
+					if ((++count % _BATCH_SIZE) == 0) {
+						ps.executeBatch();
+					}
+
+					Long parentResourcePrimKey = parentResourcePrimKeys.get(
+						ancestorResourcePrimKey);
+
+					if ((parentResourcePrimKey == null) ||
+						!parentResourcePrimKeys.containsKey(
+							parentResourcePrimKey)) {
+
+						break;
+					}
+
+					ancestorResourcePrimKey = parentResourcePrimKey;
+					distance++;
+				}
+			}
+
+			ps.executeBatch();
+		}
+		finally {
+			DataAccess.cleanUp(ps);
+		}
+	}
+
+	private Map<Long, Long> _getParentResourcePrimKeys(Connection con)
+		throws SQLException {
+
+		long kbArticleClassNameId = PortalUtil.getClassNameId(
+			KBArticleConstants.getClassName());
+
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			ps = con.prepareStatement(
+				"select resourcePrimKey, parentResourceClassNameId, " +
+					"parentResourcePrimKey from KBArticle where latest = ?");
+
+			ps.setBoolean(1, true);
+
+			rs = ps.executeQuery();
+
+			Map<Long, Long> parentResourcePrimKeys = new HashMap<>();
+
+			while (rs.next()) {
+				long resourcePrimKey = rs.getLong(1);
+				long parentResourceClassNameId = rs.getLong(2);
+				long parentResourcePrimKey = rs.getLong(3);
+
+				if (parentResourceClassNameId != kbArticleClassNameId) {
+					parentResourcePrimKey =
+						KBArticleConstants.DEFAULT_PARENT_RESOURCE_PRIM_KEY;
+				}
+
+				parentResourcePrimKeys.put(
+					resourcePrimKey, parentResourcePrimKey);
+			}
+
+			return parentResourcePrimKeys;
+		}
+		finally {
+			DataAccess.cleanUp(ps);
+			DataAccess.cleanUp(rs);
+		}
+	}
+
+	private boolean _hasKBArticleClosures(Connection con)
+		throws SQLException {
+
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			ps = con.prepareStatement("select count(*) from KBArticleClosure");
+
+			rs = ps.executeQuery();
+
+			if (rs.next() && (rs.getInt(1) > 0)) {
+				return true;
+			}
+
+			return false;
+		}
+		finally {
+			DataAccess.cleanUp(ps);
+			DataAccess.cleanUp(rs);
+		}
+	}
+
+	private static final int _BATCH_SIZE = 1000;
+
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.hook.upgrade.v1_4_0;
+
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+
+public class UpgradeKBArticleIndexQueue extends UpgradeProcess {
+
+	@Override
+	protected void doUpgrade() throws Exception {
+
+		// Like KBArticleClosure, KBArticleIndexQueue is only created here
+
+		if (hasTable("KBArticleIndexQueue")) {
+			return;
+		}
+
+		runSQL(
+			"create table KBArticleIndexQueue (entryId LONG not null " +
+				"primary key, companyId LONG, resourcePrimKey LONG, " +
+					"attempts INTEGER)");
+	}
+
+}
\ No newline at end of file
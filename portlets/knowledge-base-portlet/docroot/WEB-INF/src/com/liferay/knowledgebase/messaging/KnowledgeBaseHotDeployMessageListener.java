@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.messaging;
+
+import com.liferay.knowledgebase.util.KBArticleViewCountUtil;
+import com.liferay.portal.kernel.messaging.HotDeployMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+
+/**
+ * Adds the KB article views counted by this node to the view counts in the
+ * database when the plugin is undeployed or the portal shuts down, so the
+ * views counted since the last scheduled flush are not lost.
+ */
+public class KnowledgeBaseHotDeployMessageListener
+	extends HotDeployMessageListener {
+
+	public KnowledgeBaseHotDeployMessageListener(
+		String... servletContextNames) {
+
+		super(servletContextNames);
+	}
+
+	@Override
+	protected void onUndeploy(Message message) throws Exception {
+		KBArticleViewCountUtil.flush();
+	}
+
+}
\ No newline at end of file
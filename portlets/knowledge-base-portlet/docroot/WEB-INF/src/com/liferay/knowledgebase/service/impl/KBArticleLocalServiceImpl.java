@@ -33,6 +33,8 @@ import com.liferay.knowledgebase.model.KBFolderConstants;
 import com.liferay.knowledgebase.service.KBArticleLocalServiceUtil;
 import com.liferay.knowledgebase.service.KBArticleServiceUtil;
 import com.liferay.knowledgebase.service.base.KBArticleLocalServiceBaseImpl;
+import com.liferay.knowledgebase.util.KBArticleNavigation;
+import com.liferay.knowledgebase.util.KBArticleNavigationCacheUtil;
 import com.liferay.knowledgebase.util.KnowledgeBaseConstants;
 import com.liferay.knowledgebase.util.KnowledgeBaseUtil;
 import com.liferay.knowledgebase.util.PortletKeys;
@@ -46,6 +48,9 @@ import com.liferay.portal.kernel.dao.orm.Disjunction;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.Junction;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
 import com.liferay.portal.kernel.dao.orm.Property;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
@@ -61,6 +66,7 @@ import com.liferay.portal.kernel.search.IndexerRegistryUtil;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.systemevent.SystemEvent;
 import com.liferay.portal.kernel.systemevent.SystemEventHierarchyEntryThreadLocal;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.ListUtil;
@@ -87,13 +93,18 @@ import com.liferay.portlet.asset.model.AssetLinkConstants;
 
 import java.io.InputStream;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 import javax.portlet.PortletPreferences;
 
@@ -169,6 +180,13 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 
 		kbArticlePersistence.update(kbArticle);
 
+		kbArticleFinder.addClosures(
+			resourcePrimKey,
+			getParentKBArticleResourcePrimKey(
+				parentResourceClassNameId, parentResourcePrimKey));
+
+		clearKBArticleNavigation(groupId, kbFolderId);
+
 		// Resources
 
 		if (serviceContext.isAddGroupPermissions() ||
@@ -322,6 +340,11 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		kbArticlePersistence.removeByResourcePrimKey(
 			kbArticle.getResourcePrimKey());
 
+		kbArticleFinder.deleteClosures(kbArticle.getResourcePrimKey());
+
+		clearKBArticleNavigation(
+			kbArticle.getGroupId(), kbArticle.getKbFolderId());
+
 		// KB comments
 
 		kbCommentLocalService.deleteKBComments(
@@ -788,13 +811,15 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		KBArticle kbArticle = kbArticlePersistence.findByPrimaryKey(
 			kbArticleId);
 
-		KBArticle[] previousAndNextKBArticles = getPreviousAndNextKBArticles(
-			kbArticle);
+		KBArticleNavigation kbArticleNavigation = getKBArticleNavigation(
+			kbArticle.getGroupId(), kbArticle.getKbFolderId());
 
-		KBArticle previousKBArticle = getPreviousKBArticle(
-			kbArticle, previousAndNextKBArticles[0]);
-		KBArticle nextKBArticle = getNextKBArticle(
-			kbArticle, previousAndNextKBArticles[2]);
+		KBArticle previousKBArticle = fetchNavigationKBArticle(
+			kbArticleNavigation.getPreviousResourcePrimKey(
+				kbArticle.getResourcePrimKey()));
+		KBArticle nextKBArticle = fetchNavigationKBArticle(
+			kbArticleNavigation.getNextResourcePrimKey(
+				kbArticle.getResourcePrimKey()));
 
 		return new KBArticle[] {previousKBArticle, kbArticle, nextKBArticle};
 	}
@@ -880,6 +905,27 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 			groupId, userId, tempFolderName);
 	}
 
+	@Override
+	public void incrementViewCounts(long[] resourcePrimKeys, int[] increments) {
+		for (int i = 0; i < resourcePrimKeys.length; i++) {
+			kbArticleFinder.incrementViewCount(
+				resourcePrimKeys[i], increments[i]);
+
+			// The view counts were updated directly in the database
+
+			List<KBArticle> kbArticles = new ArrayList<>();
+
+			kbArticles.addAll(
+				kbArticlePersistence.findByR_L(resourcePrimKeys[i], true));
+			kbArticles.addAll(
+				kbArticlePersistence.findByR_M(resourcePrimKeys[i], true));
+
+			for (KBArticle kbArticle : kbArticles) {
+				kbArticlePersistence.clearCache(kbArticle);
+			}
+		}
+	}
+
 	@Override
 	public void moveKBArticle(
 			long userId, long resourcePrimKey, long parentResourceClassNameId,
@@ -908,6 +954,15 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 			kbFolderId = latestKBArticle.getKbFolderId();
 		}
 
+		KBArticle oldKBArticle = getLatestKBArticle(
+			resourcePrimKey, WorkflowConstants.STATUS_ANY);
+
+		long oldKBFolderId = oldKBArticle.getKbFolderId();
+		long oldParentKBArticleResourcePrimKey =
+			getParentKBArticleResourcePrimKey(
+				oldKBArticle.getParentResourceClassNameId(),
+				oldKBArticle.getParentResourcePrimKey());
+
 		List<KBArticle> kbArticles = getKBArticleVersions(
 			resourcePrimKey, WorkflowConstants.STATUS_ANY, QueryUtil.ALL_POS,
 			QueryUtil.ALL_POS, new KBArticleVersionComparator());
@@ -923,6 +978,23 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 			kbArticlePersistence.update(curKBArticle);
 		}
 
+		long parentKBArticleResourcePrimKey =
+			getParentKBArticleResourcePrimKey(
+				parentResourceClassNameId, parentResourcePrimKey);
+
+		if (parentKBArticleResourcePrimKey !=
+				oldParentKBArticleResourcePrimKey) {
+
+			kbArticleFinder.moveClosures(
+				resourcePrimKey, parentKBArticleResourcePrimKey);
+		}
+
+		clearKBArticleNavigation(oldKBArticle.getGroupId(), oldKBFolderId);
+
+		if (kbFolderId != oldKBFolderId) {
+			clearKBArticleNavigation(oldKBArticle.getGroupId(), kbFolderId);
+		}
+
 		KBArticle kbArticle = getLatestKBArticle(
 			resourcePrimKey, WorkflowConstants.STATUS_ANY);
 
@@ -1198,6 +1270,13 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 
 			kbArticlePersistence.update(kbArticle);
 		}
+
+		if (!kbArticleVersions.isEmpty()) {
+			KBArticle kbArticle = kbArticleVersions.get(0);
+
+			clearKBArticleNavigation(
+				kbArticle.getGroupId(), kbArticle.getKbFolderId());
+		}
 	}
 
 	@Override
@@ -1464,6 +1543,28 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		return dynamicQuery.add(junction);
 	}
 
+	protected void clearKBArticleNavigation(
+		final long groupId, final long kbFolderId) {
+
+		KBArticleNavigationCacheUtil.clearCache(groupId, kbFolderId);
+
+		// Clear the cache again once the transaction is committed so that a
+		// navigation order read from the old state in between is not kept
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				KBArticleNavigationCacheUtil.clearCache(groupId, kbFolderId);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
 	protected void deleteAssets(KBArticle kbArticle) throws PortalException {
 		assetEntryLocalService.deleteEntry(
 			KBArticle.class.getName(), kbArticle.getClassPK());
@@ -1493,43 +1594,31 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		OrderByComparator<KBArticle> orderByComparator,
 		boolean includeParentArticle) {
 
-		List<KBArticle> kbArticles = null;
-
-		if (includeParentArticle) {
-			kbArticles = getKBArticles(
-				new long[] {resourcePrimKey}, status, null);
+		List<KBArticle> closureKBArticles =
+			kbArticleFinder.findByAncestorResourcePrimKey(
+				resourcePrimKey, status, includeParentArticle);
 
-			kbArticles = ListUtil.copy(kbArticles);
-		}
-		else {
-			kbArticles = new ArrayList<>();
-		}
+		// The closure rows are ordered by distance, so every parent is seen
+		// before its children. Only keep the KB articles whose parents were
+		// kept, as if the tree was walked one level at a time with the given
+		// status.
 
-		Long[][] params = new Long[][] {new Long[] {resourcePrimKey}};
+		List<KBArticle> kbArticles = new ArrayList<>(
+			closureKBArticles.size());
 
-		while ((params = KnowledgeBaseUtil.getParams(params[0])) != null) {
-			List<KBArticle> curKBArticles = null;
+		Set<Long> resourcePrimKeys = new HashSet<>();
 
-			if (status == WorkflowConstants.STATUS_ANY) {
-				curKBArticles = kbArticlePersistence.findByP_L(
-					ArrayUtil.toArray(params[1]), true);
-			}
-			else if (status == WorkflowConstants.STATUS_APPROVED) {
-				curKBArticles = kbArticlePersistence.findByP_M(
-					ArrayUtil.toArray(params[1]), true);
-			}
-			else {
-				curKBArticles = kbArticlePersistence.findByP_S(
-					ArrayUtil.toArray(params[1]), status);
-			}
+		resourcePrimKeys.add(resourcePrimKey);
 
-			kbArticles.addAll(curKBArticles);
+		for (KBArticle kbArticle : closureKBArticles) {
+			if ((kbArticle.getResourcePrimKey() == resourcePrimKey) ||
+				resourcePrimKeys.contains(
+					kbArticle.getParentResourcePrimKey())) {
 
-			long[] resourcePrimKeys = StringUtil.split(
-				ListUtil.toString(curKBArticles, "resourcePrimKey"), 0L);
+				kbArticles.add(kbArticle);
 
-			params[0] = ArrayUtil.append(
-				params[0], ArrayUtil.toArray(resourcePrimKeys));
+				resourcePrimKeys.add(kbArticle.getResourcePrimKey());
+			}
 		}
 
 		if (orderByComparator != null) {
@@ -1539,6 +1628,15 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		return Collections.unmodifiableList(kbArticles);
 	}
 
+	protected KBArticle fetchNavigationKBArticle(long resourcePrimKey) {
+		if (resourcePrimKey <= 0) {
+			return null;
+		}
+
+		return fetchLatestKBArticle(
+			resourcePrimKey, WorkflowConstants.STATUS_ANY);
+	}
+
 	protected Map<String, String> getEmailKBArticleDiffs(KBArticle kbArticle) {
 		Map<String, String> emailKBArticleDiffs = new HashMap<>();
 
@@ -1560,85 +1658,125 @@ public class KBArticleLocalServiceImpl extends KBArticleLocalServiceBaseImpl {
 		return emailKBArticleDiffs;
 	}
 
-	protected KBArticle getNextAncestorKBArticle(
-			long kbArticleId, KBArticle nextKBArticle)
-		throws PortalException {
+	protected KBArticleNavigation getKBArticleNavigation(
+		long groupId, long kbFolderId) {
 
-		if (nextKBArticle != null) {
-			return nextKBArticle;
+		KBArticleNavigation kbArticleNavigation =
+			KBArticleNavigationCacheUtil.getKBArticleNavigation(
+				groupId, kbFolderId);
+
+		if (kbArticleNavigation != null) {
+			return kbArticleNavigation;
 		}
 
-		KBArticle kbArticle = kbArticlePersistence.findByPrimaryKey(
-			kbArticleId);
+		DynamicQuery dynamicQuery = dynamicQuery();
 
-		KBArticle parentKBArticle = kbArticle.getParentKBArticle();
+		Property groupIdProperty = PropertyFactoryUtil.forName("groupId");
 
-		if (parentKBArticle == null) {
-			return null;
-		}
+		dynamicQuery.add(groupIdProperty.eq(groupId));
 
-		KBArticle[] previousAndNextKBArticles = getPreviousAndNextKBArticles(
-			parentKBArticle);
+		Property kbFolderIdProperty = PropertyFactoryUtil.forName("kbFolderId");
 
-		return getNextAncestorKBArticle(
-			parentKBArticle.getKbArticleId(), previousAndNextKBArticles[2]);
-	}
+		dynamicQuery.add(kbFolderIdProperty.eq(kbFolderId));
 
-	protected KBArticle getNextKBArticle(
-			KBArticle kbArticle, KBArticle nextKBArticle)
-		throws PortalException {
+		Property latestProperty = PropertyFactoryUtil.forName("latest");
 
-		KBArticle firstChildKBArticle = kbArticlePersistence.fetchByG_P_L_First(
-			kbArticle.getGroupId(), kbArticle.getResourcePrimKey(), true,
-			new KBArticlePriorityComparator(true));
+		dynamicQuery.add(latestProperty.eq(true));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("resourcePrimKey"));
+		projectionList.add(
+			ProjectionFactoryUtil.property("parentResourcePrimKey"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("priority"));
 
-		if (firstChildKBArticle != null) {
-			return firstChildKBArticle;
+		List<Object[]> results = dynamicQuery(dynamicQuery);
+
+		Set<Long> resourcePrimKeys = new HashSet<>();
+
+		for (Object[] result : results) {
+			resourcePrimKeys.add((Long)result[0]);
 		}
 
-		return getNextAncestorKBArticle(
-			kbArticle.getKbArticleId(), nextKBArticle);
-	}
+		List<Long> rootResourcePrimKeys = new ArrayList<>();
+		Map<Long, List<Long>> childResourcePrimKeysMap = new HashMap<>();
 
-	protected KBArticle[] getPreviousAndNextKBArticles(KBArticle kbArticle) {
-		List<KBArticle> kbArticles = kbArticlePersistence.findByG_P_L(
-			kbArticle.getGroupId(), kbArticle.getParentResourcePrimKey(), true,
-			QueryUtil.ALL_POS, QueryUtil.ALL_POS,
-			new KBArticlePriorityComparator(true));
+		for (Object[] result : results) {
+			long resourcePrimKey = (Long)result[0];
+			long parentResourcePrimKey = (Long)result[1];
+
+			if (!resourcePrimKeys.contains(parentResourcePrimKey)) {
+				rootResourcePrimKeys.add(resourcePrimKey);
+
+				continue;
+			}
 
-		int index = kbArticles.indexOf(kbArticle);
+			List<Long> childResourcePrimKeys = childResourcePrimKeysMap.get(
+				parentResourcePrimKey);
 
-		KBArticle[] previousAndNextKBArticles = {null, kbArticle, null};
+			if (childResourcePrimKeys == null) {
+				childResourcePrimKeys = new ArrayList<>();
 
-		if (index > 0) {
-			previousAndNextKBArticles[0] = kbArticles.get(index - 1);
+				childResourcePrimKeysMap.put(
+					parentResourcePrimKey, childResourcePrimKeys);
+			}
+
+			childResourcePrimKeys.add(resourcePrimKey);
 		}
 
-		if (index < (kbArticles.size() - 1)) {
-			previousAndNextKBArticles[2] = kbArticles.get(index + 1);
+		// Walk the tree depth first, with siblings in order of priority
+
+		List<Long> navigationResourcePrimKeys = new ArrayList<>(
+			results.size());
+
+		Deque<Long> deque = new ArrayDeque<>();
+
+		for (int i = rootResourcePrimKeys.size() - 1; i >= 0; i--) {
+			deque.push(rootResourcePrimKeys.get(i));
 		}
 
-		return previousAndNextKBArticles;
-	}
+		while (!deque.isEmpty()) {
+			long resourcePrimKey = deque.pop();
 
-	protected KBArticle getPreviousKBArticle(
-			KBArticle kbArticle, KBArticle previousKBArticle)
-		throws PortalException {
+			navigationResourcePrimKeys.add(resourcePrimKey);
+
+			List<Long> childResourcePrimKeys = childResourcePrimKeysMap.remove(
+				resourcePrimKey);
+
+			if (childResourcePrimKeys == null) {
+				continue;
+			}
 
-		if (previousKBArticle == null) {
-			return kbArticle.getParentKBArticle();
+			for (int i = childResourcePrimKeys.size() - 1; i >= 0; i--) {
+				deque.push(childResourcePrimKeys.get(i));
+			}
 		}
 
-		KBArticle lastSiblingChildKBArticle =
-			kbArticlePersistence.fetchByG_P_L_Last(
-				kbArticle.getGroupId(), previousKBArticle.getResourcePrimKey(),
-				true, new KBArticlePriorityComparator(true));
+		kbArticleNavigation = new KBArticleNavigation(
+			ArrayUtil.toArray(
+				navigationResourcePrimKeys.toArray(
+					new Long[navigationResourcePrimKeys.size()])));
+
+		KBArticleNavigationCacheUtil.putKBArticleNavigation(
+			groupId, kbFolderId, kbArticleNavigation);
+
+		return kbArticleNavigation;
+	}
+
+	protected long getParentKBArticleResourcePrimKey(
+		long parentResourceClassNameId, long parentResourcePrimKey) {
+
+		long kbArticleClassNameId = classNameLocalService.getClassNameId(
+			KBArticleConstants.getClassName());
 
-		if (lastSiblingChildKBArticle == null) {
-			return previousKBArticle;
+		if (parentResourceClassNameId == kbArticleClassNameId) {
+			return parentResourcePrimKey;
 		}
 
-		return lastSiblingChildKBArticle;
+		return KBArticleConstants.DEFAULT_PARENT_RESOURCE_PRIM_KEY;
 	}
 
 	protected double getPriority(long groupId, long parentResourcePrimKey) {
@@ -17,18 +17,25 @@ package com.liferay.knowledgebase.service.persistence.impl;
 import com.liferay.knowledgebase.model.KBArticle;
 import com.liferay.knowledgebase.model.impl.KBArticleImpl;
 import com.liferay.knowledgebase.service.persistence.KBArticleFinder;
+import com.liferay.knowledgebase.util.KnowledgeBaseUtil;
 import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.SQLQuery;
 import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.util.dao.orm.CustomSQLUtil;
 
 import java.math.BigInteger;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Adolfo Pérez
@@ -36,6 +43,61 @@ import java.util.List;
 public class KBArticleFinderImpl
 	extends KBArticleFinderBaseImpl implements KBArticleFinder {
 
+	@Override
+	public void addClosures(long resourcePrimKey, long parentResourcePrimKey) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			addClosure(session, resourcePrimKey, resourcePrimKey, 0);
+
+			if (parentResourcePrimKey <= 0) {
+				return;
+			}
+
+			Map<Long, Integer> ancestorClosures = getClosures(
+				session, _FIND_ANCESTOR_CLOSURES, parentResourcePrimKey);
+
+			for (Map.Entry<Long, Integer> entry :
+					ancestorClosures.entrySet()) {
+
+				addClosure(
+					session, entry.getKey(), resourcePrimKey,
+					entry.getValue() + 1);
+			}
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public void addIndexQueueEntry(
+		long entryId, long companyId, long resourcePrimKey) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_ADD_INDEX_QUEUE_ENTRY);
+
+			SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(query);
+
+			qPos.add(entryId);
+			qPos.add(companyId);
+			qPos.add(resourcePrimKey);
+
+			query.executeUpdate();
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
 	@Override
 	public int countByUrlTitle(
 		long groupId, String kbFolderUrlTitle, String kbArticleUrlTitle,
@@ -75,6 +137,115 @@ public class KBArticleFinderImpl
 		}
 	}
 
+	@Override
+	public void deleteClosures(long resourcePrimKey) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_DELETE_CLOSURES);
+
+			SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(query);
+
+			qPos.add(resourcePrimKey);
+			qPos.add(resourcePrimKey);
+
+			query.executeUpdate();
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public void deleteIndexQueueEntries(long[] entryIds) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_DELETE_INDEX_QUEUE_ENTRIES);
+
+			Long[][] params = new Long[][] {ArrayUtil.toArray(entryIds)};
+
+			while (true) {
+				params = KnowledgeBaseUtil.getParams(params[0]);
+
+				if (params == null) {
+					break;
+				}
+
+				String curSQL = StringUtil.replace(
+					sql, "[$ENTRY_IDS$]",
+					StringUtil.merge(ArrayUtil.toArray(params[1])));
+
+				SQLQuery query = session.createSynchronizedSQLQuery(curSQL);
+
+				query.executeUpdate();
+			}
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public List<KBArticle> findByAncestorResourcePrimKey(
+		long ancestorResourcePrimKey, int status, boolean includeAncestor) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_FIND_BY_ANCESTOR_RESOURCE_PRIM_KEY);
+
+			String statusColumn = "KBArticle.status";
+
+			if (status == WorkflowConstants.STATUS_ANY) {
+				statusColumn = "KBArticle.latest";
+			}
+			else if (status == WorkflowConstants.STATUS_APPROVED) {
+				statusColumn = "KBArticle.main";
+			}
+
+			sql = StringUtil.replace(sql, "[$STATUS_COLUMN$]", statusColumn);
+
+			SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+			query.addEntity(KBArticleImpl.TABLE_NAME, KBArticleImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(query);
+
+			qPos.add(ancestorResourcePrimKey);
+
+			if (includeAncestor) {
+				qPos.add(0);
+			}
+			else {
+				qPos.add(1);
+			}
+
+			if ((status == WorkflowConstants.STATUS_ANY) ||
+				(status == WorkflowConstants.STATUS_APPROVED)) {
+
+				qPos.add(true);
+			}
+			else {
+				qPos.add(status);
+			}
+
+			return (List)QueryUtil.list(
+				query, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
 	@Override
 	public List<KBArticle> findByUrlTitle(
 		long groupId, String kbFolderUrlTitle, String kbArticleUrlTitle,
@@ -106,6 +277,209 @@ public class KBArticleFinderImpl
 		}
 	}
 
+	@Override
+	public List<Object[]> findIndexQueueEntries(int start, int end) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_FIND_INDEX_QUEUE_ENTRIES);
+
+			SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+			query.addScalar("entryId", Type.LONG);
+			query.addScalar("companyId", Type.LONG);
+			query.addScalar("resourcePrimKey", Type.LONG);
+			query.addScalar("attempts", Type.INTEGER);
+
+			return (List<Object[]>)QueryUtil.list(
+				query, getDialect(), start, end);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public void incrementIndexQueueEntryAttempts(long[] entryIds) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(
+				_INCREMENT_INDEX_QUEUE_ENTRY_ATTEMPTS);
+
+			Long[][] params = new Long[][] {ArrayUtil.toArray(entryIds)};
+
+			while (true) {
+				params = KnowledgeBaseUtil.getParams(params[0]);
+
+				if (params == null) {
+					break;
+				}
+
+				String curSQL = StringUtil.replace(
+					sql, "[$ENTRY_IDS$]",
+					StringUtil.merge(ArrayUtil.toArray(params[1])));
+
+				SQLQuery query = session.createSynchronizedSQLQuery(curSQL);
+
+				query.executeUpdate();
+			}
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public void incrementViewCount(long resourcePrimKey, int increment) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(_INCREMENT_VIEW_COUNT);
+
+			SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+			QueryPos qPos = QueryPos.getInstance(query);
+
+			qPos.add(increment);
+			qPos.add(resourcePrimKey);
+
+			query.executeUpdate();
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	public void moveClosures(long resourcePrimKey, long parentResourcePrimKey) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Map<Long, Integer> descendantClosures = getClosures(
+				session, _FIND_DESCENDANT_CLOSURES, resourcePrimKey);
+
+			Map<Long, Integer> ancestorClosures = getClosures(
+				session, _FIND_ANCESTOR_CLOSURES, resourcePrimKey);
+
+			ancestorClosures.remove(resourcePrimKey);
+
+			// Detach the subtree from its old ancestors
+
+			if (!ancestorClosures.isEmpty()) {
+				String sql = CustomSQLUtil.get(_DELETE_CLOSURES_BY_A_D);
+
+				Set<Long> ancestorResourcePrimKeys = ancestorClosures.keySet();
+
+				sql = StringUtil.replace(
+					sql, "[$ANCESTOR_RESOURCE_PRIM_KEYS$]",
+					StringUtil.merge(
+						ArrayUtil.toArray(
+							ancestorResourcePrimKeys.toArray(new Long[0]))));
+
+				Set<Long> descendantResourcePrimKeys =
+					descendantClosures.keySet();
+
+				Long[][] params = new Long[][] {
+					descendantResourcePrimKeys.toArray(new Long[0])
+				};
+
+				while (true) {
+					params = KnowledgeBaseUtil.getParams(params[0]);
+
+					if (params == null) {
+						break;
+					}
+
+					String curSQL = StringUtil.replace(
+						sql, "[$DESCENDANT_RESOURCE_PRIM_KEYS$]",
+						StringUtil.merge(ArrayUtil.toArray(params[1])));
+
+					SQLQuery query = session.createSynchronizedSQLQuery(curSQL);
+
+					query.executeUpdate();
+				}
+			}
+
+			if (parentResourcePrimKey <= 0) {
+				return;
+			}
+
+			// Attach the subtree to its new ancestors
+
+			Map<Long, Integer> parentAncestorClosures = getClosures(
+				session, _FIND_ANCESTOR_CLOSURES, parentResourcePrimKey);
+
+			for (Map.Entry<Long, Integer> ancestorEntry :
+					parentAncestorClosures.entrySet()) {
+
+				for (Map.Entry<Long, Integer> descendantEntry :
+						descendantClosures.entrySet()) {
+
+					addClosure(
+						session, ancestorEntry.getKey(),
+						descendantEntry.getKey(),
+						ancestorEntry.getValue() + descendantEntry.getValue() +
+							1);
+				}
+			}
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected void addClosure(
+		Session session, long ancestorResourcePrimKey,
+		long descendantResourcePrimKey, int distance) {
+
+		String sql = CustomSQLUtil.get(_ADD_CLOSURE);
+
+		SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+		QueryPos qPos = QueryPos.getInstance(query);
+
+		qPos.add(ancestorResourcePrimKey);
+		qPos.add(descendantResourcePrimKey);
+		qPos.add(distance);
+
+		query.executeUpdate();
+	}
+
+	protected Map<Long, Integer> getClosures(
+		Session session, String id, long resourcePrimKey) {
+
+		String sql = CustomSQLUtil.get(id);
+
+		SQLQuery query = session.createSynchronizedSQLQuery(sql);
+
+		query.addScalar("resourcePrimKey", Type.LONG);
+		query.addScalar("distance", Type.INTEGER);
+
+		QueryPos qPos = QueryPos.getInstance(query);
+
+		qPos.add(resourcePrimKey);
+
+		List<Object[]> closures = (List<Object[]>)QueryUtil.list(
+			query, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+		Map<Long, Integer> closuresMap = new LinkedHashMap<>();
+
+		for (Object[] closure : closures) {
+			closuresMap.put((Long)closure[0], (Integer)closure[1]);
+		}
+
+		return closuresMap;
+	}
+
 	protected String replaceWorkflowStatus(String sql, int[] status) {
 		StringBundler sb = new StringBundler(status.length);
 
@@ -120,10 +494,43 @@ public class KBArticleFinderImpl
 		return StringUtil.replace(sql, "[$WORKFLOW_STATUS$]", sb.toString());
 	}
 
+	private static final String _ADD_CLOSURE =
+		KBArticleFinder.class.getName() + ".addClosure";
+
+	private static final String _ADD_INDEX_QUEUE_ENTRY =
+		KBArticleFinder.class.getName() + ".addIndexQueueEntry";
+
 	private static final String _COUNT_BY_URL_TITLE =
 		KBArticleFinder.class.getName() + ".countByUrlTitle";
 
+	private static final String _DELETE_CLOSURES =
+		KBArticleFinder.class.getName() + ".deleteClosures";
+
+	private static final String _DELETE_CLOSURES_BY_A_D =
+		KBArticleFinder.class.getName() + ".deleteClosuresByA_D";
+
+	private static final String _DELETE_INDEX_QUEUE_ENTRIES =
+		KBArticleFinder.class.getName() + ".deleteIndexQueueEntries";
+
+	private static final String _FIND_ANCESTOR_CLOSURES =
+		KBArticleFinder.class.getName() + ".findAncestorClosures";
+
+	private static final String _FIND_BY_ANCESTOR_RESOURCE_PRIM_KEY =
+		KBArticleFinder.class.getName() + ".findByAncestorResourcePrimKey";
+
 	private static final String _FIND_BY_URL_TITLE =
 		KBArticleFinder.class.getName() + ".findByUrlTitle";
 
+	private static final String _FIND_DESCENDANT_CLOSURES =
+		KBArticleFinder.class.getName() + ".findDescendantClosures";
+
+	private static final String _FIND_INDEX_QUEUE_ENTRIES =
+		KBArticleFinder.class.getName() + ".findIndexQueueEntries";
+
+	private static final String _INCREMENT_INDEX_QUEUE_ENTRY_ATTEMPTS =
+		KBArticleFinder.class.getName() + ".incrementIndexQueueEntryAttempts";
+
+	private static final String _INCREMENT_VIEW_COUNT =
+		KBArticleFinder.class.getName() + ".incrementViewCount";
+
 }
\ No newline at end of file
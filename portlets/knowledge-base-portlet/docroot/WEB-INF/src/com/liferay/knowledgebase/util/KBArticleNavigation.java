@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.util;
+
+import java.io.Serializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the depth first order in which the latest versions of the KB articles
+ * of a folder are navigated with the previous and next links.
+ */
+public class KBArticleNavigation implements Serializable {
+
+	public KBArticleNavigation(long[] resourcePrimKeys) {
+		_resourcePrimKeys = resourcePrimKeys;
+
+		_indexes = new HashMap<>(resourcePrimKeys.length);
+
+		for (int i = 0; i < resourcePrimKeys.length; i++) {
+			_indexes.put(resourcePrimKeys[i], i);
+		}
+	}
+
+	public long getNextResourcePrimKey(long resourcePrimKey) {
+		Integer index = _indexes.get(resourcePrimKey);
+
+		if ((index == null) || (index >= (_resourcePrimKeys.length - 1))) {
+			return 0;
+		}
+
+		return _resourcePrimKeys[index + 1];
+	}
+
+	public long getPreviousResourcePrimKey(long resourcePrimKey) {
+		Integer index = _indexes.get(resourcePrimKey);
+
+		if ((index == null) || (index <= 0)) {
+			return 0;
+		}
+
+		return _resourcePrimKeys[index - 1];
+	}
+
+	public long[] getResourcePrimKeys() {
+		return _resourcePrimKeys;
+	}
+
+	private final Map<Long, Integer> _indexes;
+	private final long[] _resourcePrimKeys;
+
+}
\ No newline at end of file
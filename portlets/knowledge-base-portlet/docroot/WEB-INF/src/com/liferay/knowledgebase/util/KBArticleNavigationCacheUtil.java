@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.util.StringPool;
+
+/**
+ * Caches the navigation order of the KB articles of each folder so that the
+ * previous and next KB articles can be found without loading every sibling.
+ * The cache is shared by the cluster, and the navigation order of a folder is
+ * removed whenever a KB article of the folder is added, moved, reprioritized
+ * or deleted.
+ */
+public class KBArticleNavigationCacheUtil {
+
+	public static final String CACHE_NAME =
+		KBArticleNavigationCacheUtil.class.getName();
+
+	public static void clearCache(long groupId, long kbFolderId) {
+		_portalCache.remove(_encodeKey(groupId, kbFolderId));
+	}
+
+	public static KBArticleNavigation getKBArticleNavigation(
+		long groupId, long kbFolderId) {
+
+		return _portalCache.get(_encodeKey(groupId, kbFolderId));
+	}
+
+	public static void putKBArticleNavigation(
+		long groupId, long kbFolderId,
+		KBArticleNavigation kbArticleNavigation) {
+
+		_portalCache.put(
+			_encodeKey(groupId, kbFolderId), kbArticleNavigation);
+	}
+
+	private static String _encodeKey(long groupId, long kbFolderId) {
+		return groupId + StringPool.POUND + kbFolderId;
+	}
+
+	private static final PortalCache<String, KBArticleNavigation>
+		_portalCache = MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
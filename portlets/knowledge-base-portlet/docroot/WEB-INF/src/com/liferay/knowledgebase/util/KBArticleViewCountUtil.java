@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.knowledgebase.util;
+
+import com.liferay.knowledgebase.model.KBArticle;
+import com.liferay.knowledgebase.service.KBArticleLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts the views of the KB articles on this node so that a view does not
+ * have to update the KB article. The counted views are added to the view
+ * counts in the database in batches by {@link
+ * com.liferay.knowledgebase.messaging.FlushViewCountsMessageListener} and
+ * once more when the plugin is undeployed, so every node of the cluster can
+ * count views without overwriting the views counted by the others.
+ */
+public class KBArticleViewCountUtil {
+
+	public static void flush() {
+		_instance._flush();
+	}
+
+	public static int getViewCount(KBArticle kbArticle) {
+		return _instance._getViewCount(kbArticle);
+	}
+
+	public static void incrementViewCount(long resourcePrimKey) {
+		_instance._incrementViewCount(resourcePrimKey);
+	}
+
+	private KBArticleViewCountUtil() {
+		_increments = new ConcurrentHashMap<>();
+	}
+
+	private void _flush() {
+		if (_increments.isEmpty()) {
+			return;
+		}
+
+		List<Long> resourcePrimKeys = new ArrayList<>();
+		List<Integer> increments = new ArrayList<>();
+
+		for (Long resourcePrimKey : _increments.keySet()) {
+
+			// Views counted after the increment is removed start a new one
+			// that is written with the next batch
+
+			Integer increment = _increments.remove(resourcePrimKey);
+
+			if (increment != null) {
+				resourcePrimKeys.add(resourcePrimKey);
+				increments.add(increment);
+			}
+		}
+
+		if (resourcePrimKeys.isEmpty()) {
+			return;
+		}
+
+		long[] resourcePrimKeysArray = new long[resourcePrimKeys.size()];
+		int[] incrementsArray = new int[increments.size()];
+
+		for (int i = 0; i < resourcePrimKeysArray.length; i++) {
+			resourcePrimKeysArray[i] = resourcePrimKeys.get(i);
+			incrementsArray[i] = increments.get(i);
+		}
+
+		try {
+			KBArticleLocalServiceUtil.incrementViewCounts(
+				resourcePrimKeysArray, incrementsArray);
+		}
+		catch (RuntimeException re) {
+			for (int i = 0; i < resourcePrimKeysArray.length; i++) {
+				_increment(resourcePrimKeysArray[i], incrementsArray[i]);
+			}
+
+			throw re;
+		}
+	}
+
+	private int _getViewCount(KBArticle kbArticle) {
+		int viewCount = kbArticle.getViewCount();
+
+		if (!PortletPropsValues.KNOWLEDGE_BASE_VIEW_COUNT_BUFFER_READ_ENABLED) {
+			return viewCount;
+		}
+
+		Integer increment = _increments.get(kbArticle.getResourcePrimKey());
+
+		if (increment == null) {
+			return viewCount;
+		}
+
+		return viewCount + increment;
+	}
+
+	private void _increment(long resourcePrimKey, int increment) {
+		while (true) {
+			Integer curIncrement = _increments.putIfAbsent(
+				resourcePrimKey, increment);
+
+			if ((curIncrement == null) ||
+				_increments.replace(
+					resourcePrimKey, curIncrement, curIncrement + increment)) {
+
+				return;
+			}
+		}
+	}
+
+	private void _incrementViewCount(long resourcePrimKey) {
+		_increment(resourcePrimKey, 1);
+	}
+
+	private static KBArticleViewCountUtil _instance =
+		new KBArticleViewCountUtil();
+
+	private final ConcurrentMap<Long, Integer> _increments;
+
+}
\ No newline at end of file
@@ -91,6 +91,12 @@ public class PortletPropsKeys {
 	public static final String KNOWLEDGE_BASE_RATINGS_NUMBER_OF_STARS =
 		"knowledge.base.ratings.number.of.stars";
 
+	public static final String KNOWLEDGE_BASE_REINDEX_BATCH_SIZE =
+		"knowledge.base.reindex.batch.size";
+
+	public static final String KNOWLEDGE_BASE_REINDEX_MAX_ATTEMPTS =
+		"knowledge.base.reindex.max.attempts";
+
 	public static final String KNOWLEDGE_BASE_SOCIAL_BOOKMARKS_DISPLAY_STYLE =
 		"knowledge.base.social.bookmarks.display.style";
 
@@ -100,6 +106,9 @@ public class PortletPropsKeys {
 	public static final String KNOWLEDGE_BASE_SOURCE_URL_ENABLED =
 		"knowledge.base.source.url.enabled";
 
+	public static final String KNOWLEDGE_BASE_VIEW_COUNT_BUFFER_READ_ENABLED =
+		"knowledge.base.view.count.buffer.read.enabled";
+
 	public static final String MARKDOWN_IMPORTER_ARTICLE_EXTENSIONS =
 		"markdown.importer.article.extensions";
 
@@ -112,4 +121,7 @@ public class PortletPropsKeys {
 	public static final String MARKDOWN_IMPORTER_IMAGE_FOLDER =
 		"markdown.importer.image.folder";
 
+	public static final String MARKDOWN_IMPORTER_THREADS =
+		"markdown.importer.threads";
+
 }
\ No newline at end of file
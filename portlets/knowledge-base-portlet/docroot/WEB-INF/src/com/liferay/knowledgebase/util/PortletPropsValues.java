@@ -123,6 +123,16 @@ public class PortletPropsValues {
 			GetterUtil.getInteger(
 				PropsUtil.get(PropsKeys.RATINGS_DEFAULT_NUMBER_OF_STARS)));
 
+	public static final int KNOWLEDGE_BASE_REINDEX_BATCH_SIZE =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.KNOWLEDGE_BASE_REINDEX_BATCH_SIZE));
+
+	public static final int KNOWLEDGE_BASE_REINDEX_MAX_ATTEMPTS =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.KNOWLEDGE_BASE_REINDEX_MAX_ATTEMPTS));
+
 	public static final String KNOWLEDGE_BASE_SOCIAL_BOOKMARKS_DISPLAY_STYLE =
 		PortletProps.get(
 			PortletPropsKeys.KNOWLEDGE_BASE_SOCIAL_BOOKMARKS_DISPLAY_STYLE);
@@ -136,6 +146,12 @@ public class PortletPropsValues {
 			PortletProps.get(
 				PortletPropsKeys.KNOWLEDGE_BASE_SOURCE_URL_ENABLED));
 
+	public static final boolean KNOWLEDGE_BASE_VIEW_COUNT_BUFFER_READ_ENABLED =
+		GetterUtil.getBoolean(
+			PortletProps.get(
+				PortletPropsKeys.
+					KNOWLEDGE_BASE_VIEW_COUNT_BUFFER_READ_ENABLED));
+
 	public static final String[] MARKDOWN_IMPORTER_ARTICLE_EXTENSIONS =
 		PortletProps.getArray(
 			PortletPropsKeys.MARKDOWN_IMPORTER_ARTICLE_EXTENSIONS);
@@ -152,4 +168,7 @@ public class PortletPropsValues {
 		GetterUtil.getString(
 			PortletProps.get(PortletPropsKeys.MARKDOWN_IMPORTER_IMAGE_FOLDER));
 
+	public static final int MARKDOWN_IMPORTER_THREADS = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.MARKDOWN_IMPORTER_THREADS));
+
 }
\ No newline at end of file
@@ -64,6 +64,7 @@ page import="com.liferay.knowledgebase.service.permission.KBTemplatePermission"
 page import="com.liferay.knowledgebase.service.permission.SuggestionPermission" %><%@
 page import="com.liferay.knowledgebase.util.ActionKeys" %><%@
 page import="com.liferay.knowledgebase.util.KBArticleURLHelper" %><%@
+page import="com.liferay.knowledgebase.util.KBArticleViewCountUtil" %><%@
 page import="com.liferay.knowledgebase.util.KBNavigationDisplayContext" %><%@
 page import="com.liferay.knowledgebase.util.KnowledgeBaseUtil" %><%@
 page import="com.liferay.knowledgebase.util.PortletKeys" %><%@
@@ -106,6 +106,8 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 		attributes.put("sentFolderId", getSentFolderId());
 		attributes.put("trashFolderId", getTrashFolderId());
 		attributes.put("defaultSender", getDefaultSender());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
 		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
@@ -271,6 +273,19 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 			setDefaultSender(defaultSender);
 		}
 
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
+
 		_entityCacheEnabled = GetterUtil.getBoolean("entityCacheEnabled");
 		_finderCacheEnabled = GetterUtil.getBoolean("finderCacheEnabled");
 	}
@@ -919,6 +934,53 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 		}
 	}
 
+	@Override
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	@Override
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+
+		if (_accountRemoteModel != null) {
+			try {
+				Class<?> clazz = _accountRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setMessageCount", int.class);
+
+				method.invoke(_accountRemoteModel, messageCount);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
+	@Override
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+
+		if (_accountRemoteModel != null) {
+			try {
+				Class<?> clazz = _accountRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setUnreadMessageCount",
+						int.class);
+
+				method.invoke(_accountRemoteModel, unreadMessageCount);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
 	@Override
 	public void setPasswordDecrypted(java.lang.String unencryptedPassword) {
 		try {
@@ -1049,6 +1111,8 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 		clone.setSentFolderId(getSentFolderId());
 		clone.setTrashFolderId(getTrashFolderId());
 		clone.setDefaultSender(getDefaultSender());
+		clone.setMessageCount(getMessageCount());
+		clone.setUnreadMessageCount(getUnreadMessageCount());
 
 		return clone;
 	}
@@ -1109,7 +1173,7 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(53);
+		StringBundler sb = new StringBundler(57);
 
 		sb.append("{accountId=");
 		sb.append(getAccountId());
@@ -1163,6 +1227,10 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 		sb.append(getTrashFolderId());
 		sb.append(", defaultSender=");
 		sb.append(getDefaultSender());
+		sb.append(", messageCount=");
+		sb.append(getMessageCount());
+		sb.append(", unreadMessageCount=");
+		sb.append(getUnreadMessageCount());
 		sb.append("}");
 
 		return sb.toString();
@@ -1170,7 +1238,7 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(82);
+		StringBundler sb = new StringBundler(88);
 
 		sb.append("<model><model-name>");
 		sb.append("com.liferay.mail.model.Account");
@@ -1280,6 +1348,14 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 			"<column><column-name>defaultSender</column-name><column-value><![CDATA[");
 		sb.append(getDefaultSender());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>messageCount</column-name><column-value><![CDATA[");
+		sb.append(getMessageCount());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>unreadMessageCount</column-name><column-value><![CDATA[");
+		sb.append(getUnreadMessageCount());
+		sb.append("]]></column-value></column>");
 
 		sb.append("</model>");
 
@@ -1312,6 +1388,8 @@ public class AccountClp extends BaseModelImpl<Account> implements Account {
 	private long _sentFolderId;
 	private long _trashFolderId;
 	private boolean _defaultSender;
+	private int _messageCount;
+	private int _unreadMessageCount;
 	private BaseModel<?> _accountRemoteModel;
 	private Class<?> _clpSerializerClass = com.liferay.mail.service.ClpSerializer.class;
 	private boolean _entityCacheEnabled;
@@ -500,6 +500,34 @@ public interface AccountModel extends AuditedModel, BaseModel<Account>,
 	 */
 	public void setDefaultSender(boolean defaultSender);
 
+	/**
+	 * Returns the message count of this account.
+	 *
+	 * @return the message count of this account
+	 */
+	public int getMessageCount();
+
+	/**
+	 * Sets the message count of this account.
+	 *
+	 * @param messageCount the message count of this account
+	 */
+	public void setMessageCount(int messageCount);
+
+	/**
+	 * Returns the unread message count of this account.
+	 *
+	 * @return the unread message count of this account
+	 */
+	public int getUnreadMessageCount();
+
+	/**
+	 * Sets the unread message count of this account.
+	 *
+	 * @param unreadMessageCount the unread message count of this account
+	 */
+	public void setUnreadMessageCount(int unreadMessageCount);
+
 	@Override
 	public boolean isNew();
 
@@ -59,6 +59,8 @@ public class AccountSoap implements Serializable {
 		soapModel.setSentFolderId(model.getSentFolderId());
 		soapModel.setTrashFolderId(model.getTrashFolderId());
 		soapModel.setDefaultSender(model.getDefaultSender());
+		soapModel.setMessageCount(model.getMessageCount());
+		soapModel.setUnreadMessageCount(model.getUnreadMessageCount());
 
 		return soapModel;
 	}
@@ -339,6 +341,22 @@ public class AccountSoap implements Serializable {
 		_defaultSender = defaultSender;
 	}
 
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+	}
+
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+	}
+
 	private long _accountId;
 	private long _companyId;
 	private long _userId;
@@ -365,4 +383,6 @@ public class AccountSoap implements Serializable {
 	private long _sentFolderId;
 	private long _trashFolderId;
 	private boolean _defaultSender;
+	private int _messageCount;
+	private int _unreadMessageCount;
 }
\ No newline at end of file
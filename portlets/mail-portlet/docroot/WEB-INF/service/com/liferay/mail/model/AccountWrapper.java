@@ -78,6 +78,8 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		attributes.put("sentFolderId", getSentFolderId());
 		attributes.put("trashFolderId", getTrashFolderId());
 		attributes.put("defaultSender", getDefaultSender());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		return attributes;
 	}
@@ -239,6 +241,19 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		if (defaultSender != null) {
 			setDefaultSender(defaultSender);
 		}
+
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
 	}
 
 	@Override
@@ -376,6 +391,16 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		return _account.getLogin();
 	}
 
+	/**
+	* Returns the message count of this account.
+	*
+	* @return the message count of this account
+	*/
+	@Override
+	public int getMessageCount() {
+		return _account.getMessageCount();
+	}
+
 	/**
 	* Returns the modified date of this account.
 	*
@@ -506,6 +531,16 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		return _account.getTrashFolderId();
 	}
 
+	/**
+	* Returns the unread message count of this account.
+	*
+	* @return the unread message count of this account
+	*/
+	@Override
+	public int getUnreadMessageCount() {
+		return _account.getUnreadMessageCount();
+	}
+
 	/**
 	* Returns the use signature of this account.
 	*
@@ -764,6 +799,16 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		_account.setLogin(login);
 	}
 
+	/**
+	* Sets the message count of this account.
+	*
+	* @param messageCount the message count of this account
+	*/
+	@Override
+	public void setMessageCount(int messageCount) {
+		_account.setMessageCount(messageCount);
+	}
+
 	/**
 	* Sets the modified date of this account.
 	*
@@ -899,6 +944,16 @@ public class AccountWrapper implements Account, ModelWrapper<Account> {
 		_account.setTrashFolderId(trashFolderId);
 	}
 
+	/**
+	* Sets the unread message count of this account.
+	*
+	* @param unreadMessageCount the unread message count of this account
+	*/
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_account.setUnreadMessageCount(unreadMessageCount);
+	}
+
 	/**
 	* Sets whether this account is use signature.
 	*
@@ -90,6 +90,11 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 		attributes.put("fullName", getFullName());
 		attributes.put("displayName", getDisplayName());
 		attributes.put("remoteMessageCount", getRemoteMessageCount());
+		attributes.put("uidValidity", getUidValidity());
+		attributes.put("highestRemoteMessageId", getHighestRemoteMessageId());
+		attributes.put("highestModSeq", getHighestModSeq());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
 		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
@@ -160,6 +165,38 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 			setRemoteMessageCount(remoteMessageCount);
 		}
 
+		Long uidValidity = (Long)attributes.get("uidValidity");
+
+		if (uidValidity != null) {
+			setUidValidity(uidValidity);
+		}
+
+		Long highestRemoteMessageId = (Long)attributes.get(
+				"highestRemoteMessageId");
+
+		if (highestRemoteMessageId != null) {
+			setHighestRemoteMessageId(highestRemoteMessageId);
+		}
+
+		Long highestModSeq = (Long)attributes.get("highestModSeq");
+
+		if (highestModSeq != null) {
+			setHighestModSeq(highestModSeq);
+		}
+
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
+
 		_entityCacheEnabled = GetterUtil.getBoolean("entityCacheEnabled");
 		_finderCacheEnabled = GetterUtil.getBoolean("finderCacheEnabled");
 	}
@@ -411,6 +448,123 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 		}
 	}
 
+	@Override
+	public long getUidValidity() {
+		return _uidValidity;
+	}
+
+	@Override
+	public void setUidValidity(long uidValidity) {
+		_uidValidity = uidValidity;
+
+		if (_folderRemoteModel != null) {
+			try {
+				Class<?> clazz = _folderRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setUidValidity", long.class);
+
+				method.invoke(_folderRemoteModel, uidValidity);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
+	@Override
+	public long getHighestRemoteMessageId() {
+		return _highestRemoteMessageId;
+	}
+
+	@Override
+	public void setHighestRemoteMessageId(long highestRemoteMessageId) {
+		_highestRemoteMessageId = highestRemoteMessageId;
+
+		if (_folderRemoteModel != null) {
+			try {
+				Class<?> clazz = _folderRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setHighestRemoteMessageId",
+						long.class);
+
+				method.invoke(_folderRemoteModel, highestRemoteMessageId);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
+	@Override
+	public long getHighestModSeq() {
+		return _highestModSeq;
+	}
+
+	@Override
+	public void setHighestModSeq(long highestModSeq) {
+		_highestModSeq = highestModSeq;
+
+		if (_folderRemoteModel != null) {
+			try {
+				Class<?> clazz = _folderRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setHighestModSeq", long.class);
+
+				method.invoke(_folderRemoteModel, highestModSeq);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
+	@Override
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	@Override
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+
+		if (_folderRemoteModel != null) {
+			try {
+				Class<?> clazz = _folderRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setMessageCount", int.class);
+
+				method.invoke(_folderRemoteModel, messageCount);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
+	@Override
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+
+		if (_folderRemoteModel != null) {
+			try {
+				Class<?> clazz = _folderRemoteModel.getClass();
+
+				Method method = clazz.getMethod("setUnreadMessageCount",
+						int.class);
+
+				method.invoke(_folderRemoteModel, unreadMessageCount);
+			}
+			catch (Exception e) {
+				throw new UnsupportedOperationException(e);
+			}
+		}
+	}
+
 	public BaseModel<?> getFolderRemoteModel() {
 		return _folderRemoteModel;
 	}
@@ -490,6 +644,11 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 		clone.setFullName(getFullName());
 		clone.setDisplayName(getDisplayName());
 		clone.setRemoteMessageCount(getRemoteMessageCount());
+		clone.setUidValidity(getUidValidity());
+		clone.setHighestRemoteMessageId(getHighestRemoteMessageId());
+		clone.setHighestModSeq(getHighestModSeq());
+		clone.setMessageCount(getMessageCount());
+		clone.setUnreadMessageCount(getUnreadMessageCount());
 
 		return clone;
 	}
@@ -550,7 +709,7 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(21);
+		StringBundler sb = new StringBundler(31);
 
 		sb.append("{folderId=");
 		sb.append(getFolderId());
@@ -572,6 +731,16 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 		sb.append(getDisplayName());
 		sb.append(", remoteMessageCount=");
 		sb.append(getRemoteMessageCount());
+		sb.append(", uidValidity=");
+		sb.append(getUidValidity());
+		sb.append(", highestRemoteMessageId=");
+		sb.append(getHighestRemoteMessageId());
+		sb.append(", highestModSeq=");
+		sb.append(getHighestModSeq());
+		sb.append(", messageCount=");
+		sb.append(getMessageCount());
+		sb.append(", unreadMessageCount=");
+		sb.append(getUnreadMessageCount());
 		sb.append("}");
 
 		return sb.toString();
@@ -579,7 +748,7 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(34);
+		StringBundler sb = new StringBundler(49);
 
 		sb.append("<model><model-name>");
 		sb.append("com.liferay.mail.model.Folder");
@@ -625,6 +794,26 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 			"<column><column-name>remoteMessageCount</column-name><column-value><![CDATA[");
 		sb.append(getRemoteMessageCount());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>uidValidity</column-name><column-value><![CDATA[");
+		sb.append(getUidValidity());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>highestRemoteMessageId</column-name><column-value><![CDATA[");
+		sb.append(getHighestRemoteMessageId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>highestModSeq</column-name><column-value><![CDATA[");
+		sb.append(getHighestModSeq());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>messageCount</column-name><column-value><![CDATA[");
+		sb.append(getMessageCount());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>unreadMessageCount</column-name><column-value><![CDATA[");
+		sb.append(getUnreadMessageCount());
+		sb.append("]]></column-value></column>");
 
 		sb.append("</model>");
 
@@ -641,6 +830,11 @@ public class FolderClp extends BaseModelImpl<Folder> implements Folder {
 	private String _fullName;
 	private String _displayName;
 	private int _remoteMessageCount;
+	private long _uidValidity;
+	private long _highestRemoteMessageId;
+	private long _highestModSeq;
+	private int _messageCount;
+	private int _unreadMessageCount;
 	private BaseModel<?> _folderRemoteModel;
 	private Class<?> _clpSerializerClass = com.liferay.mail.service.ClpSerializer.class;
 	private boolean _entityCacheEnabled;
@@ -234,6 +234,76 @@ public interface FolderModel extends AuditedModel, BaseModel<Folder>,
 	 */
 	public void setRemoteMessageCount(int remoteMessageCount);
 
+	/**
+	 * Returns the uid validity of this folder.
+	 *
+	 * @return the uid validity of this folder
+	 */
+	public long getUidValidity();
+
+	/**
+	 * Sets the uid validity of this folder.
+	 *
+	 * @param uidValidity the uid validity of this folder
+	 */
+	public void setUidValidity(long uidValidity);
+
+	/**
+	 * Returns the highest remote message ID of this folder.
+	 *
+	 * @return the highest remote message ID of this folder
+	 */
+	public long getHighestRemoteMessageId();
+
+	/**
+	 * Sets the highest remote message ID of this folder.
+	 *
+	 * @param highestRemoteMessageId the highest remote message ID of this folder
+	 */
+	public void setHighestRemoteMessageId(long highestRemoteMessageId);
+
+	/**
+	 * Returns the highest mod seq of this folder.
+	 *
+	 * @return the highest mod seq of this folder
+	 */
+	public long getHighestModSeq();
+
+	/**
+	 * Sets the highest mod seq of this folder.
+	 *
+	 * @param highestModSeq the highest mod seq of this folder
+	 */
+	public void setHighestModSeq(long highestModSeq);
+
+	/**
+	 * Returns the message count of this folder.
+	 *
+	 * @return the message count of this folder
+	 */
+	public int getMessageCount();
+
+	/**
+	 * Sets the message count of this folder.
+	 *
+	 * @param messageCount the message count of this folder
+	 */
+	public void setMessageCount(int messageCount);
+
+	/**
+	 * Returns the unread message count of this folder.
+	 *
+	 * @return the unread message count of this folder
+	 */
+	public int getUnreadMessageCount();
+
+	/**
+	 * Sets the unread message count of this folder.
+	 *
+	 * @param unreadMessageCount the unread message count of this folder
+	 */
+	public void setUnreadMessageCount(int unreadMessageCount);
+
 	@Override
 	public boolean isNew();
 
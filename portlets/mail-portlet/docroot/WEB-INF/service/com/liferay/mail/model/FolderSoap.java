@@ -43,6 +43,11 @@ public class FolderSoap implements Serializable {
 		soapModel.setFullName(model.getFullName());
 		soapModel.setDisplayName(model.getDisplayName());
 		soapModel.setRemoteMessageCount(model.getRemoteMessageCount());
+		soapModel.setUidValidity(model.getUidValidity());
+		soapModel.setHighestRemoteMessageId(model.getHighestRemoteMessageId());
+		soapModel.setHighestModSeq(model.getHighestModSeq());
+		soapModel.setMessageCount(model.getMessageCount());
+		soapModel.setUnreadMessageCount(model.getUnreadMessageCount());
 
 		return soapModel;
 	}
@@ -175,6 +180,46 @@ public class FolderSoap implements Serializable {
 		_remoteMessageCount = remoteMessageCount;
 	}
 
+	public long getUidValidity() {
+		return _uidValidity;
+	}
+
+	public void setUidValidity(long uidValidity) {
+		_uidValidity = uidValidity;
+	}
+
+	public long getHighestRemoteMessageId() {
+		return _highestRemoteMessageId;
+	}
+
+	public void setHighestRemoteMessageId(long highestRemoteMessageId) {
+		_highestRemoteMessageId = highestRemoteMessageId;
+	}
+
+	public long getHighestModSeq() {
+		return _highestModSeq;
+	}
+
+	public void setHighestModSeq(long highestModSeq) {
+		_highestModSeq = highestModSeq;
+	}
+
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+	}
+
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+	}
+
 	private long _folderId;
 	private long _companyId;
 	private long _userId;
@@ -185,4 +230,9 @@ public class FolderSoap implements Serializable {
 	private String _fullName;
 	private String _displayName;
 	private int _remoteMessageCount;
+	private long _uidValidity;
+	private long _highestRemoteMessageId;
+	private long _highestModSeq;
+	private int _messageCount;
+	private int _unreadMessageCount;
 }
\ No newline at end of file
@@ -62,6 +62,11 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		attributes.put("fullName", getFullName());
 		attributes.put("displayName", getDisplayName());
 		attributes.put("remoteMessageCount", getRemoteMessageCount());
+		attributes.put("uidValidity", getUidValidity());
+		attributes.put("highestRemoteMessageId", getHighestRemoteMessageId());
+		attributes.put("highestModSeq", getHighestModSeq());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		return attributes;
 	}
@@ -128,6 +133,38 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		if (remoteMessageCount != null) {
 			setRemoteMessageCount(remoteMessageCount);
 		}
+
+		Long uidValidity = (Long)attributes.get("uidValidity");
+
+		if (uidValidity != null) {
+			setUidValidity(uidValidity);
+		}
+
+		Long highestRemoteMessageId = (Long)attributes.get(
+				"highestRemoteMessageId");
+
+		if (highestRemoteMessageId != null) {
+			setHighestRemoteMessageId(highestRemoteMessageId);
+		}
+
+		Long highestModSeq = (Long)attributes.get("highestModSeq");
+
+		if (highestModSeq != null) {
+			setHighestModSeq(highestModSeq);
+		}
+
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
 	}
 
 	@Override
@@ -205,6 +242,36 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		return _folder.getFullName();
 	}
 
+	/**
+	* Returns the highest mod seq of this folder.
+	*
+	* @return the highest mod seq of this folder
+	*/
+	@Override
+	public long getHighestModSeq() {
+		return _folder.getHighestModSeq();
+	}
+
+	/**
+	* Returns the highest remote message ID of this folder.
+	*
+	* @return the highest remote message ID of this folder
+	*/
+	@Override
+	public long getHighestRemoteMessageId() {
+		return _folder.getHighestRemoteMessageId();
+	}
+
+	/**
+	* Returns the message count of this folder.
+	*
+	* @return the message count of this folder
+	*/
+	@Override
+	public int getMessageCount() {
+		return _folder.getMessageCount();
+	}
+
 	/**
 	* Returns the modified date of this folder.
 	*
@@ -240,6 +307,26 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		return _folder.getRemoteMessageCount();
 	}
 
+	/**
+	* Returns the uid validity of this folder.
+	*
+	* @return the uid validity of this folder
+	*/
+	@Override
+	public long getUidValidity() {
+		return _folder.getUidValidity();
+	}
+
+	/**
+	* Returns the unread message count of this folder.
+	*
+	* @return the unread message count of this folder
+	*/
+	@Override
+	public int getUnreadMessageCount() {
+		return _folder.getUnreadMessageCount();
+	}
+
 	/**
 	* Returns the user ID of this folder.
 	*
@@ -378,6 +465,36 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		_folder.setFullName(fullName);
 	}
 
+	/**
+	* Sets the highest mod seq of this folder.
+	*
+	* @param highestModSeq the highest mod seq of this folder
+	*/
+	@Override
+	public void setHighestModSeq(long highestModSeq) {
+		_folder.setHighestModSeq(highestModSeq);
+	}
+
+	/**
+	* Sets the highest remote message ID of this folder.
+	*
+	* @param highestRemoteMessageId the highest remote message ID of this folder
+	*/
+	@Override
+	public void setHighestRemoteMessageId(long highestRemoteMessageId) {
+		_folder.setHighestRemoteMessageId(highestRemoteMessageId);
+	}
+
+	/**
+	* Sets the message count of this folder.
+	*
+	* @param messageCount the message count of this folder
+	*/
+	@Override
+	public void setMessageCount(int messageCount) {
+		_folder.setMessageCount(messageCount);
+	}
+
 	/**
 	* Sets the modified date of this folder.
 	*
@@ -418,6 +535,26 @@ public class FolderWrapper implements Folder, ModelWrapper<Folder> {
 		_folder.setRemoteMessageCount(remoteMessageCount);
 	}
 
+	/**
+	* Sets the uid validity of this folder.
+	*
+	* @param uidValidity the uid validity of this folder
+	*/
+	@Override
+	public void setUidValidity(long uidValidity) {
+		_folder.setUidValidity(uidValidity);
+	}
+
+	/**
+	* Sets the unread message count of this folder.
+	*
+	* @param unreadMessageCount the unread message count of this folder
+	*/
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_folder.setUnreadMessageCount(unreadMessageCount);
+	}
+
 	/**
 	* Sets the user ID of this folder.
 	*
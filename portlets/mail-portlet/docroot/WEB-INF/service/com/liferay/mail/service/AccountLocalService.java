@@ -263,4 +263,7 @@ public interface AccountLocalService extends BaseLocalService,
 	public com.liferay.mail.model.Account updateFolders(long accountId,
 		long inboxFolderId, long draftFolderId, long sentFolderId,
 		long trashFolderId) throws PortalException;
+
+	public com.liferay.mail.model.Account updateMessageCounts(
+		long accountId) throws PortalException;
 }
\ No newline at end of file
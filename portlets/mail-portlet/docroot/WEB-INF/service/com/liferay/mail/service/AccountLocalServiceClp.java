@@ -155,6 +155,10 @@ public class AccountLocalServiceClp implements AccountLocalService {
 		_methodParameterTypes26 = new String[] {
 				"long", "long", "long", "long", "long"
 			};
+
+		_methodName27 = "updateMessageCounts";
+
+		_methodParameterTypes27 = new String[] { "long" };
 	}
 
 	@Override
@@ -905,6 +909,35 @@ public class AccountLocalServiceClp implements AccountLocalService {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		Object returnObj = null;
 
+	@Override
+	public com.liferay.mail.model.Account updateMessageCounts(
+		long accountId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName27,
+					_methodParameterTypes27, new Object[] { accountId });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (com.liferay.mail.model.Account)ClpSerializer.translateOutput(returnObj);
+	}
+
 		try {
 			returnObj = _invokableLocalService.invokeMethod(_methodName26,
 					_methodParameterTypes26,
@@ -992,4 +1025,6 @@ public class AccountLocalServiceClp implements AccountLocalService {
 	private String[] _methodParameterTypes25;
 	private String _methodName26;
 	private String[] _methodParameterTypes26;
+	private String _methodName27;
+	private String[] _methodParameterTypes27;
 }
\ No newline at end of file
@@ -319,6 +319,12 @@ public class AccountLocalServiceUtil {
 			InvokableLocalService invokableLocalService = (InvokableLocalService)PortletBeanLocatorUtil.locate(ClpSerializer.getServletContextName(),
 					AccountLocalService.class.getName());
 
+	public static com.liferay.mail.model.Account updateMessageCounts(
+		long accountId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateMessageCounts(accountId);
+	}
+
 			if (invokableLocalService instanceof AccountLocalService) {
 				_service = (AccountLocalService)invokableLocalService;
 			}
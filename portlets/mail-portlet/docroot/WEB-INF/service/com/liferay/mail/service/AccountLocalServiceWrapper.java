@@ -350,6 +350,13 @@ public class AccountLocalServiceWrapper implements AccountLocalService,
 	@Override
 	public void setWrappedService(AccountLocalService accountLocalService) {
 		_accountLocalService = accountLocalService;
+
+	@Override
+	public com.liferay.mail.model.Account updateMessageCounts(
+		long accountId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _accountLocalService.updateMessageCounts(accountId);
+	}
 	}
 
 	private AccountLocalService _accountLocalService;
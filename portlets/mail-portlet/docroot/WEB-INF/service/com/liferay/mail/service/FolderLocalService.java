@@ -259,4 +259,11 @@ public interface FolderLocalService extends BaseLocalService,
 	public com.liferay.mail.model.Folder updateFolder(long folderId,
 		java.lang.String fullName, java.lang.String displayName,
 		int remoteMessageCount) throws PortalException;
+
+	public com.liferay.mail.model.Folder updateMessageCounts(
+		long folderId) throws PortalException;
+
+	public com.liferay.mail.model.Folder updateSyncState(
+		long folderId, long uidValidity, long highestRemoteMessageId,
+		long highestModSeq) throws PortalException;
 }
\ No newline at end of file
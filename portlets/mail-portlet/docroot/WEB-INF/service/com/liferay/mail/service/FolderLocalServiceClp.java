@@ -156,6 +156,16 @@ public class FolderLocalServiceClp implements FolderLocalService {
 		_methodParameterTypes28 = new String[] {
 				"long", "java.lang.String", "java.lang.String", "int"
 			};
+
+		_methodName29 = "updateMessageCounts";
+
+		_methodParameterTypes29 = new String[] { "long" };
+
+		_methodName30 = "updateSyncState";
+
+		_methodParameterTypes30 = new String[] {
+				"long", "long", "long", "long"
+			};
 	}
 
 	@Override
@@ -904,6 +914,66 @@ public class FolderLocalServiceClp implements FolderLocalService {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		Object returnObj = null;
 
+	@Override
+	public com.liferay.mail.model.Folder updateMessageCounts(
+		long folderId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName29,
+					_methodParameterTypes29, new Object[] { folderId });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (com.liferay.mail.model.Folder)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public com.liferay.mail.model.Folder updateSyncState(
+		long folderId, long uidValidity, long highestRemoteMessageId,
+		long highestModSeq)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName30,
+					_methodParameterTypes30,
+					new Object[] { folderId, uidValidity, highestRemoteMessageId, highestModSeq });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (com.liferay.mail.model.Folder)ClpSerializer.translateOutput(returnObj);
+	}
+
 		try {
 			returnObj = _invokableLocalService.invokeMethod(_methodName28,
 					_methodParameterTypes28,
@@ -993,4 +1063,8 @@ public class FolderLocalServiceClp implements FolderLocalService {
 	private String[] _methodParameterTypes27;
 	private String _methodName28;
 	private String[] _methodParameterTypes28;
+	private String _methodName29;
+	private String[] _methodParameterTypes29;
+	private String _methodName30;
+	private String[] _methodParameterTypes30;
 }
\ No newline at end of file
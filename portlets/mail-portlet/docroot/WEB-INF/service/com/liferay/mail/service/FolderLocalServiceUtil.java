@@ -313,6 +313,20 @@ public class FolderLocalServiceUtil {
 			InvokableLocalService invokableLocalService = (InvokableLocalService)PortletBeanLocatorUtil.locate(ClpSerializer.getServletContextName(),
 					FolderLocalService.class.getName());
 
+	public static com.liferay.mail.model.Folder updateMessageCounts(
+		long folderId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().updateMessageCounts(folderId);
+	}
+
+	public static com.liferay.mail.model.Folder updateSyncState(
+		long folderId, long uidValidity, long highestRemoteMessageId,
+		long highestModSeq)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .updateSyncState(folderId, uidValidity, highestRemoteMessageId, highestModSeq);
+	}
+
 			if (invokableLocalService instanceof FolderLocalService) {
 				_service = (FolderLocalService)invokableLocalService;
 			}
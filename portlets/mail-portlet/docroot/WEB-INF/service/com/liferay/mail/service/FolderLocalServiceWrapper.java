@@ -346,6 +346,21 @@ public class FolderLocalServiceWrapper implements FolderLocalService,
 	@Override
 	public void setWrappedService(FolderLocalService folderLocalService) {
 		_folderLocalService = folderLocalService;
+
+	@Override
+	public com.liferay.mail.model.Folder updateMessageCounts(
+		long folderId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _folderLocalService.updateMessageCounts(folderId);
+	}
+
+	@Override
+	public com.liferay.mail.model.Folder updateSyncState(
+		long folderId, long uidValidity, long highestRemoteMessageId,
+		long highestModSeq)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _folderLocalService.updateSyncState(folderId, uidValidity, highestRemoteMessageId, highestModSeq);
+	}
 	}
 
 	private FolderLocalService _folderLocalService;
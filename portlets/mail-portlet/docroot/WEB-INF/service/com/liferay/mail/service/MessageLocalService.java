@@ -66,6 +66,11 @@ public interface MessageLocalService extends BaseLocalService,
 		java.lang.String flags, long remoteMessageId,
 		java.lang.String contentType) throws PortalException;
 
+	public java.util.List<com.liferay.mail.model.Message> addMessages(
+		long userId, long folderId,
+		java.util.List<com.liferay.mail.model.Message> messages)
+		throws PortalException;
+
 	/**
 	* Creates a new message with the primary key. Does not add the message to the database.
 	*
@@ -106,6 +111,9 @@ public interface MessageLocalService extends BaseLocalService,
 		com.liferay.portal.model.PersistedModel persistedModel)
 		throws PortalException;
 
+	public void deleteRemoteMessages(
+		long folderId, long[] remoteMessageIds) throws PortalException;
+
 	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery();
 
 	/**
@@ -254,6 +262,10 @@ public interface MessageLocalService extends BaseLocalService,
 	public com.liferay.mail.model.Message getRemoteMessage(long folderId,
 		boolean oldest) throws PortalException;
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public long[] getRemoteMessageIds(
+		long folderId, long startRemoteMessageId, long endRemoteMessageId);
+
 	@Override
 	public java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
@@ -262,7 +274,8 @@ public interface MessageLocalService extends BaseLocalService,
 	public int populateMessages(
 		java.util.List<com.liferay.mail.model.Message> messages, long folderId,
 		java.lang.String keywords, int pageNumber, int messagesPerPage,
-		java.lang.String orderByField, java.lang.String orderByType);
+		java.lang.String orderByField, java.lang.String orderByType)
+		throws PortalException;
 
 	public com.liferay.mail.model.Message updateContent(long messageId,
 		java.lang.String body, java.lang.String flags)
@@ -271,6 +284,10 @@ public interface MessageLocalService extends BaseLocalService,
 	public com.liferay.mail.model.Message updateFlag(long messageId, int flag,
 		boolean value) throws PortalException;
 
+	public void updateFlags(
+		long folderId, long[] remoteMessageIds, java.lang.String[] remoteFlags)
+		throws PortalException;
+
 	/**
 	* Updates the message in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
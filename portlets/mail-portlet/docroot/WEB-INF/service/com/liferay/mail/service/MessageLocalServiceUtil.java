@@ -65,6 +65,13 @@ public class MessageLocalServiceUtil {
 			subject, body, flags, remoteMessageId, contentType);
 	}
 
+	public static java.util.List<com.liferay.mail.model.Message> addMessages(
+		long userId, long folderId,
+		java.util.List<com.liferay.mail.model.Message> messages)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().addMessages(userId, folderId, messages);
+	}
+
 	/**
 	* Creates a new message with the primary key. Does not add the message to the database.
 	*
@@ -114,6 +121,12 @@ public class MessageLocalServiceUtil {
 		return getService().deletePersistedModel(persistedModel);
 	}
 
+	public static void deleteRemoteMessages(
+		long folderId, long[] remoteMessageIds)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().deleteRemoteMessages(folderId, remoteMessageIds);
+	}
+
 	public static com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
 		return getService().dynamicQuery();
 	}
@@ -294,6 +307,12 @@ public class MessageLocalServiceUtil {
 		return getService().getRemoteMessage(folderId, oldest);
 	}
 
+	public static long[] getRemoteMessageIds(
+		long folderId, long startRemoteMessageId, long endRemoteMessageId) {
+		return getService()
+				   .getRemoteMessageIds(folderId, startRemoteMessageId, endRemoteMessageId);
+	}
+
 	public static java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
 		throws java.lang.Throwable {
@@ -303,7 +322,8 @@ public class MessageLocalServiceUtil {
 	public static int populateMessages(
 		java.util.List<com.liferay.mail.model.Message> messages, long folderId,
 		java.lang.String keywords, int pageNumber, int messagesPerPage,
-		java.lang.String orderByField, java.lang.String orderByType) {
+		java.lang.String orderByField, java.lang.String orderByType)
+		throws com.liferay.portal.kernel.exception.PortalException {
 		return getService()
 				   .populateMessages(messages, folderId, keywords, pageNumber,
 			messagesPerPage, orderByField, orderByType);
@@ -321,6 +341,12 @@ public class MessageLocalServiceUtil {
 		return getService().updateFlag(messageId, flag, value);
 	}
 
+	public static void updateFlags(
+		long folderId, long[] remoteMessageIds, java.lang.String[] remoteFlags)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().updateFlags(folderId, remoteMessageIds, remoteFlags);
+	}
+
 	/**
 	* Updates the message in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -57,6 +57,14 @@ public class MessageLocalServiceWrapper implements MessageLocalService,
 			contentType);
 	}
 
+	@Override
+	public java.util.List<com.liferay.mail.model.Message> addMessages(
+		long userId, long folderId,
+		java.util.List<com.liferay.mail.model.Message> messages)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _messageLocalService.addMessages(userId, folderId, messages);
+	}
+
 	/**
 	* Creates a new message with the primary key. Does not add the message to the database.
 	*
@@ -111,6 +119,13 @@ public class MessageLocalServiceWrapper implements MessageLocalService,
 		return _messageLocalService.deletePersistedModel(persistedModel);
 	}
 
+	@Override
+	public void deleteRemoteMessages(
+		long folderId, long[] remoteMessageIds)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		_messageLocalService.deleteRemoteMessages(folderId, remoteMessageIds);
+	}
+
 	@Override
 	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
 		return _messageLocalService.dynamicQuery();
@@ -313,6 +328,12 @@ public class MessageLocalServiceWrapper implements MessageLocalService,
 		return _messageLocalService.getRemoteMessage(folderId, oldest);
 	}
 
+	@Override
+	public long[] getRemoteMessageIds(
+		long folderId, long startRemoteMessageId, long endRemoteMessageId) {
+		return _messageLocalService.getRemoteMessageIds(folderId, startRemoteMessageId, endRemoteMessageId);
+	}
+
 	@Override
 	public java.lang.Object invokeMethod(java.lang.String name,
 		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
@@ -324,7 +345,8 @@ public class MessageLocalServiceWrapper implements MessageLocalService,
 	public int populateMessages(
 		java.util.List<com.liferay.mail.model.Message> messages, long folderId,
 		java.lang.String keywords, int pageNumber, int messagesPerPage,
-		java.lang.String orderByField, java.lang.String orderByType) {
+		java.lang.String orderByField, java.lang.String orderByType)
+		throws com.liferay.portal.kernel.exception.PortalException {
 		return _messageLocalService.populateMessages(messages, folderId,
 			keywords, pageNumber, messagesPerPage, orderByField, orderByType);
 	}
@@ -343,6 +365,13 @@ public class MessageLocalServiceWrapper implements MessageLocalService,
 		return _messageLocalService.updateFlag(messageId, flag, value);
 	}
 
+	@Override
+	public void updateFlags(
+		long folderId, long[] remoteMessageIds, java.lang.String[] remoteFlags)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		_messageLocalService.updateFlags(folderId, remoteMessageIds, remoteFlags);
+	}
+
 	/**
 	* Updates the message in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -24,7 +24,9 @@ create table Mail_Account (
 	draftFolderId LONG,
 	sentFolderId LONG,
 	trashFolderId LONG,
-	defaultSender BOOLEAN
+	defaultSender BOOLEAN,
+	messageCount INTEGER,
+	unreadMessageCount INTEGER
 );
 
 create table Mail_Attachment (
@@ -49,7 +51,12 @@ create table Mail_Folder (
 	accountId LONG,
 	fullName VARCHAR(75) null,
 	displayName VARCHAR(75) null,
-	remoteMessageCount INTEGER
+	remoteMessageCount INTEGER,
+	uidValidity LONG,
+	highestRemoteMessageId LONG,
+	highestModSeq LONG,
+	messageCount INTEGER,
+	unreadMessageCount INTEGER
 );
 
 create table Mail_Message (
@@ -16,9 +16,14 @@ package com.liferay.mail.hook.events;
 
 import com.liferay.mail.mailbox.MailboxFactory;
 import com.liferay.mail.mailbox.MailboxFactoryUtil;
+import com.liferay.mail.messaging.ReindexMessagesMessageListener;
+import com.liferay.mail.util.PortletPropsValues;
 import com.liferay.portal.kernel.events.ActionException;
 import com.liferay.portal.kernel.events.SimpleAction;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
 
 import java.util.List;
 
@@ -31,6 +36,10 @@ public class StartupAction extends SimpleAction {
 	public void run(String[] ids) throws ActionException {
 		try {
 			initializeMailboxFactories();
+
+			if (PortletPropsValues.MESSAGES_REINDEX_ON_STARTUP) {
+				reindexMessages(GetterUtil.getLong(ids[0]));
+			}
 		}
 		catch (Exception e) {
 			throw new ActionException(e);
@@ -46,4 +55,13 @@ public class StartupAction extends SimpleAction {
 		}
 	}
 
+	protected void reindexMessages(long companyId) {
+		Message message = new Message();
+
+		message.put("companyId", companyId);
+
+		MessageBusUtil.sendMessage(
+			ReindexMessagesMessageListener.DESTINATION_NAME, message);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.hook.upgrade.v1_0_0;
+
+import com.liferay.mail.util.MailConstants;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+public class UpgradeMessageCounts extends UpgradeProcess {
+
+	@Override
+	protected void doUpgrade() throws Exception {
+		upgradeCounts("Mail_Folder", "folderId");
+		upgradeCounts("Mail_Account", "accountId");
+	}
+
+	protected void upgradeCounts(String tableName, String pkColumnName)
+		throws Exception {
+
+		if (!tableHasColumn(tableName, "messageCount")) {
+			runSQL("alter table " + tableName + " add messageCount INTEGER");
+		}
+
+		if (!tableHasColumn(tableName, "unreadMessageCount")) {
+			runSQL(
+				"alter table " + tableName + " add unreadMessageCount INTEGER");
+		}
+
+		// A message is unread if it is not flagged as seen. See
+		// FolderLocalServiceImpl#getUnreadMessagesCount.
+
+		StringBundler sb = new StringBundler(19);
+
+		sb.append("update ");
+		sb.append(tableName);
+		sb.append(" set messageCount = (select count(*) from Mail_Message ");
+		sb.append("where Mail_Message.");
+		sb.append(pkColumnName);
+		sb.append(" = ");
+		sb.append(tableName);
+		sb.append(StringPool.PERIOD);
+		sb.append(pkColumnName);
+		sb.append("), unreadMessageCount = (select count(*) from ");
+		sb.append("Mail_Message where Mail_Message.");
+		sb.append(pkColumnName);
+		sb.append(" = ");
+		sb.append(tableName);
+		sb.append(StringPool.PERIOD);
+		sb.append(pkColumnName);
+		sb.append(" and Mail_Message.flags not like '%");
+		sb.append(MailConstants.FLAG_SEEN);
+		sb.append(",%')");
+
+		runSQL(sb.toString());
+	}
+
+}
\ No newline at end of file
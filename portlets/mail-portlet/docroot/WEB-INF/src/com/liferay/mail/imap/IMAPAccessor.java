@@ -25,9 +25,11 @@ import com.liferay.mail.util.AttachmentHandler;
 import com.liferay.mail.util.HtmlContentUtil;
 import com.liferay.mail.util.MailConstants;
 import com.liferay.mail.util.PortletPropsValues;
+import com.liferay.mail.util.SynchronizationStatisticsUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.StringBundler;
@@ -37,11 +39,16 @@ import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.User;
 import com.liferay.util.mail.InternetAddressUtil;
 
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+import com.sun.mail.imap.ResyncData;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -62,6 +69,8 @@ import javax.mail.Part;
 import javax.mail.Store;
 import javax.mail.Transport;
 import javax.mail.UIDFolder;
+import javax.mail.event.MailEvent;
+import javax.mail.event.MessageVanishedEvent;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeBodyPart;
@@ -507,7 +516,7 @@ public class IMAPAccessor {
 	public void storeEnvelopes(long folderId, boolean allMessages)
 		throws PortalException {
 
-		Folder jxFolder = null;
+		IMAPFolder jxFolder = null;
 
 		try {
 			com.liferay.mail.model.Folder folder =
@@ -517,84 +526,156 @@ public class IMAPAccessor {
 				return;
 			}
 
-			jxFolder = openFolder(folderId);
+			jxFolder = (IMAPFolder)getFolder(folderId);
 
-			int messageCount = jxFolder.getMessageCount();
+			IMAPStore imapStore = (IMAPStore)jxFolder.getStore();
 
-			FolderLocalServiceUtil.updateFolder(
-				folderId, folder.getFullName(), folder.getDisplayName(),
-				messageCount);
+			boolean condStore = imapStore.hasCapability("CONDSTORE");
 
-			if (messageCount == 0) {
-				return;
-			}
+			boolean qResync = false;
 
-			Message oldestJxMessage = getMessage(folderId, jxFolder, true);
-			Message newestJxMessage = getMessage(folderId, jxFolder, false);
+			if (condStore && (folder.getUidValidity() != 0) &&
+				(folder.getHighestModSeq() > 0)) {
 
-			Message[] jxMessages = new Message[0];
+				qResync = imapStore.hasCapability("QRESYNC");
+			}
 
-			if (allMessages) {
-				if (_log.isDebugEnabled()) {
-					_log.debug(
-						"Downloading all messages from folder " +
-							jxFolder.getFullName());
-				}
+			List<MailEvent> mailEvents = null;
 
-				jxMessages = jxFolder.getMessages();
+			if (qResync) {
+				mailEvents = jxFolder.open(
+					Folder.READ_WRITE,
+					new ResyncData(
+						folder.getUidValidity(), folder.getHighestModSeq()));
+			}
+			else if (condStore) {
+				jxFolder.open(Folder.READ_WRITE, ResyncData.CONDSTORE);
 			}
-			else if ((oldestJxMessage == null) && (newestJxMessage == null)) {
-				if (_log.isDebugEnabled()) {
-					_log.debug(
-						"Downloading messages from folder " +
-							jxFolder.getFullName() + " for the first time");
+			else {
+				openFolder(jxFolder);
+			}
+
+			long uidValidity = jxFolder.getUIDValidity();
+			long highestRemoteMessageId = folder.getHighestRemoteMessageId();
+			long highestModSeq = folder.getHighestModSeq();
+
+			if (uidValidity != folder.getUidValidity()) {
+				if (folder.getUidValidity() != 0) {
+					if (_log.isInfoEnabled()) {
+						_log.info(
+							"UID validity of folder " + jxFolder.getFullName() +
+								" changed, deleting its messages");
+					}
+
+					MessageLocalServiceUtil.deleteMessages(folderId);
+
+					highestRemoteMessageId = 0;
 				}
+				else {
 
-				int startingMessageNumber =
-					messageCount - PortletPropsValues.MESSAGES_SYNC_COUNT;
+					// Messages stored before the synchronization state was
+					// kept still have valid remote message IDs
 
-				if (startingMessageNumber < 1) {
-					startingMessageNumber = 1;
+					highestRemoteMessageId = getHighestRemoteMessageId(
+						folderId);
 				}
 
-				jxMessages = jxFolder.getMessages(
-					startingMessageNumber, messageCount);
+				highestModSeq = 0;
+			}
+
+			long remoteHighestModSeq = 0;
+
+			if (condStore) {
+				remoteHighestModSeq = jxFolder.getHighestModSeq();
 			}
-			else {
-				int oldestMessageNumber = oldestJxMessage.getMessageNumber();
-				int newestMessageNumber = newestJxMessage.getMessageNumber();
 
-				if (newestMessageNumber != messageCount) {
+			int messageCount = jxFolder.getMessageCount();
+
+			FolderLocalServiceUtil.updateFolder(
+				folderId, folder.getFullName(), folder.getDisplayName(),
+				messageCount);
+
+			if (messageCount == 0) {
+				MessageLocalServiceUtil.deleteMessages(folderId);
+			}
+			else if (highestRemoteMessageId == 0) {
+				Message[] jxMessages = null;
+
+				if (allMessages) {
 					if (_log.isDebugEnabled()) {
 						_log.debug(
-							"Downloading new messages from folder " +
+							"Downloading all messages from folder " +
 								jxFolder.getFullName());
 					}
 
-					jxMessages = jxFolder.getMessages(
-						newestMessageNumber + 1, messageCount);
+					jxMessages = jxFolder.getMessages();
 				}
-				else if (oldestMessageNumber != 1) {
+				else {
 					if (_log.isDebugEnabled()) {
 						_log.debug(
-							"Downloading old messages from folder " +
-								jxFolder.getFullName());
+							"Downloading messages from folder " +
+								jxFolder.getFullName() + " for the first time");
 					}
 
 					int startingMessageNumber =
-						oldestMessageNumber -
-							PortletPropsValues.MESSAGES_SYNC_COUNT;
+						messageCount - PortletPropsValues.MESSAGES_SYNC_COUNT;
 
 					if (startingMessageNumber < 1) {
 						startingMessageNumber = 1;
 					}
 
 					jxMessages = jxFolder.getMessages(
-						startingMessageNumber, oldestMessageNumber - 1);
+						startingMessageNumber, messageCount);
 				}
+
+				highestRemoteMessageId = storeNewEnvelopes(
+					folderId, jxFolder, jxMessages, 0);
 			}
+			else {
+				if (condStore && (highestModSeq > 0)) {
 
-			storeEnvelopes(folderId, jxFolder, jxMessages);
+					// Every new message and every flag change raises the
+					// highest mod sequence of the folder
+
+					if (remoteHighestModSeq != highestModSeq) {
+						storeFlags(
+							folderId, jxFolder,
+							jxFolder.getModifiedSince(highestModSeq));
+
+						highestRemoteMessageId = storeNewEnvelopes(
+							folderId, jxFolder,
+							jxFolder.getMessagesByUID(
+								highestRemoteMessageId + 1, UIDFolder.LASTUID),
+							highestRemoteMessageId);
+					}
+				}
+				else {
+					Message[] jxMessages = jxFolder.getMessages();
+
+					storeFlags(folderId, jxFolder, jxMessages);
+
+					highestRemoteMessageId = storeNewEnvelopes(
+						folderId, jxFolder, jxMessages, highestRemoteMessageId);
+				}
+
+				if (qResync) {
+					deleteVanishedMessages(folderId, jxFolder, mailEvents);
+				}
+				else {
+					deleteExpungedMessages(folderId, jxFolder);
+				}
+
+				int localMessageCount =
+					MessageLocalServiceUtil.getFolderMessagesCount(folderId);
+
+				if (localMessageCount < messageCount) {
+					storeOldEnvelopes(folderId, jxFolder, allMessages);
+				}
+			}
+
+			FolderLocalServiceUtil.updateSyncState(
+				folderId, uidValidity, highestRemoteMessageId,
+				remoteHighestModSeq);
 		}
 		catch (MessagingException me) {
 			throw new MailException(me);
@@ -612,6 +693,8 @@ public class IMAPAccessor {
 
 		stopWatch.start();
 
+		int storedCount = 0;
+
 		try {
 			FetchProfile fetchProfile = new FetchProfile();
 
@@ -621,33 +704,81 @@ public class IMAPAccessor {
 
 			jxFolder.fetch(jxMessages, fetchProfile);
 
-			for (Message jxMessage : jxMessages) {
-				String sender = InternetAddressUtil.toString(
-					jxMessage.getFrom());
-				String to = InternetAddressUtil.toString(
-					jxMessage.getRecipients(RecipientType.TO));
-				String cc = InternetAddressUtil.toString(
-					jxMessage.getRecipients(RecipientType.CC));
-				String bcc = InternetAddressUtil.toString(
-					jxMessage.getRecipients(RecipientType.BCC));
-				Date sentDate = jxMessage.getSentDate();
-				String subject = jxMessage.getSubject();
-				String flags = getFlags(jxMessage);
-				long remoteMessageId = getUID(jxFolder, jxMessage);
-				String contentType = jxMessage.getContentType();
+			long[] remoteMessageIds = new long[jxMessages.length];
 
-				try {
-					MessageLocalServiceUtil.getMessage(
-						folderId, remoteMessageId);
+			long startRemoteMessageId = Long.MAX_VALUE;
+			long endRemoteMessageId = 0;
+
+			for (int i = 0; i < jxMessages.length; i++) {
+				remoteMessageIds[i] = getUID(jxFolder, jxMessages[i]);
+
+				startRemoteMessageId = Math.min(
+					startRemoteMessageId, remoteMessageIds[i]);
+				endRemoteMessageId = Math.max(
+					endRemoteMessageId, remoteMessageIds[i]);
+			}
+
+			// The stored remote message IDs are loaded once and sorted so that
+			// they can be searched without looking up every message
+
+			long[] storedRemoteMessageIds =
+				MessageLocalServiceUtil.getRemoteMessageIds(
+					folderId, startRemoteMessageId, endRemoteMessageId);
+
+			List<com.liferay.mail.model.Message> messages = new ArrayList<>();
+
+			for (int i = 0; i < jxMessages.length; i++) {
+				Message jxMessage = jxMessages[i];
+				long remoteMessageId = remoteMessageIds[i];
+
+				if (Arrays.binarySearch(
+						storedRemoteMessageIds, remoteMessageId) >= 0) {
+
+					continue;
 				}
-				catch (NoSuchMessageException nsme) {
-					MessageLocalServiceUtil.addMessage(
-						_user.getUserId(), folderId, sender, to, cc, bcc,
-						sentDate, subject, StringPool.BLANK, flags,
-						remoteMessageId, contentType);
+
+				com.liferay.mail.model.Message message =
+					MessageLocalServiceUtil.createMessage(0);
+
+				message.setSender(
+					InternetAddressUtil.toString(jxMessage.getFrom()));
+				message.setTo(
+					InternetAddressUtil.toString(
+						jxMessage.getRecipients(RecipientType.TO)));
+				message.setCc(
+					InternetAddressUtil.toString(
+						jxMessage.getRecipients(RecipientType.CC)));
+				message.setBcc(
+					InternetAddressUtil.toString(
+						jxMessage.getRecipients(RecipientType.BCC)));
+				message.setSentDate(jxMessage.getSentDate());
+				message.setSubject(jxMessage.getSubject());
+				message.setBody(StringPool.BLANK);
+				message.setFlags(getFlags(jxMessage));
+				message.setRemoteMessageId(remoteMessageId);
+				message.setContentType(jxMessage.getContentType());
+
+				messages.add(message);
+
+				if (messages.size() >=
+						PortletPropsValues.MESSAGES_SYNC_BATCH_SIZE) {
+
+					MessageLocalServiceUtil.addMessages(
+						_user.getUserId(), folderId, messages);
+
+					storedCount += messages.size();
+
+					messages.clear();
 				}
 			}
 
+			if (!messages.isEmpty()) {
+				MessageLocalServiceUtil.addMessages(
+					_user.getUserId(), folderId, messages);
+
+				storedCount += messages.size();
+			}
+
 			com.liferay.mail.model.Folder folder =
 				FolderLocalServiceUtil.getFolder(folderId);
 
@@ -659,9 +790,13 @@ public class IMAPAccessor {
 			throw new MailException(me);
 		}
 
-		if (_log.isDebugEnabled()) {
-			stopWatch.stop();
+		stopWatch.stop();
+
+		SynchronizationStatisticsUtil.addEnvelopes(
+			folderId, jxFolder.getFullName(), jxMessages.length, storedCount,
+			stopWatch.getTime());
 
+		if (_log.isDebugEnabled()) {
 			_log.debug(
 				"Downloaded " + jxMessages.length + " messages from folder " +
 					jxFolder.getFullName() + " completed in " +
@@ -769,6 +904,115 @@ public class IMAPAccessor {
 		return jxMessage;
 	}
 
+	protected void deleteExpungedMessages(long folderId, Folder jxFolder)
+		throws MessagingException, PortalException {
+
+		// Every message from the oldest stored message on is stored, so
+		// unless a message was expunged, the stored messages match the
+		// messages from the oldest stored message to the last one
+
+		Message oldestJxMessage = getMessage(folderId, jxFolder, true);
+
+		if (oldestJxMessage == null) {
+			return;
+		}
+
+		int localMessageCount =
+			MessageLocalServiceUtil.getFolderMessagesCount(folderId);
+
+		int oldestMessageNumber = oldestJxMessage.getMessageNumber();
+
+		if (localMessageCount <=
+				(jxFolder.getMessageCount() - oldestMessageNumber + 1)) {
+
+			return;
+		}
+
+		long[] storedRemoteMessageIds =
+			MessageLocalServiceUtil.getRemoteMessageIds(
+				folderId, 1, Long.MAX_VALUE);
+
+		if (storedRemoteMessageIds.length == 0) {
+			return;
+		}
+
+		// Only the UIDs within the range of the stored messages are fetched,
+		// since older messages may not have been downloaded yet
+
+		UIDFolder uidFolder = (UIDFolder)jxFolder;
+
+		long[] remoteMessageIds = getMessageUIDs(
+			jxFolder,
+			uidFolder.getMessagesByUID(
+				storedRemoteMessageIds[0],
+				storedRemoteMessageIds[storedRemoteMessageIds.length - 1]));
+
+		List<Long> expungedRemoteMessageIds = new ArrayList<>();
+
+		for (long storedRemoteMessageId : storedRemoteMessageIds) {
+			if (Arrays.binarySearch(
+					remoteMessageIds, storedRemoteMessageId) < 0) {
+
+				expungedRemoteMessageIds.add(storedRemoteMessageId);
+			}
+		}
+
+		if (expungedRemoteMessageIds.isEmpty()) {
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Deleting " + expungedRemoteMessageIds.size() +
+					" expunged messages from folder " + jxFolder.getFullName());
+		}
+
+		MessageLocalServiceUtil.deleteRemoteMessages(
+			folderId,
+			ArrayUtil.toArray(
+				expungedRemoteMessageIds.toArray(
+					new Long[expungedRemoteMessageIds.size()])));
+	}
+
+	protected void deleteVanishedMessages(
+			long folderId, Folder jxFolder, List<MailEvent> mailEvents)
+		throws PortalException {
+
+		if (mailEvents == null) {
+			return;
+		}
+
+		// With QRESYNC, the server reports the UIDs of the messages that were
+		// expunged since the last synchronization when the folder is opened
+
+		long[] vanishedRemoteMessageIds = new long[0];
+
+		for (MailEvent mailEvent : mailEvents) {
+			if (!(mailEvent instanceof MessageVanishedEvent)) {
+				continue;
+			}
+
+			MessageVanishedEvent messageVanishedEvent =
+				(MessageVanishedEvent)mailEvent;
+
+			vanishedRemoteMessageIds = ArrayUtil.append(
+				vanishedRemoteMessageIds, messageVanishedEvent.getUIDs());
+		}
+
+		if (vanishedRemoteMessageIds.length == 0) {
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Deleting " + vanishedRemoteMessageIds.length +
+					" expunged messages from folder " + jxFolder.getFullName());
+		}
+
+		MessageLocalServiceUtil.deleteRemoteMessages(
+			folderId, vanishedRemoteMessageIds);
+	}
+
 	protected String getFlags(Message jxMessage) throws MessagingException {
 		StringBundler sb = new StringBundler();
 
@@ -824,6 +1068,20 @@ public class IMAPAccessor {
 		}
 	}
 
+	protected long getHighestRemoteMessageId(long folderId)
+		throws PortalException {
+
+		try {
+			com.liferay.mail.model.Message message =
+				MessageLocalServiceUtil.getRemoteMessage(folderId, false);
+
+			return message.getRemoteMessageId();
+		}
+		catch (NoSuchMessageException nsme) {
+			return 0;
+		}
+	}
+
 	protected Message getMessage(Folder jxFolder, long remoteMessageId)
 		throws MessagingException {
 
@@ -1063,6 +1321,113 @@ public class IMAPAccessor {
 		return openFolder(getFolder(folderId));
 	}
 
+	protected void storeFlags(
+			long folderId, Folder jxFolder, Message[] jxMessages)
+		throws MessagingException, PortalException {
+
+		if (jxMessages.length == 0) {
+			return;
+		}
+
+		FetchProfile fetchProfile = new FetchProfile();
+
+		fetchProfile.add(UIDFolder.FetchProfileItem.FLAGS);
+		fetchProfile.add(UIDFolder.FetchProfileItem.UID);
+
+		jxFolder.fetch(jxMessages, fetchProfile);
+
+		long[] remoteMessageIds = new long[jxMessages.length];
+		String[] remoteFlags = new String[jxMessages.length];
+
+		for (int i = 0; i < jxMessages.length; i++) {
+			remoteMessageIds[i] = getUID(jxFolder, jxMessages[i]);
+			remoteFlags[i] = getFlags(jxMessages[i]);
+		}
+
+		MessageLocalServiceUtil.updateFlags(
+			folderId, remoteMessageIds, remoteFlags);
+	}
+
+	protected long storeNewEnvelopes(
+			long folderId, Folder jxFolder, Message[] jxMessages,
+			long highestRemoteMessageId)
+		throws MessagingException, PortalException {
+
+		long[] remoteMessageIds = getMessageUIDs(jxFolder, jxMessages);
+
+		List<Message> newJxMessages = new ArrayList<>();
+
+		long newHighestRemoteMessageId = highestRemoteMessageId;
+
+		for (int i = 0; i < jxMessages.length; i++) {
+
+			// A UID range always contains the last message of the folder,
+			// even if its UID is lower than the start of the range
+
+			if (remoteMessageIds[i] <= highestRemoteMessageId) {
+				continue;
+			}
+
+			newJxMessages.add(jxMessages[i]);
+
+			newHighestRemoteMessageId = Math.max(
+				newHighestRemoteMessageId, remoteMessageIds[i]);
+		}
+
+		if (!newJxMessages.isEmpty()) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Downloading new messages from folder " +
+						jxFolder.getFullName());
+			}
+
+			storeEnvelopes(
+				folderId, jxFolder,
+				newJxMessages.toArray(new Message[newJxMessages.size()]));
+		}
+
+		return newHighestRemoteMessageId;
+	}
+
+	protected void storeOldEnvelopes(
+			long folderId, Folder jxFolder, boolean allMessages)
+		throws MessagingException, PortalException {
+
+		Message oldestJxMessage = getMessage(folderId, jxFolder, true);
+
+		if (oldestJxMessage == null) {
+			return;
+		}
+
+		int oldestMessageNumber = oldestJxMessage.getMessageNumber();
+
+		if (oldestMessageNumber == 1) {
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Downloading old messages from folder " +
+					jxFolder.getFullName());
+		}
+
+		int startingMessageNumber = 1;
+
+		if (!allMessages) {
+			startingMessageNumber =
+				oldestMessageNumber - PortletPropsValues.MESSAGES_SYNC_COUNT;
+
+			if (startingMessageNumber < 1) {
+				startingMessageNumber = 1;
+			}
+		}
+
+		storeEnvelopes(
+			folderId, jxFolder,
+			jxFolder.getMessages(
+				startingMessageNumber, oldestMessageNumber - 1));
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(IMAPAccessor.class);
 
 	private Account _account;
@@ -19,9 +19,9 @@ import com.liferay.mail.model.Account;
 import com.liferay.mail.util.PortletPropsValues;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.Time;
 
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.mail.MessagingException;
 import javax.mail.Session;
@@ -69,9 +69,27 @@ public class IMAPConnection {
 
 		properties.put(
 			"mail.debug", String.valueOf(PortletPropsValues.JAVAMAIL_DEBUG));
+		properties.put(
+			"mail.imap.connectionpoolsize",
+			String.valueOf(
+				PortletPropsValues.IMAP_CONNECTION_POOL_MAX_CONNECTIONS));
+		properties.put(
+			"mail.imap.connectionpooltimeout",
+			String.valueOf(
+				PortletPropsValues.IMAP_CONNECTION_POOL_IDLE_TIMEOUT *
+					Time.SECOND));
 		properties.put("mail.imap.host", _incomingHostName);
 		properties.put("mail.imap.port", _incomingPort);
 		properties.put("mail.imaps.auth", "true");
+		properties.put(
+			"mail.imaps.connectionpoolsize",
+			String.valueOf(
+				PortletPropsValues.IMAP_CONNECTION_POOL_MAX_CONNECTIONS));
+		properties.put(
+			"mail.imaps.connectionpooltimeout",
+			String.valueOf(
+				PortletPropsValues.IMAP_CONNECTION_POOL_IDLE_TIMEOUT *
+					Time.SECOND));
 		properties.put("mail.imaps.host", _incomingHostName);
 		properties.put("mail.imaps.port", _incomingPort);
 		properties.put(
@@ -96,46 +114,14 @@ public class IMAPConnection {
 	}
 
 	public Store getStore(boolean useOldStores) throws MailException {
-		Store store = null;
-
-		try {
-			String storeKey = _incomingHostName.concat(
-				_outgoingHostName).concat(_login);
-
-			if (useOldStores) {
-				store = _allStores.get(storeKey);
-
-				if ((store != null) && !store.isConnected()) {
-					store.close();
-
-					store = null;
-				}
-			}
-
-			if (store == null) {
-				Session session = getSession();
-
-				if (_incomingSecure) {
-					store = session.getStore("imaps");
-				}
-				else {
-					store = session.getStore("imap");
-				}
-
-				store.connect(
-					_incomingHostName, _incomingPort, _login, _password);
+		if (!useOldStores) {
+			return connectStore();
+		}
 
-				if (useOldStores) {
-					_allStores.put(storeKey, store);
-				}
-			}
+		String storeKey = _incomingHostName.concat(_outgoingHostName).concat(
+			_login);
 
-			return store;
-		}
-		catch (MessagingException me) {
-			throw new MailException(
-				MailException.ACCOUNT_INCOMING_CONNECTION_FAILED, me);
-		}
+		return IMAPStorePool.getStore(storeKey, this);
 	}
 
 	public Transport getTransport() throws MailException {
@@ -203,6 +189,29 @@ public class IMAPConnection {
 		}
 	}
 
+	protected Store connectStore() throws MailException {
+		try {
+			Session session = getSession();
+
+			Store store = null;
+
+			if (_incomingSecure) {
+				store = session.getStore("imaps");
+			}
+			else {
+				store = session.getStore("imap");
+			}
+
+			store.connect(_incomingHostName, _incomingPort, _login, _password);
+
+			return store;
+		}
+		catch (MessagingException me) {
+			throw new MailException(
+				MailException.ACCOUNT_INCOMING_CONNECTION_FAILED, me);
+		}
+	}
+
 	protected void testIncomingConnection() throws MailException {
 		StopWatch stopWatch = new StopWatch();
 
@@ -259,9 +268,6 @@ public class IMAPConnection {
 
 	private static Log _log = LogFactoryUtil.getLog(IMAPConnection.class);
 
-	private static ConcurrentHashMap<String, Store> _allStores =
-		new ConcurrentHashMap<>();
-
 	private String _incomingHostName;
 	private int _incomingPort;
 	private boolean _incomingSecure;
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.imap;
+
+import com.liferay.mail.model.Account;
+import com.liferay.mail.util.PortletPropsValues;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.model.User;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Starts an {@link IMAPIdleThread} for every account that saves its password
+ * and is in use on this node, and stops it once the account has not been used
+ * for the IDLE timeout.
+ */
+public class IMAPIdleManager {
+
+	public static void checkIdleThreads() {
+		long expireTime = System.currentTimeMillis() - _IDLE_TIMEOUT;
+
+		Iterator<IMAPIdleThread> iterator = _idleThreads.values().iterator();
+
+		while (iterator.hasNext()) {
+			IMAPIdleThread idleThread = iterator.next();
+
+			if (idleThread.getLastAccessTime() < expireTime) {
+				iterator.remove();
+
+				idleThread.shutdown();
+			}
+			else {
+				idleThread.renew();
+			}
+		}
+	}
+
+	public static IMAPIdleThread getIdleThread(User user, Account account) {
+		if (!PortletPropsValues.IMAP_IDLE_ENABLED ||
+			(account.getInboxFolderId() <= 0) || !account.isSavePassword()) {
+
+			return null;
+		}
+
+		long accountId = account.getAccountId();
+
+		IMAPIdleThread idleThread = _idleThreads.get(accountId);
+
+		if (idleThread != null) {
+			Account idleAccount = idleThread.getAccount();
+
+			if (idleAccount.getInboxFolderId() == account.getInboxFolderId()) {
+				return idleThread;
+			}
+
+			if (_idleThreads.remove(accountId, idleThread)) {
+				idleThread.shutdown();
+			}
+		}
+
+		idleThread = new IMAPIdleThread(user, account);
+
+		IMAPIdleThread curIdleThread = _idleThreads.putIfAbsent(
+			accountId, idleThread);
+
+		if (curIdleThread != null) {
+			return curIdleThread;
+		}
+
+		idleThread.start();
+
+		return idleThread;
+	}
+
+	public static void stopIdleThread(long accountId) {
+		IMAPIdleThread idleThread = _idleThreads.remove(accountId);
+
+		if (idleThread != null) {
+			idleThread.shutdown();
+		}
+	}
+
+	public static void stopIdleThreads() {
+		Iterator<IMAPIdleThread> iterator = _idleThreads.values().iterator();
+
+		while (iterator.hasNext()) {
+			IMAPIdleThread idleThread = iterator.next();
+
+			iterator.remove();
+
+			idleThread.shutdown();
+		}
+	}
+
+	private static final long _IDLE_TIMEOUT =
+		PortletPropsValues.IMAP_IDLE_TIMEOUT * Time.SECOND;
+
+	private static ConcurrentMap<Long, IMAPIdleThread> _idleThreads =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.imap;
+
+import com.liferay.mail.mailbox.Mailbox;
+import com.liferay.mail.mailbox.MailboxFactoryUtil;
+import com.liferay.mail.model.Account;
+import com.liferay.mail.service.AccountLocalServiceUtil;
+import com.liferay.mail.service.FolderLocalServiceUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.model.User;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.mail.Folder;
+import javax.mail.MessagingException;
+import javax.mail.Store;
+import javax.mail.event.MessageCountAdapter;
+import javax.mail.event.MessageCountEvent;
+
+/**
+ * Keeps the inbox of an account open on its own connection and waits for the
+ * IMAP server to push new messages with the IDLE command. The inbox is
+ * synchronized through the mailbox of the account, under its account lock, as
+ * soon as messages are pushed. The password of the account is read from the
+ * account every time the inbox is opened.
+ */
+public class IMAPIdleThread extends Thread {
+
+	public IMAPIdleThread(User user, Account account) {
+		super(IMAPIdleThread.class.getName() + "-" + account.getAccountId());
+
+		setDaemon(true);
+
+		_user = user;
+		_account = account;
+
+		_lastAccessTime = System.currentTimeMillis();
+	}
+
+	public Account getAccount() {
+		return _account;
+	}
+
+	public long getLastAccessTime() {
+		return _lastAccessTime;
+	}
+
+	public boolean hasNewMessages() {
+		_lastAccessTime = System.currentTimeMillis();
+
+		return _newMessages.getAndSet(false);
+	}
+
+	public boolean isIdling() {
+		return _idling;
+	}
+
+	public void renew() {
+		IMAPFolder jxFolder = _jxFolder;
+
+		if ((jxFolder == null) || !jxFolder.isOpen()) {
+			return;
+		}
+
+		// Using the folder ends the IDLE command so that it is issued again
+		// before the IMAP server times it out
+
+		try {
+			jxFolder.getMessageCount();
+		}
+		catch (MessagingException me) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(me, me);
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		while (!_stopped) {
+			try {
+				idle();
+			}
+			catch (Exception e) {
+				_idling = false;
+
+				if (_stopped) {
+					break;
+				}
+
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to wait for new messages for account " +
+							_account.getAccountId(),
+						e);
+				}
+
+				closeStore();
+
+				try {
+					Thread.sleep(_RETRY_INTERVAL);
+				}
+				catch (InterruptedException ie) {
+					break;
+				}
+			}
+		}
+
+		_idling = false;
+
+		closeStore();
+	}
+
+	public void shutdown() {
+		_stopped = true;
+
+		interrupt();
+
+		closeStore();
+	}
+
+	protected void closeStore() {
+		Store store = _store;
+
+		_jxFolder = null;
+		_store = null;
+
+		if (store == null) {
+			return;
+		}
+
+		try {
+			store.close();
+		}
+		catch (MessagingException me) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(me, me);
+			}
+		}
+	}
+
+	protected void idle() throws Exception {
+		Account account = AccountLocalServiceUtil.getAccount(
+			_account.getAccountId());
+
+		IMAPConnection imapConnection = new IMAPConnection(
+			account, account.getPasswordDecrypted());
+
+		_store = imapConnection.getStore(false);
+
+		IMAPStore imapStore = (IMAPStore)_store;
+
+		if (!imapStore.hasCapability("IDLE")) {
+			if (_log.isInfoEnabled()) {
+				_log.info(
+					"The IMAP server of account " + _account.getAccountId() +
+						" does not support IDLE");
+			}
+
+			_stopped = true;
+
+			return;
+		}
+
+		com.liferay.mail.model.Folder folder = FolderLocalServiceUtil.getFolder(
+			_account.getInboxFolderId());
+
+		IMAPFolder jxFolder = (IMAPFolder)imapStore.getFolder(
+			folder.getFullName());
+
+		jxFolder.open(Folder.READ_WRITE);
+
+		jxFolder.addMessageCountListener(
+			new MessageCountAdapter() {
+
+				@Override
+				public void messagesAdded(MessageCountEvent messageCountEvent) {
+					_newMessages.set(true);
+
+					synchronizeInbox();
+				}
+
+				@Override
+				public void messagesRemoved(
+					MessageCountEvent messageCountEvent) {
+
+					synchronizeInbox();
+				}
+
+			});
+
+		_jxFolder = jxFolder;
+
+		// Messages that arrived before the inbox was opened are only found by
+		// synchronizing the inbox
+
+		_newMessages.set(true);
+
+		_idling = true;
+
+		while (!_stopped) {
+			jxFolder.idle();
+		}
+	}
+
+	protected void synchronizeInbox() {
+		try {
+			Account account = AccountLocalServiceUtil.getAccount(
+				_account.getAccountId());
+
+			Mailbox mailbox = MailboxFactoryUtil.getMailbox(
+				_user.getUserId(), account.getAccountId(),
+				account.getPasswordDecrypted());
+
+			mailbox.synchronizeFolder(account.getInboxFolderId());
+		}
+		catch (Exception e) {
+			_log.error(
+				"Unable to synchronize the inbox of account " +
+					_account.getAccountId(),
+				e);
+		}
+	}
+
+	private static final long _RETRY_INTERVAL = Time.MINUTE;
+
+	private static Log _log = LogFactoryUtil.getLog(IMAPIdleThread.class);
+
+	private final Account _account;
+	private volatile boolean _idling;
+	private volatile IMAPFolder _jxFolder;
+	private volatile long _lastAccessTime;
+	private final AtomicBoolean _newMessages = new AtomicBoolean();
+	private volatile boolean _stopped;
+	private volatile Store _store;
+	private final User _user;
+
+}
\ No newline at end of file
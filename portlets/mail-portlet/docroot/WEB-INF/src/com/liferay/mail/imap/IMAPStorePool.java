@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.imap;
+
+import com.liferay.mail.MailException;
+import com.liferay.mail.util.PortletPropsValues;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.mail.MessagingException;
+import javax.mail.Store;
+
+/**
+ * Keeps one connected store for every IMAP account so that the folders of an
+ * account are opened through the same store. The connections of the folders
+ * are pooled by the store up to the maximum number of connections. A store is
+ * checked before it is reused once it has not been used for a minute, and is
+ * closed once it has not been used for the idle timeout.
+ */
+public class IMAPStorePool {
+
+	public static void closeStores() {
+		Iterator<PooledStore> iterator = _pooledStores.values().iterator();
+
+		while (iterator.hasNext()) {
+			PooledStore pooledStore = iterator.next();
+
+			iterator.remove();
+
+			closeStore(pooledStore.getStore());
+		}
+	}
+
+	public static void evictIdleStores() {
+		long expireTime = System.currentTimeMillis() - _IDLE_TIMEOUT;
+
+		Iterator<PooledStore> iterator = _pooledStores.values().iterator();
+
+		while (iterator.hasNext()) {
+			PooledStore pooledStore = iterator.next();
+
+			if (pooledStore.getLastAccessTime() < expireTime) {
+				iterator.remove();
+
+				closeStore(pooledStore.getStore());
+			}
+		}
+	}
+
+	public static Store getStore(String key, IMAPConnection imapConnection)
+		throws MailException {
+
+		PooledStore pooledStore = _pooledStores.get(key);
+
+		if (pooledStore != null) {
+			if (isHealthy(pooledStore)) {
+				return pooledStore.getStore();
+			}
+
+			if (_pooledStores.remove(key, pooledStore)) {
+				closeStore(pooledStore.getStore());
+			}
+		}
+
+		Store store = imapConnection.connectStore();
+
+		pooledStore = new PooledStore(store);
+
+		PooledStore curPooledStore = _pooledStores.putIfAbsent(
+			key, pooledStore);
+
+		if (curPooledStore != null) {
+			closeStore(store);
+
+			return curPooledStore.getStore();
+		}
+
+		return store;
+	}
+
+	protected static void closeStore(Store store) {
+		try {
+			store.close();
+		}
+		catch (MessagingException me) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Unable to close store", me);
+			}
+		}
+	}
+
+	protected static boolean isHealthy(PooledStore pooledStore) {
+		long now = System.currentTimeMillis();
+
+		long lastAccessTime = pooledStore.getLastAccessTime();
+
+		pooledStore.setLastAccessTime(now);
+
+		if ((lastAccessTime + _HEALTH_CHECK_INTERVAL) > now) {
+			return true;
+		}
+
+		Store store = pooledStore.getStore();
+
+		// An IMAP store checks its connection with a NOOP command
+
+		return store.isConnected();
+	}
+
+	private static final long _HEALTH_CHECK_INTERVAL = Time.MINUTE;
+
+	private static final long _IDLE_TIMEOUT =
+		PortletPropsValues.IMAP_CONNECTION_POOL_IDLE_TIMEOUT * Time.SECOND;
+
+	private static Log _log = LogFactoryUtil.getLog(IMAPStorePool.class);
+
+	private static ConcurrentMap<String, PooledStore> _pooledStores =
+		new ConcurrentHashMap<>();
+
+	private static class PooledStore {
+
+		public PooledStore(Store store) {
+			_store = store;
+
+			_lastAccessTime = System.currentTimeMillis();
+		}
+
+		public long getLastAccessTime() {
+			return _lastAccessTime;
+		}
+
+		public Store getStore() {
+			return _store;
+		}
+
+		public void setLastAccessTime(long lastAccessTime) {
+			_lastAccessTime = lastAccessTime;
+		}
+
+		private volatile long _lastAccessTime;
+		private final Store _store;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.jmx;
+
+import com.liferay.mail.util.SynchronizationStatisticsUtil;
+
+import java.util.List;
+
+import javax.management.DynamicMBean;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+public class SynchronizationStatisticsManager
+	extends StandardMBean
+	implements DynamicMBean, SynchronizationStatisticsManagerMBean {
+
+	public SynchronizationStatisticsManager()
+		throws NotCompliantMBeanException {
+
+		super(SynchronizationStatisticsManagerMBean.class);
+	}
+
+	@Override
+	public String[] getFolderStatistics() {
+		List<String> folderStatistics =
+			SynchronizationStatisticsUtil.getFolderStatistics();
+
+		return folderStatistics.toArray(new String[folderStatistics.size()]);
+	}
+
+	@Override
+	public void resetFolderStatistics() {
+		SynchronizationStatisticsUtil.resetFolderStatistics();
+	}
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ import com.liferay.mail.NoSuchFolderException;
 import com.liferay.mail.NoSuchMessageException;
 import com.liferay.mail.imap.IMAPAccessor;
 import com.liferay.mail.imap.IMAPConnection;
+import com.liferay.mail.imap.IMAPIdleManager;
+import com.liferay.mail.imap.IMAPIdleThread;
 import com.liferay.mail.model.Account;
 import com.liferay.mail.model.Attachment;
 import com.liferay.mail.model.Folder;
@@ -78,6 +80,13 @@ public class IMAPMailbox extends BaseMailbox {
 			user.getUserId(), account.getAccountId(), names[0], names[1], 0);
 	}
 
+	@Override
+	public void deleteAccount() throws PortalException {
+		IMAPIdleManager.stopIdleThread(account.getAccountId());
+
+		super.deleteAccount();
+	}
+
 	public void deleteAttachment(long attachmentId) throws PortalException {
 		AttachmentLocalServiceUtil.deleteAttachment(attachmentId);
 	}
@@ -184,6 +193,15 @@ public class IMAPMailbox extends BaseMailbox {
 	}
 
 	public boolean hasNewMessages(long folderId) throws PortalException {
+		if (account.getInboxFolderId() == folderId) {
+			IMAPIdleThread idleThread = IMAPIdleManager.getIdleThread(
+				user, account);
+
+			if ((idleThread != null) && idleThread.isIdling()) {
+				return idleThread.hasNewMessages();
+			}
+		}
+
 		return _imapAccessor.hasNewMessages(folderId);
 	}
 
@@ -374,6 +392,13 @@ public class IMAPMailbox extends BaseMailbox {
 				AccountLock.releaseLock(key);
 			}
 		}
+
+		// Updating the folders may have set the inbox of the account
+
+		Account curAccount = AccountLocalServiceUtil.getAccount(
+			account.getAccountId());
+
+		IMAPIdleManager.getIdleThread(user, curAccount);
 	}
 
 	public void synchronizeFolder(long folderId) throws PortalException {
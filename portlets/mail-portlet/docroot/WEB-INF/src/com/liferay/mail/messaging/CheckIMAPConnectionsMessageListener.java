@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.messaging;
+
+import com.liferay.mail.imap.IMAPIdleManager;
+import com.liferay.mail.imap.IMAPStorePool;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+
+/**
+ * Closes the IMAP connections that are no longer used and renews the IDLE
+ * commands of the inboxes that are kept open, at a regular interval.
+ */
+public class CheckIMAPConnectionsMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		IMAPIdleManager.checkIdleThreads();
+		IMAPStorePool.evictIdleStores();
+	}
+
+}
\ No newline at end of file
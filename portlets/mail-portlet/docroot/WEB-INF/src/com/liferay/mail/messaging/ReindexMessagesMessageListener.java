@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.messaging;
+
+import com.liferay.mail.model.Message;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+
+import org.apache.commons.lang.time.StopWatch;
+
+/**
+ * Reindexes the messages of all mailboxes of a company in the background. The
+ * messages are sent to the search engine in batches so that large mailboxes
+ * do not have to be held in memory.
+ */
+public class ReindexMessagesMessageListener extends BaseMessageListener {
+
+	public static final String DESTINATION_NAME = "liferay/mail_reindexer";
+
+	@Override
+	protected void doReceive(
+			com.liferay.portal.kernel.messaging.Message message)
+		throws Exception {
+
+		long companyId = message.getLong("companyId");
+
+		if (_log.isInfoEnabled()) {
+			_log.info("Reindexing messages for company " + companyId);
+		}
+
+		StopWatch stopWatch = new StopWatch();
+
+		stopWatch.start();
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		indexer.reindex(new String[] {String.valueOf(companyId)});
+
+		stopWatch.stop();
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Reindexing messages for company " + companyId +
+					" completed in " + stopWatch.getTime() + " ms");
+		}
+	}
+
+	private static final Log _log = LogFactoryUtil.getLog(
+		ReindexMessagesMessageListener.class);
+
+}
\ No newline at end of file
@@ -65,7 +65,7 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(53);
+		StringBundler sb = new StringBundler(57);
 
 		sb.append("{accountId=");
 		sb.append(accountId);
@@ -119,6 +119,10 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 		sb.append(trashFolderId);
 		sb.append(", defaultSender=");
 		sb.append(defaultSender);
+		sb.append(", messageCount=");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount=");
+		sb.append(unreadMessageCount);
 		sb.append("}");
 
 		return sb.toString();
@@ -231,6 +235,8 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 		accountImpl.setSentFolderId(sentFolderId);
 		accountImpl.setTrashFolderId(trashFolderId);
 		accountImpl.setDefaultSender(defaultSender);
+		accountImpl.setMessageCount(messageCount);
+		accountImpl.setUnreadMessageCount(unreadMessageCount);
 
 		accountImpl.resetOriginalValues();
 
@@ -265,6 +271,8 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 		sentFolderId = objectInput.readLong();
 		trashFolderId = objectInput.readLong();
 		defaultSender = objectInput.readBoolean();
+		messageCount = objectInput.readInt();
+		unreadMessageCount = objectInput.readInt();
 	}
 
 	@Override
@@ -362,6 +370,8 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 		objectOutput.writeLong(sentFolderId);
 		objectOutput.writeLong(trashFolderId);
 		objectOutput.writeBoolean(defaultSender);
+		objectOutput.writeInt(messageCount);
+		objectOutput.writeInt(unreadMessageCount);
 	}
 
 	public long accountId;
@@ -390,4 +400,6 @@ public class AccountCacheModel implements CacheModel<Account>, Externalizable {
 	public long sentFolderId;
 	public long trashFolderId;
 	public boolean defaultSender;
+	public int messageCount;
+	public int unreadMessageCount;
 }
\ No newline at end of file
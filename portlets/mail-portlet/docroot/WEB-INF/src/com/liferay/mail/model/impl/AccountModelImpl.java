@@ -90,7 +90,9 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 			{ "draftFolderId", Types.BIGINT },
 			{ "sentFolderId", Types.BIGINT },
 			{ "trashFolderId", Types.BIGINT },
-			{ "defaultSender", Types.BOOLEAN }
+			{ "defaultSender", Types.BOOLEAN },
+			{ "messageCount", Types.INTEGER },
+			{ "unreadMessageCount", Types.INTEGER }
 		};
 	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
 
@@ -121,9 +123,11 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		TABLE_COLUMNS_MAP.put("sentFolderId", Types.BIGINT);
 		TABLE_COLUMNS_MAP.put("trashFolderId", Types.BIGINT);
 		TABLE_COLUMNS_MAP.put("defaultSender", Types.BOOLEAN);
+		TABLE_COLUMNS_MAP.put("messageCount", Types.INTEGER);
+		TABLE_COLUMNS_MAP.put("unreadMessageCount", Types.INTEGER);
 	}
 
-	public static final String TABLE_SQL_CREATE = "create table Mail_Account (accountId LONG not null primary key,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,address VARCHAR(75) null,personalName VARCHAR(75) null,protocol VARCHAR(75) null,incomingHostName VARCHAR(75) null,incomingPort INTEGER,incomingSecure BOOLEAN,outgoingHostName VARCHAR(75) null,outgoingPort INTEGER,outgoingSecure BOOLEAN,login VARCHAR(75) null,password_ VARCHAR(75) null,savePassword BOOLEAN,signature VARCHAR(75) null,useSignature BOOLEAN,folderPrefix VARCHAR(75) null,inboxFolderId LONG,draftFolderId LONG,sentFolderId LONG,trashFolderId LONG,defaultSender BOOLEAN)";
+	public static final String TABLE_SQL_CREATE = "create table Mail_Account (accountId LONG not null primary key,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,address VARCHAR(75) null,personalName VARCHAR(75) null,protocol VARCHAR(75) null,incomingHostName VARCHAR(75) null,incomingPort INTEGER,incomingSecure BOOLEAN,outgoingHostName VARCHAR(75) null,outgoingPort INTEGER,outgoingSecure BOOLEAN,login VARCHAR(75) null,password_ VARCHAR(75) null,savePassword BOOLEAN,signature VARCHAR(75) null,useSignature BOOLEAN,folderPrefix VARCHAR(75) null,inboxFolderId LONG,draftFolderId LONG,sentFolderId LONG,trashFolderId LONG,defaultSender BOOLEAN,messageCount INTEGER,unreadMessageCount INTEGER)";
 	public static final String TABLE_SQL_DROP = "drop table Mail_Account";
 	public static final String ORDER_BY_JPQL = " ORDER BY account.address ASC";
 	public static final String ORDER_BY_SQL = " ORDER BY Mail_Account.address ASC";
@@ -207,6 +211,8 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		attributes.put("sentFolderId", getSentFolderId());
 		attributes.put("trashFolderId", getTrashFolderId());
 		attributes.put("defaultSender", getDefaultSender());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
 		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
@@ -371,6 +377,19 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		if (defaultSender != null) {
 			setDefaultSender(defaultSender);
 		}
+
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
 	}
 
 	@Override
@@ -752,6 +771,26 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		_defaultSender = defaultSender;
 	}
 
+	@Override
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	@Override
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+	}
+
+	@Override
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+	}
+
 	public long getColumnBitmask() {
 		return _columnBitmask;
 	}
@@ -809,6 +848,8 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		accountImpl.setSentFolderId(getSentFolderId());
 		accountImpl.setTrashFolderId(getTrashFolderId());
 		accountImpl.setDefaultSender(getDefaultSender());
+		accountImpl.setMessageCount(getMessageCount());
+		accountImpl.setUnreadMessageCount(getUnreadMessageCount());
 
 		accountImpl.resetOriginalValues();
 
@@ -1010,12 +1051,16 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 
 		accountCacheModel.defaultSender = getDefaultSender();
 
+		accountCacheModel.messageCount = getMessageCount();
+
+		accountCacheModel.unreadMessageCount = getUnreadMessageCount();
+
 		return accountCacheModel;
 	}
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(53);
+		StringBundler sb = new StringBundler(57);
 
 		sb.append("{accountId=");
 		sb.append(getAccountId());
@@ -1069,6 +1114,10 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 		sb.append(getTrashFolderId());
 		sb.append(", defaultSender=");
 		sb.append(getDefaultSender());
+		sb.append(", messageCount=");
+		sb.append(getMessageCount());
+		sb.append(", unreadMessageCount=");
+		sb.append(getUnreadMessageCount());
 		sb.append("}");
 
 		return sb.toString();
@@ -1076,7 +1125,7 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(82);
+		StringBundler sb = new StringBundler(88);
 
 		sb.append("<model><model-name>");
 		sb.append("com.liferay.mail.model.Account");
@@ -1186,6 +1235,14 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 			"<column><column-name>defaultSender</column-name><column-value><![CDATA[");
 		sb.append(getDefaultSender());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>messageCount</column-name><column-value><![CDATA[");
+		sb.append(getMessageCount());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>unreadMessageCount</column-name><column-value><![CDATA[");
+		sb.append(getUnreadMessageCount());
+		sb.append("]]></column-value></column>");
 
 		sb.append("</model>");
 
@@ -1226,6 +1283,8 @@ public class AccountModelImpl extends BaseModelImpl<Account>
 	private long _sentFolderId;
 	private long _trashFolderId;
 	private boolean _defaultSender;
+	private int _messageCount;
+	private int _unreadMessageCount;
 	private long _columnBitmask;
 	private Account _escapedModel;
 }
\ No newline at end of file
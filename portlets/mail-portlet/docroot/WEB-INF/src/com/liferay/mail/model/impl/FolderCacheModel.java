@@ -65,7 +65,7 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(21);
+		StringBundler sb = new StringBundler(31);
 
 		sb.append("{folderId=");
 		sb.append(folderId);
@@ -87,6 +87,16 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 		sb.append(displayName);
 		sb.append(", remoteMessageCount=");
 		sb.append(remoteMessageCount);
+		sb.append(", uidValidity=");
+		sb.append(uidValidity);
+		sb.append(", highestRemoteMessageId=");
+		sb.append(highestRemoteMessageId);
+		sb.append(", highestModSeq=");
+		sb.append(highestModSeq);
+		sb.append(", messageCount=");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount=");
+		sb.append(unreadMessageCount);
 		sb.append("}");
 
 		return sb.toString();
@@ -138,6 +148,11 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 		}
 
 		folderImpl.setRemoteMessageCount(remoteMessageCount);
+		folderImpl.setUidValidity(uidValidity);
+		folderImpl.setHighestRemoteMessageId(highestRemoteMessageId);
+		folderImpl.setHighestModSeq(highestModSeq);
+		folderImpl.setMessageCount(messageCount);
+		folderImpl.setUnreadMessageCount(unreadMessageCount);
 
 		folderImpl.resetOriginalValues();
 
@@ -156,6 +171,11 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 		fullName = objectInput.readUTF();
 		displayName = objectInput.readUTF();
 		remoteMessageCount = objectInput.readInt();
+		uidValidity = objectInput.readLong();
+		highestRemoteMessageId = objectInput.readLong();
+		highestModSeq = objectInput.readLong();
+		messageCount = objectInput.readInt();
+		unreadMessageCount = objectInput.readInt();
 	}
 
 	@Override
@@ -191,6 +211,11 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 		}
 
 		objectOutput.writeInt(remoteMessageCount);
+		objectOutput.writeLong(uidValidity);
+		objectOutput.writeLong(highestRemoteMessageId);
+		objectOutput.writeLong(highestModSeq);
+		objectOutput.writeInt(messageCount);
+		objectOutput.writeInt(unreadMessageCount);
 	}
 
 	public long folderId;
@@ -203,4 +228,9 @@ public class FolderCacheModel implements CacheModel<Folder>, Externalizable {
 	public String fullName;
 	public String displayName;
 	public int remoteMessageCount;
+	public long uidValidity;
+	public long highestRemoteMessageId;
+	public long highestModSeq;
+	public int messageCount;
+	public int unreadMessageCount;
 }
\ No newline at end of file
@@ -74,7 +74,12 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 			{ "accountId", Types.BIGINT },
 			{ "fullName", Types.VARCHAR },
 			{ "displayName", Types.VARCHAR },
-			{ "remoteMessageCount", Types.INTEGER }
+			{ "remoteMessageCount", Types.INTEGER },
+			{ "uidValidity", Types.BIGINT },
+			{ "highestRemoteMessageId", Types.BIGINT },
+			{ "highestModSeq", Types.BIGINT },
+			{ "messageCount", Types.INTEGER },
+			{ "unreadMessageCount", Types.INTEGER }
 		};
 	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
 
@@ -89,9 +94,14 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		TABLE_COLUMNS_MAP.put("fullName", Types.VARCHAR);
 		TABLE_COLUMNS_MAP.put("displayName", Types.VARCHAR);
 		TABLE_COLUMNS_MAP.put("remoteMessageCount", Types.INTEGER);
+		TABLE_COLUMNS_MAP.put("uidValidity", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("highestRemoteMessageId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("highestModSeq", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("messageCount", Types.INTEGER);
+		TABLE_COLUMNS_MAP.put("unreadMessageCount", Types.INTEGER);
 	}
 
-	public static final String TABLE_SQL_CREATE = "create table Mail_Folder (folderId LONG not null primary key,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,accountId LONG,fullName VARCHAR(75) null,displayName VARCHAR(75) null,remoteMessageCount INTEGER)";
+	public static final String TABLE_SQL_CREATE = "create table Mail_Folder (folderId LONG not null primary key,companyId LONG,userId LONG,userName VARCHAR(75) null,createDate DATE null,modifiedDate DATE null,accountId LONG,fullName VARCHAR(75) null,displayName VARCHAR(75) null,remoteMessageCount INTEGER,uidValidity LONG,highestRemoteMessageId LONG,highestModSeq LONG,messageCount INTEGER,unreadMessageCount INTEGER)";
 	public static final String TABLE_SQL_DROP = "drop table Mail_Folder";
 	public static final String ORDER_BY_JPQL = " ORDER BY folder.fullName ASC";
 	public static final String ORDER_BY_SQL = " ORDER BY Mail_Folder.fullName ASC";
@@ -159,6 +169,11 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		attributes.put("fullName", getFullName());
 		attributes.put("displayName", getDisplayName());
 		attributes.put("remoteMessageCount", getRemoteMessageCount());
+		attributes.put("uidValidity", getUidValidity());
+		attributes.put("highestRemoteMessageId", getHighestRemoteMessageId());
+		attributes.put("highestModSeq", getHighestModSeq());
+		attributes.put("messageCount", getMessageCount());
+		attributes.put("unreadMessageCount", getUnreadMessageCount());
 
 		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
 		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
@@ -228,6 +243,38 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		if (remoteMessageCount != null) {
 			setRemoteMessageCount(remoteMessageCount);
 		}
+
+		Long uidValidity = (Long)attributes.get("uidValidity");
+
+		if (uidValidity != null) {
+			setUidValidity(uidValidity);
+		}
+
+		Long highestRemoteMessageId = (Long)attributes.get(
+				"highestRemoteMessageId");
+
+		if (highestRemoteMessageId != null) {
+			setHighestRemoteMessageId(highestRemoteMessageId);
+		}
+
+		Long highestModSeq = (Long)attributes.get("highestModSeq");
+
+		if (highestModSeq != null) {
+			setHighestModSeq(highestModSeq);
+		}
+
+		Integer messageCount = (Integer)attributes.get("messageCount");
+
+		if (messageCount != null) {
+			setMessageCount(messageCount);
+		}
+
+		Integer unreadMessageCount = (Integer)attributes.get(
+				"unreadMessageCount");
+
+		if (unreadMessageCount != null) {
+			setUnreadMessageCount(unreadMessageCount);
+		}
 	}
 
 	@Override
@@ -389,6 +436,56 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		_remoteMessageCount = remoteMessageCount;
 	}
 
+	@Override
+	public long getUidValidity() {
+		return _uidValidity;
+	}
+
+	@Override
+	public void setUidValidity(long uidValidity) {
+		_uidValidity = uidValidity;
+	}
+
+	@Override
+	public long getHighestRemoteMessageId() {
+		return _highestRemoteMessageId;
+	}
+
+	@Override
+	public void setHighestRemoteMessageId(long highestRemoteMessageId) {
+		_highestRemoteMessageId = highestRemoteMessageId;
+	}
+
+	@Override
+	public long getHighestModSeq() {
+		return _highestModSeq;
+	}
+
+	@Override
+	public void setHighestModSeq(long highestModSeq) {
+		_highestModSeq = highestModSeq;
+	}
+
+	@Override
+	public int getMessageCount() {
+		return _messageCount;
+	}
+
+	@Override
+	public void setMessageCount(int messageCount) {
+		_messageCount = messageCount;
+	}
+
+	@Override
+	public int getUnreadMessageCount() {
+		return _unreadMessageCount;
+	}
+
+	@Override
+	public void setUnreadMessageCount(int unreadMessageCount) {
+		_unreadMessageCount = unreadMessageCount;
+	}
+
 	public long getColumnBitmask() {
 		return _columnBitmask;
 	}
@@ -430,6 +527,11 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		folderImpl.setFullName(getFullName());
 		folderImpl.setDisplayName(getDisplayName());
 		folderImpl.setRemoteMessageCount(getRemoteMessageCount());
+		folderImpl.setUidValidity(getUidValidity());
+		folderImpl.setHighestRemoteMessageId(getHighestRemoteMessageId());
+		folderImpl.setHighestModSeq(getHighestModSeq());
+		folderImpl.setMessageCount(getMessageCount());
+		folderImpl.setUnreadMessageCount(getUnreadMessageCount());
 
 		folderImpl.resetOriginalValues();
 
@@ -557,12 +659,22 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 
 		folderCacheModel.remoteMessageCount = getRemoteMessageCount();
 
+		folderCacheModel.uidValidity = getUidValidity();
+
+		folderCacheModel.highestRemoteMessageId = getHighestRemoteMessageId();
+
+		folderCacheModel.highestModSeq = getHighestModSeq();
+
+		folderCacheModel.messageCount = getMessageCount();
+
+		folderCacheModel.unreadMessageCount = getUnreadMessageCount();
+
 		return folderCacheModel;
 	}
 
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler(21);
+		StringBundler sb = new StringBundler(31);
 
 		sb.append("{folderId=");
 		sb.append(getFolderId());
@@ -584,6 +696,16 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 		sb.append(getDisplayName());
 		sb.append(", remoteMessageCount=");
 		sb.append(getRemoteMessageCount());
+		sb.append(", uidValidity=");
+		sb.append(getUidValidity());
+		sb.append(", highestRemoteMessageId=");
+		sb.append(getHighestRemoteMessageId());
+		sb.append(", highestModSeq=");
+		sb.append(getHighestModSeq());
+		sb.append(", messageCount=");
+		sb.append(getMessageCount());
+		sb.append(", unreadMessageCount=");
+		sb.append(getUnreadMessageCount());
 		sb.append("}");
 
 		return sb.toString();
@@ -591,7 +713,7 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 
 	@Override
 	public String toXmlString() {
-		StringBundler sb = new StringBundler(34);
+		StringBundler sb = new StringBundler(49);
 
 		sb.append("<model><model-name>");
 		sb.append("com.liferay.mail.model.Folder");
@@ -637,6 +759,26 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 			"<column><column-name>remoteMessageCount</column-name><column-value><![CDATA[");
 		sb.append(getRemoteMessageCount());
 		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>uidValidity</column-name><column-value><![CDATA[");
+		sb.append(getUidValidity());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>highestRemoteMessageId</column-name><column-value><![CDATA[");
+		sb.append(getHighestRemoteMessageId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>highestModSeq</column-name><column-value><![CDATA[");
+		sb.append(getHighestModSeq());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>messageCount</column-name><column-value><![CDATA[");
+		sb.append(getMessageCount());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>unreadMessageCount</column-name><column-value><![CDATA[");
+		sb.append(getUnreadMessageCount());
+		sb.append("]]></column-value></column>");
 
 		sb.append("</model>");
 
@@ -661,6 +803,11 @@ public class FolderModelImpl extends BaseModelImpl<Folder>
 	private String _originalFullName;
 	private String _displayName;
 	private int _remoteMessageCount;
+	private long _uidValidity;
+	private long _highestRemoteMessageId;
+	private long _highestModSeq;
+	private int _messageCount;
+	private int _unreadMessageCount;
 	private long _columnBitmask;
 	private Folder _escapedModel;
 }
\ No newline at end of file
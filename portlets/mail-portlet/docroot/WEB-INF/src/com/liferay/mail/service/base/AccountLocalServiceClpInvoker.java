@@ -163,6 +163,10 @@ public class AccountLocalServiceClpInvoker {
 		_methodParameterTypes66 = new String[] {
 				"long", "long", "long", "long", "long"
 			};
+
+		_methodName67 = "updateMessageCounts";
+
+		_methodParameterTypes67 = new String[] { "long" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -345,6 +349,11 @@ public class AccountLocalServiceClpInvoker {
 				((Long)arguments[4]).longValue());
 		}
 
+		if (_methodName67.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes67, parameterTypes)) {
+			return AccountLocalServiceUtil.updateMessageCounts(((Long)arguments[0]).longValue());
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -404,4 +413,6 @@ public class AccountLocalServiceClpInvoker {
 	private String[] _methodParameterTypes65;
 	private String _methodName66;
 	private String[] _methodParameterTypes66;
+	private String _methodName67;
+	private String[] _methodParameterTypes67;
 }
\ No newline at end of file
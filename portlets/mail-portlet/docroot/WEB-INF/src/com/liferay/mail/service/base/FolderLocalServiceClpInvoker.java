@@ -164,6 +164,16 @@ public class FolderLocalServiceClpInvoker {
 		_methodParameterTypes68 = new String[] {
 				"long", "java.lang.String", "java.lang.String", "int"
 			};
+
+		_methodName69 = "updateMessageCounts";
+
+		_methodParameterTypes69 = new String[] { "long" };
+
+		_methodName70 = "updateSyncState";
+
+		_methodParameterTypes70 = new String[] {
+				"long", "long", "long", "long"
+			};
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -335,6 +345,19 @@ public class FolderLocalServiceClpInvoker {
 				((Integer)arguments[3]).intValue());
 		}
 
+		if (_methodName69.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes69, parameterTypes)) {
+			return FolderLocalServiceUtil.updateMessageCounts(((Long)arguments[0]).longValue());
+		}
+
+		if (_methodName70.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes70, parameterTypes)) {
+			return FolderLocalServiceUtil.updateSyncState(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				((Long)arguments[2]).longValue(),
+				((Long)arguments[3]).longValue());
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -398,4 +421,8 @@ public class FolderLocalServiceClpInvoker {
 	private String[] _methodParameterTypes67;
 	private String _methodName68;
 	private String[] _methodParameterTypes68;
+	private String _methodName69;
+	private String[] _methodParameterTypes69;
+	private String _methodName70;
+	private String[] _methodParameterTypes70;
 }
\ No newline at end of file
@@ -130,70 +130,90 @@ public class MessageLocalServiceClpInvoker {
 				"long", "java.lang.String"
 			};
 
-		_methodName60 = "deleteMessage";
+		_methodName60 = "addMessages";
 
-		_methodParameterTypes60 = new String[] { "long" };
+		_methodParameterTypes60 = new String[] {
+				"long", "long", "java.util.List"
+			};
 
 		_methodName61 = "deleteMessage";
 
-		_methodParameterTypes61 = new String[] { "com.liferay.mail.model.Message" };
+		_methodParameterTypes61 = new String[] { "long" };
 
-		_methodName62 = "deleteMessages";
+		_methodName62 = "deleteMessage";
 
-		_methodParameterTypes62 = new String[] { "long" };
+		_methodParameterTypes62 = new String[] { "com.liferay.mail.model.Message" };
 
-		_methodName63 = "getAccountUnreadMessagesCount";
+		_methodName63 = "deleteMessages";
 
 		_methodParameterTypes63 = new String[] { "long" };
 
-		_methodName64 = "getCompanyMessages";
+		_methodName64 = "deleteRemoteMessages";
 
-		_methodParameterTypes64 = new String[] { "long", "int", "int" };
+		_methodParameterTypes64 = new String[] { "long", "long[]" };
 
-		_methodName65 = "getCompanyMessagesCount";
+		_methodName65 = "getAccountUnreadMessagesCount";
 
 		_methodParameterTypes65 = new String[] { "long" };
 
-		_methodName66 = "getFolderMessages";
+		_methodName66 = "getCompanyMessages";
 
-		_methodParameterTypes66 = new String[] { "long" };
+		_methodParameterTypes66 = new String[] { "long", "int", "int" };
 
-		_methodName67 = "getFolderMessagesCount";
+		_methodName67 = "getCompanyMessagesCount";
 
 		_methodParameterTypes67 = new String[] { "long" };
 
-		_methodName68 = "getFolderUnreadMessagesCount";
+		_methodName68 = "getFolderMessages";
 
 		_methodParameterTypes68 = new String[] { "long" };
 
-		_methodName69 = "getMessage";
+		_methodName69 = "getFolderMessagesCount";
+
+		_methodParameterTypes69 = new String[] { "long" };
+
+		_methodName70 = "getFolderUnreadMessagesCount";
+
+		_methodParameterTypes70 = new String[] { "long" };
+
+		_methodName71 = "getMessage";
 
-		_methodParameterTypes69 = new String[] { "long", "long" };
+		_methodParameterTypes71 = new String[] { "long", "long" };
 
-		_methodName70 = "getRemoteMessage";
+		_methodName72 = "getRemoteMessage";
 
-		_methodParameterTypes70 = new String[] { "long", "boolean" };
+		_methodParameterTypes72 = new String[] { "long", "boolean" };
 
-		_methodName71 = "populateMessages";
+		_methodName73 = "getRemoteMessageIds";
 
-		_methodParameterTypes71 = new String[] {
+		_methodParameterTypes73 = new String[] { "long", "long", "long" };
+
+		_methodName74 = "populateMessages";
+
+		_methodParameterTypes74 = new String[] {
 				"java.util.List", "long", "java.lang.String", "int", "int",
 				"java.lang.String", "java.lang.String"
 			};
 
-		_methodName72 = "updateContent";
+		_methodName75 = "updateContent";
 
-		_methodParameterTypes72 = new String[] {
+		_methodParameterTypes75 = new String[] {
 				"long", "java.lang.String", "java.lang.String"
 			};
 
-		_methodName73 = "updateFlag";
+		_methodName76 = "updateFlag";
 
-		_methodParameterTypes73 = new String[] { "long", "int", "boolean" };
+		_methodParameterTypes76 = new String[] { "long", "int", "boolean" };
 
-		_methodName74 = "updateMessage";
+		_methodName77 = "updateFlags";
 
-		_methodParameterTypes74 = new String[] {
+		_methodParameterTypes77 = new String[] {
+				"long", "long[]", "java.lang.String[]"
+			};
+
+		_methodName78 = "updateMessage";
+
+		_methodParameterTypes78 = new String[] {
 				"long", "long", "java.lang.String", "java.lang.String",
 				"java.lang.String", "java.lang.String", "java.util.Date",
 				"java.lang.String", "java.lang.String", "java.lang.String",
@@ -324,67 +344,89 @@ public class MessageLocalServiceClpInvoker {
 
 		if (_methodName60.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes60, parameterTypes)) {
-			return MessageLocalServiceUtil.deleteMessage(((Long)arguments[0]).longValue());
+			return MessageLocalServiceUtil.addMessages(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				(java.util.List<com.liferay.mail.model.Message>)arguments[2]);
 		}
 
 		if (_methodName61.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes61, parameterTypes)) {
-			return MessageLocalServiceUtil.deleteMessage((com.liferay.mail.model.Message)arguments[0]);
+			return MessageLocalServiceUtil.deleteMessage(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName62.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes62, parameterTypes)) {
-			MessageLocalServiceUtil.deleteMessages(((Long)arguments[0]).longValue());
-
-			return null;
+			return MessageLocalServiceUtil.deleteMessage((com.liferay.mail.model.Message)arguments[0]);
 		}
 
 		if (_methodName63.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes63, parameterTypes)) {
-			return MessageLocalServiceUtil.getAccountUnreadMessagesCount(((Long)arguments[0]).longValue());
+			MessageLocalServiceUtil.deleteMessages(((Long)arguments[0]).longValue());
+
+			return null;
 		}
 
 		if (_methodName64.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes64, parameterTypes)) {
-			return MessageLocalServiceUtil.getCompanyMessages(((Long)arguments[0]).longValue(),
-				((Integer)arguments[1]).intValue(),
-				((Integer)arguments[2]).intValue());
+			MessageLocalServiceUtil.deleteRemoteMessages(((Long)arguments[0]).longValue(),
+				(long[])arguments[1]);
+
+			return null;
 		}
 
 		if (_methodName65.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes65, parameterTypes)) {
-			return MessageLocalServiceUtil.getCompanyMessagesCount(((Long)arguments[0]).longValue());
+			return MessageLocalServiceUtil.getAccountUnreadMessagesCount(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName66.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes66, parameterTypes)) {
-			return MessageLocalServiceUtil.getFolderMessages(((Long)arguments[0]).longValue());
+			return MessageLocalServiceUtil.getCompanyMessages(((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue(),
+				((Integer)arguments[2]).intValue());
 		}
 
 		if (_methodName67.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes67, parameterTypes)) {
-			return MessageLocalServiceUtil.getFolderMessagesCount(((Long)arguments[0]).longValue());
+			return MessageLocalServiceUtil.getCompanyMessagesCount(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName68.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes68, parameterTypes)) {
-			return MessageLocalServiceUtil.getFolderUnreadMessagesCount(((Long)arguments[0]).longValue());
+			return MessageLocalServiceUtil.getFolderMessages(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName69.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes69, parameterTypes)) {
-			return MessageLocalServiceUtil.getMessage(((Long)arguments[0]).longValue(),
-				((Long)arguments[1]).longValue());
+			return MessageLocalServiceUtil.getFolderMessagesCount(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName70.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes70, parameterTypes)) {
-			return MessageLocalServiceUtil.getRemoteMessage(((Long)arguments[0]).longValue(),
-				((Boolean)arguments[1]).booleanValue());
+			return MessageLocalServiceUtil.getFolderUnreadMessagesCount(((Long)arguments[0]).longValue());
 		}
 
 		if (_methodName71.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes71, parameterTypes)) {
+			return MessageLocalServiceUtil.getMessage(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue());
+		}
+
+		if (_methodName72.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes72, parameterTypes)) {
+			return MessageLocalServiceUtil.getRemoteMessage(((Long)arguments[0]).longValue(),
+				((Boolean)arguments[1]).booleanValue());
+		}
+
+		if (_methodName73.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes73, parameterTypes)) {
+			return MessageLocalServiceUtil.getRemoteMessageIds(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				((Long)arguments[2]).longValue());
+		}
+
+		if (_methodName74.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes74, parameterTypes)) {
 			return MessageLocalServiceUtil.populateMessages((java.util.List<com.liferay.mail.model.Message>)arguments[0],
 				((Long)arguments[1]).longValue(),
 				(java.lang.String)arguments[2],
@@ -393,21 +435,30 @@ public class MessageLocalServiceClpInvoker {
 				(java.lang.String)arguments[5], (java.lang.String)arguments[6]);
 		}
 
-		if (_methodName72.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes72, parameterTypes)) {
+		if (_methodName75.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes75, parameterTypes)) {
 			return MessageLocalServiceUtil.updateContent(((Long)arguments[0]).longValue(),
 				(java.lang.String)arguments[1], (java.lang.String)arguments[2]);
 		}
 
-		if (_methodName73.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes73, parameterTypes)) {
+		if (_methodName76.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes76, parameterTypes)) {
 			return MessageLocalServiceUtil.updateFlag(((Long)arguments[0]).longValue(),
 				((Integer)arguments[1]).intValue(),
 				((Boolean)arguments[2]).booleanValue());
 		}
 
-		if (_methodName74.equals(name) &&
-				Arrays.deepEquals(_methodParameterTypes74, parameterTypes)) {
+		if (_methodName77.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes77, parameterTypes)) {
+			MessageLocalServiceUtil.updateFlags(((Long)arguments[0]).longValue(),
+				(long[])arguments[1],
+				(java.lang.String[])arguments[2]);
+
+			return null;
+		}
+
+		if (_methodName78.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes78, parameterTypes)) {
 			return MessageLocalServiceUtil.updateMessage(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue(),
 				(java.lang.String)arguments[2], (java.lang.String)arguments[3],
@@ -492,4 +543,12 @@ public class MessageLocalServiceClpInvoker {
 	private String[] _methodParameterTypes73;
 	private String _methodName74;
 	private String[] _methodParameterTypes74;
+	private String _methodName75;
+	private String[] _methodParameterTypes75;
+	private String _methodName76;
+	private String[] _methodParameterTypes76;
+	private String _methodName77;
+	private String[] _methodParameterTypes77;
+	private String _methodName78;
+	private String[] _methodParameterTypes78;
 }
\ No newline at end of file
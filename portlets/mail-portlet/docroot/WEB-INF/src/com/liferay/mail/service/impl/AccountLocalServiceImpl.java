@@ -15,10 +15,15 @@
 package com.liferay.mail.service.impl;
 
 import com.liferay.mail.model.Account;
+import com.liferay.mail.model.Folder;
+import com.liferay.mail.model.impl.AccountImpl;
+import com.liferay.mail.model.impl.AccountModelImpl;
 import com.liferay.mail.service.base.AccountLocalServiceBaseImpl;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.User;
@@ -138,7 +143,10 @@ public class AccountLocalServiceImpl extends AccountLocalServiceBaseImpl {
 			String folderPrefix, boolean defaultSender)
 		throws PortalException {
 
-		Account account = accountPersistence.findByPrimaryKey(accountId);
+		// The message counts are incremented in the database, so they are
+		// reread right before the account is written as a whole
+
+		Account account = fetchUpdatedAccount(accountId);
 
 		account.setModifiedDate(new Date());
 		account.setPersonalName(personalName);
@@ -166,7 +174,7 @@ public class AccountLocalServiceImpl extends AccountLocalServiceBaseImpl {
 			long sentFolderId, long trashFolderId)
 		throws PortalException {
 
-		Account account = accountPersistence.findByPrimaryKey(accountId);
+		Account account = fetchUpdatedAccount(accountId);
 
 		account.setModifiedDate(new Date());
 
@@ -180,4 +188,50 @@ public class AccountLocalServiceImpl extends AccountLocalServiceBaseImpl {
 		return account;
 	}
 
+	public Account updateMessageCounts(long accountId) throws PortalException {
+		Account account = accountPersistence.findByPrimaryKey(accountId);
+
+		int messageCount = 0;
+		int unreadMessageCount = 0;
+
+		List<Folder> folders = folderPersistence.findByAccountId(accountId);
+
+		for (Folder folder : folders) {
+			folder = folderLocalService.updateMessageCounts(
+				folder.getFolderId());
+
+			messageCount += folder.getMessageCount();
+			unreadMessageCount += folder.getUnreadMessageCount();
+		}
+
+		if ((account.getMessageCount() == messageCount) &&
+			(account.getUnreadMessageCount() == unreadMessageCount)) {
+
+			return account;
+		}
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("update Mail_Account set messageCount = ");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount = ");
+		sb.append(unreadMessageCount);
+		sb.append(" where accountId = ");
+		sb.append(accountId);
+
+		runSQL(sb.toString());
+
+		return fetchUpdatedAccount(accountId);
+	}
+
+	protected Account fetchUpdatedAccount(long accountId)
+		throws PortalException {
+
+		EntityCacheUtil.removeResult(
+			AccountModelImpl.ENTITY_CACHE_ENABLED, AccountImpl.class,
+			accountId);
+
+		return accountPersistence.findByPrimaryKey(accountId);
+	}
+
 }
\ No newline at end of file
@@ -15,10 +15,19 @@
 package com.liferay.mail.service.impl;
 
 import com.liferay.mail.model.Folder;
+import com.liferay.mail.model.Message;
+import com.liferay.mail.model.impl.FolderImpl;
+import com.liferay.mail.model.impl.FolderModelImpl;
 import com.liferay.mail.service.base.FolderLocalServiceBaseImpl;
+import com.liferay.mail.util.MailConstants;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.model.User;
 
 import java.util.Date;
@@ -136,7 +145,30 @@ public class FolderLocalServiceImpl extends FolderLocalServiceBaseImpl {
 			int remoteMessageCount)
 		throws PortalException {
 
-		Folder folder = folderPersistence.findByPrimaryKey(folderId);
+		// The message counts are incremented in the database, so the folder
+		// is only written as a whole when it is renamed and then reread right
+		// before the write
+
+		Folder folder = fetchUpdatedFolder(folderId);
+
+		if (fullName.equals(folder.getFullName()) &&
+			displayName.equals(folder.getDisplayName())) {
+
+			if (folder.getRemoteMessageCount() == remoteMessageCount) {
+				return folder;
+			}
+
+			StringBundler sb = new StringBundler(4);
+
+			sb.append("update Mail_Folder set remoteMessageCount = ");
+			sb.append(remoteMessageCount);
+			sb.append(" where folderId = ");
+			sb.append(folderId);
+
+			runSQL(sb.toString());
+
+			return fetchUpdatedFolder(folderId);
+		}
 
 		folder.setModifiedDate(new Date());
 		folder.setFullName(fullName);
@@ -148,4 +180,71 @@ public class FolderLocalServiceImpl extends FolderLocalServiceBaseImpl {
 		return folder;
 	}
 
+	public Folder updateMessageCounts(long folderId) throws PortalException {
+		Folder folder = folderPersistence.findByPrimaryKey(folderId);
+
+		int messageCount = messagePersistence.countByFolderId(folderId);
+		int unreadMessageCount = getUnreadMessagesCount(folderId);
+
+		if ((folder.getMessageCount() == messageCount) &&
+			(folder.getUnreadMessageCount() == unreadMessageCount)) {
+
+			return folder;
+		}
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("update Mail_Folder set messageCount = ");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount = ");
+		sb.append(unreadMessageCount);
+		sb.append(" where folderId = ");
+		sb.append(folderId);
+
+		runSQL(sb.toString());
+
+		return fetchUpdatedFolder(folderId);
+	}
+
+	public Folder updateSyncState(
+			long folderId, long uidValidity, long highestRemoteMessageId,
+			long highestModSeq)
+		throws PortalException {
+
+		StringBundler sb = new StringBundler(8);
+
+		sb.append("update Mail_Folder set uidValidity = ");
+		sb.append(uidValidity);
+		sb.append(", highestRemoteMessageId = ");
+		sb.append(highestRemoteMessageId);
+		sb.append(", highestModSeq = ");
+		sb.append(highestModSeq);
+		sb.append(" where folderId = ");
+		sb.append(folderId);
+
+		runSQL(sb.toString());
+
+		return fetchUpdatedFolder(folderId);
+	}
+
+	protected Folder fetchUpdatedFolder(long folderId) throws PortalException {
+		EntityCacheUtil.removeResult(
+			FolderModelImpl.ENTITY_CACHE_ENABLED, FolderImpl.class, folderId);
+
+		return folderPersistence.findByPrimaryKey(folderId);
+	}
+
+	protected int getUnreadMessagesCount(long folderId) {
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
+			Message.class, getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.not(
+				RestrictionsFactoryUtil.like(
+					"flags", "%" + MailConstants.FLAG_SEEN + ",%")));
+
+		return (int)messageLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
 }
\ No newline at end of file
@@ -14,28 +14,49 @@
 
 package com.liferay.mail.service.impl;
 
+import com.liferay.counter.model.Counter;
 import com.liferay.mail.NoSuchMessageException;
+import com.liferay.mail.model.Account;
 import com.liferay.mail.model.Attachment;
 import com.liferay.mail.model.Folder;
 import com.liferay.mail.model.Message;
+import com.liferay.mail.model.impl.AccountImpl;
+import com.liferay.mail.model.impl.AccountModelImpl;
+import com.liferay.mail.model.impl.FolderImpl;
+import com.liferay.mail.model.impl.FolderModelImpl;
 import com.liferay.mail.service.base.MessageLocalServiceBaseImpl;
 import com.liferay.mail.util.HtmlContentUtil;
 import com.liferay.mail.util.MailConstants;
-import com.liferay.portal.kernel.dao.orm.Disjunction;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionList;
 import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.Hits;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.QueryConfig;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.search.SearchEngineUtil;
+import com.liferay.portal.kernel.search.Sort;
+import com.liferay.portal.kernel.search.SortFactoryUtil;
 import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.User;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Scott Lee
@@ -80,6 +101,17 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		messagePersistence.update(message);
 
+		// Folder and account
+
+		int unreadMessageCount = 0;
+
+		if (isUnread(flags)) {
+			unreadMessageCount = 1;
+		}
+
+		updateMessageCounts(
+			folder.getAccountId(), folderId, 1, unreadMessageCount);
+
 		// Indexer
 
 		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
@@ -90,6 +122,89 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 		return message;
 	}
 
+	public List<Message> addMessages(
+			long userId, long folderId, List<Message> messages)
+		throws PortalException {
+
+		// Messages
+
+		User user = userPersistence.findByPrimaryKey(userId);
+		Folder folder = folderPersistence.findByPrimaryKey(folderId);
+		Date now = new Date();
+
+		long messageId =
+			counterLocalService.increment(
+				Counter.class.getName(), messages.size()) - messages.size();
+
+		List<Message> addedMessages = new ArrayList<>(messages.size());
+		int unreadMessageCount = 0;
+
+		for (Message message : messages) {
+			messageId++;
+
+			Message addedMessage = messagePersistence.create(messageId);
+
+			addedMessage.setCompanyId(user.getCompanyId());
+			addedMessage.setUserId(user.getUserId());
+			addedMessage.setUserName(user.getFullName());
+			addedMessage.setCreateDate(now);
+			addedMessage.setModifiedDate(now);
+			addedMessage.setAccountId(folder.getAccountId());
+			addedMessage.setFolderId(folderId);
+			addedMessage.setSender(message.getSender());
+			addedMessage.setTo(message.getTo());
+			addedMessage.setCc(message.getCc());
+			addedMessage.setBcc(message.getBcc());
+			addedMessage.setSentDate(message.getSentDate());
+			addedMessage.setSubject(message.getSubject());
+			addedMessage.setPreview(getPreview(message.getBody()));
+			addedMessage.setBody(getBody(message.getBody()));
+			addedMessage.setFlags(message.getFlags());
+			addedMessage.setSize(getSize(messageId, message.getBody()));
+			addedMessage.setRemoteMessageId(message.getRemoteMessageId());
+			addedMessage.setContentType(
+				removeBoundaryMarker(message.getContentType()));
+
+			// The inserts are sent in JDBC batches when the session is
+			// flushed at the end of the transaction
+
+			messagePersistence.update(addedMessage);
+
+			addedMessages.add(addedMessage);
+
+			if (isUnread(addedMessage.getFlags())) {
+				unreadMessageCount++;
+			}
+		}
+
+		// Folder and account
+
+		updateMessageCounts(
+			folder.getAccountId(), folderId, addedMessages.size(),
+			unreadMessageCount);
+
+		// Indexer
+
+		if (SearchEngineUtil.isIndexReadOnly() || addedMessages.isEmpty()) {
+			return addedMessages;
+		}
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		List<Document> documents = new ArrayList<>(addedMessages.size());
+
+		for (Message addedMessage : addedMessages) {
+			documents.add(indexer.getDocument(addedMessage));
+		}
+
+		SearchEngineUtil.updateDocuments(
+			indexer.getSearchEngineId(), user.getCompanyId(), documents,
+			indexer.isCommitImmediately());
+
+		return addedMessages;
+	}
+
 	@Override
 	public Message deleteMessage(long messageId) throws PortalException {
 		Message message = messagePersistence.findByPrimaryKey(messageId);
@@ -104,6 +219,18 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		messagePersistence.remove(message);
 
+		// Folder and account
+
+		int unreadMessageCount = 0;
+
+		if (isUnread(message.getFlags())) {
+			unreadMessageCount = -1;
+		}
+
+		updateMessageCounts(
+			message.getAccountId(), message.getFolderId(), -1,
+			unreadMessageCount);
+
 		// Attachments
 
 		attachmentLocalService.deleteAttachments(
@@ -127,17 +254,27 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 		}
 	}
 
+	public void deleteRemoteMessages(long folderId, long[] remoteMessageIds)
+		throws PortalException {
+
+		for (long remoteMessageId : remoteMessageIds) {
+			Message message = messagePersistence.fetchByF_R(
+				folderId, remoteMessageId);
+
+			if (message != null) {
+				deleteMessage(message);
+			}
+		}
+	}
+
 	public int getAccountUnreadMessagesCount(long accountId) {
-		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
-			Message.class, getClassLoader());
+		Account account = accountPersistence.fetchByPrimaryKey(accountId);
 
-		dynamicQuery.add(RestrictionsFactoryUtil.eq("accountId", accountId));
-		dynamicQuery.add(
-			RestrictionsFactoryUtil.not(
-				RestrictionsFactoryUtil.like(
-					"flags", "%" + MailConstants.FLAG_SEEN + ",%")));
+		if (account == null) {
+			return 0;
+		}
 
-		return (int)dynamicQueryCount(dynamicQuery);
+		return account.getUnreadMessageCount();
 	}
 
 	public List<Message> getCompanyMessages(
@@ -159,16 +296,13 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 	}
 
 	public int getFolderUnreadMessagesCount(long folderId) {
-		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
-			Message.class, getClassLoader());
+		Folder folder = folderPersistence.fetchByPrimaryKey(folderId);
 
-		dynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
-		dynamicQuery.add(
-			RestrictionsFactoryUtil.not(
-				RestrictionsFactoryUtil.like(
-					"flags", "%" + MailConstants.FLAG_SEEN + ",%")));
+		if (folder == null) {
+			return 0;
+		}
 
-		return (int)dynamicQueryCount(dynamicQuery);
+		return folder.getUnreadMessageCount();
 	}
 
 	public Message getMessage(long folderId, long remoteMessageId)
@@ -204,34 +338,55 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 		return messages.get(0);
 	}
 
-	public int populateMessages(
-		List<Message> messages, long folderId, String keywords, int pageNumber,
-		int messagesPerPage, String orderByField, String orderByType) {
+	public long[] getRemoteMessageIds(
+		long folderId, long startRemoteMessageId, long endRemoteMessageId) {
 
-		DynamicQuery countDynamicQuery = DynamicQueryFactoryUtil.forClass(
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
 			Message.class, getClassLoader());
 
-		countDynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.between(
+				"remoteMessageId", startRemoteMessageId, endRemoteMessageId));
 
-		DynamicQuery messageDynamicQuery = DynamicQueryFactoryUtil.forClass(
-			Message.class, getClassLoader());
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("remoteMessageId"));
 
-		messageDynamicQuery.add(
-			RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.setProjection(
+			ProjectionFactoryUtil.property("remoteMessageId"));
 
-		if (Validator.isNotNull(keywords)) {
-			String value = "%" + keywords + "%";
+		List<Long> remoteMessageIdsList =
+			messagePersistence.findWithDynamicQuery(dynamicQuery);
+
+		long[] remoteMessageIds = new long[remoteMessageIdsList.size()];
 
-			Disjunction disjunction = RestrictionsFactoryUtil.disjunction();
+		for (int i = 0; i < remoteMessageIds.length; i++) {
+			remoteMessageIds[i] = remoteMessageIdsList.get(i);
+		}
 
-			disjunction.add(RestrictionsFactoryUtil.ilike("subject", value));
-			disjunction.add(RestrictionsFactoryUtil.ilike("body", value));
+		return remoteMessageIds;
+	}
+
+	public int populateMessages(
+			List<Message> messages, long folderId, String keywords,
+			int pageNumber, int messagesPerPage, String orderByField,
+			String orderByType)
+		throws PortalException {
 
-			countDynamicQuery.add(disjunction);
+		int start = messagesPerPage * (pageNumber - 1);
+		int end = messagesPerPage * pageNumber;
 
-			messageDynamicQuery.add(disjunction);
+		if (Validator.isNotNull(keywords)) {
+			return searchMessages(
+				messages, folderId, keywords, start, end, orderByField,
+				orderByType);
 		}
 
+		DynamicQuery messageDynamicQuery = DynamicQueryFactoryUtil.forClass(
+			Message.class, getClassLoader());
+
+		messageDynamicQuery.add(
+			RestrictionsFactoryUtil.eq("folderId", folderId));
+
 		if (orderByType.equals("desc")) {
 			messageDynamicQuery.addOrder(OrderFactoryUtil.desc(orderByField));
 		}
@@ -239,14 +394,11 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 			messageDynamicQuery.addOrder(OrderFactoryUtil.asc(orderByField));
 		}
 
-		int start = messagesPerPage * (pageNumber - 1);
-		int end = messagesPerPage * pageNumber;
-
 		messages.addAll(
 			messagePersistence.<Message>findWithDynamicQuery(
 				messageDynamicQuery, start, end));
 
-		return (int)dynamicQueryCount(countDynamicQuery);
+		return messagePersistence.countByFolderId(folderId);
 	}
 
 	public Message updateContent(long messageId, String body, String flags)
@@ -254,6 +406,9 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		Message message = messagePersistence.findByPrimaryKey(messageId);
 
+		int unreadMessageCount = getUnreadMessageCountDelta(
+			message.getFlags(), flags);
+
 		message.setModifiedDate(new Date());
 		message.setPreview(getPreview(body));
 		message.setBody(getBody(body));
@@ -262,6 +417,17 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		messagePersistence.update(message);
 
+		updateMessageCounts(
+			message.getAccountId(), message.getFolderId(), 0,
+			unreadMessageCount);
+
+		// Indexer
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		indexer.reindex(message);
+
 		return message;
 	}
 
@@ -281,7 +447,130 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 			message.setFlags(StringUtil.remove(flags, flagString));
 		}
 
-		return messagePersistence.update(message);
+		message = messagePersistence.update(message);
+
+		updateMessageCounts(
+			message.getAccountId(), message.getFolderId(), 0,
+			getUnreadMessageCountDelta(flags, message.getFlags()));
+
+		// Indexer
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		indexer.reindex(message);
+
+		return message;
+	}
+
+	public void updateFlags(
+			long folderId, long[] remoteMessageIds, String[] remoteFlags)
+		throws PortalException {
+
+		if (remoteMessageIds.length == 0) {
+			return;
+		}
+
+		long startRemoteMessageId = Long.MAX_VALUE;
+		long endRemoteMessageId = 0;
+
+		for (long remoteMessageId : remoteMessageIds) {
+			startRemoteMessageId = Math.min(
+				startRemoteMessageId, remoteMessageId);
+			endRemoteMessageId = Math.max(endRemoteMessageId, remoteMessageId);
+		}
+
+		// Only the flags of the stored messages are loaded so that unchanged
+		// messages are not read in full
+
+		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
+			Message.class, getClassLoader());
+
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.between(
+				"remoteMessageId", startRemoteMessageId, endRemoteMessageId));
+
+		ProjectionList projectionList = ProjectionFactoryUtil.projectionList();
+
+		projectionList.add(ProjectionFactoryUtil.property("remoteMessageId"));
+		projectionList.add(ProjectionFactoryUtil.property("flags"));
+
+		dynamicQuery.setProjection(projectionList);
+
+		List<Object[]> results = messagePersistence.findWithDynamicQuery(
+			dynamicQuery);
+
+		Map<Long, String> storedFlags = new HashMap<>();
+		List<Message> updatedMessages = new ArrayList<>();
+		int unreadMessageCount = 0;
+
+		for (Object[] result : results) {
+			storedFlags.put((Long)result[0], (String)result[1]);
+		}
+
+		for (int i = 0; i < remoteMessageIds.length; i++) {
+			if (!storedFlags.containsKey(remoteMessageIds[i])) {
+				continue;
+			}
+
+			String curFlags = GetterUtil.getString(
+				storedFlags.get(remoteMessageIds[i]));
+
+			String flags = curFlags;
+
+			for (int flag : _REMOTE_FLAGS) {
+				String flagString = String.valueOf(flag);
+
+				boolean value = StringUtil.contains(remoteFlags[i], flagString);
+
+				if (value && !StringUtil.contains(flags, flagString)) {
+					flags = StringUtil.add(flags, flagString);
+				}
+				else if (!value && StringUtil.contains(flags, flagString)) {
+					flags = StringUtil.remove(flags, flagString);
+				}
+			}
+
+			if (flags.equals(curFlags)) {
+				continue;
+			}
+
+			Message message = messagePersistence.findByF_R(
+				folderId, remoteMessageIds[i]);
+
+			message.setFlags(flags);
+
+			message = messagePersistence.update(message);
+
+			updatedMessages.add(message);
+
+			unreadMessageCount += getUnreadMessageCountDelta(curFlags, flags);
+		}
+
+		Folder folder = folderPersistence.findByPrimaryKey(folderId);
+
+		updateMessageCounts(
+			folder.getAccountId(), folderId, 0, unreadMessageCount);
+
+		// Indexer
+
+		if (SearchEngineUtil.isIndexReadOnly() || updatedMessages.isEmpty()) {
+			return;
+		}
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		List<Document> documents = new ArrayList<>(updatedMessages.size());
+
+		for (Message message : updatedMessages) {
+			documents.add(indexer.getDocument(message));
+		}
+
+		SearchEngineUtil.updateDocuments(
+			indexer.getSearchEngineId(), folder.getCompanyId(), documents,
+			indexer.isCommitImmediately());
 	}
 
 	public Message updateMessage(
@@ -294,6 +583,9 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		Message message = messagePersistence.findByPrimaryKey(messageId);
 
+		long oldFolderId = message.getFolderId();
+		boolean oldUnread = isUnread(message.getFlags());
+
 		message.setModifiedDate(new Date());
 		message.setFolderId(folderId);
 		message.setSender(sender);
@@ -310,6 +602,47 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 
 		messagePersistence.update(message);
 
+		// Folders and account
+
+		int oldUnreadMessageCount = 0;
+
+		if (oldUnread) {
+			oldUnreadMessageCount = 1;
+		}
+
+		int unreadMessageCount = 0;
+
+		if (isUnread(flags)) {
+			unreadMessageCount = 1;
+		}
+
+		if (oldFolderId != folderId) {
+
+			// The folders are updated in the order of their IDs, and before
+			// the account, so that concurrent moves lock the rows in the same
+			// order
+
+			if (oldFolderId < folderId) {
+				updateFolderMessageCounts(
+					oldFolderId, -1, -oldUnreadMessageCount);
+				updateFolderMessageCounts(folderId, 1, unreadMessageCount);
+			}
+			else {
+				updateFolderMessageCounts(folderId, 1, unreadMessageCount);
+				updateFolderMessageCounts(
+					oldFolderId, -1, -oldUnreadMessageCount);
+			}
+
+			updateAccountMessageCounts(
+				message.getAccountId(), 0,
+				unreadMessageCount - oldUnreadMessageCount);
+		}
+		else {
+			updateMessageCounts(
+				message.getAccountId(), folderId, 0,
+				unreadMessageCount - oldUnreadMessageCount);
+		}
+
 		// Indexer
 
 		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
@@ -353,6 +686,47 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 		return size;
 	}
 
+	protected Sort[] getSorts(String orderByField, String orderByType) {
+		boolean reverse = false;
+
+		if (orderByType.equals("desc")) {
+			reverse = true;
+		}
+
+		if (orderByField.equals("sender") || orderByField.equals("to") ||
+			orderByField.equals(MailConstants.ORDER_BY_SUBJECT)) {
+
+			String fieldName = orderByField + "Keyword";
+
+			return new Sort[] {
+				SortFactoryUtil.create(fieldName, Sort.STRING_TYPE, reverse)
+			};
+		}
+
+		return new Sort[] {
+			SortFactoryUtil.create(orderByField, Sort.LONG_TYPE, reverse)
+		};
+	}
+
+	protected int getUnreadMessageCountDelta(String oldFlags, String flags) {
+		boolean oldUnread = isUnread(oldFlags);
+		boolean unread = isUnread(flags);
+
+		if (oldUnread && !unread) {
+			return -1;
+		}
+		else if (!oldUnread && unread) {
+			return 1;
+		}
+
+		return 0;
+	}
+
+	protected boolean isUnread(String flags) {
+		return !StringUtil.contains(
+			flags, String.valueOf(MailConstants.FLAG_SEEN));
+	}
+
 	protected String removeBoundaryMarker(String contentType) {
 		int i = contentType.indexOf(CharPool.SEMICOLON);
 
@@ -363,4 +737,106 @@ public class MessageLocalServiceImpl extends MessageLocalServiceBaseImpl {
 		return contentType.substring(0, i);
 	}
 
+	protected int searchMessages(
+			List<Message> messages, long folderId, String keywords, int start,
+			int end, String orderByField, String orderByType)
+		throws PortalException {
+
+		Folder folder = folderPersistence.findByPrimaryKey(folderId);
+
+		SearchContext searchContext = new SearchContext();
+
+		searchContext.setAttribute(Field.FOLDER_ID, folderId);
+		searchContext.setCompanyId(folder.getCompanyId());
+		searchContext.setEnd(end);
+		searchContext.setKeywords(keywords);
+		searchContext.setSorts(getSorts(orderByField, orderByType));
+		searchContext.setStart(start);
+
+		QueryConfig queryConfig = searchContext.getQueryConfig();
+
+		queryConfig.setHighlightEnabled(false);
+		queryConfig.setScoreEnabled(false);
+
+		Indexer<Message> indexer = IndexerRegistryUtil.getIndexer(
+			Message.class);
+
+		Hits hits = indexer.search(searchContext);
+
+		for (Document document : hits.getDocs()) {
+			long messageId = GetterUtil.getLong(
+				document.get(Field.ENTRY_CLASS_PK));
+
+			Message message = messagePersistence.fetchByPrimaryKey(messageId);
+
+			if (message != null) {
+				messages.add(message);
+			}
+		}
+
+		return hits.getLength();
+	}
+
+	protected void updateAccountMessageCounts(
+		long accountId, int messageCount, int unreadMessageCount) {
+
+		if ((messageCount == 0) && (unreadMessageCount == 0)) {
+			return;
+		}
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("update Mail_Account set messageCount = messageCount + ");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount = unreadMessageCount + ");
+		sb.append(unreadMessageCount);
+		sb.append(" where accountId = ");
+		sb.append(accountId);
+
+		runSQL(sb.toString());
+
+		EntityCacheUtil.removeResult(
+			AccountModelImpl.ENTITY_CACHE_ENABLED, AccountImpl.class,
+			accountId);
+	}
+
+	protected void updateFolderMessageCounts(
+		long folderId, int messageCount, int unreadMessageCount) {
+
+		if ((messageCount == 0) && (unreadMessageCount == 0)) {
+			return;
+		}
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("update Mail_Folder set messageCount = messageCount + ");
+		sb.append(messageCount);
+		sb.append(", unreadMessageCount = unreadMessageCount + ");
+		sb.append(unreadMessageCount);
+		sb.append(" where folderId = ");
+		sb.append(folderId);
+
+		runSQL(sb.toString());
+
+		EntityCacheUtil.removeResult(
+			FolderModelImpl.ENTITY_CACHE_ENABLED, FolderImpl.class, folderId);
+	}
+
+	protected void updateMessageCounts(
+		long accountId, long folderId, int messageCount,
+		int unreadMessageCount) {
+
+		// The counters are incremented in the database so that concurrent
+		// changes are not lost. A folder is always updated before its account
+		// so that concurrent changes lock the rows in the same order.
+
+		updateFolderMessageCounts(folderId, messageCount, unreadMessageCount);
+		updateAccountMessageCounts(
+			accountId, messageCount, unreadMessageCount);
+	}
+
+	private static final int[] _REMOTE_FLAGS = {
+		MailConstants.FLAG_FLAGGED, MailConstants.FLAG_SEEN
+	};
+
 }
\ No newline at end of file
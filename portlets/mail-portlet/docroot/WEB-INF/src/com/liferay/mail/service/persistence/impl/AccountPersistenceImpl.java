@@ -1205,6 +1205,8 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		accountImpl.setSentFolderId(account.getSentFolderId());
 		accountImpl.setTrashFolderId(account.getTrashFolderId());
 		accountImpl.setDefaultSender(account.isDefaultSender());
+		accountImpl.setMessageCount(account.getMessageCount());
+		accountImpl.setUnreadMessageCount(account.getUnreadMessageCount());
 
 		return accountImpl;
 	}
@@ -1190,6 +1190,11 @@ public class FolderPersistenceImpl extends BasePersistenceImpl<Folder>
 		folderImpl.setFullName(folder.getFullName());
 		folderImpl.setDisplayName(folder.getDisplayName());
 		folderImpl.setRemoteMessageCount(folder.getRemoteMessageCount());
+		folderImpl.setUidValidity(folder.getUidValidity());
+		folderImpl.setHighestRemoteMessageId(folder.getHighestRemoteMessageId());
+		folderImpl.setHighestModSeq(folder.getHighestModSeq());
+		folderImpl.setMessageCount(folder.getMessageCount());
+		folderImpl.setUnreadMessageCount(folder.getUnreadMessageCount());
 
 		return folderImpl;
 	}
@@ -22,14 +22,17 @@ import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.BaseIndexer;
+import com.liferay.portal.kernel.search.BooleanQuery;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
+import com.liferay.portal.kernel.search.filter.BooleanFilter;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portlet.expando.model.ExpandoBridge;
 import com.liferay.portlet.expando.util.ExpandoBridgeIndexerUtil;
 
@@ -45,11 +48,59 @@ public class MessageIndexer extends BaseIndexer<Message> {
 
 	public static final String CLASS_NAME = Message.class.getName();
 
+	public MessageIndexer() {
+		setDefaultSelectedFieldNames(
+			Field.COMPANY_ID, Field.ENTRY_CLASS_NAME, Field.ENTRY_CLASS_PK,
+			Field.UID);
+	}
+
 	@Override
 	public String getClassName() {
 		return CLASS_NAME;
 	}
 
+	@Override
+	public void postProcessContextBooleanFilter(
+			BooleanFilter contextBooleanFilter, SearchContext searchContext)
+		throws Exception {
+
+		long accountId = GetterUtil.getLong(
+			searchContext.getAttribute("accountId"));
+
+		if (accountId > 0) {
+			contextBooleanFilter.addRequiredTerm("accountId", accountId);
+		}
+
+		long folderId = GetterUtil.getLong(
+			searchContext.getAttribute(Field.FOLDER_ID));
+
+		if (folderId > 0) {
+			contextBooleanFilter.addRequiredTerm(Field.FOLDER_ID, folderId);
+		}
+
+		int[] flags = (int[])searchContext.getAttribute("flags");
+
+		if (flags != null) {
+			for (int flag : flags) {
+				contextBooleanFilter.addRequiredTerm("flags", flag);
+			}
+		}
+	}
+
+	@Override
+	public void postProcessSearchQuery(
+			BooleanQuery searchQuery, BooleanFilter fullQueryBooleanFilter,
+			SearchContext searchContext)
+		throws Exception {
+
+		addSearchTerm(searchQuery, searchContext, "bcc", true);
+		addSearchTerm(searchQuery, searchContext, "cc", true);
+		addSearchTerm(searchQuery, searchContext, Field.CONTENT, true);
+		addSearchTerm(searchQuery, searchContext, "sender", true);
+		addSearchTerm(searchQuery, searchContext, Field.TITLE, true);
+		addSearchTerm(searchQuery, searchContext, "to", true);
+	}
+
 	@Override
 	protected void doDelete(Message message) throws Exception {
 		SearchContext searchContext = new SearchContext();
@@ -77,7 +128,17 @@ public class MessageIndexer extends BaseIndexer<Message> {
 		document.addText(Field.TITLE, message.getSubject());
 
 		document.addKeyword("accountId", message.getAccountId());
+		document.addText("bcc", message.getBcc());
+		document.addText("cc", message.getCc());
+		document.addKeyword("flags", StringUtil.split(message.getFlags(), 0));
 		document.addKeyword("remoteMessageId", message.getRemoteMessageId());
+		document.addText("sender", message.getSender());
+		document.addKeyword("senderKeyword", message.getSender(), true);
+		document.addDate("sentDate", message.getSentDate());
+		document.addNumber("size", message.getSize());
+		document.addKeyword("subjectKeyword", message.getSubject(), true);
+		document.addText("to", message.getTo());
+		document.addKeyword("toKeyword", message.getTo(), true);
 
 		ExpandoBridgeIndexerUtil.addAttributes(document, expandoBridge);
 
@@ -120,6 +181,8 @@ public class MessageIndexer extends BaseIndexer<Message> {
 			MessageLocalServiceUtil.getIndexableActionableDynamicQuery();
 
 		indexableActionableDynamicQuery.setCompanyId(companyId);
+		indexableActionableDynamicQuery.setInterval(
+			PortletPropsValues.MESSAGES_REINDEX_BATCH_SIZE);
 		indexableActionableDynamicQuery.setPerformActionMethod(
 			new ActionableDynamicQuery.PerformActionMethod<Message>() {
 
@@ -21,10 +21,29 @@ public interface PortletPropsKeys {
 
 	public static final String DEFAULT_ACCOUNTS = "default.accounts";
 
+	public static final String IMAP_CONNECTION_POOL_IDLE_TIMEOUT =
+		"imap.connection.pool.idle.timeout";
+
+	public static final String IMAP_CONNECTION_POOL_MAX_CONNECTIONS =
+		"imap.connection.pool.max.connections";
+
+	public static final String IMAP_IDLE_ENABLED = "imap.idle.enabled";
+
+	public static final String IMAP_IDLE_TIMEOUT = "imap.idle.timeout";
+
 	public static final String INCOMING_PORTS = "incoming.ports";
 
 	public static final String JAVAMAIL_DEBUG = "javamail.debug";
 
+	public static final String MESSAGES_REINDEX_BATCH_SIZE =
+		"messages.reindex.batch.size";
+
+	public static final String MESSAGES_REINDEX_ON_STARTUP =
+		"messages.reindex.on.startup";
+
+	public static final String MESSAGES_SYNC_BATCH_SIZE =
+		"messages.sync.batch.size";
+
 	public static final String MESSAGES_SYNC_COUNT = "messages.sync.count";
 
 	public static final String OUTGOING_PORTS = "outgoing.ports";
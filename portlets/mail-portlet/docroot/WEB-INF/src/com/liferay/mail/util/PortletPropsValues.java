@@ -26,12 +26,39 @@ public class PortletPropsValues {
 	public static final String DEFAULT_ACCOUNTS = PortletProps.get(
 		PortletPropsKeys.DEFAULT_ACCOUNTS);
 
+	public static final int IMAP_CONNECTION_POOL_IDLE_TIMEOUT =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.IMAP_CONNECTION_POOL_IDLE_TIMEOUT));
+
+	public static final int IMAP_CONNECTION_POOL_MAX_CONNECTIONS =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.IMAP_CONNECTION_POOL_MAX_CONNECTIONS));
+
+	public static final boolean IMAP_IDLE_ENABLED = GetterUtil.getBoolean(
+		PortletProps.get(PortletPropsKeys.IMAP_IDLE_ENABLED));
+
+	public static final int IMAP_IDLE_TIMEOUT = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.IMAP_IDLE_TIMEOUT));
+
 	public static final int[] INCOMING_PORTS = StringUtil.split(
 		PortletProps.get(PortletPropsKeys.INCOMING_PORTS), 0);
 
 	public static final boolean JAVAMAIL_DEBUG = GetterUtil.getBoolean(
 		PortletProps.get(PortletPropsKeys.JAVAMAIL_DEBUG));
 
+	public static final int MESSAGES_REINDEX_BATCH_SIZE =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.MESSAGES_REINDEX_BATCH_SIZE));
+
+	public static final boolean MESSAGES_REINDEX_ON_STARTUP =
+		GetterUtil.getBoolean(
+			PortletProps.get(PortletPropsKeys.MESSAGES_REINDEX_ON_STARTUP));
+
+	public static final int MESSAGES_SYNC_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.MESSAGES_SYNC_BATCH_SIZE));
+
 	public static final int MESSAGES_SYNC_COUNT = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.MESSAGES_SYNC_COUNT));
 
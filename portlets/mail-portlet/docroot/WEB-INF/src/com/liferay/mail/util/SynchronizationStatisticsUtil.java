@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mail.util;
+
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts the envelopes that are downloaded and stored for every folder that is
+ * synchronized on this node. The counts are exposed through {@link
+ * com.liferay.mail.jmx.SynchronizationStatisticsManager}.
+ */
+public class SynchronizationStatisticsUtil {
+
+	public static void addEnvelopes(
+		long folderId, String fullName, int downloadedCount, int storedCount,
+		long time) {
+
+		FolderStatistics folderStatistics = _folderStatisticsMap.get(folderId);
+
+		if (folderStatistics == null) {
+			folderStatistics = new FolderStatistics(folderId, fullName);
+
+			FolderStatistics curFolderStatistics =
+				_folderStatisticsMap.putIfAbsent(folderId, folderStatistics);
+
+			if (curFolderStatistics != null) {
+				folderStatistics = curFolderStatistics;
+			}
+		}
+
+		folderStatistics.addEnvelopes(downloadedCount, storedCount, time);
+	}
+
+	public static List<String> getFolderStatistics() {
+		List<String> folderStatistics = new ArrayList<>();
+
+		for (Map.Entry<Long, FolderStatistics> entry :
+				_folderStatisticsMap.entrySet()) {
+
+			folderStatistics.add(String.valueOf(entry.getValue()));
+		}
+
+		return folderStatistics;
+	}
+
+	public static void resetFolderStatistics() {
+		_folderStatisticsMap.clear();
+	}
+
+	private static ConcurrentMap<Long, FolderStatistics> _folderStatisticsMap =
+		new ConcurrentHashMap<>();
+
+	private static class FolderStatistics {
+
+		public FolderStatistics(long folderId, String fullName) {
+			_folderId = folderId;
+			_fullName = fullName;
+		}
+
+		public synchronized void addEnvelopes(
+			int downloadedCount, int storedCount, long time) {
+
+			_downloadedCount += downloadedCount;
+			_lastDownloadedCount = downloadedCount;
+			_lastStoredCount = storedCount;
+			_lastTime = time;
+			_storedCount += storedCount;
+			_synchronizationCount++;
+			_time += time;
+		}
+
+		@Override
+		public synchronized String toString() {
+			StringBundler sb = new StringBundler(17);
+
+			sb.append("{folderId=");
+			sb.append(_folderId);
+			sb.append(", fullName=");
+			sb.append(_fullName);
+			sb.append(", synchronizations=");
+			sb.append(_synchronizationCount);
+			sb.append(", downloaded=");
+			sb.append(_downloadedCount);
+			sb.append(", stored=");
+			sb.append(_storedCount);
+			sb.append(", messagesPerSecond=");
+			sb.append(getMessagesPerSecond(_downloadedCount, _time));
+			sb.append(", lastDownloaded=");
+			sb.append(_lastDownloadedCount);
+			sb.append(", lastStored=");
+			sb.append(_lastStoredCount);
+			sb.append(", lastMessagesPerSecond=");
+			sb.append(getMessagesPerSecond(_lastDownloadedCount, _lastTime));
+			sb.append("}");
+
+			return sb.toString();
+		}
+
+		protected long getMessagesPerSecond(long count, long time) {
+			if (time <= 0) {
+				return count;
+			}
+
+			return count * 1000 / time;
+		}
+
+		private long _downloadedCount;
+		private final long _folderId;
+		private final String _fullName;
+		private int _lastDownloadedCount;
+		private int _lastStoredCount;
+		private long _lastTime;
+		private long _storedCount;
+		private long _synchronizationCount;
+		private long _time;
+
+	}
+
+}
\ No newline at end of file
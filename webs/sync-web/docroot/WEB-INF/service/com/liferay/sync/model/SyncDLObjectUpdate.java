@@ -18,6 +18,9 @@ import com.liferay.portal.kernel.json.JSON;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import java.util.Date;
 import java.util.List;
 
@@ -39,6 +42,22 @@ public class SyncDLObjectUpdate {
 		_lastAccessTime = lastAccessTime;
 	}
 
+	public SyncDLObjectUpdate(
+		List<SyncDLObject> syncDLObjects, long lastAccessTime, String cursor,
+		boolean more) {
+
+		_syncDLObjects = syncDLObjects;
+		_lastAccessTime = lastAccessTime;
+		_cursor = cursor;
+		_more = more;
+
+		_resultsTotal = -1;
+	}
+
+	public String getCursor() {
+		return _cursor;
+	}
+
 	public long getLastAccessTime() {
 		return _lastAccessTime;
 	}
@@ -52,79 +71,36 @@ public class SyncDLObjectUpdate {
 		return _syncDLObjects;
 	}
 
+	public boolean isMore() {
+		return _more;
+	}
+
 	@Override
 	public String toString() {
-		StringBundler sb = new StringBundler((_syncDLObjects.size() * 78) + 5);
+		StringBundler sb = new StringBundler((_syncDLObjects.size() * 78) + 15);
 
-		sb.append("{\"lastAccessTime\":");
+		sb.append("{");
+
+		if (_cursor != null) {
+			sb.append("\"cursor\":");
+			append(sb, _cursor, false);
+			sb.append(StringPool.COMMA);
+		}
+
+		sb.append("\"lastAccessTime\":");
 		sb.append(_lastAccessTime);
+
+		if (_cursor != null) {
+			sb.append(",\"more\":");
+			sb.append(_more);
+		}
+
 		sb.append(",\"resultsTotal\":");
 		sb.append(_resultsTotal);
 		sb.append(",\"syncDLObjects\":[");
 
 		for (int i = 0; i < _syncDLObjects.size(); i++) {
-			SyncDLObject syncDLObject = _syncDLObjects.get(i);
-
-			sb.append("{\"changeLog\":");
-			append(sb, syncDLObject.getChangeLog(), true);
-			sb.append(",\"checksum\":");
-			append(sb, syncDLObject.getChecksum(), false);
-			sb.append(",\"companyId\":");
-			sb.append(syncDLObject.getCompanyId());
-			sb.append(",\"createTime\":");
-			sb.append(syncDLObject.getCreateTime());
-			sb.append(",\"description\":");
-			append(sb, syncDLObject.getDescription(), true);
-			sb.append(",\"event\":");
-			append(sb, syncDLObject.getEvent(), false);
-			sb.append(",\"extension\":");
-			append(sb, syncDLObject.getExtension(), true);
-			sb.append(",\"extraSettings\":");
-			append(sb, syncDLObject.getExtraSettings(), true);
-			sb.append(",\"lockExpirationDate\":");
-
-			Date lockExpirationDate = syncDLObject.getLockExpirationDate();
-
-			if (lockExpirationDate != null) {
-				sb.append(lockExpirationDate.getTime());
-			}
-			else {
-				sb.append(StringPool.NULL);
-			}
-
-			sb.append(",\"lockUserId\":");
-			sb.append(syncDLObject.getLockUserId());
-			sb.append(",\"lockUserName\":");
-			append(sb, syncDLObject.getLockUserName(), true);
-			sb.append(",\"mimeType\":");
-			append(sb, syncDLObject.getMimeType(), true);
-			sb.append(",\"modifiedTime\":");
-			sb.append(syncDLObject.getModifiedTime());
-			sb.append(",\"name\":");
-			append(sb, syncDLObject.getName(), true);
-			sb.append(",\"parentFolderId\":");
-			sb.append(syncDLObject.getParentFolderId());
-			sb.append(",\"repositoryId\":");
-			sb.append(syncDLObject.getRepositoryId());
-			sb.append(",\"size\":");
-			sb.append(syncDLObject.getSize());
-			sb.append(",\"syncDLObjectId\":");
-			sb.append(syncDLObject.getSyncDLObjectId());
-			sb.append(",\"type\":");
-			append(sb, syncDLObject.getType(), false);
-			sb.append(",\"typePK\":");
-			sb.append(syncDLObject.getTypePK());
-			sb.append(",\"typeUuid\":");
-			append(sb, syncDLObject.getTypeUuid(), false);
-			sb.append(",\"userId\":");
-			sb.append(syncDLObject.getUserId());
-			sb.append(",\"userName\":");
-			append(sb, syncDLObject.getUserName(), true);
-			sb.append(",\"version\":");
-			append(sb, syncDLObject.getVersion(), false);
-			sb.append(",\"versionId\":");
-			sb.append(syncDLObject.getVersionId());
-			sb.append(StringPool.CLOSE_CURLY_BRACE);
+			append(sb, _syncDLObjects.get(i));
 
 			if (i != (_syncDLObjects.size() - 1)) {
 				sb.append(StringPool.COMMA);
@@ -136,7 +112,25 @@ public class SyncDLObjectUpdate {
 		return sb.toString();
 	}
 
-	protected void append(StringBundler sb, String s, boolean escape) {
+	public void writeSyncDLObjects(Writer writer, boolean first)
+		throws IOException {
+
+		for (SyncDLObject syncDLObject : _syncDLObjects) {
+			StringBundler sb = new StringBundler(78);
+
+			if (!first) {
+				sb.append(StringPool.COMMA);
+			}
+
+			append(sb, syncDLObject);
+
+			sb.writeTo(writer);
+
+			first = false;
+		}
+	}
+
+	protected static void append(StringBundler sb, String s, boolean escape) {
 		sb.append(StringPool.QUOTE);
 
 		if (escape) {
@@ -148,7 +142,72 @@ public class SyncDLObjectUpdate {
 		sb.append(StringPool.QUOTE);
 	}
 
+	protected static void append(StringBundler sb, SyncDLObject syncDLObject) {
+		sb.append("{\"changeLog\":");
+		append(sb, syncDLObject.getChangeLog(), true);
+		sb.append(",\"checksum\":");
+		append(sb, syncDLObject.getChecksum(), false);
+		sb.append(",\"companyId\":");
+		sb.append(syncDLObject.getCompanyId());
+		sb.append(",\"createTime\":");
+		sb.append(syncDLObject.getCreateTime());
+		sb.append(",\"description\":");
+		append(sb, syncDLObject.getDescription(), true);
+		sb.append(",\"event\":");
+		append(sb, syncDLObject.getEvent(), false);
+		sb.append(",\"extension\":");
+		append(sb, syncDLObject.getExtension(), true);
+		sb.append(",\"extraSettings\":");
+		append(sb, syncDLObject.getExtraSettings(), true);
+		sb.append(",\"lockExpirationDate\":");
+
+		Date lockExpirationDate = syncDLObject.getLockExpirationDate();
+
+		if (lockExpirationDate != null) {
+			sb.append(lockExpirationDate.getTime());
+		}
+		else {
+			sb.append(StringPool.NULL);
+		}
+
+		sb.append(",\"lockUserId\":");
+		sb.append(syncDLObject.getLockUserId());
+		sb.append(",\"lockUserName\":");
+		append(sb, syncDLObject.getLockUserName(), true);
+		sb.append(",\"mimeType\":");
+		append(sb, syncDLObject.getMimeType(), true);
+		sb.append(",\"modifiedTime\":");
+		sb.append(syncDLObject.getModifiedTime());
+		sb.append(",\"name\":");
+		append(sb, syncDLObject.getName(), true);
+		sb.append(",\"parentFolderId\":");
+		sb.append(syncDLObject.getParentFolderId());
+		sb.append(",\"repositoryId\":");
+		sb.append(syncDLObject.getRepositoryId());
+		sb.append(",\"size\":");
+		sb.append(syncDLObject.getSize());
+		sb.append(",\"syncDLObjectId\":");
+		sb.append(syncDLObject.getSyncDLObjectId());
+		sb.append(",\"type\":");
+		append(sb, syncDLObject.getType(), false);
+		sb.append(",\"typePK\":");
+		sb.append(syncDLObject.getTypePK());
+		sb.append(",\"typeUuid\":");
+		append(sb, syncDLObject.getTypeUuid(), false);
+		sb.append(",\"userId\":");
+		sb.append(syncDLObject.getUserId());
+		sb.append(",\"userName\":");
+		append(sb, syncDLObject.getUserName(), true);
+		sb.append(",\"version\":");
+		append(sb, syncDLObject.getVersion(), false);
+		sb.append(",\"versionId\":");
+		sb.append(syncDLObject.getVersionId());
+		sb.append(StringPool.CLOSE_CURLY_BRACE);
+	}
+
+	private String _cursor;
 	private long _lastAccessTime;
+	private boolean _more;
 	private int _resultsTotal;
 	private List<SyncDLObject> _syncDLObjects;
 
@@ -70,6 +70,10 @@ public interface SyncDLObjectLocalService extends BaseLocalService,
 	public com.liferay.sync.model.SyncDLObject addSyncDLObject(
 		com.liferay.sync.model.SyncDLObject syncDLObject);
 
+	public void addSyncDLObjects(
+		java.util.List<com.liferay.sync.model.SyncDLObject> syncDLObjects)
+		throws PortalException;
+
 	/**
 	* Creates a new sync d l object with the primary key. Does not add the sync d l object to the database.
 	*
@@ -72,6 +72,12 @@ public class SyncDLObjectLocalServiceUtil {
 		return getService().addSyncDLObject(syncDLObject);
 	}
 
+	public static void addSyncDLObjects(
+		java.util.List<com.liferay.sync.model.SyncDLObject> syncDLObjects)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().addSyncDLObjects(syncDLObjects);
+	}
+
 	/**
 	* Creates a new sync d l object with the primary key. Does not add the sync d l object to the database.
 	*
@@ -65,6 +65,13 @@ public class SyncDLObjectLocalServiceWrapper implements SyncDLObjectLocalService
 		return _syncDLObjectLocalService.addSyncDLObject(syncDLObject);
 	}
 
+	@Override
+	public void addSyncDLObjects(
+		java.util.List<com.liferay.sync.model.SyncDLObject> syncDLObjects)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		_syncDLObjectLocalService.addSyncDLObjects(syncDLObjects);
+	}
+
 	/**
 	* Creates a new sync d l object with the primary key. Does not add the sync d l object to the database.
 	*
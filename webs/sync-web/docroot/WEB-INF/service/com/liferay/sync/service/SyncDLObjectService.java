@@ -145,6 +145,11 @@ public interface SyncDLObjectService extends BaseService, InvokableService {
 		long repositoryId, long parentFolderId, long lastAccessTime)
 		throws PortalException;
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public com.liferay.sync.model.SyncDLObjectUpdate getSyncDLObjectUpdate(
+		long repositoryId, java.lang.String cursor, int max,
+		boolean retrieveFromCache) throws PortalException;
+
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public java.util.List<com.liferay.portal.model.Group> getUserSitesGroups()
 		throws PortalException;
@@ -189,6 +189,14 @@ public class SyncDLObjectServiceUtil {
 			lastAccessTime);
 	}
 
+	public static com.liferay.sync.model.SyncDLObjectUpdate getSyncDLObjectUpdate(
+		long repositoryId, java.lang.String cursor, int max,
+		boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService()
+				   .getSyncDLObjectUpdate(repositoryId, cursor, max, retrieveFromCache);
+	}
+
 	public static java.util.List<com.liferay.portal.model.Group> getUserSitesGroups()
 		throws com.liferay.portal.kernel.exception.PortalException {
 		return getService().getUserSitesGroups();
@@ -195,6 +195,14 @@ public class SyncDLObjectServiceWrapper implements SyncDLObjectService,
 			parentFolderId, lastAccessTime);
 	}
 
+	@Override
+	public com.liferay.sync.model.SyncDLObjectUpdate getSyncDLObjectUpdate(
+		long repositoryId, java.lang.String cursor, int max,
+		boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _syncDLObjectService.getSyncDLObjectUpdate(repositoryId, cursor, max, retrieveFromCache);
+	}
+
 	@Override
 	public java.util.List<com.liferay.portal.model.Group> getUserSitesGroups()
 		throws com.liferay.portal.kernel.exception.PortalException {
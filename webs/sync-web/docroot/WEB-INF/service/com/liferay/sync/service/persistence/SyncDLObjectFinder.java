@@ -25,6 +25,10 @@ public interface SyncDLObjectFinder {
 	public java.util.List<java.lang.Long> filterFindByR_U_T(long groupId,
 		long userId, long[] typePKs);
 
+	public java.util.List<com.liferay.sync.model.SyncDLObject> findByM_S_R(
+		long modifiedTime, long syncDLObjectId, long repositoryId,
+		boolean includeDeleted, int start, int end);
+
 	public java.util.List<com.liferay.sync.model.SyncDLObject> findByModifiedTime(
 		long modifiedTime, long repositoryId, long parentFolderId,
 		java.lang.String type, int start, int end);
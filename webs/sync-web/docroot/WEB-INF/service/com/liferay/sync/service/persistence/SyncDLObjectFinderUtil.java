@@ -30,6 +30,14 @@ public class SyncDLObjectFinderUtil {
 		return getFinder().filterFindByR_U_T(groupId, userId, typePKs);
 	}
 
+	public static java.util.List<com.liferay.sync.model.SyncDLObject> findByM_S_R(
+		long modifiedTime, long syncDLObjectId, long repositoryId,
+		boolean includeDeleted, int start, int end) {
+		return getFinder()
+				   .findByM_S_R(modifiedTime, syncDLObjectId, repositoryId,
+			includeDeleted, start, end);
+	}
+
 	public static java.util.List<com.liferay.sync.model.SyncDLObject> findByModifiedTime(
 		long modifiedTime, long repositoryId, long parentFolderId,
 		java.lang.String type, int start, int end) {
@@ -42,7 +42,7 @@ public class StartupAction extends SimpleAction {
 		UpgradeProcess upgradeProcess = new UpgradeSyncDLObject();
 
 		if (!upgradeProcess.tableHasData("SyncDLObject")) {
-			VerifyUtil.verify();
+			VerifyUtil.verifyInBackground();
 		}
 	}
 
@@ -15,6 +15,7 @@
 package com.liferay.sync.hook.listeners;
 
 import com.liferay.portal.ModelListenerException;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.model.BaseModelListener;
 import com.liferay.portal.model.ResourcePermission;
@@ -25,9 +26,11 @@ import com.liferay.portlet.documentlibrary.model.DLFolder;
 import com.liferay.sync.model.SyncConstants;
 import com.liferay.sync.model.SyncDLObject;
 import com.liferay.sync.service.SyncDLObjectLocalServiceUtil;
+import com.liferay.sync.util.SyncPermissionsCacheUtil;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * @author Shinn Lok
@@ -59,6 +62,21 @@ public class ResourcePermissionModelListener
 				return;
 			}
 
+			final long repositoryId = syncDLObject.getRepositoryId();
+
+			Callable<Void> callable = new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					SyncPermissionsCacheUtil.clearCaches(repositoryId);
+
+					return null;
+				}
+
+			};
+
+			TransactionCommitCallbackUtil.registerCallback(callable);
+
 			ResourcePermission originalResourcePermission =
 				ResourcePermissionLocalServiceUtil.fetchResourcePermission(
 					resourcePermission.getResourcePermissionId());
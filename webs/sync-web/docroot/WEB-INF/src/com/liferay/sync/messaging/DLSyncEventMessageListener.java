@@ -15,10 +15,16 @@
 package com.liferay.sync.messaging;
 
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
-import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.messaging.BaseMessageListener;
 import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.Folder;
 import com.liferay.portal.kernel.util.StringPool;
@@ -28,15 +34,25 @@ import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
 import com.liferay.portlet.documentlibrary.NoSuchFolderException;
+import com.liferay.portlet.documentlibrary.model.DLFileEntry;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
+import com.liferay.portlet.documentlibrary.model.DLFolder;
 import com.liferay.portlet.documentlibrary.model.DLSyncEvent;
 import com.liferay.portlet.documentlibrary.service.DLAppLocalServiceUtil;
-import com.liferay.portlet.documentlibrary.service.DLAppServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFolderLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLSyncEventLocalServiceUtil;
 import com.liferay.sync.model.SyncConstants;
 import com.liferay.sync.model.SyncDLObject;
 import com.liferay.sync.service.SyncDLObjectLocalServiceUtil;
+import com.liferay.sync.util.PortletPropsValues;
+import com.liferay.sync.util.SyncDLFileVersionDiffUtil;
 import com.liferay.sync.util.SyncUtil;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 /**
@@ -164,6 +180,27 @@ public class DLSyncEventMessageListener extends BaseMessageListener {
 
 		addSyncDLObject(syncDLObject);
 
+		if (PortletPropsValues.SYNC_FILE_SIGNATURE_CACHE_ENABLED &&
+			(event.equals(SyncConstants.EVENT_ADD) ||
+			 event.equals(SyncConstants.EVENT_UPDATE)) &&
+			type.equals(SyncConstants.TYPE_FILE)) {
+
+			Message message = new Message();
+
+			message.put("fileEntryId", syncDLObject.getTypePK());
+			message.put("fileVersionId", syncDLObject.getVersionId());
+
+			MessageBusUtil.sendMessage(
+				SyncFileSignatureMessageListener.DESTINATION_NAME, message);
+		}
+
+		if (PortletPropsValues.SYNC_FILE_DIFF_CACHE_ENABLED &&
+			event.equals(SyncConstants.EVENT_UPDATE) &&
+			type.equals(SyncConstants.TYPE_FILE)) {
+
+			prepareSyncDLFileVersionDiff(syncDLObject);
+		}
+
 		if (event.equals(SyncConstants.EVENT_RESTORE) &&
 			type.equals(SyncConstants.TYPE_FOLDER)) {
 
@@ -174,52 +211,204 @@ public class DLSyncEventMessageListener extends BaseMessageListener {
 		}
 	}
 
+	protected void prepareSyncDLFileVersionDiff(SyncDLObject syncDLObject) {
+		DLFileVersion previousDLFileVersion = null;
+
+		List<DLFileVersion> dlFileVersions =
+			DLFileVersionLocalServiceUtil.getFileVersions(
+				syncDLObject.getTypePK(), WorkflowConstants.STATUS_APPROVED);
+
+		for (DLFileVersion dlFileVersion : dlFileVersions) {
+			if ((dlFileVersion.getFileVersionId() <
+					syncDLObject.getVersionId()) &&
+				((previousDLFileVersion == null) ||
+				 (dlFileVersion.getFileVersionId() >
+					 previousDLFileVersion.getFileVersionId()))) {
+
+				previousDLFileVersion = dlFileVersion;
+			}
+		}
+
+		if (previousDLFileVersion == null) {
+			return;
+		}
+
+		SyncDLFileVersionDiffUtil.prepareSyncDLFileVersionDiff(
+			syncDLObject.getUserId(), syncDLObject.getTypePK(),
+			previousDLFileVersion.getFileVersionId(),
+			syncDLObject.getVersionId());
+	}
+
+	protected List<DLFileEntry> getDLFileEntries(
+		long repositoryId, long folderId, long lastFileEntryId) {
+
+		// The status of a file entry is kept on its file versions
+
+		DynamicQuery dlFileVersionDynamicQuery =
+			DLFileVersionLocalServiceUtil.dynamicQuery();
+
+		dlFileVersionDynamicQuery.add(
+			RestrictionsFactoryUtil.eq("repositoryId", repositoryId));
+		dlFileVersionDynamicQuery.add(
+			RestrictionsFactoryUtil.eq("folderId", folderId));
+		dlFileVersionDynamicQuery.add(
+			RestrictionsFactoryUtil.eq(
+				"status", WorkflowConstants.STATUS_APPROVED));
+		dlFileVersionDynamicQuery.add(
+			RestrictionsFactoryUtil.gt("fileEntryId", lastFileEntryId));
+
+		dlFileVersionDynamicQuery.setProjection(
+			ProjectionFactoryUtil.property("fileEntryId"));
+
+		DynamicQuery dynamicQuery = DLFileEntryLocalServiceUtil.dynamicQuery();
+
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq("repositoryId", repositoryId));
+		dynamicQuery.add(RestrictionsFactoryUtil.eq("folderId", folderId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.gt("fileEntryId", lastFileEntryId));
+
+		Property property = PropertyFactoryUtil.forName("fileEntryId");
+
+		dynamicQuery.add(property.in(dlFileVersionDynamicQuery));
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("fileEntryId"));
+
+		return DLFileEntryLocalServiceUtil.dynamicQuery(
+			dynamicQuery, 0, _BATCH_SIZE);
+	}
+
+	protected List<DLFolder> getDLFolders(
+		long repositoryId, long parentFolderId, long lastFolderId) {
+
+		DynamicQuery dynamicQuery = DLFolderLocalServiceUtil.dynamicQuery();
+
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq("repositoryId", repositoryId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq("parentFolderId", parentFolderId));
+		dynamicQuery.add(
+			RestrictionsFactoryUtil.eq(
+				"status", WorkflowConstants.STATUS_APPROVED));
+		dynamicQuery.add(RestrictionsFactoryUtil.gt("folderId", lastFolderId));
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("folderId"));
+
+		return DLFolderLocalServiceUtil.dynamicQuery(
+			dynamicQuery, 0, _BATCH_SIZE);
+	}
+
+	/**
+	 * Adds restore events for the folders and files under the folder. The
+	 * children of each folder are read one page at a time ordered by their
+	 * primary keys, and the Sync objects are added in batches so that each
+	 * transaction only holds a bounded number of them.
+	 */
 	protected void restoreFolder(
 			long repositoryId, long folderId, long userId, String userName,
 			long modifiedTime)
 		throws Exception {
 
-		List<Object> foldersAndFileEntriesAndFileShortcuts =
-			DLAppServiceUtil.getFoldersAndFileEntriesAndFileShortcuts(
-				repositoryId, folderId, WorkflowConstants.STATUS_APPROVED,
-				false, QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+		List<SyncDLObject> syncDLObjects = new ArrayList<>(_BATCH_SIZE);
 
-		for (Object folderAndFileEntryAndFileShortcut :
-				foldersAndFileEntriesAndFileShortcuts) {
+		int count = 0;
 
-			Folder folder = null;
-			SyncDLObject syncDLObject = null;
+		Deque<Long> folderIds = new ArrayDeque<>();
+
+		folderIds.push(folderId);
 
-			if (folderAndFileEntryAndFileShortcut instanceof FileEntry) {
-				FileEntry fileEntry =
-					(FileEntry)folderAndFileEntryAndFileShortcut;
+		while (!folderIds.isEmpty()) {
+			long curFolderId = folderIds.pop();
 
-				syncDLObject = SyncUtil.toSyncDLObject(
-					fileEntry, SyncConstants.EVENT_RESTORE, true);
+			List<DLFolder> dlFolders = null;
+			long lastFolderId = 0;
+
+			do {
+				dlFolders = getDLFolders(
+					repositoryId, curFolderId, lastFolderId);
+
+				for (DLFolder dlFolder : dlFolders) {
+					lastFolderId = dlFolder.getFolderId();
+
+					if (!SyncUtil.isSupportedFolder(dlFolder)) {
+						continue;
+					}
+
+					syncDLObjects.add(
+						SyncUtil.toSyncDLObject(
+							dlFolder, SyncConstants.EVENT_RESTORE));
+
+					folderIds.push(dlFolder.getFolderId());
+				}
+
+				count = restoreSyncDLObjects(
+					folderId, syncDLObjects, userId, userName, modifiedTime,
+					count, false);
 			}
-			else if (folderAndFileEntryAndFileShortcut instanceof Folder) {
-				folder = (Folder)folderAndFileEntryAndFileShortcut;
+			while (dlFolders.size() == _BATCH_SIZE);
+
+			List<DLFileEntry> dlFileEntries = null;
+			long lastFileEntryId = 0;
 
-				if (!SyncUtil.isSupportedFolder(folder)) {
-					continue;
+			do {
+				dlFileEntries = getDLFileEntries(
+					repositoryId, curFolderId, lastFileEntryId);
+
+				for (DLFileEntry dlFileEntry : dlFileEntries) {
+					lastFileEntryId = dlFileEntry.getFileEntryId();
+
+					syncDLObjects.add(
+						SyncUtil.toSyncDLObject(
+							dlFileEntry, SyncConstants.EVENT_RESTORE, true));
 				}
 
-				syncDLObject = SyncUtil.toSyncDLObject(
-					folder, SyncConstants.EVENT_RESTORE);
+				count = restoreSyncDLObjects(
+					folderId, syncDLObjects, userId, userName, modifiedTime,
+					count, false);
 			}
+			while (dlFileEntries.size() == _BATCH_SIZE);
+		}
+
+		restoreSyncDLObjects(
+			folderId, syncDLObjects, userId, userName, modifiedTime, count,
+			true);
+	}
 
+	protected int restoreSyncDLObjects(
+			long folderId, List<SyncDLObject> syncDLObjects, long userId,
+			String userName, long modifiedTime, int count, boolean force)
+		throws Exception {
+
+		if (syncDLObjects.isEmpty() ||
+			(!force && (syncDLObjects.size() < _BATCH_SIZE))) {
+
+			return count;
+		}
+
+		for (SyncDLObject syncDLObject : syncDLObjects) {
 			syncDLObject.setUserId(userId);
 			syncDLObject.setUserName(userName);
 			syncDLObject.setModifiedTime(modifiedTime);
+		}
 
-			addSyncDLObject(syncDLObject);
+		SyncDLObjectLocalServiceUtil.addSyncDLObjects(syncDLObjects);
 
-			if (folderAndFileEntryAndFileShortcut instanceof Folder) {
-				restoreFolder(
-					repositoryId, folder.getFolderId(), userId, userName,
-					modifiedTime);
-			}
+		count += syncDLObjects.size();
+
+		syncDLObjects.clear();
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Restored " + count + " files and folders under folder " +
+					folderId);
 		}
+
+		return count;
 	}
 
-}
\ No newline at end of file
+	private static final int _BATCH_SIZE = 500;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		DLSyncEventMessageListener.class);
+
+}
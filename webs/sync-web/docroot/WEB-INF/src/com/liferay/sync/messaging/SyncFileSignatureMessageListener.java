@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.messaging;
+
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.sync.util.SyncFileSignatureUtil;
+
+public class SyncFileSignatureMessageListener extends BaseMessageListener {
+
+	public static final String DESTINATION_NAME =
+		"liferay/sync_file_signature_processor";
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		long fileEntryId = message.getLong("fileEntryId");
+		long fileVersionId = message.getLong("fileVersionId");
+
+		SyncFileSignatureUtil.addFileSignature(fileEntryId, fileVersionId);
+	}
+
+}
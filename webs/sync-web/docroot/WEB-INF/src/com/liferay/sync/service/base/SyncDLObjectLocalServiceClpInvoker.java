@@ -139,23 +139,27 @@ public class SyncDLObjectLocalServiceClpInvoker {
 				"java.lang.String"
 			};
 
-		_methodName92 = "deleteSyncDLObjects";
+		_methodName92 = "addSyncDLObjects";
 
-		_methodParameterTypes92 = new String[] {
+		_methodParameterTypes92 = new String[] { "java.util.List" };
+
+		_methodName93 = "deleteSyncDLObjects";
+
+		_methodParameterTypes93 = new String[] {
 				"java.lang.String", "java.lang.String"
 			};
 
-		_methodName93 = "fetchSyncDLObject";
+		_methodName94 = "fetchSyncDLObject";
 
-		_methodParameterTypes93 = new String[] { "java.lang.String", "long" };
+		_methodParameterTypes94 = new String[] { "java.lang.String", "long" };
 
-		_methodName94 = "getLatestModifiedTime";
+		_methodName95 = "getLatestModifiedTime";
 
-		_methodParameterTypes94 = new String[] {  };
+		_methodParameterTypes95 = new String[] {  };
 
-		_methodName95 = "getSyncDLObjects";
+		_methodName96 = "getSyncDLObjects";
 
-		_methodParameterTypes95 = new String[] { "long", "long" };
+		_methodParameterTypes96 = new String[] { "long", "long" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -294,25 +298,32 @@ public class SyncDLObjectLocalServiceClpInvoker {
 
 		if (_methodName92.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes92, parameterTypes)) {
-			SyncDLObjectLocalServiceUtil.deleteSyncDLObjects((java.lang.String)arguments[0],
-				(java.lang.String)arguments[1]);
+			SyncDLObjectLocalServiceUtil.addSyncDLObjects((java.util.List<com.liferay.sync.model.SyncDLObject>)arguments[0]);
 
 			return null;
 		}
 
 		if (_methodName93.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes93, parameterTypes)) {
-			return SyncDLObjectLocalServiceUtil.fetchSyncDLObject((java.lang.String)arguments[0],
-				((Long)arguments[1]).longValue());
+			SyncDLObjectLocalServiceUtil.deleteSyncDLObjects((java.lang.String)arguments[0],
+				(java.lang.String)arguments[1]);
+
+			return null;
 		}
 
 		if (_methodName94.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes94, parameterTypes)) {
-			return SyncDLObjectLocalServiceUtil.getLatestModifiedTime();
+			return SyncDLObjectLocalServiceUtil.fetchSyncDLObject((java.lang.String)arguments[0],
+				((Long)arguments[1]).longValue());
 		}
 
 		if (_methodName95.equals(name) &&
 				Arrays.deepEquals(_methodParameterTypes95, parameterTypes)) {
+			return SyncDLObjectLocalServiceUtil.getLatestModifiedTime();
+		}
+
+		if (_methodName96.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes96, parameterTypes)) {
 			return SyncDLObjectLocalServiceUtil.getSyncDLObjects(((Long)arguments[0]).longValue(),
 				((Long)arguments[1]).longValue());
 		}
@@ -370,4 +381,6 @@ public class SyncDLObjectLocalServiceClpInvoker {
 	private String[] _methodParameterTypes94;
 	private String _methodName95;
 	private String[] _methodParameterTypes95;
+	private String _methodName96;
+	private String[] _methodParameterTypes96;
 }
\ No newline at end of file
@@ -684,12 +684,46 @@ public class SyncDLObjectServiceHttp {
 		}
 	}
 
+	public static com.liferay.sync.model.SyncDLObjectUpdate getSyncDLObjectUpdate(
+		HttpPrincipal httpPrincipal, long repositoryId,
+		java.lang.String cursor, int max, boolean retrieveFromCache)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		try {
+			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
+					"getSyncDLObjectUpdate",
+					_getSyncDLObjectUpdateParameterTypes19);
+
+			MethodHandler methodHandler = new MethodHandler(methodKey,
+					repositoryId, cursor, max, retrieveFromCache);
+
+			Object returnObj = null;
+
+			try {
+				returnObj = TunnelUtil.invoke(httpPrincipal, methodHandler);
+			}
+			catch (Exception e) {
+				if (e instanceof com.liferay.portal.kernel.exception.PortalException) {
+					throw (com.liferay.portal.kernel.exception.PortalException)e;
+				}
+
+				throw new com.liferay.portal.kernel.exception.SystemException(e);
+			}
+
+			return (com.liferay.sync.model.SyncDLObjectUpdate)returnObj;
+		}
+		catch (com.liferay.portal.kernel.exception.SystemException se) {
+			_log.error(se, se);
+
+			throw se;
+		}
+	}
+
 	public static java.util.List<com.liferay.portal.model.Group> getUserSitesGroups(
 		HttpPrincipal httpPrincipal)
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"getUserSitesGroups", _getUserSitesGroupsParameterTypes19);
+					"getUserSitesGroups", _getUserSitesGroupsParameterTypes20);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey);
 
@@ -721,7 +755,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"moveFileEntry", _moveFileEntryParameterTypes20);
+					"moveFileEntry", _moveFileEntryParameterTypes21);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					fileEntryId, newFolderId, serviceContext);
@@ -754,7 +788,7 @@ public class SyncDLObjectServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
 					"moveFileEntryToTrash",
-					_moveFileEntryToTrashParameterTypes21);
+					_moveFileEntryToTrashParameterTypes22);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					fileEntryId);
@@ -787,7 +821,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"moveFolder", _moveFolderParameterTypes22);
+					"moveFolder", _moveFolderParameterTypes23);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					folderId, parentFolderId, serviceContext);
@@ -819,7 +853,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"moveFolderToTrash", _moveFolderToTrashParameterTypes23);
+					"moveFolderToTrash", _moveFolderToTrashParameterTypes24);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey, folderId);
 
@@ -855,7 +889,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"patchFileEntry", _patchFileEntryParameterTypes24);
+					"patchFileEntry", _patchFileEntryParameterTypes25);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					fileEntryId, sourceVersionId, sourceFileName, mimeType,
@@ -890,7 +924,7 @@ public class SyncDLObjectServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
 					"restoreFileEntryFromTrash",
-					_restoreFileEntryFromTrashParameterTypes25);
+					_restoreFileEntryFromTrashParameterTypes26);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					fileEntryId);
@@ -923,7 +957,7 @@ public class SyncDLObjectServiceHttp {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
 					"restoreFolderFromTrash",
-					_restoreFolderFromTrashParameterTypes26);
+					_restoreFolderFromTrashParameterTypes27);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey, folderId);
 
@@ -954,7 +988,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"updateFileEntries", _updateFileEntriesParameterTypes27);
+					"updateFileEntries", _updateFileEntriesParameterTypes28);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey, zipFile);
 
@@ -990,7 +1024,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"updateFileEntry", _updateFileEntryParameterTypes28);
+					"updateFileEntry", _updateFileEntryParameterTypes29);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					fileEntryId, sourceFileName, mimeType, title, description,
@@ -1025,7 +1059,7 @@ public class SyncDLObjectServiceHttp {
 		throws com.liferay.portal.kernel.exception.PortalException {
 		try {
 			MethodKey methodKey = new MethodKey(SyncDLObjectServiceUtil.class,
-					"updateFolder", _updateFolderParameterTypes29);
+					"updateFolder", _updateFolderParameterTypes30);
 
 			MethodHandler methodHandler = new MethodHandler(methodKey,
 					folderId, name, description, serviceContext);
@@ -1120,47 +1154,50 @@ public class SyncDLObjectServiceHttp {
 	private static final Class<?>[] _getSyncDLObjectUpdateParameterTypes18 = new Class[] {
 			long.class, long.class, long.class
 		};
-	private static final Class<?>[] _getUserSitesGroupsParameterTypes19 = new Class[] {
+	private static final Class<?>[] _getSyncDLObjectUpdateParameterTypes19 = new Class[] {
+			long.class, java.lang.String.class, int.class, boolean.class
+		};
+	private static final Class<?>[] _getUserSitesGroupsParameterTypes20 = new Class[] {
 			
 		};
-	private static final Class<?>[] _moveFileEntryParameterTypes20 = new Class[] {
+	private static final Class<?>[] _moveFileEntryParameterTypes21 = new Class[] {
 			long.class, long.class,
 			com.liferay.portal.service.ServiceContext.class
 		};
-	private static final Class<?>[] _moveFileEntryToTrashParameterTypes21 = new Class[] {
+	private static final Class<?>[] _moveFileEntryToTrashParameterTypes22 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _moveFolderParameterTypes22 = new Class[] {
+	private static final Class<?>[] _moveFolderParameterTypes23 = new Class[] {
 			long.class, long.class,
 			com.liferay.portal.service.ServiceContext.class
 		};
-	private static final Class<?>[] _moveFolderToTrashParameterTypes23 = new Class[] {
+	private static final Class<?>[] _moveFolderToTrashParameterTypes24 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _patchFileEntryParameterTypes24 = new Class[] {
+	private static final Class<?>[] _patchFileEntryParameterTypes25 = new Class[] {
 			long.class, long.class, java.lang.String.class,
 			java.lang.String.class, java.lang.String.class,
 			java.lang.String.class, java.lang.String.class, boolean.class,
 			java.io.File.class, java.lang.String.class,
 			com.liferay.portal.service.ServiceContext.class
 		};
-	private static final Class<?>[] _restoreFileEntryFromTrashParameterTypes25 = new Class[] {
+	private static final Class<?>[] _restoreFileEntryFromTrashParameterTypes26 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _restoreFolderFromTrashParameterTypes26 = new Class[] {
+	private static final Class<?>[] _restoreFolderFromTrashParameterTypes27 = new Class[] {
 			long.class
 		};
-	private static final Class<?>[] _updateFileEntriesParameterTypes27 = new Class[] {
+	private static final Class<?>[] _updateFileEntriesParameterTypes28 = new Class[] {
 			java.io.File.class
 		};
-	private static final Class<?>[] _updateFileEntryParameterTypes28 = new Class[] {
+	private static final Class<?>[] _updateFileEntryParameterTypes29 = new Class[] {
 			long.class, java.lang.String.class, java.lang.String.class,
 			java.lang.String.class, java.lang.String.class,
 			java.lang.String.class, boolean.class, java.io.File.class,
 			java.lang.String.class,
 			com.liferay.portal.service.ServiceContext.class
 		};
-	private static final Class<?>[] _updateFolderParameterTypes29 = new Class[] {
+	private static final Class<?>[] _updateFolderParameterTypes30 = new Class[] {
 			long.class, java.lang.String.class, java.lang.String.class,
 			com.liferay.portal.service.ServiceContext.class
 		};
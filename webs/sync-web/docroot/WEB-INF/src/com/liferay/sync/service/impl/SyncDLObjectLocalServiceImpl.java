@@ -18,6 +18,7 @@ import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.Projection;
 import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
@@ -32,9 +33,13 @@ import com.liferay.sync.model.SyncConstants;
 import com.liferay.sync.model.SyncDLObject;
 import com.liferay.sync.service.base.SyncDLObjectLocalServiceBaseImpl;
 import com.liferay.sync.util.PortletPropsValues;
+import com.liferay.sync.util.SyncFileSignatureUtil;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Michael Young
@@ -178,11 +183,77 @@ public class SyncDLObjectLocalServiceImpl
 			catch (Exception e) {
 				_log.error(e, e);
 			}
+
+			if (PortletPropsValues.SYNC_FILE_SIGNATURE_CACHE_ENABLED) {
+				try {
+					SyncFileSignatureUtil.deleteFileSignatures(
+						syncDLObject.getCompanyId(), typePK);
+				}
+				catch (Exception e) {
+					_log.error(e, e);
+				}
+			}
 		}
 
 		return syncDLObject;
 	}
 
+	/**
+	 * Adds or updates the Sync objects in one transaction. The Sync objects
+	 * that already exist are read with one query per type instead of one
+	 * query per Sync object.
+	 */
+	@Override
+	public void addSyncDLObjects(List<SyncDLObject> syncDLObjects)
+		throws PortalException {
+
+		Map<String, List<Long>> typePKsMap = new HashMap<>();
+
+		for (SyncDLObject syncDLObject : syncDLObjects) {
+			List<Long> typePKs = typePKsMap.get(syncDLObject.getType());
+
+			if (typePKs == null) {
+				typePKs = new ArrayList<>();
+
+				typePKsMap.put(syncDLObject.getType(), typePKs);
+			}
+
+			typePKs.add(syncDLObject.getTypePK());
+		}
+
+		for (Map.Entry<String, List<Long>> entry : typePKsMap.entrySet()) {
+			DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
+				SyncDLObject.class, SyncDLObject.class.getClassLoader());
+
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.eq("type", entry.getKey()));
+			dynamicQuery.add(
+				RestrictionsFactoryUtil.in("typePK", entry.getValue()));
+
+			List<SyncDLObject> curSyncDLObjects =
+				syncDLObjectPersistence.findWithDynamicQuery(dynamicQuery);
+
+			syncDLObjectPersistence.cacheResult(curSyncDLObjects);
+		}
+
+		for (SyncDLObject syncDLObject : syncDLObjects) {
+			addSyncDLObject(
+				syncDLObject.getCompanyId(), syncDLObject.getUserId(),
+				syncDLObject.getUserName(), syncDLObject.getModifiedTime(),
+				syncDLObject.getRepositoryId(),
+				syncDLObject.getParentFolderId(), syncDLObject.getTreePath(),
+				syncDLObject.getName(), syncDLObject.getExtension(),
+				syncDLObject.getMimeType(), syncDLObject.getDescription(),
+				syncDLObject.getChangeLog(), syncDLObject.getExtraSettings(),
+				syncDLObject.getVersion(), syncDLObject.getVersionId(),
+				syncDLObject.getSize(), syncDLObject.getChecksum(),
+				syncDLObject.getEvent(), syncDLObject.getLockExpirationDate(),
+				syncDLObject.getLockUserId(), syncDLObject.getLockUserName(),
+				syncDLObject.getType(), syncDLObject.getTypePK(),
+				syncDLObject.getTypeUuid());
+		}
+	}
+
 	@Override
 	public void deleteSyncDLObjects(String version, String type) {
 		syncDLObjectPersistence.removeByV_T(version, type);
@@ -36,6 +36,7 @@ import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.MapUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.PrefsPropsUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.PropsUtil;
@@ -45,14 +46,17 @@ import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.zip.ZipReader;
 import com.liferay.portal.kernel.zip.ZipReaderFactoryUtil;
+import com.liferay.portal.model.CompanyConstants;
 import com.liferay.portal.model.Group;
 import com.liferay.portal.model.GroupConstants;
 import com.liferay.portal.model.Organization;
 import com.liferay.portal.model.ResourceConstants;
 import com.liferay.portal.model.User;
 import com.liferay.portal.security.auth.CompanyThreadLocal;
+import com.liferay.portal.security.auth.PrincipalThreadLocal;
 import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
 import com.liferay.portal.service.ResourcePermissionLocalServiceUtil;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portal.util.comparator.GroupNameComparator;
@@ -74,6 +78,8 @@ import com.liferay.sync.service.base.SyncDLObjectServiceBaseImpl;
 import com.liferay.sync.util.JSONWebServiceActionParametersMap;
 import com.liferay.sync.util.PortletPropsKeys;
 import com.liferay.sync.util.PortletPropsValues;
+import com.liferay.sync.util.SyncPermissionsCache;
+import com.liferay.sync.util.SyncPermissionsCacheUtil;
 import com.liferay.sync.util.SyncUtil;
 import com.liferay.sync.util.comparator.SyncDLObjectModifiedTimeComparator;
 
@@ -89,6 +95,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jodd.bean.BeanUtil;
 
@@ -100,6 +111,21 @@ import jodd.util.NameValue;
  */
 public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+
+		if (PortletPropsValues.SYNC_BATCH_UPDATE_THREADS > 1) {
+			Class<?> clazz = getClass();
+
+			_executorService = Executors.newFixedThreadPool(
+				PortletPropsValues.SYNC_BATCH_UPDATE_THREADS,
+				new NamedThreadFactory(
+					clazz.getName(), Thread.NORM_PRIORITY,
+					clazz.getClassLoader()));
+		}
+	}
+
 	@Override
 	public SyncDLObject addFileEntry(
 			long repositoryId, long folderId, String sourceFileName,
@@ -312,6 +338,15 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 		}
 	}
 
+	@Override
+	public void destroy() {
+		if (_executorService != null) {
+			_executorService.shutdownNow();
+		}
+
+		super.destroy();
+	}
+
 	@Override
 	public List<SyncDLObject> getAllFolderSyncDLObjects(long repositoryId)
 		throws PortalException {
@@ -645,6 +680,55 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 		}
 	}
 
+	@Override
+	public SyncDLObjectUpdate getSyncDLObjectUpdate(
+			long repositoryId, String cursor, int max,
+			boolean retrieveFromCache)
+		throws PortalException {
+
+		try {
+			SyncUtil.checkSyncEnabled(repositoryId);
+
+			repositoryService.checkRepository(repositoryId);
+
+			long[] cursorValues = SyncUtil.decodeCursor(cursor);
+
+			long lastAccessTime = cursorValues[0];
+
+			if (max <= 0) {
+				max = PortletPropsValues.SYNC_PAGINATION_DELTA;
+			}
+
+			// Seek past the last object of the previous page instead of
+			// counting and offsetting so that every page costs the same
+
+			List<SyncDLObject> syncDLObjects = syncDLObjectFinder.findByM_S_R(
+				lastAccessTime, cursorValues[1], repositoryId,
+				retrieveFromCache, 0, max);
+
+			if (syncDLObjects.isEmpty()) {
+				return new SyncDLObjectUpdate(
+					Collections.<SyncDLObject>emptyList(), lastAccessTime,
+					SyncUtil.encodeCursor(lastAccessTime, cursorValues[1]),
+					false);
+			}
+
+			SyncDLObject syncDLObject = syncDLObjects.get(
+				syncDLObjects.size() - 1);
+
+			return new SyncDLObjectUpdate(
+				checkSyncDLObjects(syncDLObjects, repositoryId, lastAccessTime),
+				syncDLObject.getModifiedTime(),
+				SyncUtil.encodeCursor(
+					syncDLObject.getModifiedTime(),
+					syncDLObject.getSyncDLObjectId()),
+				syncDLObjects.size() == max);
+		}
+		catch (PortalException pe) {
+			throw new PortalException(SyncUtil.buildExceptionMessage(pe), pe);
+		}
+	}
+
 	@Override
 	public List<Group> getUserSitesGroups() throws PortalException {
 		try {
@@ -915,7 +999,8 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 	public Map<String, Object> updateFileEntries(File zipFile)
 		throws PortalException {
 
-		Map<String, Object> responseMap = new HashMap<>();
+		Map<String, Object> responseMap = Collections.synchronizedMap(
+			new HashMap<String, Object>());
 
 		ZipReader zipReader = null;
 
@@ -926,6 +1011,17 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 
 			JSONArray jsonArray = JSONFactoryUtil.createJSONArray(manifest);
 
+			// Operations are split into lanes by the folders they change. Lanes
+			// are independent and are applied in parallel while the operations
+			// of a lane are applied in the order of the manifest. This method
+			// runs without a transaction and every operation, including the
+			// barriers, commits on its own through syncDLObjectService.
+
+			List<List<JSONWebServiceActionParametersMap>> lanes =
+				new ArrayList<>();
+			Map<Long, List<JSONWebServiceActionParametersMap>> folderLanes =
+				new HashMap<>();
+
 			for (int i = 0; i < jsonArray.length(); i++) {
 				JSONObject jsonObject = jsonArray.getJSONObject(i);
 
@@ -935,30 +1031,73 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 							jsonObject.toString(),
 							JSONWebServiceActionParametersMap.class);
 
-				String zipFileId = MapUtil.getString(
-					jsonWebServiceActionParametersMap, "zipFileId");
+				Set<Long> folderIds = getFolderIds(
+					jsonWebServiceActionParametersMap);
 
-				try {
-					responseMap.put(
-						zipFileId,
-						updateFileEntries(
-							zipReader, zipFileId,
-							jsonWebServiceActionParametersMap));
+				if (folderIds == null) {
+
+					// Folder moves and updates change every folder below them,
+					// so they wait for the operations before them
+
+					updateFileEntries(zipReader, lanes, responseMap);
+
+					lanes.clear();
+					folderLanes.clear();
+
+					updateFileEntries(
+						zipReader, jsonWebServiceActionParametersMap,
+						responseMap);
+
+					continue;
 				}
-				catch (Exception e) {
-					String message = e.getMessage();
 
-					if (!message.startsWith(StringPool.QUOTE) &&
-						!message.endsWith(StringPool.QUOTE)) {
+				List<JSONWebServiceActionParametersMap> lane = null;
 
-						message = StringUtil.quote(message, StringPool.QUOTE);
+				for (long folderId : folderIds) {
+					List<JSONWebServiceActionParametersMap> folderLane =
+						folderLanes.get(folderId);
+
+					if ((folderLane == null) || (folderLane == lane)) {
+						continue;
+					}
+
+					if (lane == null) {
+						lane = folderLane;
+
+						continue;
 					}
 
-					String json = "{\"exception\": " + message + "}";
+					lane.addAll(folderLane);
+
+					for (int j = 0; j < lanes.size(); j++) {
+						if (lanes.get(j) == folderLane) {
+							lanes.remove(j);
+
+							break;
+						}
+					}
+
+					for (Long curFolderId : folderLanes.keySet()) {
+						if (folderLanes.get(curFolderId) == folderLane) {
+							folderLanes.put(curFolderId, lane);
+						}
+					}
+				}
+
+				if (lane == null) {
+					lane = new ArrayList<>();
 
-					responseMap.put(zipFileId, json);
+					lanes.add(lane);
+				}
+
+				lane.add(jsonWebServiceActionParametersMap);
+
+				for (long folderId : folderIds) {
+					folderLanes.put(folderId, lane);
 				}
 			}
+
+			updateFileEntries(zipReader, lanes, responseMap);
 		}
 		finally {
 			if (zipReader != null) {
@@ -1076,10 +1215,9 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 			}
 		}
 
-		Set<Long> checkedTypePKs = SetUtil.fromList(
-			checkTypePKs(
-				repositoryId, permissionChecker.getUserId(),
-				new ArrayList(typePKs)));
+		Set<Long> checkedTypePKs = getViewableTypePKs(
+			repositoryId, permissionChecker.getUserId(), typePKs,
+			syncDLObjects);
 
 		List<SyncDLObject> checkedSyncDLObjects = new ArrayList<>();
 
@@ -1136,6 +1274,76 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 		}
 	}
 
+	/**
+	 * Returns the IDs of the folders whose contents are changed by the
+	 * operation, or <code>null</code> if the operation can change the folders
+	 * below the folder it applies to.
+	 */
+	protected Set<Long> getFolderIds(
+		JSONWebServiceActionParametersMap jsonWebServiceActionParametersMap) {
+
+		Set<Long> folderIds = new HashSet<>();
+
+		String urlPath = MapUtil.getString(
+			jsonWebServiceActionParametersMap, "urlPath");
+
+		if (urlPath.endsWith("/add-file-entry")) {
+			folderIds.add(
+				MapUtil.getLong(jsonWebServiceActionParametersMap, "folderId"));
+		}
+		else if (urlPath.endsWith("/add-folder")) {
+			folderIds.add(
+				MapUtil.getLong(
+					jsonWebServiceActionParametersMap, "parentFolderId"));
+		}
+		else if (urlPath.endsWith("/copy-file-entry")) {
+			folderIds.add(
+				MapUtil.getLong(jsonWebServiceActionParametersMap, "folderId"));
+			folderIds.add(
+				getFolderId(
+					MapUtil.getLong(
+						jsonWebServiceActionParametersMap,
+						"sourceFileEntryId")));
+		}
+		else if (urlPath.endsWith("/move-file-entry")) {
+			folderIds.add(
+				getFolderId(
+					MapUtil.getLong(
+						jsonWebServiceActionParametersMap, "fileEntryId")));
+			folderIds.add(
+				MapUtil.getLong(
+					jsonWebServiceActionParametersMap, "newFolderId"));
+		}
+		else if (urlPath.endsWith("/move-file-entry-to-trash") ||
+				 urlPath.endsWith("/patch-file-entry") ||
+				 urlPath.endsWith("/update-file-entry")) {
+
+			folderIds.add(
+				getFolderId(
+					MapUtil.getLong(
+						jsonWebServiceActionParametersMap, "fileEntryId")));
+		}
+		else {
+			return null;
+		}
+
+		return folderIds;
+	}
+
+	protected long getFolderId(long fileEntryId) {
+		try {
+			FileEntry fileEntry = dlAppLocalService.getFileEntry(fileEntryId);
+
+			return fileEntry.getFolderId();
+		}
+		catch (PortalException pe) {
+
+			// The operation fails when it is applied
+
+			return DLFolderConstants.DEFAULT_PARENT_FOLDER_ID;
+		}
+	}
+
 	protected Map<String, String> getPortletPreferencesMap()
 		throws PortalException {
 
@@ -1171,6 +1379,81 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 		return portletPreferencesMap;
 	}
 
+	protected File getTempFile(ZipReader zipReader, String zipFileId)
+		throws Exception {
+
+		synchronized (zipReader) {
+			InputStream inputStream = zipReader.getEntryAsInputStream(
+				zipFileId);
+
+			if (inputStream == null) {
+				return null;
+			}
+
+			return FileUtil.createTempFile(inputStream);
+		}
+	}
+
+	protected Set<Long> getViewableTypePKs(
+		long repositoryId, long userId, Set<Long> typePKs,
+		List<SyncDLObject> syncDLObjects) {
+
+		long lastModifiedTime = 0;
+		long lastPermissionChangeTime = 0;
+
+		for (SyncDLObject syncDLObject : syncDLObjects) {
+			if (syncDLObject.getModifiedTime() > lastModifiedTime) {
+				lastModifiedTime = syncDLObject.getModifiedTime();
+			}
+
+			Date lastPermissionChangeDate =
+				syncDLObject.getLastPermissionChangeDate();
+
+			if ((lastPermissionChangeDate != null) &&
+				(lastPermissionChangeDate.getTime() >
+					lastPermissionChangeTime)) {
+
+				lastPermissionChangeTime = lastPermissionChangeDate.getTime();
+			}
+		}
+
+		SyncPermissionsCache syncPermissionsCache =
+			SyncPermissionsCacheUtil.getCache(
+				userId, repositoryId, lastPermissionChangeTime);
+
+		Set<Long> viewableTypePKs = new HashSet<>();
+		List<Long> uncachedTypePKs = new ArrayList<>();
+
+		for (Long typePK : typePKs) {
+			Boolean viewPermission = syncPermissionsCache.hasViewPermission(
+				typePK, lastModifiedTime);
+
+			if (viewPermission == null) {
+				uncachedTypePKs.add(typePK);
+			}
+			else if (viewPermission) {
+				viewableTypePKs.add(typePK);
+			}
+		}
+
+		if (uncachedTypePKs.isEmpty()) {
+			return viewableTypePKs;
+		}
+
+		long checkTime = System.currentTimeMillis();
+
+		Set<Long> checkedTypePKs = SetUtil.fromList(
+			checkTypePKs(
+				repositoryId, userId, new ArrayList<>(uncachedTypePKs)));
+
+		syncPermissionsCache.putViewPermissions(
+			uncachedTypePKs, checkedTypePKs, checkTime);
+
+		viewableTypePKs.addAll(checkedTypePKs);
+
+		return viewableTypePKs;
+	}
+
 	protected boolean hasModelPermission(long groupId, String name)
 		throws PortalException {
 
@@ -1298,13 +1581,10 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 			String changeLog = MapUtil.getString(
 				jsonWebServiceActionParametersMap, "changeLog");
 
-			InputStream inputStream = zipReader.getEntryAsInputStream(
-				zipFileId);
-
 			File tempFile = null;
 
 			try {
-				tempFile = FileUtil.createTempFile(inputStream);
+				tempFile = getTempFile(zipReader, zipFileId);
 
 				String checksum = MapUtil.getString(
 					jsonWebServiceActionParametersMap, "checksum");
@@ -1395,13 +1675,10 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 			boolean majorVersion = MapUtil.getBoolean(
 				jsonWebServiceActionParametersMap, "majorVersion");
 
-			InputStream inputStream = zipReader.getEntryAsInputStream(
-				zipFileId);
-
 			File tempFile = null;
 
 			try {
-				tempFile = FileUtil.createTempFile(inputStream);
+				tempFile = getTempFile(zipReader, zipFileId);
 
 				String checksum = MapUtil.getString(
 					jsonWebServiceActionParametersMap, "checksum");
@@ -1434,12 +1711,7 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 			File tempFile = null;
 
 			try {
-				InputStream inputStream = zipReader.getEntryAsInputStream(
-					zipFileId);
-
-				if (inputStream != null) {
-					tempFile = FileUtil.createTempFile(inputStream);
-				}
+				tempFile = getTempFile(zipReader, zipFileId);
 
 				String checksum = MapUtil.getString(
 					jsonWebServiceActionParametersMap, "checksum");
@@ -1470,6 +1742,136 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 		}
 	}
 
+	protected void updateFileEntries(
+		ZipReader zipReader,
+		JSONWebServiceActionParametersMap jsonWebServiceActionParametersMap,
+		Map<String, Object> responseMap) {
+
+		String zipFileId = MapUtil.getString(
+			jsonWebServiceActionParametersMap, "zipFileId");
+
+		try {
+			responseMap.put(
+				zipFileId,
+				updateFileEntries(
+					zipReader, zipFileId, jsonWebServiceActionParametersMap));
+		}
+		catch (Exception e) {
+			String message = e.getMessage();
+
+			if (!message.startsWith(StringPool.QUOTE) &&
+				!message.endsWith(StringPool.QUOTE)) {
+
+				message = StringUtil.quote(message, StringPool.QUOTE);
+			}
+
+			String json = "{\"exception\": " + message + "}";
+
+			responseMap.put(zipFileId, json);
+		}
+	}
+
+	protected void updateFileEntries(
+			final ZipReader zipReader,
+			List<List<JSONWebServiceActionParametersMap>> lanes,
+			final Map<String, Object> responseMap)
+		throws PortalException {
+
+		if ((lanes.size() == 1) || (_executorService == null)) {
+			for (List<JSONWebServiceActionParametersMap> lane : lanes) {
+				for (JSONWebServiceActionParametersMap
+						jsonWebServiceActionParametersMap : lane) {
+
+					updateFileEntries(
+						zipReader, jsonWebServiceActionParametersMap,
+						responseMap);
+				}
+			}
+
+			return;
+		}
+
+		final long companyId = CompanyThreadLocal.getCompanyId();
+		final String name = PrincipalThreadLocal.getName();
+		final PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		List<Future<Void>> futures = new ArrayList<>(lanes.size());
+
+		for (final List<JSONWebServiceActionParametersMap> lane : lanes) {
+			Future<Void> future = _executorService.submit(
+				new Callable<Void>() {
+
+					@Override
+					public Void call() {
+						CompanyThreadLocal.setCompanyId(companyId);
+						PrincipalThreadLocal.setName(name);
+						PermissionThreadLocal.setPermissionChecker(
+							permissionChecker);
+
+						try {
+							for (JSONWebServiceActionParametersMap
+									jsonWebServiceActionParametersMap :
+										lane) {
+
+								updateFileEntries(
+									zipReader,
+									jsonWebServiceActionParametersMap,
+									responseMap);
+							}
+						}
+						finally {
+							CompanyThreadLocal.setCompanyId(
+								CompanyConstants.SYSTEM);
+							PrincipalThreadLocal.setName(null);
+							PermissionThreadLocal.setPermissionChecker(null);
+						}
+
+						return null;
+					}
+
+				});
+
+			futures.add(future);
+		}
+
+		// Every lane is waited for, even after a failure, because the lanes
+		// read from the zip reader that the caller closes afterwards
+
+		Throwable throwable = null;
+		boolean interrupted = false;
+
+		for (Future<Void> future : futures) {
+			while (true) {
+				try {
+					future.get();
+
+					break;
+				}
+				catch (ExecutionException ee) {
+					if (throwable == null) {
+						throwable = ee.getCause();
+					}
+
+					break;
+				}
+				catch (InterruptedException ie) {
+					interrupted = true;
+				}
+			}
+		}
+
+		if (interrupted) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+		}
+
+		if (throwable != null) {
+			throw new PortalException(throwable);
+		}
+	}
+
 	private static final boolean _PERMISSIONS_VIEW_DYNAMIC_INHERITANCE =
 		GetterUtil.getBoolean(
 			PropsUtil.get(PropsKeys.PERMISSIONS_VIEW_DYNAMIC_INHERITANCE));
@@ -1480,4 +1882,6 @@ public class SyncDLObjectServiceImpl extends SyncDLObjectServiceBaseImpl {
 	private static Log _log = LogFactoryUtil.getLog(
 		SyncDLObjectServiceImpl.class);
 
+	private ExecutorService _executorService;
+
 }
\ No newline at end of file
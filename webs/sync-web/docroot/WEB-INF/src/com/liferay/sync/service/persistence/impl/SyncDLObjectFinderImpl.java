@@ -48,6 +48,9 @@ public class SyncDLObjectFinderImpl
 	public static final String FIND_BY_MODIFIED_TIME =
 		SyncDLObjectFinder.class.getName() + ".findByModifiedTime";
 
+	public static final String FIND_BY_M_S_R =
+		SyncDLObjectFinder.class.getName() + ".findByM_S_R";
+
 	@Override
 	public List<Long> filterFindByR_U_T(
 		long groupId, long userId, long[] typePKs) {
@@ -88,6 +91,50 @@ public class SyncDLObjectFinderImpl
 		}
 	}
 
+	@Override
+	public List<SyncDLObject> findByM_S_R(
+		long modifiedTime, long syncDLObjectId, long repositoryId,
+		boolean includeDeleted, int start, int end) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_M_S_R);
+
+			if (includeDeleted) {
+				sql = StringUtil.replace(
+					sql,
+					new String[] {
+						"AND (SyncDLObject.event != 'delete')",
+						"AND (SyncDLObject.event != 'trash')"
+					},
+					new String[] {StringPool.BLANK, StringPool.BLANK});
+			}
+
+			SQLQuery sqlQuery = session.createSynchronizedSQLQuery(sql);
+
+			sqlQuery.addEntity("SyncDLObject", SyncDLObjectImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(sqlQuery);
+
+			qPos.add(modifiedTime);
+			qPos.add(modifiedTime);
+			qPos.add(syncDLObjectId);
+			qPos.add(repositoryId);
+
+			return (List<SyncDLObject>)QueryUtil.list(
+				sqlQuery, getDialect(), start, end);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
 	@Override
 	public List<SyncDLObject> findByModifiedTime(
 		long modifiedTime, long repositoryId, long parentFolderId, String type,
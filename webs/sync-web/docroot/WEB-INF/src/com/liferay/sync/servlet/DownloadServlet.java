@@ -24,11 +24,15 @@ import com.liferay.portal.kernel.servlet.HttpHeaders;
 import com.liferay.portal.kernel.servlet.PortalSessionThreadLocal;
 import com.liferay.portal.kernel.servlet.ServletResponseUtil;
 import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.ContentTypes;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.MimeTypesUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.ObjectValuePair;
 import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
@@ -46,7 +50,6 @@ import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portal.service.ImageServiceUtil;
 import com.liferay.portal.service.UserLocalServiceUtil;
 import com.liferay.portal.util.PortalUtil;
-import com.liferay.portlet.documentlibrary.DuplicateFileException;
 import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
 import com.liferay.portlet.documentlibrary.NoSuchFileVersionException;
 import com.liferay.portlet.documentlibrary.model.DLFileVersion;
@@ -57,6 +60,7 @@ import com.liferay.sync.SyncSiteUnavailableException;
 import com.liferay.sync.model.SyncDLFileVersionDiff;
 import com.liferay.sync.service.SyncDLFileVersionDiffLocalServiceUtil;
 import com.liferay.sync.util.PortletPropsValues;
+import com.liferay.sync.util.SyncDLFileVersionDiffUtil;
 import com.liferay.sync.util.SyncUtil;
 
 import java.io.File;
@@ -64,7 +68,19 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
@@ -77,6 +93,32 @@ import javax.servlet.http.HttpSession;
  */
 public class DownloadServlet extends HttpServlet {
 
+	@Override
+	public void destroy() {
+		if (_executorService != null) {
+			_executorService.shutdownNow();
+		}
+
+		super.destroy();
+	}
+
+	@Override
+	public void init() {
+		if ((PortletPropsValues.SYNC_DOWNLOAD_ZIP_PREFETCH_SIZE <= 1) ||
+			(PortletPropsValues.SYNC_DOWNLOAD_ZIP_PREFETCH_THREADS <= 0)) {
+
+			return;
+		}
+
+		Class<?> clazz = getClass();
+
+		_executorService = Executors.newFixedThreadPool(
+			PortletPropsValues.SYNC_DOWNLOAD_ZIP_PREFETCH_THREADS,
+			new NamedThreadFactory(
+				clazz.getName(), Thread.NORM_PRIORITY,
+				clazz.getClassLoader()));
+	}
+
 	@Override
 	public void service(
 			HttpServletRequest request, HttpServletResponse response)
@@ -175,23 +217,19 @@ public class DownloadServlet extends HttpServlet {
 		}
 	}
 
-	protected void addZipFolderEntry(
-			long userId, long repositoryId, long folderId, String folderPath,
-			ZipWriter zipWriter)
+	protected void addZipFolderEntries(
+			long repositoryId, long folderId, String folderPath,
+			List<ObjectValuePair<String, FileEntry>> zipFolderEntries)
 		throws Exception {
 
 		List<FileEntry> fileEntries = DLAppServiceUtil.getFileEntries(
 			repositoryId, folderId);
 
 		for (FileEntry fileEntry : fileEntries) {
-			InputStream inputStream =
-				DLFileEntryLocalServiceUtil.getFileAsStream(
-					userId, fileEntry.getFileEntryId(), fileEntry.getVersion(),
-					false);
-
 			String filePath = folderPath + fileEntry.getTitle();
 
-			zipWriter.addEntry(filePath, inputStream);
+			zipFolderEntries.add(
+				new ObjectValuePair<String, FileEntry>(filePath, fileEntry));
 		}
 
 		List<Folder> childFolders = DLAppServiceUtil.getFolders(
@@ -201,30 +239,50 @@ public class DownloadServlet extends HttpServlet {
 			String childFolderPath =
 				folderPath + childFolder.getName() + StringPool.FORWARD_SLASH;
 
-			addZipFolderEntry(
-				userId, repositoryId, childFolder.getFolderId(),
-				childFolderPath, zipWriter);
+			addZipFolderEntries(
+				repositoryId, childFolder.getFolderId(), childFolderPath,
+				zipFolderEntries);
 		}
 	}
 
-	protected File getDeltaFile(
+	protected void cleanUp(Collection<Future<InputStream>> futures) {
+		for (Future<InputStream> future : futures) {
+			try {
+				StreamUtil.cleanUp(future.get());
+			}
+			catch (Exception e) {
+			}
+		}
+
+		futures.clear();
+	}
+
+	protected DownloadServletInputStream getDeltaDownloadServletInputStream(
 			long userId, long fileEntryId, long sourceVersionId,
 			long targetVersionId)
 		throws Exception {
 
-		DLFileVersion sourceDLFileVersion =
-			DLFileVersionLocalServiceUtil.getDLFileVersion(sourceVersionId);
+		File deltaFile = null;
 
-		File sourceFile = DLFileEntryLocalServiceUtil.getFile(
-			userId, fileEntryId, sourceDLFileVersion.getVersion(), false);
+		try {
+			deltaFile = getDeltaFile(
+				userId, fileEntryId, sourceVersionId, targetVersionId);
 
-		DLFileVersion targetDLFileVersion =
-			DLFileVersionLocalServiceUtil.getDLFileVersion(targetVersionId);
+			return new DownloadServletInputStream(
+				new FileInputStream(deltaFile), deltaFile.length());
+		}
+		finally {
+			FileUtil.delete(deltaFile);
+		}
+	}
 
-		File targetFile = DLFileEntryLocalServiceUtil.getFile(
-			userId, fileEntryId, targetDLFileVersion.getVersion(), false);
+	protected File getDeltaFile(
+			long userId, long fileEntryId, long sourceVersionId,
+			long targetVersionId)
+		throws Exception {
 
-		return SyncUtil.getFileDelta(sourceFile, targetFile);
+		return SyncDLFileVersionDiffUtil.getDeltaFile(
+			userId, fileEntryId, sourceVersionId, targetVersionId);
 	}
 
 	protected DownloadServletInputStream getFileDownloadServletInputStream(
@@ -283,60 +341,47 @@ public class DownloadServlet extends HttpServlet {
 		}
 
 		if (!PortletPropsValues.SYNC_FILE_DIFF_CACHE_ENABLED) {
-			File deltaFile = null;
-
-			try {
-				deltaFile = getDeltaFile(
-					userId, fileEntry.getFileEntryId(), sourceVersionId,
-					targetVersionId);
-
-				return new DownloadServletInputStream(
-					new FileInputStream(deltaFile), deltaFile.length());
-			}
-			finally {
-				FileUtil.delete(deltaFile);
-			}
+			return getDeltaDownloadServletInputStream(
+				userId, fileEntry.getFileEntryId(), sourceVersionId,
+				targetVersionId);
 		}
 
 		SyncDLFileVersionDiff syncDLFileVersionDiff =
-			SyncDLFileVersionDiffLocalServiceUtil.fetchSyncDLFileVersionDiff(
-				fileEntry.getFileEntryId(), sourceVersionId, targetVersionId);
+			SyncDLFileVersionDiffUtil.getSyncDLFileVersionDiff(
+				userId, fileEntry.getFileEntryId(), sourceVersionId,
+				targetVersionId);
 
-		if (syncDLFileVersionDiff != null) {
-			SyncDLFileVersionDiffLocalServiceUtil.refreshExpirationDate(
-				syncDLFileVersionDiff.getSyncDLFileVersionDiffId());
+		if (syncDLFileVersionDiff == null) {
 
-			FileEntry dataFileEntry =
-				PortletFileRepositoryUtil.getPortletFileEntry(
-					syncDLFileVersionDiff.getDataFileEntryId());
+			// Another cluster node is still adding the diff
 
-			return new DownloadServletInputStream(
-				dataFileEntry.getContentStream(), dataFileEntry.getSize());
+			return getDeltaDownloadServletInputStream(
+				userId, fileEntry.getFileEntryId(), sourceVersionId,
+				targetVersionId);
 		}
-		else {
-			File deltaFile = null;
 
-			try {
-				deltaFile = getDeltaFile(
-					userId, fileEntry.getFileEntryId(), sourceVersionId,
-					targetVersionId);
+		SyncDLFileVersionDiffLocalServiceUtil.refreshExpirationDate(
+			syncDLFileVersionDiff.getSyncDLFileVersionDiffId());
 
-				try {
-					SyncDLFileVersionDiffLocalServiceUtil.
-						addSyncDLFileVersionDiff(
-							fileEntry.getFileEntryId(), sourceVersionId,
-							targetVersionId, deltaFile);
-				}
-				catch (DuplicateFileException dfe) {
-				}
+		FileEntry dataFileEntry = PortletFileRepositoryUtil.getPortletFileEntry(
+			syncDLFileVersionDiff.getDataFileEntryId());
 
-				return new DownloadServletInputStream(
-					new FileInputStream(deltaFile), deltaFile.length());
-			}
-			finally {
-				FileUtil.delete(deltaFile);
+		return new DownloadServletInputStream(
+			dataFileEntry.getContentStream(), dataFileEntry.getSize());
+	}
+
+	protected boolean isCompressed(String mimeType) {
+		if (Validator.isNull(mimeType)) {
+			return false;
+		}
+
+		for (String compressedMimeType : _COMPRESSED_MIME_TYPES) {
+			if (mimeType.startsWith(compressedMimeType)) {
+				return true;
 			}
 		}
+
+		return false;
 	}
 
 	protected void processException(
@@ -483,21 +528,111 @@ public class DownloadServlet extends HttpServlet {
 	}
 
 	protected void sendZipFolder(
-			HttpServletResponse response, long userId, long repositoryId,
-			long folderId)
+			HttpServletResponse response, final long userId,
+			long repositoryId, long folderId)
 		throws Exception {
 
-		ZipWriter zipWriter = ZipWriterFactoryUtil.getZipWriter();
+		List<ObjectValuePair<String, FileEntry>> zipFolderEntries =
+			new ArrayList<>();
 
-		addZipFolderEntry(
-			userId, repositoryId, folderId, StringPool.BLANK, zipWriter);
+		addZipFolderEntries(
+			repositoryId, folderId, StringPool.BLANK, zipFolderEntries);
 
-		File file = zipWriter.getFile();
+		response.setContentType(ContentTypes.APPLICATION_ZIP);
 
-		ServletResponseUtil.write(
-			response, new FileInputStream(file), file.length());
+		// The zip file is written to the response as it is built while the
+		// next files are opened ahead by the prefetch threads
+
+		ZipOutputStream zipOutputStream = new ZipOutputStream(
+			response.getOutputStream());
+
+		Deque<Future<InputStream>> futures = new ArrayDeque<>();
+
+		try {
+			int prefetchIndex = 0;
+			int prefetchSize = Math.max(
+				PortletPropsValues.SYNC_DOWNLOAD_ZIP_PREFETCH_SIZE, 1);
+
+			for (ObjectValuePair<String, FileEntry> zipFolderEntry :
+					zipFolderEntries) {
+
+				while ((prefetchIndex < zipFolderEntries.size()) &&
+					   (futures.size() < prefetchSize)) {
+
+					ObjectValuePair<String, FileEntry> prefetchZipFolderEntry =
+						zipFolderEntries.get(prefetchIndex++);
+
+					final FileEntry fileEntry =
+						prefetchZipFolderEntry.getValue();
+
+					FutureTask<InputStream> futureTask = new FutureTask<>(
+						new Callable<InputStream>() {
+
+							@Override
+							public InputStream call() throws Exception {
+								return DLFileEntryLocalServiceUtil.
+									getFileAsStream(
+										userId, fileEntry.getFileEntryId(),
+										fileEntry.getVersion(), false);
+							}
+
+						});
+
+					if (_executorService != null) {
+						_executorService.execute(futureTask);
+					}
+					else {
+						futureTask.run();
+					}
+
+					futures.add(futureTask);
+				}
+
+				Future<InputStream> future = futures.removeFirst();
+
+				InputStream inputStream = future.get();
+
+				try {
+					FileEntry fileEntry = zipFolderEntry.getValue();
+
+					if (isCompressed(fileEntry.getMimeType())) {
+						zipOutputStream.setLevel(Deflater.NO_COMPRESSION);
+					}
+					else {
+						zipOutputStream.setLevel(Deflater.DEFAULT_COMPRESSION);
+					}
+
+					zipOutputStream.putNextEntry(
+						new ZipEntry(zipFolderEntry.getKey()));
+
+					StreamUtil.transfer(inputStream, zipOutputStream, false);
+
+					zipOutputStream.closeEntry();
+				}
+				finally {
+					StreamUtil.cleanUp(inputStream);
+				}
+			}
+
+			zipOutputStream.finish();
+
+			zipOutputStream.flush();
+		}
+		finally {
+			cleanUp(futures);
+		}
 	}
 
+	private static final String[] _COMPRESSED_MIME_TYPES = {
+		"application/gzip", "application/vnd.openxmlformats-officedocument",
+		"application/x-7z-compressed", "application/x-bzip2",
+		"application/x-gzip", "application/x-rar-compressed",
+		"application/zip", "audio/", "image/gif", "image/jpeg", "image/png",
+		"video/"
+	};
+
 	private static final String _ERROR_HEADER = "Sync-Error";
 
+	private ExecutorService _executorService;
+
 }
\ No newline at end of file
@@ -37,10 +37,13 @@ import com.liferay.portlet.documentlibrary.model.DLSyncEvent;
 import com.liferay.portlet.documentlibrary.service.DLSyncEventLocalServiceUtil;
 import com.liferay.sync.messaging.DLSyncEventMessageListener;
 import com.liferay.sync.messaging.SyncDLFileVersionDiffMessageListener;
+import com.liferay.sync.messaging.SyncFileSignatureMessageListener;
+import com.liferay.sync.messaging.SyncVerifyMessageListener;
 import com.liferay.sync.service.SyncDLObjectLocalServiceUtil;
 import com.liferay.sync.service.SyncPreferencesLocalServiceUtil;
 import com.liferay.sync.util.PortletPropsKeys;
 import com.liferay.sync.util.PortletPropsValues;
+import com.liferay.sync.util.SyncDLFileVersionDiffUtil;
 import com.liferay.sync.util.VerifyUtil;
 
 import java.util.HashMap;
@@ -123,13 +126,32 @@ public class SyncServletContextListener
 				SyncDLFileVersionDiffMessageListener.class.getName(),
 				StorageType.MEMORY_CLUSTERED);
 		}
+
+		SyncDLFileVersionDiffUtil.destroy();
+
+		if (PortletPropsValues.SYNC_FILE_SIGNATURE_CACHE_ENABLED) {
+			MessageBusUtil.unregisterMessageListener(
+				SyncFileSignatureMessageListener.DESTINATION_NAME,
+				_syncFileSignatureMessageListener);
+		}
+
+		MessageBusUtil.unregisterMessageListener(
+			SyncVerifyMessageListener.DESTINATION_NAME,
+			_syncVerifyMessageListener);
+
+		SchedulerEngineHelperUtil.unschedule(
+			SyncVerifyMessageListener.class.getName(),
+			StorageType.MEMORY_CLUSTERED);
 	}
 
 	@Override
 	protected void doPortalInit() {
 		try {
 			if (PortletPropsValues.SYNC_VERIFY) {
-				VerifyUtil.verify();
+				VerifyUtil.verifyInBackground();
+			}
+			else {
+				VerifyUtil.resume();
 			}
 
 			List<Company> companies = CompanyLocalServiceUtil.getCompanies();
@@ -191,6 +213,23 @@ public class SyncServletContextListener
 			scheduleDLFileVersionDiffMessageListener();
 		}
 
+		if (PortletPropsValues.SYNC_FILE_SIGNATURE_CACHE_ENABLED) {
+			_syncFileSignatureMessageListener =
+				new SyncFileSignatureMessageListener();
+
+			registerMessageListener(
+				_syncFileSignatureMessageListener,
+				SyncFileSignatureMessageListener.DESTINATION_NAME);
+		}
+
+		_syncVerifyMessageListener = new SyncVerifyMessageListener();
+
+		registerMessageListener(
+			_syncVerifyMessageListener,
+			SyncVerifyMessageListener.DESTINATION_NAME);
+
+		scheduleVerifyMessageListener();
+
 		consumeDLSyncEvents();
 	}
 
@@ -227,10 +266,30 @@ public class SyncServletContextListener
 		}
 	}
 
+	protected void scheduleVerifyMessageListener() {
+		try {
+			String eventListenerClassName =
+				SyncVerifyMessageListener.class.getName();
+
+			SchedulerEngineHelperUtil.schedule(
+				TriggerFactoryUtil.createTrigger(
+					eventListenerClassName, eventListenerClassName,
+					PortletPropsValues.SYNC_VERIFY_RETRY_INTERVAL,
+					TimeUnit.HOUR),
+				StorageType.MEMORY_CLUSTERED, null,
+				SyncVerifyMessageListener.DESTINATION_NAME, null, 0);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		SyncServletContextListener.class);
 
 	private MessageListener _dlSyncEventMessageListener;
 	private MessageListener _syncDLFileVersionDiffMessageListener;
+	private MessageListener _syncFileSignatureMessageListener;
+	private MessageListener _syncVerifyMessageListener;
 
 }
\ No newline at end of file
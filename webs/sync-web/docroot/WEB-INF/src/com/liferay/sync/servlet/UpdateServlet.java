@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.servlet;
+
+import com.liferay.portal.kernel.servlet.PortalSessionThreadLocal;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.User;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
+import com.liferay.portal.util.PortalUtil;
+import com.liferay.sync.model.SyncDLObject;
+import com.liferay.sync.model.SyncDLObjectUpdate;
+import com.liferay.sync.service.SyncDLObjectServiceUtil;
+import com.liferay.sync.util.PortletPropsValues;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.util.List;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Streams the changes of a repository after a cursor. The changes are read
+ * one page at a time and written to the response as they are read, so the
+ * memory used does not grow with the number of changes. The response ends
+ * with the cursor to resume from.
+ */
+public class UpdateServlet extends HttpServlet {
+
+	@Override
+	public void service(
+			HttpServletRequest request, HttpServletResponse response)
+		throws IOException, ServletException {
+
+		try {
+			HttpSession session = request.getSession();
+
+			if (PortalSessionThreadLocal.getHttpSession() == null) {
+				PortalSessionThreadLocal.setHttpSession(session);
+			}
+
+			User user = PortalUtil.getUser(request);
+
+			PermissionChecker permissionChecker =
+				PermissionCheckerFactoryUtil.create(user);
+
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+
+			long repositoryId = ParamUtil.getLong(request, "repositoryId");
+
+			if (repositoryId == 0) {
+				throw new IllegalArgumentException(
+					"Missing parameter repositoryId");
+			}
+
+			String cursor = ParamUtil.getString(request, "cursor");
+			int max = ParamUtil.getInteger(request, "max");
+			boolean retrieveFromCache = ParamUtil.getBoolean(
+				request, "retrieveFromCache", true);
+
+			sendSyncDLObjectUpdate(
+				response, repositoryId, cursor, max, retrieveFromCache);
+		}
+		catch (Exception e) {
+			PortalUtil.sendError(e, request, response);
+		}
+	}
+
+	protected void sendSyncDLObjectUpdate(
+			HttpServletResponse response, long repositoryId, String cursor,
+			int max, boolean retrieveFromCache)
+		throws Exception {
+
+		// The first page is read before anything is written so that errors
+		// such as an invalid cursor can still be sent as an error response
+
+		SyncDLObjectUpdate syncDLObjectUpdate = getSyncDLObjectUpdate(
+			repositoryId, cursor, max, 0, retrieveFromCache);
+
+		response.setContentType(ContentTypes.APPLICATION_JSON);
+
+		PrintWriter printWriter = response.getWriter();
+
+		printWriter.write("{\"syncDLObjects\":[");
+
+		boolean first = true;
+		int count = 0;
+
+		while (true) {
+			syncDLObjectUpdate.writeSyncDLObjects(printWriter, first);
+
+			List<SyncDLObject> syncDLObjects =
+				syncDLObjectUpdate.getSyncDLObjects();
+
+			if (!syncDLObjects.isEmpty()) {
+				first = false;
+			}
+
+			printWriter.flush();
+
+			count += syncDLObjects.size();
+
+			if (!syncDLObjectUpdate.isMore() || ((max > 0) && (count >= max))) {
+				break;
+			}
+
+			syncDLObjectUpdate = getSyncDLObjectUpdate(
+				repositoryId, syncDLObjectUpdate.getCursor(), max, count,
+				retrieveFromCache);
+		}
+
+		StringBundler sb = new StringBundler(7);
+
+		sb.append("],\"cursor\":\"");
+		sb.append(syncDLObjectUpdate.getCursor());
+		sb.append("\",\"lastAccessTime\":");
+		sb.append(syncDLObjectUpdate.getLastAccessTime());
+		sb.append(",\"more\":");
+		sb.append(syncDLObjectUpdate.isMore());
+		sb.append(StringPool.CLOSE_CURLY_BRACE);
+
+		sb.writeTo(printWriter);
+
+		printWriter.flush();
+	}
+
+	protected SyncDLObjectUpdate getSyncDLObjectUpdate(
+			long repositoryId, String cursor, int max, int count,
+			boolean retrieveFromCache)
+		throws Exception {
+
+		int pageSize = PortletPropsValues.SYNC_PAGINATION_DELTA;
+
+		if ((max > 0) && ((max - count) < pageSize)) {
+			pageSize = max - count;
+		}
+
+		return SyncDLObjectServiceUtil.getSyncDLObjectUpdate(
+			repositoryId, cursor, pageSize, retrieveFromCache);
+	}
+
+}
@@ -20,9 +20,18 @@ package com.liferay.sync.util;
 public class PortletPropsKeys
 	extends com.liferay.sync.shared.util.PortletPropsKeys {
 
+	public static final String SYNC_BATCH_UPDATE_THREADS =
+		"sync.batch.update.threads";
+
 	public static final String SYNC_CLIENT_BATCH_FILE_MAX_SIZE =
 		"sync.client.batch.file.max.size";
 
+	public static final String SYNC_DOWNLOAD_ZIP_PREFETCH_SIZE =
+		"sync.download.zip.prefetch.size";
+
+	public static final String SYNC_DOWNLOAD_ZIP_PREFETCH_THREADS =
+		"sync.download.zip.prefetch.threads";
+
 	public static final String SYNC_FILE_CHECKSUM_THRESHOLD_SIZE =
 		"sync.file.checksum.threshold.size";
 
@@ -35,10 +44,33 @@ public class PortletPropsKeys
 	public static final String SYNC_FILE_DIFF_CACHE_EXPIRATION_TIME =
 		"sync.file.diff.cache.expiration.time";
 
+	public static final String SYNC_FILE_DIFF_CACHE_PREGENERATION_THREADS =
+		"sync.file.diff.cache.pregeneration.threads";
+
+	public static final String SYNC_FILE_SIGNATURE_CACHE_ENABLED =
+		"sync.file.signature.cache.enabled";
+
 	public static final String SYNC_MAC_PACKAGE_FOLDER_EXTENSIONS =
 		"sync.mac.package.folder.extensions";
 
 	public static final String SYNC_MAC_PACKAGE_METADATA_FILE_NAMES =
 		"sync.mac.package.metadata.file.names";
 
+	public static final String SYNC_PERMISSIONS_CACHE_EXPIRATION_TIME =
+		"sync.permissions.cache.expiration.time";
+
+	public static final String SYNC_VERIFY_FAILED_GROUP_IDS =
+		"sync.verify.failed.group.ids";
+
+	public static final String SYNC_VERIFY_IN_PROGRESS =
+		"sync.verify.in.progress";
+
+	public static final String SYNC_VERIFY_LAST_GROUP_ID =
+		"sync.verify.last.group.id";
+
+	public static final String SYNC_VERIFY_RETRY_INTERVAL =
+		"sync.verify.retry.interval";
+
+	public static final String SYNC_VERIFY_THREADS = "sync.verify.threads";
+
 }
\ No newline at end of file
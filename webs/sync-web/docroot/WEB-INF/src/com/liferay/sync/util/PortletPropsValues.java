@@ -26,6 +26,9 @@ public class PortletPropsValues {
 		GetterUtil.getBoolean(
 			PortletProps.get(PortletPropsKeys.SYNC_ALLOW_USER_PERSONAL_SITES));
 
+	public static final int SYNC_BATCH_UPDATE_THREADS = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.SYNC_BATCH_UPDATE_THREADS));
+
 	public static final int SYNC_CLIENT_BATCH_FILE_MAX_SIZE =
 		GetterUtil.getInteger(
 			PortletProps.get(PortletPropsKeys.SYNC_CLIENT_BATCH_FILE_MAX_SIZE));
@@ -47,6 +50,15 @@ public class PortletPropsValues {
 	public static final int SYNC_CLIENT_POLL_INTERVAL = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.SYNC_CLIENT_POLL_INTERVAL));
 
+	public static final int SYNC_DOWNLOAD_ZIP_PREFETCH_SIZE =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.SYNC_DOWNLOAD_ZIP_PREFETCH_SIZE));
+
+	public static final int SYNC_DOWNLOAD_ZIP_PREFETCH_THREADS =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.SYNC_DOWNLOAD_ZIP_PREFETCH_THREADS));
+
 	public static final int SYNC_FILE_CHECKSUM_THRESHOLD_SIZE =
 		GetterUtil.getInteger(
 			PortletProps.get(
@@ -66,6 +78,16 @@ public class PortletPropsValues {
 			PortletProps.get(
 				PortletPropsKeys.SYNC_FILE_DIFF_CACHE_EXPIRATION_TIME));
 
+	public static final int SYNC_FILE_DIFF_CACHE_PREGENERATION_THREADS =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.SYNC_FILE_DIFF_CACHE_PREGENERATION_THREADS));
+
+	public static final boolean SYNC_FILE_SIGNATURE_CACHE_ENABLED =
+		GetterUtil.getBoolean(
+			PortletProps.get(
+				PortletPropsKeys.SYNC_FILE_SIGNATURE_CACHE_ENABLED));
+
 	public static final String[] SYNC_MAC_PACKAGE_FOLDER_EXTENSIONS =
 		GetterUtil.getStringValues(
 			PortletProps.getArray(
@@ -82,10 +104,21 @@ public class PortletPropsValues {
 	public static final int SYNC_PAGINATION_DELTA = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.SYNC_PAGINATION_DELTA));
 
+	public static final long SYNC_PERMISSIONS_CACHE_EXPIRATION_TIME =
+		GetterUtil.getLong(
+			PortletProps.get(
+				PortletPropsKeys.SYNC_PERMISSIONS_CACHE_EXPIRATION_TIME));
+
 	public static final boolean SYNC_SERVICES_ENABLED = GetterUtil.getBoolean(
 		PortletProps.get(PortletPropsKeys.SYNC_SERVICES_ENABLED));
 
 	public static final boolean SYNC_VERIFY = GetterUtil.getBoolean(
 		PortletProps.get(PortletPropsKeys.SYNC_VERIFY));
 
+	public static final int SYNC_VERIFY_RETRY_INTERVAL = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.SYNC_VERIFY_RETRY_INTERVAL));
+
+	public static final int SYNC_VERIFY_THREADS = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.SYNC_VERIFY_THREADS));
+
 }
\ No newline at end of file
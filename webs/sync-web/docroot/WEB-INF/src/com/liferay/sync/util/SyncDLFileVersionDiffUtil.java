@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.util;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portlet.documentlibrary.DuplicateFileException;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionLocalServiceUtil;
+import com.liferay.sync.model.SyncDLFileVersionDiff;
+import com.liferay.sync.service.SyncDLFileVersionDiffLocalServiceUtil;
+
+import java.io.File;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the binary file diffs between file versions. Only one diff is
+ * generated at a time for a pair of versions on this node, so requests that
+ * ask for a diff that is being generated wait for it instead of generating it
+ * again. Diffs from the previous version of an updated file are generated in
+ * the background so that clients find them in the cache.
+ */
+public class SyncDLFileVersionDiffUtil {
+
+	public static void destroy() {
+		_instance._destroy();
+	}
+
+	public static File getDeltaFile(
+			long userId, long fileEntryId, long sourceFileVersionId,
+			long targetFileVersionId)
+		throws Exception {
+
+		return _instance._getDeltaFile(
+			userId, fileEntryId, sourceFileVersionId, targetFileVersionId);
+	}
+
+	public static SyncDLFileVersionDiff getSyncDLFileVersionDiff(
+			long userId, long fileEntryId, long sourceFileVersionId,
+			long targetFileVersionId)
+		throws Exception {
+
+		return _instance._getSyncDLFileVersionDiff(
+			userId, fileEntryId, sourceFileVersionId, targetFileVersionId);
+	}
+
+	public static void prepareSyncDLFileVersionDiff(
+		long userId, long fileEntryId, long sourceFileVersionId,
+		long targetFileVersionId) {
+
+		_instance._prepareSyncDLFileVersionDiff(
+			userId, fileEntryId, sourceFileVersionId, targetFileVersionId);
+	}
+
+	private SyncDLFileVersionDiffUtil() {
+		_futureTasks = new ConcurrentHashMap<>();
+
+		int threads =
+			PortletPropsValues.SYNC_FILE_DIFF_CACHE_PREGENERATION_THREADS;
+
+		if (!PortletPropsValues.SYNC_FILE_DIFF_CACHE_ENABLED ||
+			(threads <= 0)) {
+
+			_threadPoolExecutor = null;
+
+			return;
+		}
+
+		Class<?> clazz = getClass();
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			threads, threads, 0, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<Runnable>(_MAX_QUEUE_SIZE),
+			new NamedThreadFactory(
+				clazz.getName(), Thread.MIN_PRIORITY, clazz.getClassLoader()),
+			new ThreadPoolExecutor.DiscardPolicy());
+	}
+
+	private SyncDLFileVersionDiff _addSyncDLFileVersionDiff(
+			long userId, long fileEntryId, long sourceFileVersionId,
+			long targetFileVersionId)
+		throws Exception {
+
+		File deltaFile = null;
+
+		try {
+			deltaFile = _getDeltaFile(
+				userId, fileEntryId, sourceFileVersionId, targetFileVersionId);
+
+			return SyncDLFileVersionDiffLocalServiceUtil.
+				addSyncDLFileVersionDiff(
+					fileEntryId, sourceFileVersionId, targetFileVersionId,
+					deltaFile);
+		}
+		catch (DuplicateFileException dfe) {
+
+			// Another cluster node added the diff first
+
+			return SyncDLFileVersionDiffLocalServiceUtil.
+				fetchSyncDLFileVersionDiff(
+					fileEntryId, sourceFileVersionId, targetFileVersionId);
+		}
+		finally {
+			FileUtil.delete(deltaFile);
+		}
+	}
+
+	private void _destroy() {
+		if (_threadPoolExecutor != null) {
+			_threadPoolExecutor.shutdownNow();
+		}
+	}
+
+	private File _getDeltaFile(
+			long userId, long fileEntryId, long sourceFileVersionId,
+			long targetFileVersionId)
+		throws Exception {
+
+		DLFileVersion sourceDLFileVersion =
+			DLFileVersionLocalServiceUtil.getDLFileVersion(sourceFileVersionId);
+
+		File checksumsFile = SyncFileSignatureUtil.getFileSignature(
+			userId, sourceDLFileVersion);
+
+		try {
+			DLFileVersion targetDLFileVersion =
+				DLFileVersionLocalServiceUtil.getDLFileVersion(
+					targetFileVersionId);
+
+			File targetFile = DLFileEntryLocalServiceUtil.getFile(
+				userId, fileEntryId, targetDLFileVersion.getVersion(), false);
+
+			return SyncUtil.getChecksumsFileDelta(checksumsFile, targetFile);
+		}
+		finally {
+			FileUtil.delete(checksumsFile);
+		}
+	}
+
+	private SyncDLFileVersionDiff _getSyncDLFileVersionDiff(
+			final long userId, final long fileEntryId,
+			final long sourceFileVersionId, final long targetFileVersionId)
+		throws Exception {
+
+		SyncDLFileVersionDiff syncDLFileVersionDiff =
+			SyncDLFileVersionDiffLocalServiceUtil.fetchSyncDLFileVersionDiff(
+				fileEntryId, sourceFileVersionId, targetFileVersionId);
+
+		if (syncDLFileVersionDiff != null) {
+			return syncDLFileVersionDiff;
+		}
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(fileEntryId);
+		sb.append(StringPool.UNDERLINE);
+		sb.append(sourceFileVersionId);
+		sb.append(StringPool.UNDERLINE);
+		sb.append(targetFileVersionId);
+
+		String key = sb.toString();
+
+		FutureTask<SyncDLFileVersionDiff> futureTask = new FutureTask<>(
+			new Callable<SyncDLFileVersionDiff>() {
+
+				@Override
+				public SyncDLFileVersionDiff call() throws Exception {
+					return _addSyncDLFileVersionDiff(
+						userId, fileEntryId, sourceFileVersionId,
+						targetFileVersionId);
+				}
+
+			});
+
+		FutureTask<SyncDLFileVersionDiff> curFutureTask =
+			_futureTasks.putIfAbsent(key, futureTask);
+
+		if (curFutureTask == null) {
+			try {
+				futureTask.run();
+			}
+			finally {
+				_futureTasks.remove(key, futureTask);
+			}
+
+			curFutureTask = futureTask;
+		}
+
+		try {
+			return curFutureTask.get();
+		}
+		catch (ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof Exception) {
+				throw (Exception)cause;
+			}
+
+			throw ee;
+		}
+	}
+
+	private void _prepareSyncDLFileVersionDiff(
+		final long userId, final long fileEntryId,
+		final long sourceFileVersionId, final long targetFileVersionId) {
+
+		if (_threadPoolExecutor == null) {
+			return;
+		}
+
+		_threadPoolExecutor.execute(
+			new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						_getSyncDLFileVersionDiff(
+							userId, fileEntryId, sourceFileVersionId,
+							targetFileVersionId);
+					}
+					catch (Exception e) {
+						if (_log.isWarnEnabled()) {
+							_log.warn(
+								"Unable to generate the diff of file entry " +
+									fileEntryId,
+								e);
+						}
+					}
+				}
+
+			});
+	}
+
+	private static final int _MAX_QUEUE_SIZE = 1000;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		SyncDLFileVersionDiffUtil.class);
+
+	private static SyncDLFileVersionDiffUtil _instance =
+		new SyncDLFileVersionDiffUtil();
+
+	private final ConcurrentMap<String, FutureTask<SyncDLFileVersionDiff>>
+		_futureTasks;
+	private final ThreadPoolExecutor _threadPoolExecutor;
+
+}
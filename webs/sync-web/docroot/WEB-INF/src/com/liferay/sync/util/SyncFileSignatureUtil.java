@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.util;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.repository.model.FileEntry;
+import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.model.Company;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Repository;
+import com.liferay.portal.portletfilerepository.PortletFileRepositoryUtil;
+import com.liferay.portal.service.CompanyLocalServiceUtil;
+import com.liferay.portal.service.ServiceContext;
+import com.liferay.portal.util.PortletKeys;
+import com.liferay.portlet.documentlibrary.DuplicateFileException;
+import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
+import com.liferay.portlet.documentlibrary.NoSuchFolderException;
+import com.liferay.portlet.documentlibrary.model.DLFileVersion;
+import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
+import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFileVersionLocalServiceUtil;
+import com.liferay.sync.messaging.SyncFileSignatureMessageListener;
+
+import java.io.File;
+
+/**
+ * Stores the block checksums of file versions so that the binary file diffs
+ * from a version can be generated without reading that version again. The
+ * checksums of a file entry are kept in a portlet folder named after it in the
+ * group of the file entry's company.
+ */
+public class SyncFileSignatureUtil {
+
+	public static void addFileSignature(long fileEntryId, long fileVersionId)
+		throws Exception {
+
+		DLFileVersion dlFileVersion =
+			DLFileVersionLocalServiceUtil.fetchDLFileVersion(fileVersionId);
+
+		if (dlFileVersion == null) {
+			return;
+		}
+
+		Folder folder = addFolder(
+			dlFileVersion.getCompanyId(), dlFileVersion.getUserId(),
+			fileEntryId);
+
+		if (fetchFileEntry(folder, fileVersionId) != null) {
+			return;
+		}
+
+		File checksumsFile = null;
+
+		try {
+			checksumsFile = getChecksumsFile(
+				dlFileVersion.getUserId(), dlFileVersion);
+
+			addFileEntry(folder, dlFileVersion, checksumsFile);
+		}
+		finally {
+			FileUtil.delete(checksumsFile);
+		}
+	}
+
+	public static void deleteFileSignatures(long companyId, long fileEntryId)
+		throws PortalException {
+
+		Folder folder = fetchFolder(companyId, fileEntryId);
+
+		if (folder != null) {
+			PortletFileRepositoryUtil.deletePortletFolder(folder.getFolderId());
+		}
+	}
+
+	/**
+	 * Returns a temporary file with the checksums of the file version. The
+	 * caller is responsible for deleting it. Checksums that are not stored yet
+	 * are stored in the background, since this is called while serving
+	 * downloads.
+	 */
+	public static File getFileSignature(
+			long userId, DLFileVersion dlFileVersion)
+		throws Exception {
+
+		if (!PortletPropsValues.SYNC_FILE_SIGNATURE_CACHE_ENABLED) {
+			return getChecksumsFile(userId, dlFileVersion);
+		}
+
+		Folder folder = fetchFolder(
+			dlFileVersion.getCompanyId(), dlFileVersion.getFileEntryId());
+
+		if (folder != null) {
+			FileEntry fileEntry = fetchFileEntry(
+				folder, dlFileVersion.getFileVersionId());
+
+			if (fileEntry != null) {
+				return FileUtil.createTempFile(fileEntry.getContentStream());
+			}
+		}
+
+		Message message = new Message();
+
+		message.put("fileEntryId", dlFileVersion.getFileEntryId());
+		message.put("fileVersionId", dlFileVersion.getFileVersionId());
+
+		MessageBusUtil.sendMessage(
+			SyncFileSignatureMessageListener.DESTINATION_NAME, message);
+
+		return getChecksumsFile(userId, dlFileVersion);
+	}
+
+	protected static void addFileEntry(
+			Folder folder, DLFileVersion dlFileVersion, File checksumsFile)
+		throws PortalException {
+
+		try {
+			PortletFileRepositoryUtil.addPortletFileEntry(
+				folder.getGroupId(), dlFileVersion.getUserId(),
+				DLFileVersion.class.getName(),
+				dlFileVersion.getFileVersionId(), PortletKeys.DOCUMENT_LIBRARY,
+				folder.getFolderId(), checksumsFile,
+				String.valueOf(dlFileVersion.getFileVersionId()),
+				ContentTypes.APPLICATION_OCTET_STREAM, false);
+		}
+		catch (DuplicateFileException dfe) {
+
+			// Another node or thread stored the same checksums first
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Checksums of file version " +
+						dlFileVersion.getFileVersionId() + " already exist",
+					dfe);
+			}
+		}
+	}
+
+	protected static Folder addFolder(
+			long companyId, long userId, long fileEntryId)
+		throws PortalException {
+
+		ServiceContext serviceContext = new ServiceContext();
+
+		Repository repository = PortletFileRepositoryUtil.addPortletRepository(
+			getGroupId(companyId), PortletKeys.DOCUMENT_LIBRARY,
+			serviceContext);
+
+		Folder folder = PortletFileRepositoryUtil.addPortletFolder(
+			userId, repository.getRepositoryId(),
+			DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, _FOLDER_NAME,
+			serviceContext);
+
+		return PortletFileRepositoryUtil.addPortletFolder(
+			userId, repository.getRepositoryId(), folder.getFolderId(),
+			String.valueOf(fileEntryId), serviceContext);
+	}
+
+	protected static FileEntry fetchFileEntry(
+			Folder folder, long fileVersionId)
+		throws PortalException {
+
+		try {
+			return PortletFileRepositoryUtil.getPortletFileEntry(
+				folder.getGroupId(), folder.getFolderId(),
+				String.valueOf(fileVersionId));
+		}
+		catch (NoSuchFileEntryException nsfee) {
+			return null;
+		}
+	}
+
+	protected static Folder fetchFolder(long companyId, long fileEntryId)
+		throws PortalException {
+
+		Repository repository =
+			PortletFileRepositoryUtil.fetchPortletRepository(
+				getGroupId(companyId), PortletKeys.DOCUMENT_LIBRARY);
+
+		if (repository == null) {
+			return null;
+		}
+
+		try {
+			Folder folder = PortletFileRepositoryUtil.getPortletFolder(
+				repository.getRepositoryId(),
+				DLFolderConstants.DEFAULT_PARENT_FOLDER_ID, _FOLDER_NAME);
+
+			return PortletFileRepositoryUtil.getPortletFolder(
+				repository.getRepositoryId(), folder.getFolderId(),
+				String.valueOf(fileEntryId));
+		}
+		catch (NoSuchFolderException nsfe) {
+			return null;
+		}
+	}
+
+	protected static File getChecksumsFile(
+			long userId, DLFileVersion dlFileVersion)
+		throws Exception {
+
+		File file = DLFileEntryLocalServiceUtil.getFile(
+			userId, dlFileVersion.getFileEntryId(), dlFileVersion.getVersion(),
+			false);
+
+		return SyncUtil.getChecksumsFile(file);
+	}
+
+	protected static long getGroupId(long companyId) throws PortalException {
+		Company company = CompanyLocalServiceUtil.getCompany(companyId);
+
+		Group group = company.getGroup();
+
+		return group.getGroupId();
+	}
+
+	private static final String _FOLDER_NAME = "Sync File Signatures";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		SyncFileSignatureUtil.class);
+
+}
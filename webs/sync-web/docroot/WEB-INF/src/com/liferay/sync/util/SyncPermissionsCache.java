@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.util;
+
+import java.io.Serializable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds whether a user can view the files and folders of a repository, keyed
+ * by the typePK of their Sync objects.
+ */
+public class SyncPermissionsCache implements Serializable {
+
+	public SyncPermissionsCache(long repositoryId) {
+		_repositoryId = repositoryId;
+
+		_createTime = System.currentTimeMillis();
+	}
+
+	public long getCreateTime() {
+		return _createTime;
+	}
+
+	public long getRepositoryId() {
+		return _repositoryId;
+	}
+
+	public synchronized Boolean hasViewPermission(
+		long typePK, long modifiedTime) {
+
+		if (_viewableTypePKs.contains(typePK)) {
+			return Boolean.TRUE;
+		}
+
+		// Granting view permission only updates the modified time of the
+		// Sync objects, so a denial is not trusted once something changed
+
+		Long checkTime = _unviewableTypePKs.get(typePK);
+
+		if ((checkTime != null) && (checkTime > modifiedTime)) {
+			return Boolean.FALSE;
+		}
+
+		return null;
+	}
+
+	public synchronized void putViewPermissions(
+		Collection<Long> typePKs, Collection<Long> viewableTypePKs,
+		long checkTime) {
+
+		if ((_viewableTypePKs.size() + _unviewableTypePKs.size() +
+				typePKs.size()) > _MAX_SIZE) {
+
+			return;
+		}
+
+		for (Long typePK : typePKs) {
+			if (viewableTypePKs.contains(typePK)) {
+				_unviewableTypePKs.remove(typePK);
+				_viewableTypePKs.add(typePK);
+			}
+			else {
+				_unviewableTypePKs.put(typePK, checkTime);
+			}
+		}
+	}
+
+	private static final int _MAX_SIZE = 100000;
+
+	private final long _createTime;
+	private final long _repositoryId;
+	private final Map<Long, Long> _unviewableTypePKs = new HashMap<>();
+	private final Set<Long> _viewableTypePKs = new HashSet<>();
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.sync.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.List;
+
+/**
+ * Caches the view permission checks of the users that are syncing so that
+ * repeated polls from the devices of a user do not check the same files and
+ * folders again. The cache is shared by the cluster. A user's cache is
+ * dropped when the Sync objects being checked carry a newer last permission
+ * change date, when a resource permission of its repository changes or when
+ * it expires.
+ */
+public class SyncPermissionsCacheUtil {
+
+	public static final String CACHE_NAME =
+		SyncPermissionsCacheUtil.class.getName();
+
+	public static void clearCaches(long repositoryId) {
+		String prefix = repositoryId + StringPool.UNDERLINE;
+
+		List<String> keys = _portalCache.getKeys();
+
+		for (String key : keys) {
+			if (key.startsWith(prefix)) {
+				_portalCache.remove(key);
+			}
+		}
+	}
+
+	public static SyncPermissionsCache getCache(
+		long userId, long repositoryId, long lastPermissionChangeTime) {
+
+		if (_EXPIRATION_TIME <= 0) {
+			return new SyncPermissionsCache(repositoryId);
+		}
+
+		String key = _encodeKey(userId, repositoryId);
+
+		SyncPermissionsCache syncPermissionsCache = _portalCache.get(key);
+
+		if ((syncPermissionsCache != null) &&
+			!_isExpired(syncPermissionsCache, lastPermissionChangeTime)) {
+
+			return syncPermissionsCache;
+		}
+
+		syncPermissionsCache = new SyncPermissionsCache(repositoryId);
+
+		_portalCache.put(
+			key, syncPermissionsCache,
+			(int)PortletPropsValues.SYNC_PERMISSIONS_CACHE_EXPIRATION_TIME);
+
+		return syncPermissionsCache;
+	}
+
+	private static String _encodeKey(long userId, long repositoryId) {
+		return repositoryId + StringPool.UNDERLINE + userId;
+	}
+
+	private static boolean _isExpired(
+		SyncPermissionsCache syncPermissionsCache,
+		long lastPermissionChangeTime) {
+
+		long now = System.currentTimeMillis();
+
+		if (((syncPermissionsCache.getCreateTime() + _EXPIRATION_TIME) < now) ||
+			(syncPermissionsCache.getCreateTime() <=
+				lastPermissionChangeTime)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final long _EXPIRATION_TIME =
+		PortletPropsValues.SYNC_PERMISSIONS_CACHE_EXPIRATION_TIME *
+			Time.SECOND;
+
+	private static final PortalCache<String, SyncPermissionsCache>
+		_portalCache = MultiVMPoolUtil.getCache(CACHE_NAME);
+
+}
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.lock.Lock;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.Folder;
+import com.liferay.portal.kernel.util.Base64;
 import com.liferay.portal.kernel.util.ClassUtil;
 import com.liferay.portal.kernel.util.Digester;
 import com.liferay.portal.kernel.util.DigesterUtil;
@@ -64,6 +65,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 
 import java.util.Date;
 
@@ -140,11 +142,45 @@ public class SyncUtil {
 	public static void checkSyncEnabled(long groupId) throws PortalException {
 		Group group = GroupLocalServiceUtil.fetchGroup(groupId);
 
-		if ((group == null) || !isSyncEnabled(group)) {
+		if ((group == null) || !isSyncEnabled(group) ||
+			!VerifyUtil.isVerified(group)) {
+
 			throw new SyncSiteUnavailableException();
 		}
 	}
 
+	public static long[] decodeCursor(String cursor) throws PortalException {
+		if (Validator.isNull(cursor)) {
+			return new long[] {0, 0};
+		}
+
+		long[] values = null;
+
+		try {
+			byte[] bytes = Base64.decode(Base64.fromURLSafe(cursor));
+
+			values = StringUtil.split(
+				new String(bytes, StandardCharsets.UTF_8),
+				StringPool.UNDERLINE, -1L);
+		}
+		catch (Exception e) {
+			throw new PortalException("Invalid cursor " + cursor, e);
+		}
+
+		if ((values.length != 2) || (values[0] < 0) || (values[1] < 0)) {
+			throw new PortalException("Invalid cursor " + cursor);
+		}
+
+		return values;
+	}
+
+	public static String encodeCursor(long modifiedTime, long syncDLObjectId) {
+		String s = modifiedTime + StringPool.UNDERLINE + syncDLObjectId;
+
+		return Base64.toURLSafe(
+			Base64.encode(s.getBytes(StandardCharsets.UTF_8)));
+	}
+
 	public static String getChecksum(DLFileVersion dlFileVersion)
 		throws PortalException {
 
@@ -180,14 +216,13 @@ public class SyncUtil {
 		}
 	}
 
-	public static File getFileDelta(File sourceFile, File targetFile)
+	public static File getChecksumsFile(File sourceFile)
 		throws PortalException {
 
-		File deltaFile = null;
+		File checksumsFile = null;
 
 		FileInputStream sourceFileInputStream = null;
 		FileChannel sourceFileChannel = null;
-		File checksumsFile = FileUtil.createTempFile();
 		OutputStream checksumsOutputStream = null;
 		WritableByteChannel checksumsWritableByteChannel = null;
 
@@ -196,6 +231,8 @@ public class SyncUtil {
 
 			sourceFileChannel = sourceFileInputStream.getChannel();
 
+			checksumsFile = FileUtil.createTempFile();
+
 			checksumsOutputStream = new FileOutputStream(checksumsFile);
 
 			checksumsWritableByteChannel = Channels.newChannel(
@@ -209,6 +246,8 @@ public class SyncUtil {
 			checksumsByteChannelWriter.finish();
 		}
 		catch (Exception e) {
+			FileUtil.delete(checksumsFile);
+
 			throw new PortalException(e);
 		}
 		finally {
@@ -218,6 +257,15 @@ public class SyncUtil {
 			StreamUtil.cleanUp(checksumsWritableByteChannel);
 		}
 
+		return checksumsFile;
+	}
+
+	public static File getChecksumsFileDelta(
+			File checksumsFile, File targetFile)
+		throws PortalException {
+
+		File deltaFile = null;
+
 		FileInputStream targetFileInputStream = null;
 		ReadableByteChannel targetReadableByteChannel = null;
 		InputStream checksumsInputStream = null;
@@ -264,13 +312,24 @@ public class SyncUtil {
 			StreamUtil.cleanUp(checksumsReadableByteChannel);
 			StreamUtil.cleanUp(deltaOutputStream);
 			StreamUtil.cleanUp(deltaOutputStreamWritableByteChannel);
-
-			FileUtil.delete(checksumsFile);
 		}
 
 		return deltaFile;
 	}
 
+	public static File getFileDelta(File sourceFile, File targetFile)
+		throws PortalException {
+
+		File checksumsFile = getChecksumsFile(sourceFile);
+
+		try {
+			return getChecksumsFileDelta(checksumsFile, targetFile);
+		}
+		finally {
+			FileUtil.delete(checksumsFile);
+		}
+	}
+
 	public static boolean isSupportedFolder(DLFolder dlFolder) {
 		if (dlFolder.isHidden() || dlFolder.isMountPoint()) {
 			return false;
@@ -22,9 +22,18 @@ import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PrefsPropsUtil;
+import com.liferay.portal.kernel.util.SetUtil;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.portal.model.Company;
 import com.liferay.portal.model.Group;
+import com.liferay.portal.service.CompanyLocalServiceUtil;
 import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.NoSuchFileException;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
@@ -35,18 +44,175 @@ import com.liferay.sync.model.SyncConstants;
 import com.liferay.sync.model.SyncDLObject;
 import com.liferay.sync.service.SyncDLObjectLocalServiceUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.portlet.PortletPreferences;
 
 /**
+ * Verifies the Sync objects of every group. Groups are verified in parallel
+ * in the order of their IDs. The ID up to which every group of a company is
+ * verified is recorded in the preferences of the company, so a verification
+ * that was interrupted resumes with the groups that were not verified yet.
+ * While a verification is running, Sync is only available on every node for
+ * the groups that were already verified. Groups that fail to verify are
+ * recorded separately, stay unavailable and are retried in the background
+ * without holding back the other groups.
+ *
  * @author Dennis Ju
  */
 public class VerifyUtil {
 
+	public static boolean isVerified(Group group) {
+		if (_verifiedGroupIds.contains(group.getGroupId())) {
+			return true;
+		}
+
+		long[] failedGroupIds = StringUtil.split(
+			PrefsPropsUtil.getString(
+				group.getCompanyId(),
+				PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS),
+			0L);
+
+		if (ArrayUtil.contains(failedGroupIds, group.getGroupId())) {
+			return false;
+		}
+
+		if (!PrefsPropsUtil.getBoolean(
+				group.getCompanyId(),
+				PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS)) {
+
+			return true;
+		}
+
+		long lastGroupId = PrefsPropsUtil.getLong(
+			group.getCompanyId(), PortletPropsKeys.SYNC_VERIFY_LAST_GROUP_ID);
+
+		if (group.getGroupId() <= lastGroupId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Resumes a verification that was interrupted by a shutdown and retries
+	 * the groups that failed to verify in the background.
+	 */
+	public static void resume() throws Exception {
+		List<Company> companies = CompanyLocalServiceUtil.getCompanies();
+
+		for (Company company : companies) {
+			if (PrefsPropsUtil.getBoolean(
+					company.getCompanyId(),
+					PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS) ||
+				Validator.isNotNull(
+					PrefsPropsUtil.getString(
+						company.getCompanyId(),
+						PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS))) {
+
+				verifyInBackground(true);
+
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Retries the groups that failed to verify in the background, unless a
+	 * verification is in progress.
+	 */
+	public static void retry() throws Exception {
+		List<Company> companies = CompanyLocalServiceUtil.getCompanies();
+
+		boolean failed = false;
+
+		for (Company company : companies) {
+			if (PrefsPropsUtil.getBoolean(
+					company.getCompanyId(),
+					PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS)) {
+
+				return;
+			}
+
+			if (Validator.isNotNull(
+					PrefsPropsUtil.getString(
+						company.getCompanyId(),
+						PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS))) {
+
+				failed = true;
+			}
+		}
+
+		if (failed) {
+			verifyInBackground(true);
+		}
+	}
+
 	public static void verify() throws Exception {
-		VerifyUtil verifyUtil = new VerifyUtil();
+		if (!_running.compareAndSet(false, true)) {
+			return;
+		}
 
-		verifyUtil.doVerify();
+		execute(false);
+	}
+
+	public static void verifyInBackground() {
+		verifyInBackground(false);
+	}
+
+	protected static void execute(boolean resume) throws Exception {
+		try {
+			VerifyUtil verifyUtil = new VerifyUtil();
+
+			verifyUtil.doVerify(resume);
+		}
+		finally {
+			_verifiedGroupIds.clear();
+
+			_running.set(false);
+		}
+	}
+
+	protected static void verifyInBackground(final boolean resume) {
+		if (!_running.compareAndSet(false, true)) {
+			return;
+		}
+
+		Class<?> clazz = VerifyUtil.class;
+
+		NamedThreadFactory namedThreadFactory = new NamedThreadFactory(
+			clazz.getName(), Thread.NORM_PRIORITY, clazz.getClassLoader());
+
+		Thread thread = namedThreadFactory.newThread(
+			new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						execute(resume);
+					}
+					catch (Exception e) {
+						_log.error(e, e);
+					}
+				}
+
+			});
+
+		thread.start();
 	}
 
 	protected void addSyncDLObject(SyncDLObject syncDLObject)
@@ -84,24 +250,185 @@ public class VerifyUtil {
 		}
 	}
 
-	protected void doVerify() throws Exception {
-		List<Group> groups = GroupLocalServiceUtil.getGroups(
-			QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+	protected void doVerify(boolean resume) throws Exception {
+		List<Company> companies = CompanyLocalServiceUtil.getCompanies();
+
+		Map<Long, Checkpoint> checkpoints = new HashMap<>();
+
+		for (Company company : companies) {
+			PortletPreferences portletPreferences =
+				PrefsPropsUtil.getPreferences(company.getCompanyId());
+
+			boolean inProgress = GetterUtil.getBoolean(
+				portletPreferences.getValue(
+					PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS, null));
+
+			long lastGroupId = 0;
+
+			if (inProgress) {
+				lastGroupId = GetterUtil.getLong(
+					portletPreferences.getValue(
+						PortletPropsKeys.SYNC_VERIFY_LAST_GROUP_ID, null));
+			}
+			else if (resume) {
+
+				// Only the groups that failed to verify are retried
+
+				lastGroupId = Long.MAX_VALUE;
+			}
+			else {
+				portletPreferences.setValue(
+					PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS,
+					Boolean.TRUE.toString());
+				portletPreferences.reset(
+					PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS);
+				portletPreferences.reset(
+					PortletPropsKeys.SYNC_VERIFY_LAST_GROUP_ID);
+
+				portletPreferences.store();
+			}
+
+			checkpoints.put(
+				company.getCompanyId(),
+				new Checkpoint(portletPreferences, lastGroupId));
+		}
+
+		List<Group> groups = new ArrayList<>(
+			GroupLocalServiceUtil.getGroups(
+				QueryUtil.ALL_POS, QueryUtil.ALL_POS));
+
+		Collections.sort(
+			groups,
+			new Comparator<Group>() {
+
+				@Override
+				public int compare(Group group1, Group group2) {
+					return Long.compare(
+						group1.getGroupId(), group2.getGroupId());
+				}
+
+			});
+
+		List<Group> unverifiedGroups = new ArrayList<>();
 
 		for (Group group : groups) {
-			if (group.isStaged()) {
-				continue;
+			Checkpoint checkpoint = checkpoints.get(group.getCompanyId());
+
+			if (group.getGroupId() > checkpoint.getLastGroupId()) {
+				checkpoint.addGroupId(group.getGroupId());
+
+				unverifiedGroups.add(group);
 			}
+			else if (checkpoint.isFailed(group.getGroupId())) {
+				unverifiedGroups.add(group);
+			}
+		}
 
-			if (_log.isDebugEnabled()) {
-				_log.debug("Verifying group " + group.getGroupId());
+		ForkJoinPool forkJoinPool = new ForkJoinPool(
+			Math.max(PortletPropsValues.SYNC_VERIFY_THREADS, 1));
+
+		boolean completed = true;
+
+		try {
+			List<ForkJoinTask<Void>> forkJoinTasks = new ArrayList<>();
+
+			for (final Group group : unverifiedGroups) {
+				final Checkpoint checkpoint = checkpoints.get(
+					group.getCompanyId());
+
+				if (group.isStaged()) {
+					checkpoint.verified(group.getGroupId());
+
+					continue;
+				}
+
+				forkJoinTasks.add(
+					forkJoinPool.submit(
+						new Callable<Void>() {
+
+							@Override
+							public Void call() throws Exception {
+								try {
+									verifyGroup(group);
+								}
+								catch (Exception e) {
+									_log.error(
+										"Unable to verify group " +
+											group.getGroupId(),
+										e);
+
+									checkpoint.failed(group.getGroupId());
+
+									return null;
+								}
+
+								checkpoint.verified(group.getGroupId());
+
+								return null;
+							}
+
+						}));
+			}
+
+			for (ForkJoinTask<Void> forkJoinTask : forkJoinTasks) {
+				try {
+					forkJoinTask.get();
+				}
+				catch (ExecutionException ee) {
+					completed = false;
+
+					_log.error(ee.getCause(), ee.getCause());
+				}
 			}
+		}
+		finally {
+			forkJoinPool.shutdownNow();
+		}
 
-			verifyDLFileEntriesAndFolders(group.getGroupId());
-			verifySyncDLObjects(group.getGroupId());
+		if (!completed) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Verification did not complete and will resume with the " +
+						"groups that were not verified");
+			}
+
+			return;
 		}
 
-		if (_log.isDebugEnabled()) {
+		boolean failed = false;
+
+		for (Company company : companies) {
+			Checkpoint checkpoint = checkpoints.get(company.getCompanyId());
+
+			if (checkpoint.hasFailedGroupIds()) {
+				failed = true;
+			}
+
+			PortletPreferences portletPreferences =
+				PrefsPropsUtil.getPreferences(company.getCompanyId());
+
+			if (!GetterUtil.getBoolean(
+					portletPreferences.getValue(
+						PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS, null))) {
+
+				continue;
+			}
+
+			portletPreferences.reset(PortletPropsKeys.SYNC_VERIFY_IN_PROGRESS);
+			portletPreferences.reset(
+				PortletPropsKeys.SYNC_VERIFY_LAST_GROUP_ID);
+
+			portletPreferences.store();
+		}
+
+		if (failed) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Verification completed except for the groups that " +
+						"failed to verify, which will be retried");
+			}
+		}
+		else if (_log.isDebugEnabled()) {
 			_log.debug("Verification completed");
 		}
 	}
@@ -281,6 +608,29 @@ public class VerifyUtil {
 			"DL folders and DL file entries");
 	}
 
+	protected void verifyGroup(Group group) throws Exception {
+		Thread currentThread = Thread.currentThread();
+
+		ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+
+		currentThread.setContextClassLoader(
+			VerifyUtil.class.getClassLoader());
+
+		try {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Verifying group " + group.getGroupId());
+			}
+
+			VerifyUtil verifyUtil = new VerifyUtil();
+
+			verifyUtil.verifyDLFileEntriesAndFolders(group.getGroupId());
+			verifyUtil.verifySyncDLObjects(group.getGroupId());
+		}
+		finally {
+			currentThread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
 	protected void verifySyncDLObjects(final long groupId) throws Exception {
 		_syncDLObjectsCount = 0;
 
@@ -377,9 +727,104 @@ public class VerifyUtil {
 
 	private static Log _log = LogFactoryUtil.getLog(VerifyUtil.class);
 
+	private static final AtomicBoolean _running = new AtomicBoolean();
+	private static final Set<Long> _verifiedGroupIds =
+		Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+
 	private long _dlFoldersAndFileEntriesCount;
 	private long _dlFoldersAndFileEntriesTotalCount;
 	private long _syncDLObjectsCount;
 	private long _syncDLObjectsTotalCount;
 
+	private static class Checkpoint {
+
+		public Checkpoint(
+			PortletPreferences portletPreferences, long lastGroupId) {
+
+			_portletPreferences = portletPreferences;
+			_lastGroupId = lastGroupId;
+
+			_failedGroupIds = SetUtil.fromArray(
+				StringUtil.split(
+					portletPreferences.getValue(
+						PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS,
+						StringPool.BLANK),
+					0L));
+		}
+
+		public void addGroupId(long groupId) {
+			_groupIds.add(groupId);
+		}
+
+		public synchronized void failed(long groupId) throws Exception {
+			completed(groupId, _failedGroupIds.add(groupId));
+		}
+
+		public synchronized long getLastGroupId() {
+			return _lastGroupId;
+		}
+
+		public synchronized boolean hasFailedGroupIds() {
+			return !_failedGroupIds.isEmpty();
+		}
+
+		public synchronized boolean isFailed(long groupId) {
+			return _failedGroupIds.contains(groupId);
+		}
+
+		public synchronized void verified(long groupId) throws Exception {
+			_verifiedGroupIds.add(groupId);
+
+			completed(groupId, _failedGroupIds.remove(groupId));
+		}
+
+		protected void completed(long groupId, boolean failedGroupIdsChanged)
+			throws Exception {
+
+			_completedGroupIds.add(groupId);
+
+			// Groups finish out of order, so the last group ID only moves
+			// past groups whose lower IDs have all been verified or recorded
+			// as failed
+
+			long lastGroupId = _lastGroupId;
+
+			while ((_index < _groupIds.size()) &&
+				   _completedGroupIds.contains(_groupIds.get(_index))) {
+
+				lastGroupId = _groupIds.get(_index);
+
+				_index++;
+			}
+
+			if (!failedGroupIdsChanged && (lastGroupId == _lastGroupId)) {
+				return;
+			}
+
+			if (failedGroupIdsChanged) {
+				_portletPreferences.setValue(
+					PortletPropsKeys.SYNC_VERIFY_FAILED_GROUP_IDS,
+					StringUtil.merge(_failedGroupIds));
+			}
+
+			if (lastGroupId != _lastGroupId) {
+				_lastGroupId = lastGroupId;
+
+				_portletPreferences.setValue(
+					PortletPropsKeys.SYNC_VERIFY_LAST_GROUP_ID,
+					String.valueOf(lastGroupId));
+			}
+
+			_portletPreferences.store();
+		}
+
+		private final Set<Long> _completedGroupIds = new HashSet<>();
+		private final Set<Long> _failedGroupIds;
+		private final List<Long> _groupIds = new ArrayList<>();
+		private int _index;
+		private long _lastGroupId;
+		private final PortletPreferences _portletPreferences;
+
+	}
+
 }
\ No newline at end of file